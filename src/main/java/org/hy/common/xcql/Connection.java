@@ -1,6 +1,8 @@
 package org.hy.common.xcql;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.hy.common.xml.log.Logger;
 import org.neo4j.driver.Bookmark;
@@ -22,10 +24,14 @@ import org.neo4j.driver.Value;
  * 
  * 限制：
  *   同一连接，同时仅能开启一个事物
+ *   
+ * 开启的事务提交后，失效事务中执行成功的写操作相关的查询结果缓存（见 XCQLCache）。
+ * 因为事务提交前，其它的查询仍可能读到旧数据并缓存。
  *
  * @author      ZhengWei(HY)
  * @createDate  2017-07-13
  * @version     v1.0
+ *              v2.0  2026-10-18  添加：事务提交后，失效事务中写操作相关的查询结果缓存
  */
 public class Connection implements Session
 {
@@ -42,6 +48,9 @@ public class Connection implements Session
     /** 第三方的连接开启的事务 */
     private Transaction         transaction;
     
+    /** 事务提交后须失效的查询结果缓存的标签。为NULL时无须失效；空集合表示可能涉及所有的标签 */
+    private Set<String>         invalidates;
+    
     
     
     public Connection(final Session i_Connection ,final DataSourceCQL i_DataSourceCQL)
@@ -92,6 +101,7 @@ public class Connection implements Session
         finally
         {
             this.transaction = null;
+            this.invalidates = null;
         }
         
         try
@@ -166,12 +176,12 @@ public class Connection implements Session
         {
             if ( !this.transaction.isOpen() )
             {
-                this.transaction = this.conn.beginTransaction();
+                this.transaction = new ConnectionTransaction(this.conn.beginTransaction());
             }
         }
         else
         {
-            this.transaction = this.conn.beginTransaction();
+            this.transaction = new ConnectionTransaction(this.conn.beginTransaction());
         }
         return this.transaction;
     }
@@ -185,18 +195,74 @@ public class Connection implements Session
         {
             if ( !this.transaction.isOpen() )
             {
-                this.transaction = this.conn.beginTransaction(config);
+                this.transaction = new ConnectionTransaction(this.conn.beginTransaction(config));
             }
         }
         else
         {
-            this.transaction = this.conn.beginTransaction(config);
+            this.transaction = new ConnectionTransaction(this.conn.beginTransaction(config));
         }
         return this.transaction;
     }
 
 
 
+    /**
+     * 事务中的写操作执行成功后，登记事务提交后须失效的查询结果缓存的标签。
+     * 
+     * 没有开启的事务时（自动提交的），执行成功时已失效，无须登记
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     * @param i_Labels  写操作涉及的节点标签与关系类型。空集合表示可能涉及所有的标签
+     */
+    synchronized void invalidatesOnCommit(Set<String> i_Labels)
+    {
+        if ( i_Labels == null || this.transaction == null || !this.transaction.isOpen() )
+        {
+            return;
+        }
+        
+        if ( this.invalidates == null )
+        {
+            this.invalidates = new HashSet<String>(i_Labels);
+        }
+        else if ( this.invalidates.isEmpty() )
+        {
+            // 已是涉及所有的标签
+        }
+        else if ( i_Labels.isEmpty() )
+        {
+            this.invalidates.clear();
+        }
+        else
+        {
+            this.invalidates.addAll(i_Labels);
+        }
+    }
+    
+    
+    
+    /**
+     * 事务结束（提交或回滚）后，取出并清除已登记的须失效的查询结果缓存的标签
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     * @return  为NULL时无须失效
+     */
+    private synchronized Set<String> takeInvalidates()
+    {
+        Set<String> v_Ret = this.invalidates;
+        this.invalidates = null;
+        return v_Ret;
+    }
+    
+    
+    
     @Override
     public <T> T readTransaction(TransactionWork<T> work)
     {
@@ -268,4 +334,114 @@ public class Connection implements Session
         this.conn.reset();
     }
     
+    
+    
+    
+    
+    /**
+     * 开启的事务的二次封装。事务提交后，失效事务中写操作相关的查询结果缓存
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     */
+    private final class ConnectionTransaction implements Transaction
+    {
+        
+        /** 第三方的连接开启的事务 */
+        private final Transaction transaction;
+        
+        
+        
+        public ConnectionTransaction(Transaction i_Transaction)
+        {
+            this.transaction = i_Transaction;
+        }
+        
+        
+        
+        @Override
+        public void commit()
+        {
+            this.transaction.commit();
+            
+            Set<String> v_Labels = Connection.this.takeInvalidates();
+            if ( v_Labels != null )
+            {
+                XCQLCache.invalidates(v_Labels);
+            }
+        }
+        
+        
+        
+        @Override
+        public void rollback()
+        {
+            Connection.this.takeInvalidates();
+            this.transaction.rollback();
+        }
+        
+        
+        
+        @Override
+        public void close()
+        {
+            // 未提交的事务关闭时即回滚
+            if ( this.transaction.isOpen() )
+            {
+                Connection.this.takeInvalidates();
+            }
+            this.transaction.close();
+        }
+        
+        
+        
+        @Override
+        public boolean isOpen()
+        {
+            return this.transaction.isOpen();
+        }
+        
+        
+        
+        @Override
+        public Result run(String query ,Value parameters)
+        {
+            return this.transaction.run(query ,parameters);
+        }
+        
+        
+        
+        @Override
+        public Result run(String query ,Map<String ,Object> parameters)
+        {
+            return this.transaction.run(query ,parameters);
+        }
+        
+        
+        
+        @Override
+        public Result run(String query ,Record parameters)
+        {
+            return this.transaction.run(query ,parameters);
+        }
+        
+        
+        
+        @Override
+        public Result run(String query)
+        {
+            return this.transaction.run(query);
+        }
+        
+        
+        
+        @Override
+        public Result run(Query query)
+        {
+            return this.transaction.run(query);
+        }
+        
+    }
+    
 }
@@ -1,23 +1,26 @@
 package org.hy.common.xcql;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.hy.common.Help;
 import org.hy.common.MethodReflect;
-import org.hy.common.PartitionMap;
 import org.hy.common.SplitSegment;
 import org.hy.common.SplitSegment.InfoType;
 import org.hy.common.StringHelp;
 import org.hy.common.xml.log.Logger;
+import org.neo4j.driver.Query;
 
 
 
@@ -51,6 +54,16 @@ import org.hy.common.xml.log.Logger;
  * @author      ZhengWei(HY)
  * @createDate  2023-05-24
  * @version     v1.0
+ *              v2.0  2026-10-17  添加：预编译渲染计划。生成CQL时按插槽一次追加完成，不再逐个占位符的查找与替换
+ *              v3.0  2026-10-17  添加：参数绑定模式 paramBinding。占位符改写为 $name 参数，数值通过参数集合传递
+ *              v4.0  2026-10-17  添加：参数绑定模式下，按动态分段生效情况的位掩码缓存CQL形状
+ *              v5.0  2026-10-17  添加：词法分析器 DBCQL_Lexer。CQL类型的识别、WHERE条件的整理由多个正则改为单次扫描
+ *              v6.0  2026-10-17  添加：按 (Java类, 占位符路径) 缓存的Getter访问器 DBCQL_Accessor
+ *              v7.0  2026-10-17  添加：占位符取值条件预先绑定到占位符上，生成CQL时不再按名称查找
+ *              v8.0  2026-10-17  添加：全局占位符按版本号缓存在占位符上，生成CQL时不再按名称查找
+ *              v9.0  2026-10-17  添加：CQL涉及的节点标签与关系类型 labels 。用于查询结果缓存的失效
+ *              v10.0 2026-10-17  修改：占位符取值条件的集合按修改次数判定是否须重新绑定，替换已有条件时也能发现
+ *              v11.0 2026-10-18  添加：在分析CQL时识别是否可下推分页 pageable 。分页查询时不再词法分析可执行CQL
  */
 public class DBCQL implements Serializable
 {
@@ -80,63 +93,7 @@ public class DBCQL implements Serializable
     
     /** 匹配 <[ ... ]> 的字符串 */
     private final static String              $CQL_Find_Dynamic          = "[ \\s]?<\\[((?!<\\[|\\]>).)*\\]>[ \\s]?";
-                                                                        
-    /** 匹配 MATCH */
-    private final static String              $CQL_Find_Match            = "^( )*[Mm][Aa][Tt][Cc][Hh][ ]+";
-                                                                        
-    /** 匹配 CREATE */
-    private final static String              $CQL_Find_Create           = "( )*[Cc][Rr][Ee][Aa][Tt][Ee][ ]+";
-                                                                        
-    /** 匹配 CREATE INDEX */
-    private final static String              $CQL_Find_CreateIndex      = "^( )*[Cc][Rr][Ee][Aa][Tt][Ee][ ]+[Ii][Nn][Dd][Ee][Xx][ ]+";
-                                                                        
-    /** 匹配 DROP INDEX */
-    private final static String              $CQL_Find_DropIndex        = "^( )*[Dd][Rr][Oo][Pp][ ]+[Ii][Nn][Dd][Ee][Xx][ ]+";
-    
-    /** 匹配 CREATE CONSTRAINT */
-    private final static String              $CQL_Find_CreateConstraint = "^( )*[Cc][Rr][Ee][Aa][Tt][Ee][ ]+[Cc][Oo][Nn][Ss][Tt][Rr][Aa][Ii][Nn][Tt][ ]+";
-    
-    /** 匹配 DROP CONSTRAINT */
-    private final static String              $CQL_Find_DropConstraint   = "^( )*[Dd][Rr][Oo][Pp][ ]+[Cc][Oo][Nn][Ss][Tt][Rr][Aa][Ii][Nn][Tt][ ]+";
-    
-    /** 匹配 SET */
-    private final static String              $CQL_Find_Set              = "[ ]+[Ss][Ee][Tt][ ]+";
-                                                                        
-    /** 匹配 DELETE */
-    private final static String              $CQL_Find_Delete           = "[ ]+[Dd][Ee][Ll][Ee][Tt][Ee][ ]+";
-                                                                        
-    /** 匹配 REMOVE */
-    private final static String              $CQL_Find_Remove           = "[ ]+[Rr][Ee][Mm][Oo][Vv][Ee][ ]+";
-    
-    
-    
-    /** 匹配 WHERE <[ */
-    private final static String              $CQL_R_WhereDynamic        = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+<\\[";
-                                                                       
-    /** 匹配 WHERE # */
-    private final static String              $CQL_R_WherePlaceho        = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+" + $Placeholder;
-                                                                       
-    /** 替换 WHERE AND */
-    private final static String              $CQL_R_WhereAnd            = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+[Aa][Nn][Dd][ ]+";
-                                                                       
-    /** 替换 WHERE OR */
-    private final static String              $CQL_R_WhereOr             = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+[Oo][Rr][ ]+";
-                                                                       
-    /** 替换 WHERE Create */
-    private final static String              $CQL_R_WhereCreate         = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+[Cc][Rr][Ee][Aa][Tt][Ee][ ]+";
-                                                                       
-    /** 替换 WHERE Delete */
-    private final static String              $CQL_R_WhereDelete         = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+[Dd][Ee][Ll][Ee][Tt][Ee][ ]+";
-    
-    /** 替换 WHERE Remove */
-    private final static String              $CQL_R_WhereRemove         = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+[Rr][Ee][Mm][Oo][Vv][Ee][ ]+";
-    
-    /** 替换 WHERE Set */
-    private final static String              $CQL_R_WhereSet            = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+[Ss][Ee][Tt][ ]+";
-    
-    /** 替换 WHERE Return */
-    private final static String              $CQL_R_WhereReturn         = "( )*[Ww][Hh][Ee][Rr][Ee][ ]+[Rr][Ee][Tt][Uu][Rr][Nn][ ]+";
-       
+    
     
     
     /** 数据库中的NULL关键字 */
@@ -164,6 +121,9 @@ public class DBCQL implements Serializable
     /** CQL类型 */
     private int                       cqlType;
     
+    /** CQL涉及的节点标签与关系类型。空集合表示可能涉及所有的标签 */
+    private Set<String>               labels;
+    
     /** 替换数据库关键字。如，单引号替换成【\'】。默认为：true，即替换 */
     private boolean                   keyReplace;
     
@@ -175,6 +135,12 @@ public class DBCQL implements Serializable
     /** 是否有WHERE条件后直接跟动态CQL的情况，如 WHERE <[ ... ]> */
     private boolean                   haveWhereDynamic;
     
+    /** 是否有 COUNT( 统计函数。在分析CQL时识别，避免每次执行时再做正则匹配 */
+    private boolean                   haveCount;
+    
+    /** 是否可下推分页，即可在可执行CQL的末尾追加 SKIP/LIMIT 子句。在分析CQL时识别，避免每次分页查询时再做词法分析 */
+    private boolean                   pageable;
+    
     /** 通过分析后的分段CQL信息 */
     private List<DBCQL_Split>         segments;
     
@@ -182,7 +148,10 @@ public class DBCQL implements Serializable
     private Set<String>               notPlaceholders;
     
     /** 占位符取值条件 */
-    private Map<String ,DBConditions> conditions;
+    private Conditions                conditions;
+    
+    /** 预先绑定取值条件时，占位符取值条件的修改次数。用于发现通过 getConditions() 直接修改的情况 */
+    private int                       conditionsVersion;
     
     /**
      * 是否默认为NULL值写入到数据库。针对所有占位符做的统一设置。
@@ -196,6 +165,24 @@ public class DBCQL implements Serializable
      */
     private boolean                   defaultNull;
     
+    /**
+     * 是否启用参数绑定模式。
+     * 
+     * 当 this.paramBinding = true 时，getQuery() 方法将 '#name' 等占位符改写为 $name 参数，
+     * 数值通过参数集合传递给Neo4j，使同一模板生成的CQL文本保持稳定，Neo4j可复用其执行计划缓存。
+     * 
+     * 默认为：false，即数值直接拼接在CQL中。
+     */
+    private boolean                   paramBinding;
+    
+    /**
+     * 参数绑定模式下的CQL形状的缓存。
+     * 
+     * Map.key    为生效分段的位掩码。第N位为1表示第N个分段生效（分段数量超过64个时不缓存）
+     * Map.value  为已完成分段拼接及WHERE条件整理的CQL骨架
+     */
+    private Map<Long ,DBCQL_Shape>    shapes;
+    
     
     
     /**
@@ -205,10 +192,15 @@ public class DBCQL implements Serializable
     {
         this.cqlText          = "";
         this.cqlType          = $DBCQL_TYPE_UNKNOWN;
+        this.labels           = Collections.emptySet();
         this.haveWhereDynamic = false;
+        this.haveCount        = false;
+        this.pageable         = false;
         this.segments         = new ArrayList<DBCQL_Split>();
-        this.conditions       = new HashMap<String ,DBConditions>();
+        this.conditions       = new Conditions();
         this.defaultNull      = false;
+        this.paramBinding     = false;
+        this.shapes           = new ConcurrentHashMap<Long ,DBCQL_Shape>();
         this.setNotPlaceholders("MI,SS,mi,ss");
         this.setKeyReplace(true);
     }
@@ -240,8 +232,12 @@ public class DBCQL implements Serializable
             return;
         }
         
-        this.parser_CQLType();
-        this.parser_WhereDynamic();
+        DBCQL_Lexer v_Lexer = new DBCQL_Lexer(this.cqlText);
+        this.cqlType          = v_Lexer.getCQLType();
+        this.labels           = v_Lexer.getLabels();
+        this.haveWhereDynamic = v_Lexer.isHaveWhereDynamic();
+        this.haveCount        = v_Lexer.isHaveCount();
+        this.pageable         = v_Lexer.isPageable();
         
         // 匹配 <[ ... ]> 的字符串
         List<SplitSegment> v_Segments = StringHelp.Split($CQL_Find_Dynamic ,this.cqlText);
@@ -258,120 +254,39 @@ public class DBCQL implements Serializable
             
             this.segments.add(v_DBCQL_Segment);
         }
-    }
-    
-    
-    
-    /**
-     * 识别CQL语句的类型
-     */
-    private void parser_CQLType()
-    {
-        Pattern v_Pattern = null;
-        Matcher v_Matcher = null;
-        
-        v_Pattern = Pattern.compile($CQL_Find_CreateIndex);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_DDL;
-            return;
-        }
-        
-        v_Pattern = Pattern.compile($CQL_Find_DropIndex);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_DDL;
-            return;
-        }
-        
-        v_Pattern = Pattern.compile($CQL_Find_CreateConstraint);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_DDL;
-            return;
-        }
-        
-        v_Pattern = Pattern.compile($CQL_Find_DropConstraint);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_DDL;
-            return;
-        }
-        
-        v_Pattern = Pattern.compile($CQL_Find_Delete);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_DELETE;
-            return;
-        }
-        
-        v_Pattern = Pattern.compile($CQL_Find_Remove);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_DELETE;
-            return;
-        }
-        
-        v_Pattern = Pattern.compile($CQL_Find_Set);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_SET;
-            return;
-        }
-        
-        v_Pattern = Pattern.compile($CQL_Find_Create);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_CREATE;
-            return;
-        }
         
-        v_Pattern = Pattern.compile($CQL_Find_Match);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.cqlType = $DBCQL_TYPE_MATCH;
-            return;
-        }
+        this.parserConditions();
     }
     
     
     
     /**
-     * 是否有WHERE条件后直接跟动态CQL的情况，如 WHERE <[ ... ]>
+     * 将占位符取值条件预先绑定到各分段的占位符上。
+     * 
+     * 占位符CQL或取值条件变化时执行一次，生成CQL时直接从占位符上获取，无须再按名称（不区分大小写）查找。
      * 
      * @author      ZhengWei(HY)
-     * @createDate  2023-05-12
+     * @createDate  2026-10-17
      * @version     v1.0
      *
      */
-    private void parser_WhereDynamic()
+    private synchronized void parserConditions()
     {
-        Pattern v_Pattern = null;
-        Matcher v_Matcher = null;
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereDynamic);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
+        for (DBCQL_Split v_Segment : this.segments)
         {
-            this.haveWhereDynamic = true;
-            return;
+            DBCQL_Placeholder [] v_Placeholders = v_Segment.getPlanPlaceholders();
+            if ( v_Placeholders == null )
+            {
+                continue;
+            }
+            
+            for (DBCQL_Placeholder v_Placeholder : v_Placeholders)
+            {
+                v_Placeholder.setCondition(Help.getValueIgnoreCase(this.conditions ,v_Placeholder.getName()));
+            }
         }
         
-        v_Pattern = Pattern.compile($CQL_R_WherePlaceho);
-        v_Matcher = v_Pattern.matcher(this.cqlText);
-        if ( v_Matcher.find() )
-        {
-            this.haveWhereDynamic = true;
-        }
+        this.conditionsVersion = this.conditions.getVersion();
     }
     
     
@@ -423,76 +338,19 @@ public class DBCQL implements Serializable
      * @author      ZhengWei(HY)
      * @createDate  2023-05-12
      * @version     v1.0
+     *              v2.0  2026-10-17  修改：由多次正则替换改为词法分析器的单次扫描
      *
      * @param i_CQL
      * @return
      */
-    private String whereDynamic(String i_CQL)
+    protected String whereDynamic(String i_CQL)
     {
         if ( !this.haveWhereDynamic )
         {
             return i_CQL;
         }
         
-        String  v_CQL     = i_CQL.trim();
-        Pattern v_Pattern = null;
-        Matcher v_Matcher = null;
-        
-        if ( v_CQL.toUpperCase().endsWith(" WHERE") )
-        {
-            v_CQL = v_CQL.substring(0 ,v_CQL.length() - 6);
-        }
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereAnd);
-        v_Matcher = v_Pattern.matcher(v_CQL);
-        if ( v_Matcher.find() )
-        {
-            v_CQL = v_Matcher.replaceAll(" WHERE ");
-        }
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereOr);
-        v_Matcher = v_Pattern.matcher(v_CQL);
-        if ( v_Matcher.find() )
-        {
-            v_CQL = v_Matcher.replaceAll(" WHERE ");
-        }
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereCreate);
-        v_Matcher = v_Pattern.matcher(v_CQL);
-        if ( v_Matcher.find() )
-        {
-            v_CQL = v_Matcher.replaceAll(" CREATE ");
-        }
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereDelete);
-        v_Matcher = v_Pattern.matcher(v_CQL);
-        if ( v_Matcher.find() )
-        {
-            v_CQL = v_Matcher.replaceAll(" DELETE ");
-        }
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereRemove);
-        v_Matcher = v_Pattern.matcher(v_CQL);
-        if ( v_Matcher.find() )
-        {
-            v_CQL = v_Matcher.replaceAll(" REMOVE ");
-        }
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereSet);
-        v_Matcher = v_Pattern.matcher(v_CQL);
-        if ( v_Matcher.find() )
-        {
-            v_CQL = v_Matcher.replaceAll(" SET ");
-        }
-        
-        v_Pattern = Pattern.compile($CQL_R_WhereReturn);
-        v_Matcher = v_Pattern.matcher(v_CQL);
-        if ( v_Matcher.find() )
-        {
-            v_CQL = v_Matcher.replaceAll(" RETURN ");
-        }
-        
-        return v_CQL;
+        return DBCQL_Lexer.whereDynamic(i_CQL);
     }
     
     
@@ -507,6 +365,26 @@ public class DBCQL implements Serializable
     
     
     
+    /**
+     * 获取：是否有 COUNT( 统计函数
+     */
+    public boolean isHaveCount()
+    {
+        return haveCount;
+    }
+    
+    
+    
+    /**
+     * 获取：是否可下推分页，即可在可执行CQL的末尾追加 SKIP/LIMIT 子句（见 DBCQL_Lexer.isPageable()）
+     */
+    public boolean isPageable()
+    {
+        return pageable;
+    }
+    
+    
+    
     /**
      * 填充或设置占位符CQL
      * 
@@ -525,6 +403,11 @@ public class DBCQL implements Serializable
             this.segments.clear();
         }
         
+        if ( this.shapes != null )
+        {
+            this.shapes.clear();
+        }
+        
         this.parser();
     }
     
@@ -574,8 +457,27 @@ public class DBCQL implements Serializable
      * @param i_DSG  数据库连接池组。可为空或NULL
      * @return
      */
-    @SuppressWarnings("unchecked")
     public String getCQL(Object i_Obj ,DataSourceCQL i_DSCQL)
+    {
+        return this.toCQL(i_Obj ,i_DSCQL ,null);
+    }
+    
+    
+    
+    /**
+     * 获取可执行的CQL语句，并按 i_Obj 填充有数值。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Obj
+     * @param i_DSCQL    数据库连接池组。可为空或NULL
+     * @param io_Params  参数集合。为NULL时数值拼接在CQL中，否则为参数绑定模式
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private String toCQL(Object i_Obj ,DataSourceCQL i_DSCQL ,Map<String ,Object> io_Params)
     {
         if ( i_Obj == null )
         {
@@ -589,48 +491,52 @@ public class DBCQL implements Serializable
         
         if ( i_Obj instanceof Map )
         {
-            return this.getCQL((Map<String ,?>)i_Obj ,i_DSCQL);
+            return this.toCQL((Map<String ,?>)i_Obj ,i_DSCQL ,io_Params);
         }
         
-        String                v_DBType  = null;
-        StringBuilder         v_CQL     = new StringBuilder();
-        Iterator<DBCQL_Split> v_Ierator = this.segments.iterator();
+        // 发现通过 getConditions() 直接修改取值条件的情况，重新绑定
+        if ( this.conditions.getVersion() != this.conditionsVersion )
+        {
+            this.parserConditions();
+        }
         
+        DBCQL_Values [] v_Actives = new DBCQL_Values[this.segments.size()];
         
-        while ( v_Ierator.hasNext() )
+        for (int v_SIndex=0; v_SIndex<v_Actives.length; v_SIndex++)
         {
-            DBCQL_Split                   v_DBCQL_Segment = v_Ierator.next();
-            PartitionMap<String ,Integer> v_Placeholders  = v_DBCQL_Segment.getPlaceholders();
+            DBCQL_Split          v_DBCQL_Segment = this.segments.get(v_SIndex);
+            DBCQL_Placeholder [] v_Placeholders  = v_DBCQL_Segment.getPlanPlaceholders();
             
-            if ( Help.isNull(v_Placeholders) )
+            if ( v_Placeholders == null || v_Placeholders.length <= 0 )
             {
-                v_CQL.append(v_DBCQL_Segment.getInfo());
+                v_Actives[v_SIndex] = new DBCQL_Values(v_DBCQL_Segment);
+                continue;
             }
-            else
+            
+            DBCQL_Values v_Values       = new DBCQL_Values(v_DBCQL_Segment);
+            int          v_ReplaceCount = 0;
+            
+            // 不再区分 $DBCQL_TYPE_INSERT 类型，使所有的CQL类型均采有相同的占位符填充逻辑。ZhengWei(HY) Edit 2018-06-06
+            for (DBCQL_Placeholder v_Placeholder : v_Placeholders)
             {
-                Iterator<String> v_IterPlaceholders = v_Placeholders.keySet().iterator();
-                String           v_Info             = v_DBCQL_Segment.getInfo();
-                int              v_ReplaceCount     = 0;
+                String         v_PlaceHolder   = v_Placeholder.getName();
+                DBCQL_Accessor v_Accessor      = null;
+                MethodReflect  v_MethodReflect = null;
+                boolean        v_IsGetter      = false;
                 
-                // 不再区分 $DBCQL_TYPE_INSERT 类型，使所有的CQL类型均采有相同的占位符填充逻辑。ZhengWei(HY) Edit 2018-06-06
-                while ( v_IterPlaceholders.hasNext() )
+                // 排除不是占位符的变量，但它的形式可能是占位符的形式。ZhengWei(HY) Add 2018-06-14
+                if ( this.notPlaceholders.contains(v_PlaceHolder) )
+                {
+                    v_ReplaceCount++;
+                    continue;
+                }
+                
+                // 按 (Java类, 占位符路径) 缓存的Getter访问器，只在首次使用时解释。ZhengWei(HY) Add 2026-10-17
+                v_Accessor = DBCQL_Accessor.getInstance(i_Obj.getClass() ,v_PlaceHolder);
+                
+                // 可实现xxx.yyy.www(或getXxx.getYyy.getWww)全路径的解释  ZhengWei(HY) Add 2015-12-10
+                if ( v_Accessor.isReflect() )
                 {
-                    String        v_PlaceHolder   = v_IterPlaceholders.next();
-                    MethodReflect v_MethodReflect = null;
-                    
-                    // 排除不是占位符的变量，但它的形式可能是占位符的形式。ZhengWei(HY) Add 2018-06-14
-                    if ( this.notPlaceholders.contains(v_PlaceHolder) )
-                    {
-                        v_ReplaceCount++;
-                        continue;
-                    }
-                    
-                    /*
-                    在实现全路径的解释功能之前的老方法  ZhengWei(HY) Del 2015-12-10
-                    Method v_Method = MethodReflect.getGetMethod(i_Obj.getClass() ,v_PlaceHolder ,true);
-                    */
-                    
-                    // 可实现xxx.yyy.www(或getXxx.getYyy.getWww)全路径的解释  ZhengWei(HY) Add 2015-12-10
                     try
                     {
                         v_MethodReflect = new MethodReflect(i_Obj ,v_PlaceHolder ,true ,MethodReflect.$NormType_Getter);
@@ -640,160 +546,146 @@ public class DBCQL implements Serializable
                         // 有些:xx占位符可能找到对应Java的Getter方法，所以忽略。 ZhengWei(HY) Add 2-16-09-29
                         // Nothing.
                     }
-                    
-                    Object       v_GetterValue    = null;
-                    DBConditions v_ConditionGroup = null;
-                    boolean      v_IsCValue       = false;
-                    try
+                }
+                
+                v_IsGetter = v_MethodReflect != null || (v_Accessor.isExists() && !v_Accessor.isReflect());
+                
+                Object       v_GetterValue    = null;
+                DBConditions v_ConditionGroup = null;
+                boolean      v_IsCValue       = false;
+                try
+                {
+                    if ( v_IsGetter )
                     {
-                        if ( v_MethodReflect != null )
+                        v_ConditionGroup = v_Placeholder.getCondition();
+                        if ( v_ConditionGroup != null )
                         {
-                            v_ConditionGroup = Help.getValueIgnoreCase(this.conditions ,v_PlaceHolder);
-                            if ( v_ConditionGroup != null )
-                            {
-                                // 占位符取值条件  ZhengWei(HY) Add 2018-08-10
-                                v_GetterValue = v_ConditionGroup.getValue(i_Obj ,false);
-                                v_IsCValue    = true;
-                            }
-                            else
-                            {
-                                v_GetterValue = v_MethodReflect.invoke();
-                            }
+                            // 占位符取值条件  ZhengWei(HY) Add 2018-08-10
+                            v_GetterValue = v_ConditionGroup.getValue(i_Obj ,false);
+                            v_IsCValue    = true;
+                        }
+                        else if ( v_MethodReflect != null )
+                        {
+                            v_GetterValue = v_MethodReflect.invoke();
                         }
                         else
                         {
-                            // 全局占位符 ZhengWei(HY) Add 2019-03-06
-                            v_GetterValue = Help.getValueIgnoreCase(DBCQLStaticParams.getInstance() ,v_PlaceHolder);
+                            v_GetterValue = v_Accessor.invoke(i_Obj);
                         }
                     }
-                    catch (Exception exce)
+                    else
                     {
-                        $Logger.error(exce);
-                        throw new RuntimeException(exce.getMessage());
+                        // 全局占位符 ZhengWei(HY) Add 2019-03-06
+                        v_GetterValue = v_Placeholder.getStaticValue();
                     }
-                    
-                    try
+                }
+                catch (Exception exce)
+                {
+                    $Logger.error(exce);
+                    throw new RuntimeException(exce.getMessage());
+                }
+                
+                try
+                {
+                    // getter 方法有返回值时
+                    if ( v_GetterValue != null )
                     {
-                        // getter 方法有返回值时
-                        if ( v_GetterValue != null )
+                        if ( MethodReflect.class.equals(v_GetterValue.getClass()) )
                         {
-                            if ( MethodReflect.class.equals(v_GetterValue.getClass()) )
+                            boolean v_IsReplace = false;
+                            
+                            // 这里循环的原因是：每次((MethodReflect)v_GetterValue).invoke()执行后的返回值v_MRValue都可能不一样。
+                            while ( !v_Values.isFilled(v_Placeholder) )
                             {
-                                boolean v_IsReplace = false;
+                                // 可实现CQL中的占位符，通过Java动态(或有业务时间逻辑的)填充值。 ZhengWei(HY) Add 2016-03-18
+                                Object v_MRValue = ((MethodReflect)v_GetterValue).invoke();
                                 
-                                // 这里循环的原因是：每次((MethodReflect)v_GetterValue).invoke()执行后的返回值v_MRValue都可能不一样。
-                                while ( v_Info.indexOf($Placeholder + v_PlaceHolder) >= 0 )
+                                if ( v_MRValue != null )
                                 {
-                                    // 可实现CQL中的占位符，通过Java动态(或有业务时间逻辑的)填充值。 ZhengWei(HY) Add 2016-03-18
-                                    Object v_MRValue = ((MethodReflect)v_GetterValue).invoke();
-                                    
-                                    if ( v_MRValue != null )
-                                    {
-                                        if ( v_IsCValue )
-                                        {
-                                            v_Info = this.dbCQLFill.onlyFillFirst(v_Info ,v_PlaceHolder ,v_MRValue.toString() ,v_DBType);
-                                        }
-                                        else
-                                        {
-                                            v_Info = this.dbCQLFill.fillFirst(v_Info ,v_PlaceHolder ,v_MRValue.toString() ,v_DBType);
-                                        }
-                                        v_IsReplace = true;
-                                    }
-                                    else
-                                    {
-                                        String v_Value = Help.toObject(((MethodReflect)v_GetterValue).getReturnType()).toString();
-                                        v_Info = this.dbCQLFill.fillAll(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                                        v_IsReplace = false;  // 为了支持动态占位符，这里设置为false
-                                        // 同时也替换占位符，可对不是动态占位符的情况，也初始化值。  ZhengWei(HY) 2018-06-06
-                                        
-                                        break;
-                                    }
+                                    v_Values.fillFirst(v_Placeholder ,v_MRValue ,v_IsCValue);
+                                    v_IsReplace = true;
                                 }
-                                
-                                if ( v_IsReplace )
+                                else
                                 {
-                                    v_ReplaceCount++;
+                                    String v_Value = Help.toObject(((MethodReflect)v_GetterValue).getReturnType()).toString();
+                                    v_Values.fillAll(v_Placeholder ,v_Value ,false);
+                                    v_IsReplace = false;  // 为了支持动态占位符，这里设置为false
+                                    // 同时也替换占位符，可对不是动态占位符的情况，也初始化值。  ZhengWei(HY) 2018-06-06
+                                    
+                                    break;
                                 }
                             }
-                            else
+                            
+                            if ( v_IsReplace )
                             {
-                                if ( v_IsCValue )
-                                {
-                                    v_Info = this.dbCQLFill.onlyFillAll(v_Info ,v_PlaceHolder ,v_GetterValue.toString() ,v_DBType);
-                                }
-                                else
-                                {
-                                    v_Info = this.dbCQLFill.fillAll(v_Info ,v_PlaceHolder ,v_GetterValue.toString() ,v_DBType);
-                                }
                                 v_ReplaceCount++;
                             }
                         }
-                        // 当占位符对应属性值为NULL时的处理
                         else
                         {
-                            String v_Value = null;
-                            if ( v_ConditionGroup != null || this.defaultNull )
-                            {
-                                // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
-                                v_Value = $NULL;
-                                v_Info  = this.dbCQLFill.fillAllMark(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                            }
-                            else if ( v_MethodReflect == null )
+                            v_Values.fillAll(v_Placeholder ,v_GetterValue ,v_IsCValue);
+                            v_ReplaceCount++;
+                        }
+                    }
+                    // 当占位符对应属性值为NULL时的处理
+                    else
+                    {
+                        String v_Value = null;
+                        if ( v_ConditionGroup != null || this.defaultNull )
+                        {
+                            // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
+                            v_Value = $NULL;
+                            v_Values.fillAllMark(v_Placeholder ,v_Value ,false);
+                        }
+                        else if ( !v_IsGetter )
+                        {
+                            v_Value = $NULL;
+                            v_Values.fillAllMark(v_Placeholder ,v_Value ,false);
+                        }
+                        else
+                        {
+                            Class<?> v_ReturnType = v_MethodReflect != null ? v_MethodReflect.getReturnType() : v_Accessor.getReturnType(i_Obj);
+                            if ( v_ReturnType == null ||  v_ReturnType == String.class )
                             {
-                                v_Value = $NULL;
-                                v_Info  = this.dbCQLFill.fillAllMark(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
+                                v_Value = "";
                             }
                             else
                             {
-                                Class<?> v_ReturnType = v_MethodReflect.getReturnType();
-                                if ( v_ReturnType == null ||  v_ReturnType == String.class )
-                                {
-                                    v_Value = "";
-                                }
-                                else
-                                {
-                                    v_Value = $NULL;
-                                    v_Info  = this.dbCQLFill.fillAllMark(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                                }
-                                
-                                // 2018-11-02 Del  废除默认值填充方式
-                                // v_Value = Help.toObject(v_MethodReflect.getReturnType()).toString();
+                                v_Value = $NULL;
+                                v_Values.fillAllMark(v_Placeholder ,v_Value ,false);
                             }
                             
-                            // 这里必须再执行一次填充。因为第一次为 fillMark()，本次为 fillAll() 方法
-                            v_Info = this.dbCQLFill.fillAll(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                            
-                            // v_ReplaceCount++; 此处不要++，这样才能实现动态占位符的功能。
-                            // 上面的代码同时也替换占位符，可对不是动态占位符的情况，也初始化值。  ZhengWei(HY) 2018-06-06
+                            // 2018-11-02 Del  废除默认值填充方式
+                            // v_Value = Help.toObject(v_MethodReflect.getReturnType()).toString();
                         }
-                    }
-                    catch (Exception exce)
-                    {
-                        $Logger.error(exce);
-                    }
-                    
-                    if ( v_MethodReflect != null )
-                    {
-                        v_MethodReflect.clearDestroy();
-                        v_MethodReflect = null;
+                        
+                        // 这里必须再执行一次填充。因为第一次为 fillAllMark()，本次为 fillAll() 方法
+                        v_Values.fillAll(v_Placeholder ,v_Value ,false);
+                        
+                        // v_ReplaceCount++; 此处不要++，这样才能实现动态占位符的功能。
+                        // 上面的代码同时也替换占位符，可对不是动态占位符的情况，也初始化值。  ZhengWei(HY) 2018-06-06
                     }
                 }
-                
-                if ( InfoType.$TextInfo == v_DBCQL_Segment.getInfoType() )
+                catch (Exception exce)
                 {
-                    v_CQL.append(v_Info);
+                    $Logger.error(exce);
                 }
-                else if ( v_ReplaceCount == v_DBCQL_Segment.getPlaceholderSize() )
+                
+                if ( v_MethodReflect != null )
                 {
-                    v_CQL.append(v_Info);
+                    v_MethodReflect.clearDestroy();
+                    v_MethodReflect = null;
                 }
             }
+            
+            if ( InfoType.$TextInfo == v_DBCQL_Segment.getInfoType()
+              || v_ReplaceCount == v_DBCQL_Segment.getPlaceholderSize() )
+            {
+                v_Actives[v_SIndex] = v_Values;
+            }
         }
         
-        // 2018-03-22  优化：完善安全检查防止CQL注入，将'--形式的CQL放在整体CQL来判定。
-        String v_CQLRet = v_CQL.toString();
-        v_CQLRet = whereDynamic(v_CQLRet);
-        return v_CQLRet;
+        return this.toCQL(v_Actives ,io_Params);
     }
     
     
@@ -837,6 +729,25 @@ public class DBCQL implements Serializable
      * @return
      */
     public String getCQL(Map<String ,?> i_Values ,DataSourceCQL i_DSCQL)
+    {
+        return this.toCQL(i_Values ,i_DSCQL ,null);
+    }
+    
+    
+    
+    /**
+     * 获取可执行的CQL语句，并按 Map<String ,Object> 填充有数值。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values
+     * @param i_DSCQL    数据库连接信息。可为空或NULL
+     * @param io_Params  参数集合。为NULL时数值拼接在CQL中，否则为参数绑定模式
+     * @return
+     */
+    private String toCQL(Map<String ,?> i_Values ,DataSourceCQL i_DSCQL ,Map<String ,Object> io_Params)
     {
         if ( i_Values == null )
         {
@@ -848,188 +759,261 @@ public class DBCQL implements Serializable
             return this.cqlText;
         }
         
-        String                v_DBType  = null;
-        StringBuilder         v_CQL     = new StringBuilder();
-        Iterator<DBCQL_Split> v_Ierator = this.segments.iterator();
-
+        // 发现通过 getConditions() 直接修改取值条件的情况，重新绑定
+        if ( this.conditions.getVersion() != this.conditionsVersion )
+        {
+            this.parserConditions();
+        }
+        
+        DBCQL_Values [] v_Actives = new DBCQL_Values[this.segments.size()];
+        
         // 不再区分 $DBCQL_TYPE_INSERT 类型，使所有的CQL类型均采有相同的占位符填充逻辑。ZhengWei(HY) Edit 2018-06-06
-        while ( v_Ierator.hasNext() )
+        for (int v_SIndex=0; v_SIndex<v_Actives.length; v_SIndex++)
         {
-            DBCQL_Split                   v_DBCQL_Segment = v_Ierator.next();
-            PartitionMap<String ,Integer> v_Placeholders  = v_DBCQL_Segment.getPlaceholders();
+            DBCQL_Split          v_DBCQL_Segment = this.segments.get(v_SIndex);
+            DBCQL_Placeholder [] v_Placeholders  = v_DBCQL_Segment.getPlanPlaceholders();
             
-            if ( Help.isNull(v_Placeholders) )
+            if ( v_Placeholders == null || v_Placeholders.length <= 0 )
             {
-                v_CQL.append(v_DBCQL_Segment.getInfo());
+                v_Actives[v_SIndex] = new DBCQL_Values(v_DBCQL_Segment);
+                continue;
             }
-            else
+            
+            DBCQL_Values v_Values       = new DBCQL_Values(v_DBCQL_Segment);
+            int          v_ReplaceCount = 0;
+            
+            for (DBCQL_Placeholder v_Placeholder : v_Placeholders)
             {
-                Iterator<String> v_IterPlaceholders = v_Placeholders.keySet().iterator();
-                String           v_Info             = v_DBCQL_Segment.getInfo();
-                int              v_ReplaceCount     = 0;
+                String v_PlaceHolder = v_Placeholder.getName();
+                
+                // 排除不是占位符的变量，但它的形式可能是占位符的形式。ZhengWei(HY) Add 2018-06-14
+                if ( this.notPlaceholders.contains(v_PlaceHolder) )
+                {
+                    v_ReplaceCount++;
+                    continue;
+                }
                 
-                while ( v_IterPlaceholders.hasNext() )
+                try
                 {
-                    String v_PlaceHolder = v_IterPlaceholders.next();
+                    Object       v_MapValue       = null;
+                    DBConditions v_ConditionGroup = v_Placeholder.getCondition();
+                    boolean      v_IsCValue       = false;
+                    if ( v_ConditionGroup != null )
+                    {
+                        // 占位符取值条件  ZhengWei(HY) Add 2018-08-10
+                        v_MapValue = v_ConditionGroup.getValue(i_Values ,false);
+                        v_IsCValue = true;
+                    }
+                    else
+                    {
+                        v_MapValue = MethodReflect.getMapValue(i_Values ,v_PlaceHolder);
+                    }
                     
-                    // 排除不是占位符的变量，但它的形式可能是占位符的形式。ZhengWei(HY) Add 2018-06-14
-                    if ( this.notPlaceholders.contains(v_PlaceHolder) )
+                    // 全局占位符 ZhengWei(HY) Add 2019-03-06
+                    if ( v_MapValue == null )
                     {
-                        v_ReplaceCount++;
-                        continue;
+                        v_MapValue = v_Placeholder.getStaticValue();
                     }
                     
-                    try
+                    if ( v_MapValue != null )
                     {
-                        Object       v_MapValue       = null;
-                        DBConditions v_ConditionGroup = Help.getValueIgnoreCase(this.conditions ,v_PlaceHolder);
-                        boolean      v_IsCValue       = false;
-                        if ( v_ConditionGroup != null )
-                        {
-                            // 占位符取值条件  ZhengWei(HY) Add 2018-08-10
-                            v_MapValue = v_ConditionGroup.getValue(i_Values ,false);
-                            v_IsCValue = true;
-                        }
-                        else
-                        {
-                            v_MapValue = MethodReflect.getMapValue(i_Values ,v_PlaceHolder);
-                        }
-                        
-                        // 全局占位符 ZhengWei(HY) Add 2019-03-06
-                        if ( v_MapValue == null )
-                        {
-                            v_MapValue = Help.getValueIgnoreCase(DBCQLStaticParams.getInstance() ,v_PlaceHolder);
-                        }
-                        
-                        if ( v_MapValue != null )
+                        if ( MethodReflect.class.equals(v_MapValue.getClass()) )
                         {
-                            if ( MethodReflect.class.equals(v_MapValue.getClass()) )
+                            boolean v_IsReplace = false;
+                            
+                            while ( !v_Values.isFilled(v_Placeholder) )
                             {
-                                boolean v_IsReplace = false;
+                                // 可实现CQL中的占位符，通过Java动态(或有业务时间逻辑的)填充值。 ZhengWei(HY) Add 2016-03-18
+                                Object v_GetterValue = ((MethodReflect)v_MapValue).invoke();
                                 
-                                while ( v_Info.indexOf($Placeholder + v_PlaceHolder) >= 0 )
+                                // getter 方法有返回值时
+                                if ( v_GetterValue != null )
                                 {
-                                    // 可实现CQL中的占位符，通过Java动态(或有业务时间逻辑的)填充值。 ZhengWei(HY) Add 2016-03-18
-                                    Object v_GetterValue = ((MethodReflect)v_MapValue).invoke();
-                                    
-                                    // getter 方法有返回值时
-                                    if ( v_GetterValue != null )
+                                    v_Values.fillFirst(v_Placeholder ,v_GetterValue ,v_IsCValue);
+                                    v_IsReplace = true;
+                                }
+                                else
+                                {
+                                    String v_Value = null;
+                                    if ( v_ConditionGroup != null || this.defaultNull )
                                     {
-                                        if ( v_IsCValue )
-                                        {
-                                            v_Info = this.dbCQLFill.onlyFillFirst(v_Info ,v_PlaceHolder ,v_GetterValue.toString() ,v_DBType);
-                                        }
-                                        else
-                                        {
-                                            v_Info = this.dbCQLFill.fillFirst(v_Info ,v_PlaceHolder ,v_GetterValue.toString() ,v_DBType);
-                                        }
-                                        v_IsReplace = true;
+                                        // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
+                                        v_Value = $NULL;
+                                        v_Values.fillAllMark(v_Placeholder ,v_Value ,false);
                                     }
                                     else
                                     {
-                                        String v_Value = null;
-                                        if ( v_ConditionGroup != null || this.defaultNull )
+                                        Class<?> v_ReturnType = ((MethodReflect)v_MapValue).getReturnType();
+                                        if ( v_ReturnType == null ||  v_ReturnType == String.class )
                                         {
-                                            // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
-                                            v_Value = $NULL;
-                                            v_Info = this.dbCQLFill.fillAllMark(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
+                                            v_Value = "";
                                         }
                                         else
                                         {
-                                            Class<?> v_ReturnType = ((MethodReflect)v_MapValue).getReturnType();
-                                            if ( v_ReturnType == null ||  v_ReturnType == String.class )
-                                            {
-                                                v_Value = "";
-                                            }
-                                            else
-                                            {
-                                                v_Value = $NULL;
-                                                v_Info = this.dbCQLFill.fillAllMark(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                                            }
-                                            
-                                            // 2018-11-02 Del  废除默认值填充方式
-                                            // v_Value = Help.toObject(((MethodReflect)v_MapValue).getReturnType()).toString();
+                                            v_Value = $NULL;
+                                            v_Values.fillAllMark(v_Placeholder ,v_Value ,false);
                                         }
                                         
-                                        // 这里必须再执行一次填充。因为第一次为 fillMark()，本次为 fillAll() 方法
-                                        v_Info = this.dbCQLFill.fillAll(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                                        
-                                        v_IsReplace = false;  // 为了支持动态占位符，这里设置为false
-                                        // 同时也替换占位符，可对不是动态占位符的情况，也初始化值。  ZhengWei(HY) 2018-06-06
-                                        
-                                        break;
+                                        // 2018-11-02 Del  废除默认值填充方式
+                                        // v_Value = Help.toObject(((MethodReflect)v_MapValue).getReturnType()).toString();
                                     }
-                                }
-                                
-                                if ( v_IsReplace )
-                                {
-                                    v_ReplaceCount++;
+                                    
+                                    // 这里必须再执行一次填充。因为第一次为 fillAllMark()，本次为 fillAll() 方法
+                                    v_Values.fillAll(v_Placeholder ,v_Value ,false);
+                                    
+                                    v_IsReplace = false;  // 为了支持动态占位符，这里设置为false
+                                    // 同时也替换占位符，可对不是动态占位符的情况，也初始化值。  ZhengWei(HY) 2018-06-06
+                                    
+                                    break;
                                 }
                             }
-                            else
+                            
+                            if ( v_IsReplace )
                             {
-                                if ( v_IsCValue )
-                                {
-                                    v_Info = this.dbCQLFill.onlyFillAll(v_Info ,v_PlaceHolder ,v_MapValue.toString() ,v_DBType);
-                                }
-                                else
-                                {
-                                    v_Info = this.dbCQLFill.fillAll(v_Info ,v_PlaceHolder ,v_MapValue.toString() ,v_DBType);
-                                }
                                 v_ReplaceCount++;
                             }
                         }
                         else
                         {
-                            // 对于没有<[ ]>可选分段的CQL
-                            if ( 1 == this.segments.size() )
+                            v_Values.fillAll(v_Placeholder ,v_MapValue ,v_IsCValue);
+                            v_ReplaceCount++;
+                        }
+                    }
+                    else
+                    {
+                        // 对于没有<[ ]>可选分段的CQL
+                        if ( 1 == this.segments.size() )
+                        {
+                            if ( v_ConditionGroup != null || this.defaultNull )
                             {
-                                if ( v_ConditionGroup != null || this.defaultNull )
-                                {
-                                    // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
-                                    String v_Value = $NULL;
-                                    v_Info = this.dbCQLFill.fillAllMark(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                                    v_Info = this.dbCQLFill.fillAll    (v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                                }
-                                else
-                                {
-                                    v_Info = this.dbCQLFill.fillSpace(v_Info ,v_PlaceHolder);
-                                }
-                                v_ReplaceCount++;
+                                // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
+                                v_Values.fillAllMark(v_Placeholder ,$NULL ,false);
+                                v_Values.fillAll    (v_Placeholder ,$NULL ,false);
                             }
                             else
                             {
-                                String v_Value = null;
-                                if ( v_ConditionGroup != null || this.defaultNull )
-                                {
-                                    // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
-                                    v_Value = $NULL;
-                                    v_Info = this.dbCQLFill.fillAllMark(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
-                                }
-                                else
-                                {
-                                    v_Value = "";
-                                }
-                                
-                                // 这里必须再执行一次填充。因为第一次为 fillMark()，本次为 fillAll() 方法
-                                v_Info = this.dbCQLFill.fillAll(v_Info ,v_PlaceHolder ,v_Value ,v_DBType);
+                                v_Values.fillSpace(v_Placeholder);
                             }
+                            v_ReplaceCount++;
+                        }
+                        else
+                        {
+                            String v_Value = null;
+                            if ( v_ConditionGroup != null || this.defaultNull )
+                            {
+                                // 占位符取值条件。可实现NULL值写入到数据库的功能  ZhengWei(HY) Add 2018-08-10
+                                v_Value = $NULL;
+                                v_Values.fillAllMark(v_Placeholder ,v_Value ,false);
+                            }
+                            else
+                            {
+                                v_Value = "";
+                            }
+                            
+                            // 这里必须再执行一次填充。因为第一次为 fillAllMark()，本次为 fillAll() 方法
+                            v_Values.fillAll(v_Placeholder ,v_Value ,false);
                         }
-                    }
-                    catch (Exception exce)
-                    {
-                        $Logger.error(exce);
                     }
                 }
-                
-                if ( InfoType.$TextInfo == v_DBCQL_Segment.getInfoType() )
+                catch (Exception exce)
+                {
+                    $Logger.error(exce);
+                }
+            }
+            
+            if ( InfoType.$TextInfo == v_DBCQL_Segment.getInfoType()
+              || v_ReplaceCount == v_DBCQL_Segment.getPlaceholderSize() )
+            {
+                v_Actives[v_SIndex] = v_Values;
+            }
+        }
+        
+        return this.toCQL(v_Actives ,io_Params);
+    }
+    
+    
+    
+    /**
+     * 获取可执行的CQL语句，无填充项的情况。
+     * 
+     * @return
+     */
+    public String getCQL()
+    {
+        return this.getCQL(this.dsCQL);
+    }
+    
+    
+    
+    /**
+     * 获取可执行的CQL语句，无填充项的情况。
+     * 
+     * @param i_DSCQL  数据库连接信息。可为空或NULL
+     * @return
+     */
+    public String getCQL(DataSourceCQL i_DSCQL)
+    {
+        return this.toCQL(i_DSCQL ,null);
+    }
+    
+    
+    
+    /**
+     * 将生效的各分段拼接为可执行的CQL语句。
+     * 
+     * 参数绑定模式下，当生效分段的所有插槽均为参数时，CQL文本与数值无关，
+     * 按生效分段的位掩码缓存CQL形状，分段的拼接及WHERE条件的整理只在首次出现此形状时执行一次。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Actives  各分段的填充数值。未生效的分段为NULL
+     * @param io_Params  参数集合。为NULL时数值拼接在CQL中，否则为参数绑定模式
+     * @return
+     */
+    private String toCQL(DBCQL_Values [] i_Actives ,Map<String ,Object> io_Params)
+    {
+        if ( io_Params != null && i_Actives.length <= Long.SIZE )
+        {
+            long    v_ShapeKey    = 0L;
+            boolean v_IsShapeable = true;
+            
+            for (int v_SIndex=0; v_SIndex<i_Actives.length; v_SIndex++)
+            {
+                if ( i_Actives[v_SIndex] != null )
                 {
-                    v_CQL.append(v_Info);
+                    if ( !i_Actives[v_SIndex].isShapeable(this.notKeyReplace ,this.notPlaceholders) )
+                    {
+                        v_IsShapeable = false;
+                        break;
+                    }
+                    
+                    v_ShapeKey |= 1L << v_SIndex;
                 }
-                else if ( v_ReplaceCount == v_DBCQL_Segment.getPlaceholderSize() )
+            }
+            
+            if ( v_IsShapeable )
+            {
+                DBCQL_Shape v_Shape = this.shapes.get(v_ShapeKey);
+                if ( v_Shape == null )
                 {
-                    v_CQL.append(v_Info);
+                    v_Shape = new DBCQL_Shape(i_Actives ,this.notKeyReplace ,this);
+                    this.shapes.put(v_ShapeKey ,v_Shape);
                 }
+                
+                return v_Shape.toCQL(i_Actives ,io_Params);
+            }
+        }
+        
+        String        v_DBType = null;
+        StringBuilder v_CQL    = new StringBuilder(this.cqlText.length() + 64);
+        
+        for (DBCQL_Values v_Values : i_Actives)
+        {
+            if ( v_Values != null )
+            {
+                v_Values.toCQL(v_CQL ,io_Params ,this.notKeyReplace ,this.dbCQLFill ,v_DBType);
             }
         }
         
@@ -1042,13 +1026,107 @@ public class DBCQL implements Serializable
     
     
     /**
-     * 获取可执行的CQL语句，无填充项的情况。
+     * 获取可执行的CQL查询，并按 i_Obj 填充有数值。
+     * 
+     * 当启用参数绑定模式时，返回的CQL文本中占位符为 $name 参数，数值在查询的参数集合中；
+     * 否则与 getCQL(i_Obj ,i_DSCQL) 相同，数值拼接在CQL文本中，参数集合为空。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Obj
+     * @param i_DSCQL  数据库连接池组。可为空或NULL
+     * @return         i_Obj为NULL时返回NULL
+     */
+    public Query getQuery(Object i_Obj ,DataSourceCQL i_DSCQL)
+    {
+        if ( !this.paramBinding )
+        {
+            return newQuery(this.getCQL(i_Obj ,i_DSCQL) ,null);
+        }
+        
+        Map<String ,Object> v_Params = new HashMap<String ,Object>();
+        return newQuery(this.toCQL(i_Obj ,i_DSCQL ,v_Params) ,v_Params);
+    }
+    
+    
+    
+    /**
+     * 获取可执行的CQL查询，并按 Map<String ,Object> 填充有数值。
+     * 
+     * 当启用参数绑定模式时，返回的CQL文本中占位符为 $name 参数，数值在查询的参数集合中；
+     * 否则与 getCQL(i_Values ,i_DSCQL) 相同，数值拼接在CQL文本中，参数集合为空。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values
+     * @param i_DSCQL  数据库连接信息。可为空或NULL
+     * @return         i_Values为NULL时返回NULL
+     */
+    public Query getQuery(Map<String ,?> i_Values ,DataSourceCQL i_DSCQL)
+    {
+        if ( !this.paramBinding )
+        {
+            return newQuery(this.getCQL(i_Values ,i_DSCQL) ,null);
+        }
+        
+        Map<String ,Object> v_Params = new HashMap<String ,Object>();
+        return newQuery(this.toCQL(i_Values ,i_DSCQL ,v_Params) ,v_Params);
+    }
+    
+    
+    
+    /**
+     * 获取可执行的CQL查询，无填充项的情况。
      * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_DSCQL  数据库连接信息。可为空或NULL
      * @return
      */
-    public String getCQL()
+    public Query getQuery(DataSourceCQL i_DSCQL)
     {
-        return this.getCQL(this.dsCQL);
+        if ( !this.paramBinding )
+        {
+            return newQuery(this.getCQL(i_DSCQL) ,null);
+        }
+        
+        Map<String ,Object> v_Params = new HashMap<String ,Object>();
+        return newQuery(this.toCQL(i_DSCQL ,v_Params) ,v_Params);
+    }
+    
+    
+    
+    /**
+     * 生成Neo4j的查询对象
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_CQL     CQL文本
+     * @param i_Params  参数集合。可为NULL
+     * @return          CQL文本为空时返回NULL
+     */
+    public static Query newQuery(String i_CQL ,Map<String ,Object> i_Params)
+    {
+        if ( Help.isNull(i_CQL) )
+        {
+            return null;
+        }
+        else if ( Help.isNull(i_Params) )
+        {
+            return new Query(i_CQL);
+        }
+        else
+        {
+            return new Query(i_CQL ,i_Params);
+        }
     }
     
     
@@ -1056,112 +1134,108 @@ public class DBCQL implements Serializable
     /**
      * 获取可执行的CQL语句，无填充项的情况。
      * 
-     * @param i_DSCQL  数据库连接信息。可为空或NULL
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_DSCQL    数据库连接信息。可为空或NULL
+     * @param io_Params  参数集合。为NULL时数值拼接在CQL中，否则为参数绑定模式
      * @return
      */
-    public String getCQL(DataSourceCQL i_DSCQL)
+    private String toCQL(DataSourceCQL i_DSCQL ,Map<String ,Object> io_Params)
     {
         if ( Help.isNull(this.segments) )
         {
             return this.cqlText;
         }
         
-        String                v_DBType  = null;
-        StringBuilder         v_CQL     = new StringBuilder();
-        Iterator<DBCQL_Split> v_Ierator = this.segments.iterator();
-
+        DBCQL_Values [] v_Actives = new DBCQL_Values[this.segments.size()];
+        
         // 不再区分 $DBCQL_TYPE_INSERT 类型，使所有的CQL类型均采有相同的占位符填充逻辑。ZhengWei(HY) Edit 2018-06-06
-        while ( v_Ierator.hasNext() )
+        for (int v_SIndex=0; v_SIndex<v_Actives.length; v_SIndex++)
         {
-            DBCQL_Split                   v_DBCQL_Segment = v_Ierator.next();
-            PartitionMap<String ,Integer> v_Placeholders  = v_DBCQL_Segment.getPlaceholders();
+            DBCQL_Split          v_DBCQL_Segment = this.segments.get(v_SIndex);
+            DBCQL_Placeholder [] v_Placeholders  = v_DBCQL_Segment.getPlanPlaceholders();
             
-            if ( Help.isNull(v_Placeholders) )
+            if ( v_Placeholders == null || v_Placeholders.length <= 0 )
             {
-                v_CQL.append(v_DBCQL_Segment.getInfo());
+                v_Actives[v_SIndex] = new DBCQL_Values(v_DBCQL_Segment);
+                continue;
             }
-            else
+            
+            DBCQL_Values v_Values       = new DBCQL_Values(v_DBCQL_Segment);
+            int          v_ReplaceCount = 0;
+            
+            for (DBCQL_Placeholder v_Placeholder : v_Placeholders)
             {
-                Iterator<String> v_IterPlaceholders = v_Placeholders.keySet().iterator();
-                String           v_Info             = v_DBCQL_Segment.getInfo();
-                int              v_ReplaceCount     = 0;
+                String v_PlaceHolder = v_Placeholder.getName();
                 
-                while ( v_IterPlaceholders.hasNext() )
+                // 排除不是占位符的变量，但它的形式可能是占位符的形式。ZhengWei(HY) Add 2018-06-14
+                if ( this.notPlaceholders.contains(v_PlaceHolder) )
                 {
-                    String v_PlaceHolder = v_IterPlaceholders.next();
-                    
-                    // 排除不是占位符的变量，但它的形式可能是占位符的形式。ZhengWei(HY) Add 2018-06-14
-                    if ( this.notPlaceholders.contains(v_PlaceHolder) )
-                    {
-                        v_ReplaceCount++;
-                        continue;
-                    }
+                    v_ReplaceCount++;
+                    continue;
+                }
+                
+                try
+                {
+                    // 全局占位符 ZhengWei(HY) Add 2019-03-06
+                    Object v_MapValue = v_Placeholder.getStaticValue();
                     
-                    try
+                    if ( v_MapValue != null )
                     {
-                        // 全局占位符 ZhengWei(HY) Add 2019-03-06
-                        Object v_MapValue = Help.getValueIgnoreCase(DBCQLStaticParams.getInstance() ,v_PlaceHolder);
-                        
-                        if ( v_MapValue != null )
+                        if ( MethodReflect.class.equals(v_MapValue.getClass()) )
                         {
-                            if ( MethodReflect.class.equals(v_MapValue.getClass()) )
+                            boolean v_IsReplace = false;
+                            
+                            while ( !v_Values.isFilled(v_Placeholder) )
                             {
-                                boolean v_IsReplace = false;
+                                // 可实现CQL中的占位符，通过Java动态(或有业务时间逻辑的)填充值。 ZhengWei(HY) Add 2016-03-18
+                                Object v_GetterValue = ((MethodReflect)v_MapValue).invoke();
                                 
-                                while ( v_Info.indexOf($Placeholder + v_PlaceHolder) >= 0 )
+                                // getter 方法有返回值时
+                                if ( v_GetterValue != null )
                                 {
-                                    // 可实现CQL中的占位符，通过Java动态(或有业务时间逻辑的)填充值。 ZhengWei(HY) Add 2016-03-18
-                                    Object v_GetterValue = ((MethodReflect)v_MapValue).invoke();
-                                    
-                                    // getter 方法有返回值时
-                                    if ( v_GetterValue != null )
-                                    {
-                                        v_Info = this.dbCQLFill.fillFirst(v_Info ,v_PlaceHolder ,v_GetterValue.toString() ,v_DBType);
-                                        v_IsReplace = true;
-                                    }
-                                    // else
-                                    // {
-                                        // 因为没有执行参数，所以不做任何替换  2019-03-13
-                                    // }
+                                    v_Values.fillFirst(v_Placeholder ,v_GetterValue ,false);
+                                    v_IsReplace = true;
                                 }
-                                
-                                if ( v_IsReplace )
+                                else
                                 {
-                                    v_ReplaceCount++;
+                                    // 因为没有执行参数，所以不做任何替换  2019-03-13
+                                    break;
                                 }
                             }
-                            else
+                            
+                            if ( v_IsReplace )
                             {
-                                v_Info = this.dbCQLFill.fillAll(v_Info ,v_PlaceHolder ,v_MapValue.toString() ,v_DBType);
                                 v_ReplaceCount++;
                             }
                         }
-                        // else
-                        // {
-                            // 因为没有执行参数，所以不做任何替换  2019-03-13
-                        // }
-                    }
-                    catch (Exception exce)
-                    {
-                        $Logger.error(exce);
+                        else
+                        {
+                            v_Values.fillAll(v_Placeholder ,v_MapValue ,false);
+                            v_ReplaceCount++;
+                        }
                     }
+                    // else
+                    // {
+                        // 因为没有执行参数，所以不做任何替换  2019-03-13
+                    // }
                 }
-                
-                if ( InfoType.$TextInfo == v_DBCQL_Segment.getInfoType() )
-                {
-                    v_CQL.append(v_Info);
-                }
-                else if ( v_ReplaceCount == v_DBCQL_Segment.getPlaceholderSize() )
+                catch (Exception exce)
                 {
-                    v_CQL.append(v_Info);
+                    $Logger.error(exce);
                 }
             }
+            
+            if ( InfoType.$TextInfo == v_DBCQL_Segment.getInfoType()
+              || v_ReplaceCount == v_DBCQL_Segment.getPlaceholderSize() )
+            {
+                v_Actives[v_SIndex] = v_Values;
+            }
         }
         
-        // 2018-03-22  优化：完善安全检查防止CQL注入，将'--形式的CQL放在整体CQL来判定。
-        String v_CQLRet = v_CQL.toString();
-        v_CQLRet = whereDynamic(v_CQLRet);
-        return v_CQLRet;
+        return this.toCQL(v_Actives ,io_Params);
     }
     
     
@@ -1173,6 +1247,16 @@ public class DBCQL implements Serializable
     
     
     
+    /**
+     * 获取：CQL涉及的节点标签与关系类型。空集合表示可能涉及所有的标签
+     */
+    public Set<String> getLabels()
+    {
+        return labels;
+    }
+    
+    
+    
     /**
      * 获取：替换数据库关键字。如，单引号替换成两个单引号。默认为：true，即替换
      */
@@ -1224,6 +1308,7 @@ public class DBCQL implements Serializable
     public void setNotPlaceholderSet(Set<String> i_NotPlaceholders)
     {
         this.notPlaceholders = i_NotPlaceholders;
+        this.shapes.clear();
     }
     
 
@@ -1245,6 +1330,8 @@ public class DBCQL implements Serializable
                 this.notPlaceholders.add(v_Placeholder.trim());
             }
         }
+        
+        this.shapes.clear();
     }
     
     
@@ -1267,6 +1354,7 @@ public class DBCQL implements Serializable
     public void setNotKeyReplaceSet(Set<String> notKeyReplace)
     {
         this.notKeyReplace = notKeyReplace;
+        this.shapes.clear();
     }
     
     
@@ -1290,6 +1378,7 @@ public class DBCQL implements Serializable
         }
         
         this.setKeyReplace(this.isKeyReplace());
+        this.shapes.clear();
     }
     
 
@@ -1305,13 +1394,20 @@ public class DBCQL implements Serializable
     
     
     /**
-     * 设置：占位符取值条件
+     * 设置：占位符取值条件。复制到内部的集合中，之后对入参集合的修改不再生效
      * 
      * @param conditions
      */
     public void setConditions(Map<String ,DBConditions> conditions)
     {
-        this.conditions = conditions;
+        Conditions v_Conditions = new Conditions();
+        if ( conditions != null )
+        {
+            v_Conditions.putAll(conditions);
+        }
+        
+        this.conditions = v_Conditions;
+        this.parserConditions();
     }
     
     
@@ -1361,6 +1457,7 @@ public class DBCQL implements Serializable
         i_ConditionGroup.setName(i_ConditionGroup.getName());
         
         this.conditions.put(i_ConditionGroup.getName() ,i_ConditionGroup);
+        this.parserConditions();
     }
     
     
@@ -1387,6 +1484,7 @@ public class DBCQL implements Serializable
         i_ConditionGroup.setName(i_PlaceholderName);
         
         this.conditions.put(i_PlaceholderName ,i_ConditionGroup);
+        this.parserConditions();
     }
     
 
@@ -1428,14 +1526,41 @@ public class DBCQL implements Serializable
     
     
     /**
-     * 获取：数据库连接信息
+     * 获取：是否启用参数绑定模式。
+     * 
+     * 当 this.paramBinding = true 时，getQuery() 方法将 '#name' 等占位符改写为 $name 参数，
+     * 数值通过参数集合传递给Neo4j，使同一模板生成的CQL文本保持稳定，Neo4j可复用其执行计划缓存。
+     * 
+     * 默认为：false，即数值直接拼接在CQL中。
      */
-    public DataSourceCQL getDataSourceCQL()
+    public boolean isParamBinding()
     {
-        return dsCQL;
+        return paramBinding;
     }
-
-
+    
+    
+    
+    /**
+     * 设置：是否启用参数绑定模式。
+     * 
+     * @param i_ParamBinding
+     */
+    public void setParamBinding(boolean i_ParamBinding)
+    {
+        this.paramBinding = i_ParamBinding;
+    }
+    
+    
+    
+    /**
+     * 获取：数据库连接信息
+     */
+    public DataSourceCQL getDataSourceCQL()
+    {
+        return dsCQL;
+    }
+
+
     
     /**
      * 设置：数据库连接信息
@@ -1454,150 +1579,245 @@ public class DBCQL implements Serializable
     {
         return this.cqlText;
     }
-}
-
-
-
-
-
-/**
- * 填充占位符的类
- *
- * @author      ZhengWei(HY)
- * @createDate  2016-08-09
- * @version     v1.0
- */
-interface DBCQLFill
-{
     
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换首个占位符
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    public String fillFirst(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType);
     
     
     
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符。
-     * 
-     * 替换公式：i_Info.replaceAll("#" + i_PlaceHolder , i_Value.replaceAll("'" ,"''"));
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    public String fillAll(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType);
-    
-    
     
     /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符（前后带单引号的替换）
+     * 占位符取值条件的集合。每次修改后修改次数加1，用于发现通过 getConditions() 直接修改（含替换已有条件）的情况。
      * 
-     * 替换公式：i_Info.replaceAll("'#" + i_PlaceHolder + "'", i_Value.replaceAll("'" ,"''"));
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2018-08-10
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
+     * keySet()、values()、entrySet() 均为只读视图，请使用 put()、remove() 等方法修改。
      */
-    public String fillAllMark(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType);
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换首个占位符
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    public String onlyFillFirst(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType);
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符。
-     * 
-     * 替换公式：i_Info.replaceAll("#" + i_PlaceHolder , i_Value);
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    public String onlyFillAll(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType);
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符（前后带单引号的替换）
-     * 
-     * 替换公式：i_Info.replaceAll("'#" + i_PlaceHolder + "'", i_Value.replaceAll("'" ,"''"));
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    public String onlyFillAllMark(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType);
-    
-    
-    
-    /**
-     * 将占位符替换成空字符串
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @return
-     */
-    public String fillSpace(String i_Info ,String i_PlaceHolder);
+    private static class Conditions extends HashMap<String ,DBConditions>
+    {
+        
+        private static final long serialVersionUID = 2318305581617012645L;
+        
+        
+        
+        /** 修改次数 */
+        private volatile int version;
+        
+        
+        
+        public int getVersion()
+        {
+            return this.version;
+        }
+        
+        
+        
+        @Override
+        public DBConditions put(String i_Key ,DBConditions i_Value)
+        {
+            try
+            {
+                return super.put(i_Key ,i_Value);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public void putAll(Map<? extends String ,? extends DBConditions> i_Conditions)
+        {
+            super.putAll(i_Conditions);
+            this.version++;
+        }
+        
+        
+        
+        @Override
+        public DBConditions putIfAbsent(String i_Key ,DBConditions i_Value)
+        {
+            try
+            {
+                return super.putIfAbsent(i_Key ,i_Value);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public DBConditions remove(Object i_Key)
+        {
+            try
+            {
+                return super.remove(i_Key);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public boolean remove(Object i_Key ,Object i_Value)
+        {
+            try
+            {
+                return super.remove(i_Key ,i_Value);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public DBConditions replace(String i_Key ,DBConditions i_Value)
+        {
+            try
+            {
+                return super.replace(i_Key ,i_Value);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public boolean replace(String i_Key ,DBConditions i_OldValue ,DBConditions i_NewValue)
+        {
+            try
+            {
+                return super.replace(i_Key ,i_OldValue ,i_NewValue);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public void replaceAll(BiFunction<? super String ,? super DBConditions ,? extends DBConditions> i_Function)
+        {
+            super.replaceAll(i_Function);
+            this.version++;
+        }
+        
+        
+        
+        @Override
+        public DBConditions computeIfAbsent(String i_Key ,Function<? super String ,? extends DBConditions> i_Function)
+        {
+            try
+            {
+                return super.computeIfAbsent(i_Key ,i_Function);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public DBConditions computeIfPresent(String i_Key ,BiFunction<? super String ,? super DBConditions ,? extends DBConditions> i_Function)
+        {
+            try
+            {
+                return super.computeIfPresent(i_Key ,i_Function);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public DBConditions compute(String i_Key ,BiFunction<? super String ,? super DBConditions ,? extends DBConditions> i_Function)
+        {
+            try
+            {
+                return super.compute(i_Key ,i_Function);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public DBConditions merge(String i_Key ,DBConditions i_Value ,BiFunction<? super DBConditions ,? super DBConditions ,? extends DBConditions> i_Function)
+        {
+            try
+            {
+                return super.merge(i_Key ,i_Value ,i_Function);
+            }
+            finally
+            {
+                this.version++;
+            }
+        }
+        
+        
+        
+        @Override
+        public void clear()
+        {
+            super.clear();
+            this.version++;
+        }
+        
+        
+        
+        @Override
+        public Set<String> keySet()
+        {
+            return Collections.unmodifiableSet(super.keySet());
+        }
+        
+        
+        
+        @Override
+        public Collection<DBConditions> values()
+        {
+            return Collections.unmodifiableCollection(super.values());
+        }
+        
+        
+        
+        /**
+         * 只读视图。Map.Entry.setValue() 也不允许
+         */
+        @Override
+        public Set<Map.Entry<String ,DBConditions>> entrySet()
+        {
+            return Collections.unmodifiableMap(new AbstractMap<String ,DBConditions>()
+            {
+                @Override
+                public Set<Map.Entry<String ,DBConditions>> entrySet()
+                {
+                    return Conditions.super.entrySet();
+                }
+            }).entrySet();
+        }
+        
+    }
     
 }
 
@@ -1639,182 +1859,21 @@ class DBCQLFillDefault implements DBCQLFill ,Serializable
     
     
     /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换首个占位符
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String fillFirst(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        try
-        {
-            return StringHelp.replaceFirst(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,i_Value);
-        }
-        catch (Exception exce)
-        {
-            return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(i_Value));
-        }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换首个占位符
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
+     * 将数值(i_Value)原样追加到CQL缓冲区中
      * 
      * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
+     * @createDate  2026-10-17
      * @version     v1.0
      *
-     * @param i_Info
-     * @param i_PlaceHolder
+     * @param io_CQL         CQL缓冲区
+     * @param i_PlaceHolder  占位符名称。前缀不包含#符号
      * @param i_Value
      * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
      */
     @Override
-    public String onlyFillFirst(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
+    public void fill(StringBuilder io_CQL ,String i_PlaceHolder ,String i_Value ,String i_DBType)
     {
-        return fillFirst(i_Info ,i_PlaceHolder ,i_Value ,i_DBType);
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符
-     * 
-     * 替换公式：i_Info.replaceAll("#" + i_PlaceHolder , i_Value.replaceAll("'" ,"''"));
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String fillAll(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        try
-        {
-            return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,i_Value);
-        }
-        catch (Exception exce)
-        {
-            return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(i_Value));
-        }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符。
-     * 
-     * 替换公式：i_Info.replaceAll("#" + i_PlaceHolder , i_Value);
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String onlyFillAll(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        return fillAll(i_Info ,i_PlaceHolder ,i_Value ,i_DBType);
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符（前后带单引号的替换）
-     * 
-     * 替换公式：i_Info.replaceAll("'#" + i_PlaceHolder + "'", i_Value.replaceAll("'" ,"''"));
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2018-08-10
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String fillAllMark(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        try
-        {
-            return StringHelp.replaceAll(i_Info ,"'" + DBCQL.$Placeholder + i_PlaceHolder + "'" ,i_Value);
-        }
-        catch (Exception exce)
-        {
-            return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(i_Value));
-        }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符（前后带单引号的替换）
-     * 
-     * 替换公式：i_Info.replaceAll("'#" + i_PlaceHolder + "'", i_Value.replaceAll("'" ,"''"));
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String onlyFillAllMark(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        return fillAllMark(i_Info ,i_PlaceHolder ,i_Value ,i_DBType);
-    }
-    
-    
-    
-    /**
-     * 将占位符替换成空字符串
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String fillSpace(String i_Info ,String i_PlaceHolder)
-    {
-        return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,"");
+        io_CQL.append(i_Value);
     }
     
 }
@@ -1833,6 +1892,7 @@ class DBCQLFillDefault implements DBCQLFill ,Serializable
  * @author      ZhengWei(HY)
  * @createDate  2016-08-09
  * @version     v1.0
+ *              v2.0  2026-10-17  修改：一次扫描完成是否允许替换的判定与替换后数值的追加，不再生成中间字符串
  */
 class DBCQLFillKeyReplace implements DBCQLFill ,Serializable
 {
@@ -1842,6 +1902,9 @@ class DBCQLFillKeyReplace implements DBCQLFill ,Serializable
     
     public  static final String    $FillReplaceBy       = "\'";
     
+    /** 与 $FillReplace 相同，用于逐字符的扫描 */
+    private static final char      $FillReplaceChar     = '\'';
+    
     private static       DBCQLFill $MySelf;
     
     
@@ -1879,252 +1942,82 @@ class DBCQLFillKeyReplace implements DBCQLFill ,Serializable
     
     
     /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换首个占位符
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String fillFirst(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        try
-        {
-            if ( (this.notKeyReplace == null || !this.notKeyReplace.contains(i_PlaceHolder)) && this.isAllowReplace(i_Value) )
-            {
-                return StringHelp.replaceFirst(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,StringHelp.replaceAll(i_Value ,$FillReplace ,$FillReplaceBy));
-            }
-            else
-            {
-                return StringHelp.replaceFirst(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,i_Value);
-            }
-        }
-        catch (Exception exce)
-        {
-            if ( (this.notKeyReplace == null || !this.notKeyReplace.contains(i_PlaceHolder)) && this.isAllowReplace(i_Value) )
-            {
-                return StringHelp.replaceFirst(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(StringHelp.replaceAll(i_Value ,$FillReplace ,$FillReplaceBy)));
-            }
-            else
-            {
-                return StringHelp.replaceFirst(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(i_Value));
-            }
-        }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换首个占位符
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
+     * 将数值(i_Value)中的单引号替换成两个单引号后，再追加到CQL缓冲区中
      * 
      * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
+     * @createDate  2026-10-17
      * @version     v1.0
      *
-     * @param i_Info
-     * @param i_PlaceHolder
+     * @param io_CQL         CQL缓冲区
+     * @param i_PlaceHolder  占位符名称。前缀不包含#符号
      * @param i_Value
      * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
      */
     @Override
-    public String onlyFillFirst(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
+    public void fill(StringBuilder io_CQL ,String i_PlaceHolder ,String i_Value ,String i_DBType)
     {
-        try
-        {
-            return StringHelp.replaceFirst(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,i_Value);
-        }
-        catch (Exception exce)
+        if ( this.notKeyReplace != null && this.notKeyReplace.contains(i_PlaceHolder) )
         {
-            return StringHelp.replaceFirst(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(i_Value));
+            io_CQL.append(i_Value);
+            return;
         }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符
-     * 
-     * 替换公式：i_Info.replaceAll("#" + i_PlaceHolder , i_Value.replaceAll("'" ,"''"));
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String fillAll(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        try
+        
+        int     v_Start  = io_CQL.length();
+        int     v_Length = i_Value.length();
+        int     v_ACount = 0;          // 单引号的个数
+        int     v_BCount = 0;          // 逗号的个数
+        int     v_First  = -1;         // 首个非空白字符的位置（与 String.trim() 的空白定义一致）
+        int     v_Last   = -1;         // 最后一个非空白字符的位置
+        int     v_Copy   = 0;          // 尚未追加到CQL缓冲区的开始位置
+        
+        // 一次扫描：边统计是否允许替换，边将替换后的数值追加到CQL缓冲区中，无须生成中间字符串
+        for (int x=0; x<v_Length; x++)
         {
-            if ( (this.notKeyReplace == null || !this.notKeyReplace.contains(i_PlaceHolder)) && this.isAllowReplace(i_Value) )
-            {
-                return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,StringHelp.replaceAll(i_Value ,$FillReplace ,$FillReplaceBy));
-            }
-            else
+            char v_Char = i_Value.charAt(x);
+            
+            if ( v_Char > ' ' )
             {
-                return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,i_Value);
+                if ( v_First < 0 )
+                {
+                    v_First = x;
+                }
+                v_Last = x;
             }
-        }
-        catch (Exception exce)
-        {
-            if ( (this.notKeyReplace == null || !this.notKeyReplace.contains(i_PlaceHolder)) && this.isAllowReplace(i_Value) )
+            
+            if ( v_Char == $FillReplaceChar )
             {
-                return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(StringHelp.replaceAll(i_Value ,$FillReplace ,$FillReplaceBy)));
+                v_ACount++;
+                io_CQL.append(i_Value ,v_Copy ,x).append($FillReplaceBy);
+                v_Copy = x + 1;
             }
-            else
+            else if ( v_Char == ',' )
             {
-                return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(i_Value));
+                v_BCount++;
             }
         }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符。
-     * 
-     * 替换公式：i_Info.replaceAll("#" + i_PlaceHolder , i_Value);
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String onlyFillAll(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        try
-        {
-            return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,i_Value);
-        }
-        catch (Exception exce)
-        {
-            return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,Matcher.quoteReplacement(i_Value));
-        }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符（前后带单引号的替换）
-     * 
-     * 替换公式：i_Info.replaceAll("'#" + i_PlaceHolder + "'", i_Value.replaceAll("'" ,"''"));
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2018-08-10
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String fillAllMark(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        String v_PH = "'" + DBCQL.$Placeholder + i_PlaceHolder + "'";
         
-        try
+        if ( v_Copy == 0 )
         {
-            if ( (this.notKeyReplace == null || !this.notKeyReplace.contains(i_PlaceHolder)) && this.isAllowReplace(i_Value) )
-            {
-                return StringHelp.replaceAll(i_Info ,v_PH ,StringHelp.replaceAll(i_Value ,$FillReplace ,$FillReplaceBy));
-            }
-            else
-            {
-                return StringHelp.replaceAll(i_Info ,v_PH ,i_Value);
-            }
+            io_CQL.append(i_Value);
         }
-        catch (Exception exce)
+        else
         {
-            if ( (this.notKeyReplace == null || !this.notKeyReplace.contains(i_PlaceHolder)) && this.isAllowReplace(i_Value) )
-            {
-                return StringHelp.replaceAll(i_Info ,v_PH ,Matcher.quoteReplacement(StringHelp.replaceAll(i_Value ,$FillReplace ,$FillReplaceBy)));
-            }
-            else
-            {
-                return StringHelp.replaceAll(i_Info ,v_PH ,Matcher.quoteReplacement(i_Value));
-            }
+            io_CQL.append(i_Value ,v_Copy ,v_Length);
         }
-    }
-    
-    
-    
-    /**
-     * 将数值(i_Value)中的单引号替换成两个单引号后，再替换所有相同的占位符（前后带单引号的替换）
-     * 
-     * 替换公式：i_Info.replaceAll("'#" + i_PlaceHolder + "'", i_Value.replaceAll("'" ,"''"));
-     * 
-     * 只填充，不替换特殊字符。主要用于 “条件DBConditions” ，条件中的数值交由开发者来决定
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-10-11
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @param i_Value
-     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
-     * @return
-     */
-    @Override
-    public String onlyFillAllMark(String i_Info ,String i_PlaceHolder ,String i_Value ,String i_DBType)
-    {
-        String v_PH = "'" + DBCQL.$Placeholder + i_PlaceHolder + "'";
         
-        try
-        {
-            return StringHelp.replaceAll(i_Info ,v_PH ,i_Value);
-        }
-        catch (Exception exce)
+        boolean v_StartW = v_First >= 0 && i_Value.charAt(v_First) == $FillReplaceChar;
+        boolean v_EndW   = v_Last  >= 0 && i_Value.charAt(v_Last)  == $FillReplaceChar;
+        
+        if ( !isAllowReplace(v_ACount ,v_BCount ,v_StartW ,v_EndW) )
         {
-            return StringHelp.replaceAll(i_Info ,v_PH ,Matcher.quoteReplacement(i_Value));
+            // 不允许替换时，撤销后原样追加
+            io_CQL.setLength(v_Start);
+            io_CQL.append(i_Value);
         }
     }
     
     
     
-    /**
-     * 将占位符替换成空字符串
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2016-08-09
-     * @version     v1.0
-     *
-     * @param i_Info
-     * @param i_PlaceHolder
-     * @return
-     */
-    @Override
-    public String fillSpace(String i_Info ,String i_PlaceHolder)
-    {
-        return StringHelp.replaceAll(i_Info ,DBCQL.$Placeholder + i_PlaceHolder ,"");
-    }
-    
-    
-    
     /**
      * 是否允许替换字符串。防止如：'A' ,'B' ,'C' ... ,'Z'  这样格式的字符串被替换
      * 
@@ -2133,33 +2026,30 @@ class DBCQLFillKeyReplace implements DBCQLFill ,Serializable
      * @author      ZhengWei(HY)
      * @createDate  2019-08-23
      * @version     v1.0
+     *              v2.0  2026-10-17  修改：统计值由调用者在追加数值的同一次扫描中得出，本方法不再扫描字符串
      *
-     * @param i_Value
+     * @param i_ACount  单引号的个数
+     * @param i_BCount  逗号的个数
+     * @param i_StartW  去掉首尾空白后，是否以单引号开头
+     * @param i_EndW    去掉首尾空白后，是否以单引号结尾
      * @return
      */
-    private boolean isAllowReplace(String i_Value)
+    private static boolean isAllowReplace(int i_ACount ,int i_BCount ,boolean i_StartW ,boolean i_EndW)
     {
-        int v_ACount = StringHelp.getCount(i_Value ,"'");
-        
         // 当单引号成对出现时
-        if ( v_ACount % 2 == 0 )
+        if ( i_ACount % 2 == 0 )
         {
-            boolean v_StartW = i_Value.trim().startsWith("'");
-            boolean v_EndW   = i_Value.trim().endsWith("'");
-            
-            if ( v_StartW && v_EndW )
+            if ( i_StartW && i_EndW )
             {
-                int v_BCount = StringHelp.getCount(i_Value ,",");
-                if ( v_ACount / 2 == v_BCount + 1 )
+                if ( i_ACount / 2 == i_BCount + 1 )
                 {
                     // 当单引号成对的个数 = 分号的个数时，不允许作替换动作
                     return false;
                 }
             }
-            else if ( !v_StartW && !v_EndW )
+            else if ( !i_StartW && !i_EndW )
             {
-                int v_BCount = StringHelp.getCount(i_Value ,",");
-                if ( v_ACount / 2 == v_BCount )
+                if ( i_ACount / 2 == i_BCount )
                 {
                     // 当单引号成对的个数 = 分号的个数时，不允许作替换动作
                     return false;
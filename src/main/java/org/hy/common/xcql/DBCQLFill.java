@@ -0,0 +1,33 @@
+package org.hy.common.xcql;
+
+
+
+
+
+/**
+ * 填充占位符的类
+ *
+ * @author      ZhengWei(HY)
+ * @createDate  2016-08-09
+ * @version     v1.0
+ *              v2.0  2026-10-17  修改：配合预编译的渲染计划，由替换占位符改为向CQL缓冲区中追加数值
+ *              v3.0  2026-10-17  修改：移至独立的源文件，供渲染计划（DBCQL_Values）访问
+ */
+interface DBCQLFill
+{
+    
+    /**
+     * 将数值(i_Value)中的单引号替换成两个单引号后，再追加到CQL缓冲区中
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param io_CQL         CQL缓冲区
+     * @param i_PlaceHolder  占位符名称。前缀不包含#符号
+     * @param i_Value
+     * @param i_DBType       数据库类型。见DataSourceGroup.$DBType_ 前缀的系列常量
+     */
+    public void fill(StringBuilder io_CQL ,String i_PlaceHolder ,String i_Value ,String i_DBType);
+    
+}
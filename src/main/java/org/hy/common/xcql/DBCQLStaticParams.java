@@ -1,6 +1,11 @@
 package org.hy.common.xcql;
 
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 
 
@@ -33,12 +38,16 @@ import java.util.HashMap;
  * 
  * 约定6：全局占位符相对固定不变，所以它不受DBCondition占位符取值条件的约束。
  * 
- *
+ * 约定7：写时复制。修改时生成新的快照并整体发布，读取时无锁，并发修改与读取互不影响。
+ *        每次修改后版本号加1，渲染计划可按版本号缓存全局占位符的取值。
+ * 
+ * 
  * @author      ZhengWei(HY)
  * @createDate  2019-03-06
  * @version     v1.0
+ *              v2.0  2026-10-17  修改：写时复制的并发存储。插入时生成小写名称的索引，不区分大小写的配对也是O(1)，并发布版本号
  */
-public class DBCQLStaticParams extends HashMap<String ,Object>
+public class DBCQLStaticParams extends AbstractMap<String ,Object> implements Serializable
 {
     
     private static final long serialVersionUID = -6698050461298598842L;
@@ -47,6 +56,11 @@ public class DBCQLStaticParams extends HashMap<String ,Object>
     
     
     
+    /** 当前快照。只整体替换，不修改其内容 */
+    private volatile Snapshot snapshot;
+    
+    
+    
     public static DBCQLStaticParams getInstance()
     {
         return $CQLParams;
@@ -56,6 +70,200 @@ public class DBCQLStaticParams extends HashMap<String ,Object>
     
     private DBCQLStaticParams()
     {
+        this.snapshot = new Snapshot(new HashMap<String ,Object>() ,0L);
+    }
+    
+    
+    
+    /**
+     * 获取全局占位符的值。先区分大小写配对，未配对成功时再按不区分大小写配对（约定4）
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Name  占位符名称。不包含前缀符#井号
+     * @return
+     */
+    public Object getValue(String i_Name)
+    {
+        return this.snapshot.getValue(i_Name);
+    }
+    
+    
+    
+    /**
+     * 获取版本号。每次修改后加1
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public long getVersion()
+    {
+        return this.snapshot.version;
+    }
+    
+    
+    
+    @Override
+    public Object get(Object i_Key)
+    {
+        return this.snapshot.params.get(i_Key);
+    }
+    
+    
+    
+    @Override
+    public boolean containsKey(Object i_Key)
+    {
+        return this.snapshot.params.containsKey(i_Key);
+    }
+    
+    
+    
+    @Override
+    public int size()
+    {
+        return this.snapshot.params.size();
+    }
+    
+    
+    
+    @Override
+    public synchronized Object put(String i_Key ,Object i_Value)
+    {
+        Map<String ,Object> v_Params = new HashMap<String ,Object>(this.snapshot.params);
+        Object              v_Old    = v_Params.put(i_Key ,i_Value);
+        
+        this.publish(v_Params);
+        return v_Old;
+    }
+    
+    
+    
+    @Override
+    public synchronized void putAll(Map<? extends String ,? extends Object> i_Params)
+    {
+        Map<String ,Object> v_Params = new HashMap<String ,Object>(this.snapshot.params);
+        v_Params.putAll(i_Params);
+        
+        this.publish(v_Params);
+    }
+    
+    
+    
+    @Override
+    public synchronized Object remove(Object i_Key)
+    {
+        if ( !this.snapshot.params.containsKey(i_Key) )
+        {
+            return null;
+        }
+        
+        Map<String ,Object> v_Params = new HashMap<String ,Object>(this.snapshot.params);
+        Object              v_Old    = v_Params.remove(i_Key);
+        
+        this.publish(v_Params);
+        return v_Old;
+    }
+    
+    
+    
+    @Override
+    public synchronized void clear()
+    {
+        this.publish(new HashMap<String ,Object>());
+    }
+    
+    
+    
+    /**
+     * 只读的快照视图。通过它的修改将抛出 UnsupportedOperationException 异常，请使用 put()、remove() 等方法修改
+     */
+    @Override
+    public Set<Map.Entry<String ,Object>> entrySet()
+    {
+        return Collections.unmodifiableMap(this.snapshot.params).entrySet();
+    }
+    
+    
+    
+    /**
+     * 发布新的快照（须在同步块中调用）
+     * 
+     * @param i_Params
+     */
+    private void publish(Map<String ,Object> i_Params)
+    {
+        this.snapshot = new Snapshot(i_Params ,this.snapshot.version + 1);
+    }
+    
+    
+    
+    
+    
+    /**
+     * 全局占位符的快照。创建后不再修改
+     */
+    private static class Snapshot implements Serializable
+    {
+        
+        private static final long serialVersionUID = 4017752869430981286L;
+        
+        
+        
+        /** 全局占位符。区分大小写 */
+        private final Map<String ,Object> params;
+        
+        /**
+         * 小写名称的索引。
+         * 
+         * Map.key    为小写的占位符名称
+         * Map.value  为占位符名称。多个名称仅大小写不同时，取 this.params 遍历顺序中的首个（与 Help.getValueIgnoreCase() 一致）
+         */
+        private final Map<String ,String> lowers;
+        
+        /** 版本号 */
+        private final long                version;
+        
+        
+        
+        public Snapshot(Map<String ,Object> i_Params ,long i_Version)
+        {
+            this.params  = i_Params;
+            this.lowers  = new HashMap<String ,String>(i_Params.size() * 4 / 3 + 1);
+            this.version = i_Version;
+            
+            for (String v_Key : i_Params.keySet())
+            {
+                if ( v_Key != null )
+                {
+                    this.lowers.putIfAbsent(v_Key.toLowerCase() ,v_Key);
+                }
+            }
+        }
+        
+        
+        
+        public Object getValue(String i_Name)
+        {
+            if ( i_Name == null )
+            {
+                return null;
+            }
+            
+            Object v_Value = this.params.get(i_Name);
+            if ( v_Value != null )
+            {
+                return v_Value;
+            }
+            
+            String v_Key = this.lowers.get(i_Name.toLowerCase());
+            return v_Key == null ? null : this.params.get(v_Key);
+        }
         
     }
     
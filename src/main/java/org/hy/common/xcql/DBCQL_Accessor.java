@@ -0,0 +1,294 @@
+package org.hy.common.xcql;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hy.common.MethodReflect;
+
+
+
+
+
+/**
+ * 占位符的Getter访问器。按 (Java类, 占位符路径) 缓存。
+ * 
+ * 占位符路径（如 xxx.yyy.www）在首次使用时解释一次，解释为一组 MethodHandle，之后每次取值直接调用，
+ * 无须再为每个占位符、每次生成CQL时构建并销毁 MethodReflect 对象。
+ * 
+ * 访问器有三种状态：
+ *   1. 无Getter方法：与 MethodReflect 构造异常的情况一致，按全局占位符处理。只对非全路径的占位符判定
+ *   2. 已解释：    按各级Getter方法的声明类型，全路径均可解释时，使用 MethodHandle 取值
+ *   3. 运行时解释：全路径须依赖运行时的对象类型才能解释的（如中间级的返回类型为Object），仍用 MethodReflect 取值
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+public class DBCQL_Accessor
+{
+    
+    /** 状态：无Getter方法 */
+    private static final int $State_None    = 0;
+    
+    /** 状态：已解释为 MethodHandle */
+    private static final int $State_Handle  = 1;
+    
+    /** 状态：须运行时用 MethodReflect 解释 */
+    private static final int $State_Reflect = 2;
+    
+    /** 统一的调用类型 (Object)Object */
+    private static final MethodType $InvokeType = MethodType.methodType(Object.class ,Object.class);
+    
+    /**
+     * 访问器的缓存
+     * 
+     * ClassValue.key  为Java类。随Java类的卸载而释放
+     * Map.key         为占位符路径
+     */
+    private static final ClassValue<Map<String ,DBCQL_Accessor>> $Accessors = new ClassValue<Map<String ,DBCQL_Accessor>>()
+    {
+        @Override
+        protected Map<String ,DBCQL_Accessor> computeValue(Class<?> i_Class)
+        {
+            return new ConcurrentHashMap<String ,DBCQL_Accessor>();
+        }
+    };
+    
+    
+    
+    /** 状态 */
+    private final int              state;
+    
+    /** 各级Getter方法。类型均已统一为 (Object)Object */
+    private final MethodHandle []  handles;
+    
+    /** 各级Getter方法的返回类型 */
+    private final Class<?> []      returnTypes;
+    
+    
+    
+    /**
+     * 获取访问器。首次获取时解释，之后从缓存中获取
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Class  Java类
+     * @param i_Path   占位符路径。前缀不包含#符号
+     * @return
+     */
+    public static DBCQL_Accessor getInstance(Class<?> i_Class ,String i_Path)
+    {
+        Map<String ,DBCQL_Accessor> v_Accessors = $Accessors.get(i_Class);
+        DBCQL_Accessor              v_Accessor  = v_Accessors.get(i_Path);
+        
+        if ( v_Accessor == null )
+        {
+            v_Accessor = new DBCQL_Accessor(i_Class ,i_Path);
+            v_Accessors.put(i_Path ,v_Accessor);
+        }
+        
+        return v_Accessor;
+    }
+    
+    
+    
+    /**
+     * 构造器：按各级Getter方法的声明类型解释占位符路径
+     * 
+     * @param i_Class  Java类
+     * @param i_Path   占位符路径。前缀不包含#符号
+     */
+    private DBCQL_Accessor(Class<?> i_Class ,String i_Path)
+    {
+        String []       v_Names   = i_Path.split("\\.");
+        MethodHandle [] v_Handles = new MethodHandle[v_Names.length];
+        Class<?> []     v_Types   = new Class<?>[v_Names.length];
+        Class<?>        v_Class   = i_Class;
+        int             v_State   = $State_Handle;
+        
+        for (int x=0; x<v_Names.length; x++)
+        {
+            Method v_Method = isName(v_Names[x]) ? MethodReflect.getGetMethod(v_Class ,v_Names[x] ,true) : null;
+            
+            if ( v_Method == null )
+            {
+                // 非全路径的，与 MethodReflect 的解释结果一致。全路径的，中间级可能依赖运行时的对象类型
+                v_State = v_Names.length == 1 && isName(v_Names[x]) ? $State_None : $State_Reflect;
+                break;
+            }
+            
+            v_Handles[x] = toHandle(v_Method);
+            v_Types  [x] = v_Method.getReturnType();
+            
+            if ( v_Handles[x] == null || (x < v_Names.length - 1 && v_Types[x].isPrimitive()) )
+            {
+                v_State = $State_Reflect;
+                break;
+            }
+            
+            v_Class = v_Types[x];
+        }
+        
+        this.state       = v_State;
+        this.handles     = v_State == $State_Handle ? v_Handles : null;
+        this.returnTypes = v_State == $State_Handle ? v_Types   : null;
+    }
+    
+    
+    
+    /**
+     * 是否为占位符路径中合法的名称。只解释由字母、数字、下划线组成的名称，其它形式交由 MethodReflect 解释
+     * 
+     * @param i_Name
+     * @return
+     */
+    private static boolean isName(String i_Name)
+    {
+        if ( i_Name.isEmpty() )
+        {
+            return false;
+        }
+        
+        for (int x=0; x<i_Name.length(); x++)
+        {
+            char v_Char = i_Name.charAt(x);
+            if ( !Character.isLetterOrDigit(v_Char) && v_Char != '_' )
+            {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    
+    
+    /**
+     * 将Getter方法转为类型为 (Object)Object 的 MethodHandle。无访问权限时返回NULL
+     * 
+     * @param i_Method
+     * @return
+     */
+    private static MethodHandle toHandle(Method i_Method)
+    {
+        try
+        {
+            if ( !Modifier.isPublic(i_Method.getDeclaringClass().getModifiers()) )
+            {
+                i_Method.setAccessible(true);
+            }
+            
+            return MethodHandles.lookup().unreflect(i_Method).asType($InvokeType);
+        }
+        catch (Exception exce)
+        {
+            return null;
+        }
+    }
+    
+    
+    
+    /**
+     * 是否有Getter方法（为 false 时按全局占位符处理）
+     * 
+     * @return
+     */
+    public boolean isExists()
+    {
+        return this.state != $State_None;
+    }
+    
+    
+    
+    /**
+     * 是否须运行时用 MethodReflect 取值
+     * 
+     * @return
+     */
+    public boolean isReflect()
+    {
+        return this.state == $State_Reflect;
+    }
+    
+    
+    
+    /**
+     * 取值。中间级的返回值为NULL时，返回NULL（与 MethodReflect 的行为一致）
+     * 
+     * @param i_Obj  Java对象
+     * @return
+     * @throws Exception
+     */
+    public Object invoke(Object i_Obj) throws Exception
+    {
+        Object v_Value = i_Obj;
+        
+        for (int x=0; x<this.handles.length && v_Value != null; x++)
+        {
+            v_Value = this.invoke(v_Value ,x);
+        }
+        
+        return v_Value;
+    }
+    
+    
+    
+    /**
+     * 获取返回类型。
+     * 
+     * 全路径的，中间级的返回值为NULL时，返回该中间级的返回类型（与 MethodReflect 的行为一致）
+     * 
+     * @param i_Obj  Java对象
+     * @return
+     * @throws Exception
+     */
+    public Class<?> getReturnType(Object i_Obj) throws Exception
+    {
+        Object v_Value = i_Obj;
+        
+        for (int x=0; x<this.handles.length - 1; x++)
+        {
+            v_Value = this.invoke(v_Value ,x);
+            if ( v_Value == null )
+            {
+                return this.returnTypes[x];
+            }
+        }
+        
+        return this.returnTypes[this.returnTypes.length - 1];
+    }
+    
+    
+    
+    /**
+     * 调用某一级的Getter方法
+     * 
+     * @param i_Obj    Java对象
+     * @param i_Level  级别。下标从0开始
+     * @return
+     * @throws Exception
+     */
+    private Object invoke(Object i_Obj ,int i_Level) throws Exception
+    {
+        try
+        {
+            return this.handles[i_Level].invokeExact(i_Obj);
+        }
+        catch (Exception | Error exce)
+        {
+            throw exce;
+        }
+        catch (Throwable exce)
+        {
+            throw new RuntimeException(exce);
+        }
+    }
+    
+}
@@ -0,0 +1,191 @@
+package org.hy.common.xcql;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hy.common.Date;
+import org.hy.common.Help;
+import org.hy.common.MethodReflect;
+import org.hy.common.comparate.MethodComparator;
+import org.hy.common.xml.log.Logger;
+
+
+
+
+
+/**
+ * Java对象转参数集合的提取器。按Java类预先编译，一次遍历完成提取。
+ * 
+ * 提取规则与 Help.toMap(Object ,null ,true ,false ,true) 一致：
+ *   1. 所有无入参的 getXxx()、isXxx() 方法均为属性，属性名称为去掉前缀后的短名称
+ *   2. 返回NULL值的属性也放入参数集合中
+ *   3. java.util.Date 类型的属性值转为 org.hy.common.Date 类型
+ *   4. 个别属性取值异常时，按NULL值处理，其它属性继续提取
+ * 
+ * 不同的是：Getter方法只在首次使用时解释并转为 MethodHandle，之后每次提取时直接调用，
+ * 并按属性个数预先分配参数集合的大小，无须扩容。
+ * 
+ * 用于触发器的参数（XCQL.executeBeforeForTrigger）。批量写入及参数绑定按占位符逐个取值，
+ * 使用按（Java类，占位符）预先编译的 DBCQL_Accessor，无须先将整个对象转为参数集合。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+public class DBCQL_Extractor
+{
+    
+    private static final Logger     $Logger     = new Logger(DBCQL_Extractor.class);
+    
+    /** 统一的调用类型 (Object)Object */
+    private static final MethodType $InvokeType = MethodType.methodType(Object.class ,Object.class);
+    
+    /** 提取器的缓存。随Java类的卸载而释放 */
+    private static final ClassValue<DBCQL_Extractor> $Extractors = new ClassValue<DBCQL_Extractor>()
+    {
+        @Override
+        protected DBCQL_Extractor computeValue(Class<?> i_Class)
+        {
+            return new DBCQL_Extractor(i_Class);
+        }
+    };
+    
+    
+    
+    /** 属性名称 */
+    private final String []       names;
+    
+    /** 属性的Getter方法。类型均已统一为 (Object)Object */
+    private final MethodHandle [] handles;
+    
+    
+    
+    /**
+     * 获取Java类的提取器。首次获取时编译，之后从缓存中获取
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Class  Java类
+     * @return
+     */
+    public static DBCQL_Extractor getInstance(Class<?> i_Class)
+    {
+        return $Extractors.get(i_Class);
+    }
+    
+    
+    
+    /**
+     * 构造器：解释Java类的所有Getter方法
+     * 
+     * @param i_Class  Java类
+     */
+    private DBCQL_Extractor(Class<?> i_Class)
+    {
+        List<Method>       v_Methods = MethodReflect.getStartMethods(i_Class ,new String[] {"get" ,"is"} ,0);
+        List<String>       v_Names   = new ArrayList<String>(v_Methods.size());
+        List<MethodHandle> v_Handles = new ArrayList<MethodHandle>(v_Methods.size());
+        
+        Collections.sort(v_Methods ,MethodComparator.getInstance());
+        
+        for (Method v_Method : v_Methods)
+        {
+            try
+            {
+                String v_Name = Help.getPropertyShortName(v_Method.getName());
+                
+                if ( !Modifier.isPublic(v_Method.getDeclaringClass().getModifiers()) )
+                {
+                    v_Method.setAccessible(true);
+                }
+                
+                v_Handles.add(MethodHandles.lookup().unreflect(v_Method).asType($InvokeType));
+                v_Names  .add(v_Name);
+            }
+            catch (Exception exce)
+            {
+                // 无法转为属性的方法（如名称就是 get、is 的），或无访问权限的，不提取
+                $Logger.debug(i_Class.getName() + "." + v_Method.getName() + " is not extractable: " + exce.getMessage());
+            }
+        }
+        
+        this.names   = v_Names  .toArray(new String[v_Names.size()]);
+        this.handles = v_Handles.toArray(new MethodHandle[v_Handles.size()]);
+    }
+    
+    
+    
+    /**
+     * 提取为参数集合
+     * 
+     * @param i_Obj  Java对象
+     * @return
+     */
+    public Map<String ,Object> toMap(Object i_Obj)
+    {
+        return this.toMap(i_Obj ,0);
+    }
+    
+    
+    
+    /**
+     * 提取为参数集合
+     * 
+     * @param i_Obj    Java对象
+     * @param i_Extra  调用者还将额外添加的参数个数。用于预先分配参数集合的大小
+     * @return
+     */
+    public Map<String ,Object> toMap(Object i_Obj ,int i_Extra)
+    {
+        int                 v_Size   = this.handles.length + i_Extra;
+        Map<String ,Object> v_Params = new HashMap<String ,Object>(v_Size * 4 / 3 + 1);
+        
+        for (int x=0; x<this.handles.length; x++)
+        {
+            v_Params.put(this.names[x] ,this.getValue(i_Obj ,x));
+        }
+        
+        return v_Params;
+    }
+    
+    
+    
+    /**
+     * 提取某一属性值。取值异常时，按NULL值处理
+     * 
+     * @param i_Obj    Java对象
+     * @param i_Index  属性的下标
+     * @return
+     */
+    private Object getValue(Object i_Obj ,int i_Index)
+    {
+        Object v_Value = null;
+        
+        try
+        {
+            v_Value = this.handles[i_Index].invokeExact(i_Obj);
+        }
+        catch (Throwable exce)
+        {
+            return null;
+        }
+        
+        if ( v_Value instanceof java.util.Date )
+        {
+            return new Date((java.util.Date) v_Value);
+        }
+        
+        return v_Value;
+    }
+    
+}
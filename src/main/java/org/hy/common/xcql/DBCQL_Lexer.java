@@ -0,0 +1,860 @@
+package org.hy.common.xcql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+
+
+
+
+/**
+ * 占位符CQL的词法分析器。
+ * 
+ * 在加载占位符CQL时，一次扫描即可完成如下分析，生成可执行CQL时不再须要任何正则表达式：
+ *   1. 识别CQL语句的类型（MATCH、CREATE、SET、DELETE、DDL）；
+ *   2. 识别WHERE条件后直接跟动态CQL或占位符的情况，如 WHERE <[ ... ]>；
+ *   3. 识别是否有 COUNT( 统计函数；
+ *   4. 记录字符串常量的区间，字符串常量中的关键字不参与上述的识别；
+ *   5. 识别可在末尾追加 SKIP/LIMIT 的只读查询语句，用于分页查询下推到数据库端执行；
+ *   6. 识别可插入键集分页（Keyset）条件的位置；
+ *   7. 识别CQL涉及的节点标签与关系类型。
+ * 
+ * 同时提供一次扫描完成的WHERE条件整理方法 whereDynamic()，用于替换原先逐个正则表达式的替换。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  添加：识别可在末尾追加 SKIP/LIMIT 的位置 getPagingPosition()
+ *              v3.0  2026-10-17  添加：识别可插入键集分页条件的位置 getKeysetPosition()
+ *              v4.0  2026-10-17  添加：识别CQL涉及的节点标签与关系类型 getLabels()
+ *              v5.0  2026-10-18  修改：MERGE 识别为 CREATE 类型；调用过程（CALL xxx()）的语句识别为未知类型
+ *              v6.0  2026-10-18  添加：在加载时识别占位符CQL是否可下推分页 isPageable()
+ */
+public class DBCQL_Lexer
+{
+    /** 词法单元的类型：单词（关键字、变量名、函数名等） */
+    private static final int $Token_Word         = 1;
+    
+    /** 词法单元的类型：字符串常量，如 'abc' 或 "abc" */
+    private static final int $Token_String       = 2;
+    
+    /** 词法单元的类型：反引号包裹的名称，如 `源主键` */
+    private static final int $Token_Quoted       = 3;
+    
+    /** 词法单元的类型：占位符，如 #name */
+    private static final int $Token_Placeholder  = 4;
+    
+    /** 词法单元的类型：动态CQL的开始标记 <[ */
+    private static final int $Token_DynamicBegin = 5;
+    
+    /** 词法单元的类型：动态CQL的结束标记 ]> */
+    private static final int $Token_DynamicEnd   = 6;
+    
+    /** 词法单元的类型：其它符号 */
+    private static final int $Token_Symbol       = 7;
+    
+    
+    
+    /** WHERE条件后可直接去除的连接词 */
+    private static final String [] $Where_Joins = {"AND" ,"OR"};
+    
+    /** WHERE条件为空时，WHERE之后可能直接跟随的子句 */
+    private static final String [] $Where_Nexts = {"CREATE" ,"DELETE" ,"REMOVE" ,"SET" ,"RETURN"};
+    
+    /** 出现时不能在末尾追加 SKIP/LIMIT 的关键字（写操作、过程调用、多段查询的合并） */
+    private static final String [] $Paging_Denys = {"CREATE" ,"MERGE" ,"SET" ,"DELETE" ,"REMOVE" ,"FOREACH" ,"CALL" ,"LOAD" ,"UNION" ,"USE"};
+    
+    
+    
+    /** 被分析的CQL文本 */
+    private final String  text;
+    
+    /** 各词法单元的类型 */
+    private final int []  types;
+    
+    /** 各词法单元的开始位置（包含） */
+    private final int []  starts;
+    
+    /** 各词法单元的结束位置（不包含） */
+    private final int []  ends;
+    
+    /** 词法单元的个数 */
+    private final int     size;
+    
+    
+    
+    /**
+     * 构造器：一次扫描完成词法分析
+     * 
+     * @param i_Text  CQL文本
+     */
+    public DBCQL_Lexer(String i_Text)
+    {
+        this.text = i_Text == null ? "" : i_Text;
+        
+        List<int []> v_Tokens = new ArrayList<int []>();
+        int          v_Length = this.text.length();
+        int          v_Pos    = 0;
+        
+        while ( v_Pos < v_Length )
+        {
+            char v_Char  = this.text.charAt(v_Pos);
+            int  v_Start = v_Pos;
+            int  v_Quote = v_Char == '\'' || v_Char == '"' || v_Char == '`' ? skipQuoted(this.text ,v_Pos) : -1;
+            
+            if ( Character.isWhitespace(v_Char) )
+            {
+                v_Pos++;
+                continue;
+            }
+            else if ( v_Quote >= 0 )
+            {
+                v_Pos = v_Quote;
+                v_Tokens.add(new int[] {v_Char == '`' ? $Token_Quoted : $Token_String ,v_Start ,v_Pos});
+            }
+            else if ( v_Char == DBCQL.$Placeholder.charAt(0) )
+            {
+                v_Pos++;
+                while ( v_Pos < v_Length && (isWordPart(this.text.charAt(v_Pos)) || this.text.charAt(v_Pos) == '.') )
+                {
+                    v_Pos++;
+                }
+                v_Tokens.add(new int[] {$Token_Placeholder ,v_Start ,v_Pos});
+            }
+            else if ( v_Char == '<' && this.text.startsWith("<[" ,v_Pos) )
+            {
+                v_Pos += 2;
+                v_Tokens.add(new int[] {$Token_DynamicBegin ,v_Start ,v_Pos});
+            }
+            else if ( v_Char == ']' && this.text.startsWith("]>" ,v_Pos) )
+            {
+                v_Pos += 2;
+                v_Tokens.add(new int[] {$Token_DynamicEnd ,v_Start ,v_Pos});
+            }
+            else if ( isWordPart(v_Char) )
+            {
+                v_Pos = skipWord(this.text ,v_Pos);
+                v_Tokens.add(new int[] {$Token_Word ,v_Start ,v_Pos});
+            }
+            else
+            {
+                // 未闭合的引号按普通符号处理，其后的内容照常识别
+                v_Pos++;
+                v_Tokens.add(new int[] {$Token_Symbol ,v_Start ,v_Pos});
+            }
+        }
+        
+        this.size   = v_Tokens.size();
+        this.types  = new int[this.size];
+        this.starts = new int[this.size];
+        this.ends   = new int[this.size];
+        for (int x=0; x<this.size; x++)
+        {
+            int [] v_Token = v_Tokens.get(x);
+            this.types [x] = v_Token[0];
+            this.starts[x] = v_Token[1];
+            this.ends  [x] = v_Token[2];
+        }
+    }
+    
+    
+    
+    /**
+     * 识别CQL语句的类型
+     * 
+     * 有写操作的关键字时，为写操作的类型（MERGE 为 CREATE 类型）。
+     * 调用过程（CALL xxx()）时，无法确定是否有写操作，为未知类型。子查询 CALL { ... } 按其内部的关键字识别。
+     * 其它以 MATCH 、OPTIONAL MATCH 、WITH 、UNWIND 、RETURN 开头的为只读查询的 MATCH 类型。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *              v2.0  2026-10-18  修改：MERGE 识别为 CREATE 类型；调用过程的语句识别为未知类型
+     * 
+     * @return  DBCQL.$DBCQL_TYPE_XXX 中的一种
+     */
+    public int getCQLType()
+    {
+        if ( (this.isKeyword(0 ,"CREATE") || this.isKeyword(0 ,"DROP"))
+          && (this.isKeyword(1 ,"INDEX")  || this.isKeyword(1 ,"CONSTRAINT")) )
+        {
+            return DBCQL.$DBCQL_TYPE_DDL;
+        }
+        
+        if ( this.indexOfKeyword("DELETE" ,1) >= 0 || this.indexOfKeyword("REMOVE" ,1) >= 0 )
+        {
+            return DBCQL.$DBCQL_TYPE_DELETE;
+        }
+        
+        if ( this.indexOfKeyword("SET" ,1) >= 0 )
+        {
+            return DBCQL.$DBCQL_TYPE_SET;
+        }
+        
+        if ( this.indexOfKeyword("CREATE" ,0) >= 0 || this.indexOfKeyword("MERGE" ,0) >= 0 )
+        {
+            return DBCQL.$DBCQL_TYPE_CREATE;
+        }
+        
+        if ( this.isHaveProcedureCall() )
+        {
+            return DBCQL.$DBCQL_TYPE_UNKNOWN;
+        }
+        
+        if ( this.isKeyword(0 ,"MATCH")
+          || this.isKeyword(0 ,"OPTIONAL")
+          || this.isKeyword(0 ,"WITH")
+          || this.isKeyword(0 ,"UNWIND")
+          || this.isKeyword(0 ,"RETURN") )
+        {
+            return DBCQL.$DBCQL_TYPE_MATCH;
+        }
+        
+        return DBCQL.$DBCQL_TYPE_UNKNOWN;
+    }
+    
+    
+    
+    /**
+     * 是否有调用过程，如 CALL db.labels() 。子查询 CALL { ... } 不是调用过程
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     * 
+     * @return
+     */
+    private boolean isHaveProcedureCall()
+    {
+        for (int x=this.indexOfKeyword("CALL" ,0); x >= 0; x=this.indexOfKeyword("CALL" ,x + 1))
+        {
+            if ( x + 1 >= this.size || this.types[x + 1] != $Token_Symbol || this.text.charAt(this.starts[x + 1]) != '{' )
+            {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    
+    
+    /**
+     * 是否有WHERE条件后直接跟动态CQL或占位符的情况，如 WHERE <[ ... ]> 或 WHERE #xxx
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public boolean isHaveWhereDynamic()
+    {
+        for (int x=this.indexOfKeyword("WHERE" ,0); x >= 0; x=this.indexOfKeyword("WHERE" ,x + 1))
+        {
+            if ( x + 1 < this.size
+              && (this.types[x + 1] == $Token_DynamicBegin || this.types[x + 1] == $Token_Placeholder) )
+            {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    
+    
+    /**
+     * 是否有 COUNT( 统计函数，如 COUNT(1) 或 COUNT(*)
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public boolean isHaveCount()
+    {
+        for (int x=this.indexOfKeyword("COUNT" ,0); x >= 0; x=this.indexOfKeyword("COUNT" ,x + 1))
+        {
+            if ( x + 1 < this.size && this.types[x + 1] == $Token_Symbol && this.text.charAt(this.starts[x + 1]) == '(' )
+            {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    
+    
+    /**
+     * 识别CQL涉及的节点标签与关系类型，如 (n:Person)、[:KNOWS|LIKES]、WHERE n:Person 中的 Person、KNOWS、LIKES 。
+     * 
+     * 冒号在Map常量（如 {name: 'x'}）中时，不是标签。反引号包裹的名称去除反引号。
+     * 
+     * 当标签是占位符（如 (n:#label)）时，无法确定涉及的标签，返回空集合。
+     * 没有任何标签（如 MATCH (n) RETURN n）时，也返回空集合。即空集合表示可能涉及所有的标签。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public Set<String> getLabels()
+    {
+        Set<String>     v_Labels   = new LinkedHashSet<String>();
+        List<Character> v_Brackets = new ArrayList<Character>();
+        
+        for (int x=0; x<this.size; x++)
+        {
+            if ( this.types[x] != $Token_Symbol )
+            {
+                continue;
+            }
+            
+            char v_Char = this.text.charAt(this.starts[x]);
+            if ( v_Char == '(' || v_Char == '[' || v_Char == '{' )
+            {
+                v_Brackets.add(v_Char);
+                continue;
+            }
+            else if ( v_Char == ')' || v_Char == ']' || v_Char == '}' )
+            {
+                if ( !v_Brackets.isEmpty() )
+                {
+                    v_Brackets.remove(v_Brackets.size() - 1);
+                }
+                continue;
+            }
+            else if ( v_Char != ':' || (!v_Brackets.isEmpty() && v_Brackets.get(v_Brackets.size() - 1) == '{') )
+            {
+                continue;
+            }
+            
+            // 冒号之后的标签，及 | 或 & 连接的多个标签（如 [:KNOWS|:LIKES]）
+            int v_Index = x + 1;
+            while ( v_Index < this.size )
+            {
+                if ( this.types[v_Index] == $Token_Placeholder )
+                {
+                    return Collections.emptySet();
+                }
+                else if ( this.types[v_Index] == $Token_Word )
+                {
+                    v_Labels.add(this.text.substring(this.starts[v_Index] ,this.ends[v_Index]));
+                }
+                else if ( this.types[v_Index] == $Token_Quoted )
+                {
+                    v_Labels.add(this.text.substring(this.starts[v_Index] + 1 ,this.ends[v_Index] - 1));
+                }
+                else
+                {
+                    break;
+                }
+                
+                v_Index++;
+                if ( v_Index < this.size && this.types[v_Index] == $Token_Symbol
+                  && (this.text.charAt(this.starts[v_Index]) == '|' || this.text.charAt(this.starts[v_Index]) == '&') )
+                {
+                    v_Index++;
+                    if ( v_Index < this.size && this.types[v_Index] == $Token_Symbol && this.text.charAt(this.starts[v_Index]) == ':' )
+                    {
+                        v_Index++;
+                    }
+                }
+                else
+                {
+                    break;
+                }
+            }
+            x = v_Index - 1;
+        }
+        
+        return v_Labels;
+    }
+    
+    
+    
+    /**
+     * 获取字符串常量的区间。
+     * 
+     * 每个元素为一个区间，下标0为开始位置（包含单引号或双引号），下标1为结束位置（不包含）
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public List<int []> getStringSpans()
+    {
+        List<int []> v_Spans = new ArrayList<int []>();
+        
+        for (int x=0; x<this.size; x++)
+        {
+            if ( this.types[x] == $Token_String )
+            {
+                v_Spans.add(new int[] {this.starts[x] ,this.ends[x]});
+            }
+        }
+        
+        return v_Spans;
+    }
+    
+    
+    
+    /**
+     * 获取可在末尾追加 SKIP/LIMIT 子句的位置，用于分页查询下推到数据库端执行。
+     * 
+     * 仅当如下条件均满足时，才可追加：
+     *   1. 最外层（不在括号内）有 RETURN 子句，并且之后没有 SKIP、LIMIT 子句；
+     *   2. 没有写操作、过程调用、UNION 等（见 $Paging_Denys）；
+     *   3. 没有注释、分号，也没有未闭合的引号。
+     * 
+     * 不满足时，由调用者在客户端按游标跳过记录。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return  最后一个词法单元的结束位置。不可追加时返回 -1
+     */
+    public int getPagingPosition()
+    {
+        return this.indexOfPagingReturn(false) < 0 ? -1 : this.ends[this.size - 1];
+    }
+    
+    
+    
+    /**
+     * 占位符CQL是否可下推分页，即其生成的可执行CQL是否可在末尾追加 SKIP/LIMIT 子句（条件见 getPagingPosition()）。
+     * 
+     * 在加载占位符CQL时识别一次，生成可执行CQL后只须在其末尾追加，无须再次词法分析。
+     * 
+     * 动态CQL的标记 <[ ]> 不影响识别，按所有分段均生效识别（未生效的分段不会引入写操作、SKIP、LIMIT等关键字）。
+     * 占位符按数值识别，即数值中不应包含 SKIP、LIMIT、写操作等CQL片段。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public boolean isPageable()
+    {
+        return this.indexOfPagingReturn(true) >= 0;
+    }
+    
+    
+    
+    /**
+     * 获取可插入键集分页（Keyset）条件的位置，即最外层 RETURN 子句的开始位置。
+     * 
+     * 在 getPagingPosition() 的条件之上，RETURN 子句之后还不能有 ORDER BY 子句（排序由键集分页决定）。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return  RETURN 的开始位置。不可插入时返回 -1
+     */
+    public int getKeysetPosition()
+    {
+        int v_Return = this.indexOfPagingReturn(false);
+        
+        if ( v_Return < 0 || this.indexOfKeyword("ORDER" ,v_Return + 1) >= 0 )
+        {
+            return -1;
+        }
+        
+        return this.starts[v_Return];
+    }
+    
+    
+    
+    /**
+     * 查找可追加 SKIP/LIMIT 子句的最外层 RETURN 的词法单元（条件见 getPagingPosition()）
+     * 
+     * @param i_IsTemplate  是否为占位符CQL。为真时忽略动态CQL的标记 <[ ]> ，否则出现标记时不可追加
+     * @return              词法单元的下标。不可追加时返回 -1
+     */
+    private int indexOfPagingReturn(boolean i_IsTemplate)
+    {
+        int v_Depth  = 0;
+        int v_Return = -1;
+        
+        for (int x=0; x<this.size; x++)
+        {
+            if ( this.types[x] == $Token_Symbol )
+            {
+                char v_Char = this.text.charAt(this.starts[x]);
+                
+                if ( v_Char == '(' || v_Char == '[' || v_Char == '{' )
+                {
+                    v_Depth++;
+                }
+                else if ( v_Char == ')' || v_Char == ']' || v_Char == '}' )
+                {
+                    v_Depth--;
+                }
+                else if ( v_Char == ';' || v_Char == '\'' || v_Char == '"' || v_Char == '`' )
+                {
+                    return -1;
+                }
+                else if ( v_Char == '/' && x + 1 < this.size && this.starts[x + 1] == this.ends[x]
+                       && (this.text.charAt(this.starts[x + 1]) == '/' || this.text.charAt(this.starts[x + 1]) == '*') )
+                {
+                    return -1;
+                }
+            }
+            else if ( this.types[x] == $Token_Word )
+            {
+                for (String v_Deny : $Paging_Denys)
+                {
+                    if ( this.isKeyword(x ,v_Deny) )
+                    {
+                        return -1;
+                    }
+                }
+                
+                if ( v_Depth == 0 )
+                {
+                    if ( this.isKeyword(x ,"RETURN") )
+                    {
+                        v_Return = x;
+                    }
+                    else if ( v_Return >= 0 && (this.isKeyword(x ,"SKIP") || this.isKeyword(x ,"LIMIT")) )
+                    {
+                        return -1;
+                    }
+                }
+            }
+            else if ( (this.types[x] == $Token_DynamicBegin || this.types[x] == $Token_DynamicEnd) && !i_IsTemplate )
+            {
+                return -1;
+            }
+        }
+        
+        if ( v_Return < 0 || v_Depth != 0 || v_Return == this.size - 1 )
+        {
+            return -1;
+        }
+        
+        return v_Return;
+    }
+    
+    
+    
+    /**
+     * 第N个词法单元是否为指定的关键字（不区分大小写）。
+     * 
+     * 属性名称（如 n.set）、标签名称（如 :Set）不是关键字。
+     * 
+     * @param i_Index    词法单元的下标
+     * @param i_Keyword  关键字（大写）
+     * @return
+     */
+    private boolean isKeyword(int i_Index ,String i_Keyword)
+    {
+        if ( i_Index < 0 || i_Index >= this.size || this.types[i_Index] != $Token_Word )
+        {
+            return false;
+        }
+        
+        int v_Start = this.starts[i_Index];
+        if ( this.ends[i_Index] - v_Start != i_Keyword.length()
+          || !this.text.regionMatches(true ,v_Start ,i_Keyword ,0 ,i_Keyword.length()) )
+        {
+            return false;
+        }
+        
+        if ( i_Index >= 1 && this.types[i_Index - 1] == $Token_Symbol )
+        {
+            char v_Prev = this.text.charAt(this.starts[i_Index - 1]);
+            if ( v_Prev == '.' || v_Prev == ':' || v_Prev == '$' )
+            {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    
+    
+    /**
+     * 从第N个词法单元开始，查找指定的关键字
+     * 
+     * @param i_Keyword    关键字（大写）
+     * @param i_FromIndex  开始查找的词法单元的下标
+     * @return             未找到时返回 -1
+     */
+    private int indexOfKeyword(String i_Keyword ,int i_FromIndex)
+    {
+        for (int x=i_FromIndex; x<this.size; x++)
+        {
+            if ( this.isKeyword(x ,i_Keyword) )
+            {
+                return x;
+            }
+        }
+        
+        return -1;
+    }
+    
+    
+    
+    /**
+     * 当有WHERE条件后直接跟动态CQL的情况进行处理（一次扫描完成）。
+     * 
+     *   1. 去除末尾多余的 WHERE；
+     *   2. WHERE AND ... 、WHERE OR ... 整理为 WHERE ...；
+     *   3. WHERE CREATE、WHERE DELETE、WHERE REMOVE、WHERE SET、WHERE RETURN 整理为去除WHERE后的子句。
+     * 
+     * 注：此时CQL中已拼接了占位符的数值，而数值中的单引号并未转义，所以这里不识别字符串常量，
+     *    仅按单词的边界识别关键字，与原先正则表达式的整理规则保持一致。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_CQL
+     * @return
+     */
+    public static String whereDynamic(String i_CQL)
+    {
+        String v_CQL    = i_CQL.trim();
+        int    v_Length = v_CQL.length();
+        
+        if ( v_Length >= 6 && v_CQL.regionMatches(true ,v_Length - 6 ," WHERE" ,0 ,6) )
+        {
+            v_CQL    = v_CQL.substring(0 ,v_Length - 6);
+            v_Length = v_CQL.length();
+        }
+        
+        StringBuilder v_Buffer = null;
+        int           v_Last   = 0;
+        int           v_Pos    = 0;
+        
+        while ( v_Pos < v_Length )
+        {
+            char v_Char = v_CQL.charAt(v_Pos);
+            
+            if ( !isWordPart(v_Char) )
+            {
+                v_Pos++;
+                continue;
+            }
+            
+            int v_End = skipWord(v_CQL ,v_Pos);
+            
+            if ( isWord(v_CQL ,v_Pos ,v_End ,"WHERE") && v_End < v_Length && v_CQL.charAt(v_End) == ' ' )
+            {
+                boolean v_IsJoin = false;
+                String  v_Next   = null;
+                int     v_Skip   = skipSpace(v_CQL ,v_End);
+                
+                // 去除WHERE之后的连接词，并识别WHERE之后是否直接跟随的是其它子句
+                while ( v_Skip < v_Length && isWordPart(v_CQL.charAt(v_Skip)) )
+                {
+                    int    v_WEnd  = skipWord(v_CQL ,v_Skip);
+                    String v_Join  = findWord(v_CQL ,v_Skip ,v_WEnd ,$Where_Joins);
+                    String v_Nexts = findWord(v_CQL ,v_Skip ,v_WEnd ,$Where_Nexts);
+                    
+                    if ( v_WEnd >= v_Length || v_CQL.charAt(v_WEnd) != ' ' )
+                    {
+                        break;
+                    }
+                    else if ( v_Join != null )
+                    {
+                        v_IsJoin = true;
+                        v_Skip   = skipSpace(v_CQL ,v_WEnd);
+                    }
+                    else if ( v_Nexts != null )
+                    {
+                        v_Next = v_Nexts;
+                        v_Skip = skipSpace(v_CQL ,v_WEnd);
+                        break;
+                    }
+                    else
+                    {
+                        break;
+                    }
+                }
+                
+                if ( v_IsJoin || v_Next != null )
+                {
+                    if ( v_Buffer == null )
+                    {
+                        v_Buffer = new StringBuilder(v_Length);
+                    }
+                    
+                    // WHERE之前的空格也一同被整理为一个空格
+                    int v_Before = v_Pos;
+                    while ( v_Before > v_Last && v_CQL.charAt(v_Before - 1) == ' ' )
+                    {
+                        v_Before--;
+                    }
+                    
+                    v_Buffer.append(v_CQL ,v_Last ,v_Before);
+                    v_Buffer.append(' ').append(v_Next == null ? "WHERE" : v_Next).append(' ');
+                    v_Last = v_Skip;
+                    v_Pos  = v_Skip;
+                    continue;
+                }
+            }
+            
+            v_Pos = v_End;
+        }
+        
+        if ( v_Buffer == null )
+        {
+            return v_CQL;
+        }
+        
+        v_Buffer.append(v_CQL ,v_Last ,v_Length);
+        return v_Buffer.toString();
+    }
+    
+    
+    
+    /**
+     * 单词 i_Text[i_Start ,i_End) 是否为指定的关键字（不区分大小写）
+     * 
+     * @param i_Text
+     * @param i_Start
+     * @param i_End
+     * @param i_Keyword  关键字（大写）
+     * @return
+     */
+    private static boolean isWord(String i_Text ,int i_Start ,int i_End ,String i_Keyword)
+    {
+        return i_End - i_Start == i_Keyword.length()
+            && i_Text.regionMatches(true ,i_Start ,i_Keyword ,0 ,i_Keyword.length());
+    }
+    
+    
+    
+    /**
+     * 单词 i_Text[i_Start ,i_End) 是否为关键字集合中的一个，是时返回此关键字
+     * 
+     * @param i_Text
+     * @param i_Start
+     * @param i_End
+     * @param i_Keywords  关键字（大写）集合
+     * @return            不是时返回NULL
+     */
+    private static String findWord(String i_Text ,int i_Start ,int i_End ,String [] i_Keywords)
+    {
+        for (String v_Keyword : i_Keywords)
+        {
+            if ( isWord(i_Text ,i_Start ,i_End ,v_Keyword) )
+            {
+                return v_Keyword;
+            }
+        }
+        
+        return null;
+    }
+    
+    
+    
+    /**
+     * 是否为单词的组成字符
+     * 
+     * @param i_Char
+     * @return
+     */
+    private static boolean isWordPart(char i_Char)
+    {
+        return Character.isLetterOrDigit(i_Char) || i_Char == '_';
+    }
+    
+    
+    
+    /**
+     * 跳过单词，返回单词之后的位置
+     * 
+     * @param i_Text
+     * @param i_Pos   单词的开始位置
+     * @return
+     */
+    private static int skipWord(String i_Text ,int i_Pos)
+    {
+        int v_Pos = i_Pos;
+        while ( v_Pos < i_Text.length() && isWordPart(i_Text.charAt(v_Pos)) )
+        {
+            v_Pos++;
+        }
+        return v_Pos;
+    }
+    
+    
+    
+    /**
+     * 跳过空格，返回空格之后的位置
+     * 
+     * @param i_Text
+     * @param i_Pos   空格的开始位置
+     * @return
+     */
+    private static int skipSpace(String i_Text ,int i_Pos)
+    {
+        int v_Pos = i_Pos;
+        while ( v_Pos < i_Text.length() && i_Text.charAt(v_Pos) == ' ' )
+        {
+            v_Pos++;
+        }
+        return v_Pos;
+    }
+    
+    
+    
+    /**
+     * 跳过单引号、双引号或反引号包裹的内容，返回结束引号之后的位置。
+     * 
+     * 支持反斜杠转义，反引号支持两个连续反引号的转义。未找到结束引号时，返回 -1。
+     * 
+     * @param i_Text
+     * @param i_Pos   开始引号的位置
+     * @return
+     */
+    private static int skipQuoted(String i_Text ,int i_Pos)
+    {
+        char v_Quote = i_Text.charAt(i_Pos);
+        int  v_Pos   = i_Pos + 1;
+        
+        while ( v_Pos < i_Text.length() )
+        {
+            char v_Char = i_Text.charAt(v_Pos);
+            
+            if ( v_Char == '\\' && v_Quote != '`' )
+            {
+                v_Pos += 2;
+            }
+            else if ( v_Char == v_Quote )
+            {
+                if ( v_Quote == '`' && v_Pos + 1 < i_Text.length() && i_Text.charAt(v_Pos + 1) == v_Quote )
+                {
+                    v_Pos += 2;
+                }
+                else
+                {
+                    return v_Pos + 1;
+                }
+            }
+            else
+            {
+                v_Pos++;
+            }
+        }
+        
+        return -1;
+    }
+    
+}
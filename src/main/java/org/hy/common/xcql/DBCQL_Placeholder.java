@@ -0,0 +1,152 @@
+package org.hy.common.xcql;
+
+import java.io.Serializable;
+
+
+
+
+
+/**
+ * 分段CQL中的占位符信息（渲染计划中的占位符）。
+ * 
+ * 在解释分段CQL时预先计算出占位符在分段CQL中出现的所有位置（插槽），
+ * 生成可执行CQL时，按插槽直接填充数值，无须再对分段CQL做查找与替换。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  添加：预先绑定的占位符取值条件 condition
+ *              v3.0  2026-10-17  添加：按全局占位符的版本号缓存全局占位符的取值
+ */
+public class DBCQL_Placeholder implements Serializable
+{
+    
+    private static final long serialVersionUID = 3418815473625018391L;
+    
+    
+    
+    /** 占位符名称。前缀不包含#符号 */
+    private String name;
+    
+    /** 占位符在分段CQL中出现的所有插槽的下标。按出现的先后顺序排列 */
+    private int [] slots;
+    
+    /** 占位符取值条件。在设置占位符CQL或取值条件时预先绑定，生成CQL时无须再按名称查找 */
+    private DBConditions condition;
+    
+    /** 全局占位符取值的缓存。DBCQLStaticParams 的版本号变化时失效 */
+    private transient volatile StaticValue staticValue;
+    
+    
+    
+    public DBCQL_Placeholder(String i_Name ,int [] i_Slots)
+    {
+        this.name  = i_Name;
+        this.slots = i_Slots;
+    }
+    
+    
+    
+    /**
+     * 获取：占位符名称。前缀不包含#符号
+     */
+    public String getName()
+    {
+        return name;
+    }
+    
+    
+    
+    /**
+     * 获取：占位符在分段CQL中出现的所有插槽的下标。按出现的先后顺序排列
+     */
+    public int [] getSlots()
+    {
+        return slots;
+    }
+    
+    
+    
+    /**
+     * 获取：占位符取值条件。在设置占位符CQL或取值条件时预先绑定，生成CQL时无须再按名称查找
+     */
+    public DBConditions getCondition()
+    {
+        return condition;
+    }
+    
+    
+    
+    /**
+     * 设置：占位符取值条件
+     * 
+     * @param i_Condition
+     */
+    public void setCondition(DBConditions i_Condition)
+    {
+        this.condition = i_Condition;
+    }
+    
+    
+    
+    /**
+     * 获取同名的全局占位符的值。
+     * 
+     * 按 DBCQLStaticParams 的版本号缓存，全局占位符未修改时，无须再查找。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public Object getStaticValue()
+    {
+        DBCQLStaticParams v_Params  = DBCQLStaticParams.getInstance();
+        long              v_Version = v_Params.getVersion();   // 须先取版本号，再取值。取值时已是更新的版本也无妨，下次将重新获取
+        StaticValue       v_Cache   = this.staticValue;
+        
+        if ( v_Cache == null || v_Cache.version != v_Version )
+        {
+            v_Cache          = new StaticValue(v_Version ,v_Params.getValue(this.name));
+            this.staticValue = v_Cache;
+        }
+        
+        return v_Cache.value;
+    }
+    
+    
+    
+    @Override
+    public String toString()
+    {
+        return this.name;
+    }
+    
+    
+    
+    
+    
+    /**
+     * 全局占位符取值的缓存。创建后不再修改，保证版本号与值的一致
+     */
+    private static class StaticValue
+    {
+        
+        /** DBCQLStaticParams 的版本号 */
+        private final long   version;
+        
+        /** 全局占位符的值 */
+        private final Object value;
+        
+        
+        
+        public StaticValue(long i_Version ,Object i_Value)
+        {
+            this.version = i_Version;
+            this.value   = i_Value;
+        }
+        
+    }
+    
+}
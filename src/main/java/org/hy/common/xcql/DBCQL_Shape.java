@@ -0,0 +1,135 @@
+package org.hy.common.xcql;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+
+
+
+/**
+ * CQL形状。参数绑定模式下，按动态分段 <[ ... ]> 的生效情况缓存的CQL骨架。
+ * 
+ * 含有N个动态分段的占位符CQL，最多只有2的N次方种形状，实际使用中通常只会出现其中的几种。
+ * 参数绑定模式下，同一形状生成的CQL文本与数值无关，所以分段的拼接及WHERE条件的整理只须执行一次，
+ * 之后的每次执行，只须按插槽绑定参数即可。
+ * 
+ * 骨架的结构与渲染计划相同：第N个参数插槽位于第N个与第N+1个文本片段之间。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+public class DBCQL_Shape implements Serializable
+{
+    
+    private static final long serialVersionUID = -2761903418762531029L;
+    
+    /** 骨架中参数插槽的标记。非空白、非标识符的字符，使WHERE条件的整理不会误识别或删除它 */
+    private static final char $Mark            = '\uE000';
+    
+    
+    
+    /** 参数插槽之间的文本片段。元素个数比参数插槽个数多一个 */
+    private String [] texts;
+    
+    /** 各参数插槽所属分段的下标 */
+    private int []    segments;
+    
+    /** 各参数插槽在所属分段中的插槽下标 */
+    private int []    slots;
+    
+    
+    
+    /**
+     * 构造器：由生效的各分段生成CQL骨架，并执行一次WHERE条件的整理
+     * 
+     * @param i_Values         各分段的填充数值。未生效的分段为NULL。须均通过 isShapeable() 的判定
+     * @param i_NotKeyReplace  不替换数据库关键字的占位符。可为NULL
+     * @param i_DBCQL          所属的占位符CQL。用于WHERE条件的整理
+     */
+    public DBCQL_Shape(DBCQL_Values [] i_Values ,Set<String> i_NotKeyReplace ,DBCQL i_DBCQL)
+    {
+        StringBuilder v_CQL      = new StringBuilder();
+        List<Integer> v_Segments = new ArrayList<Integer>();
+        List<Integer> v_Slots    = new ArrayList<Integer>();
+        
+        for (int v_SIndex=0; v_SIndex<i_Values.length; v_SIndex++)
+        {
+            DBCQL_Values v_Values = i_Values[v_SIndex];
+            if ( v_Values == null )
+            {
+                continue;
+            }
+            
+            v_Values.toShape(v_CQL ,$Mark ,i_NotKeyReplace);
+            
+            for (int v_Slot=0; v_Slot<v_Values.getSegment().getSlotSize(); v_Slot++)
+            {
+                if ( v_Values.isBound(v_Slot ,i_NotKeyReplace) )
+                {
+                    v_Segments.add(v_SIndex);
+                    v_Slots   .add(v_Slot);
+                }
+            }
+        }
+        
+        String    v_Skeleton = i_DBCQL.whereDynamic(v_CQL.toString());
+        String [] v_Texts    = new String[v_Slots.size() + 1];
+        int       v_Last     = 0;
+        int       v_Index    = 0;
+        int       v_Pos      = v_Skeleton.indexOf($Mark);
+        
+        while ( v_Pos >= 0 )
+        {
+            v_Texts[v_Index++] = v_Skeleton.substring(v_Last ,v_Pos);
+            v_Last = v_Pos + 1;
+            v_Pos  = v_Skeleton.indexOf($Mark ,v_Last);
+        }
+        v_Texts[v_Index] = v_Skeleton.substring(v_Last);
+        
+        this.texts    = v_Texts;
+        this.segments = new int[v_Segments.size()];
+        this.slots    = new int[v_Slots.size()];
+        for (int x=0; x<this.slots.length; x++)
+        {
+            this.segments[x] = v_Segments.get(x);
+            this.slots   [x] = v_Slots   .get(x);
+        }
+    }
+    
+    
+    
+    /**
+     * 按骨架生成参数化的CQL，并将各插槽的数值放入参数集合中
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values   各分段的填充数值
+     * @param io_Params  参数集合
+     * @return
+     */
+    public String toCQL(DBCQL_Values [] i_Values ,Map<String ,Object> io_Params)
+    {
+        StringBuilder v_CQL = new StringBuilder(this.texts.length * 32);
+        
+        v_CQL.append(this.texts[0]);
+        
+        for (int x=0; x<this.slots.length; x++)
+        {
+            DBCQL_Values v_Values = i_Values[this.segments[x]];
+            String       v_Name   = v_Values.getSegment().getSlotPlaceholder(this.slots[x]).getName();
+            
+            v_CQL.append('$').append(DBCQL_Values.bind(io_Params ,v_Name ,v_Values.getBindValue(this.slots[x])));
+            v_CQL.append(this.texts[x + 1]);
+        }
+        
+        return v_CQL.toString();
+    }
+    
+}
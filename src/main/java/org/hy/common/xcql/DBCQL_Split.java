@@ -1,5 +1,8 @@
 package org.hy.common.xcql;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hy.common.Help;
 import org.hy.common.PartitionMap;
 import org.hy.common.SplitSegment;
@@ -19,6 +22,9 @@ import org.hy.common.StringHelp;
  * @author      ZhengWei(HY)
  * @createDate  2023-05-25
  * @version     v1.0
+ *              v2.0  2026-10-17  添加：预编译渲染计划。将分段CQL预先切分为文本片段与占位符插槽，生成CQL时一次追加完成
+ *              v3.0  2026-10-17  添加：识别可变长度关系的范围（如 -[*1..#depth]-> ）中的插槽
+ *              v4.0  2026-10-18  添加：识别字符串常量（如 "#name" 、 'Mr #name' ）中的插槽
  */
 public class DBCQL_Split extends SplitSegment
 {
@@ -46,6 +52,28 @@ public class DBCQL_Split extends SplitSegment
      */
     private PartitionMap<String ,Integer> placeholdersSequence;
     
+    /**
+     * 渲染计划：占位符插槽之间的文本片段。
+     * 
+     * 元素个数比插槽个数多一个。第N个插槽位于第N个与第N+1个文本片段之间
+     */
+    private String []                     planTexts;
+    
+    /** 渲染计划：各插槽对应的占位符 */
+    private DBCQL_Placeholder []          planSlots;
+    
+    /** 渲染计划：各插槽是否为前后带单引号的占位符，如 '#name' */
+    private boolean []                    planMarks;
+    
+    /** 渲染计划：各插槽是否在可变长度关系的范围中，如 -[*1..#depth]-> */
+    private boolean []                    planRanges;
+    
+    /** 渲染计划：各插槽是否在字符串常量中，如 "#name" 、 'Mr #name' 。不包括独自构成字符串常量的 '#name' */
+    private boolean []                    planStrings;
+    
+    /** 渲染计划：所有占位符。与 placeholders 的降序顺序一致 */
+    private DBCQL_Placeholder []          planPlaceholders;
+    
     
     
     public DBCQL_Split(SplitSegment i_SplitSegment)
@@ -96,6 +124,346 @@ public class DBCQL_Split extends SplitSegment
         
         this.placeholdersSequence = StringHelp.parsePlaceholdersSequence(DBCQL.$Placeholder ,this.info ,true);
         this.placeholders         = Help.toReverse(this.placeholdersSequence);
+        this.parsePlan();
+    }
+    
+    
+    
+    /**
+     * 预编译渲染计划。
+     * 
+     * 按占位符的降序顺序，在每个#符号处匹配最长的占位符（解决 #A、#AA 同时存在时的混乱），
+     * 将分段CQL切分为文本片段与占位符插槽。
+     * 
+     * 前后带单引号的占位符（如 '#name'），其单引号也归属于插槽，用于支持NULL值的填充。
+     * 
+     * 字符串常量的区间由词法分析一次确定（见 DBCQL_Lexer.getStringSpans()）。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *              v2.0  2026-10-18  添加：识别字符串常量中的插槽
+     * 
+     */
+    private void parsePlan()
+    {
+        List<String>            v_Texts  = new ArrayList<String>();
+        List<DBCQL_Placeholder> v_Slots  = new ArrayList<DBCQL_Placeholder>();
+        List<Boolean>           v_Marks  = new ArrayList<Boolean>();
+        List<Boolean>           v_Ranges = new ArrayList<Boolean>();
+        List<Boolean>           v_Strs   = new ArrayList<Boolean>();
+        List<int []>            v_Spans  = new DBCQL_Lexer(this.info).getStringSpans();
+        String []               v_Names  = new String[this.getPlaceholderSize()];
+        List<List<Integer>>     v_PSlots = new ArrayList<List<Integer>>();
+        int                     v_Index  = 0;
+        
+        if ( this.placeholders != null )
+        {
+            for (String v_Name : this.placeholders.keySet())
+            {
+                v_Names[v_Index++] = v_Name;
+                v_PSlots.add(new ArrayList<Integer>());
+            }
+        }
+        
+        DBCQL_Placeholder [] v_Placeholders = new DBCQL_Placeholder[v_Names.length];
+        int                  v_Last         = 0;
+        int                  v_Pos          = this.info.indexOf(DBCQL.$Placeholder);
+        int                  v_Length       = this.info.length();
+        
+        // 先确定每个插槽的位置，占位符对象待插槽下标全部确定后再生成
+        List<Integer> v_SlotNames = new ArrayList<Integer>();
+        while ( v_Pos >= 0 )
+        {
+            int v_Match = -1;
+            for (int x=0; x<v_Names.length; x++)
+            {
+                if ( this.info.startsWith(v_Names[x] ,v_Pos + 1) )
+                {
+                    v_Match = x;
+                    break;
+                }
+            }
+            
+            if ( v_Match < 0 )
+            {
+                v_Pos = this.info.indexOf(DBCQL.$Placeholder ,v_Pos + 1);
+                continue;
+            }
+            
+            int     v_End    = v_Pos + 1 + v_Names[v_Match].length();
+            boolean v_IsMark = v_Pos - 1 >= v_Last
+                            && this.info.charAt(v_Pos - 1) == '\''
+                            && v_End < v_Length
+                            && this.info.charAt(v_End) == '\'';
+            
+            if ( v_IsMark )
+            {
+                v_Texts.add(this.info.substring(v_Last ,v_Pos - 1));
+                v_Last = v_End + 1;
+            }
+            else
+            {
+                v_Texts.add(this.info.substring(v_Last ,v_Pos));
+                v_Last = v_End;
+            }
+            
+            v_PSlots.get(v_Match).add(v_SlotNames.size());
+            v_SlotNames.add(v_Match);
+            v_Marks.add(v_IsMark);
+            v_Ranges.add(isRange(this.info ,v_Pos));
+            v_Strs  .add(isString(this.info ,v_Spans ,v_Pos ,v_End));
+            
+            v_Pos = this.info.indexOf(DBCQL.$Placeholder ,v_Last);
+        }
+        v_Texts.add(this.info.substring(v_Last));
+        
+        for (int x=0; x<v_Names.length; x++)
+        {
+            List<Integer> v_List   = v_PSlots.get(x);
+            int []        v_Arr    = new int[v_List.size()];
+            for (int y=0; y<v_Arr.length; y++)
+            {
+                v_Arr[y] = v_List.get(y);
+            }
+            v_Placeholders[x] = new DBCQL_Placeholder(v_Names[x] ,v_Arr);
+        }
+        
+        for (Integer v_Match : v_SlotNames)
+        {
+            v_Slots.add(v_Placeholders[v_Match]);
+        }
+        
+        this.planTexts        = v_Texts.toArray(new String[v_Texts.size()]);
+        this.planSlots        = v_Slots.toArray(new DBCQL_Placeholder[v_Slots.size()]);
+        this.planPlaceholders = v_Placeholders;
+        this.planMarks        = new boolean[v_Marks.size()];
+        this.planRanges       = new boolean[v_Ranges.size()];
+        this.planStrings      = new boolean[v_Strs.size()];
+        for (int x=0; x<this.planMarks.length; x++)
+        {
+            this.planMarks  [x] = v_Marks .get(x);
+            this.planRanges [x] = v_Ranges.get(x);
+            this.planStrings[x] = v_Strs  .get(x);
+        }
+    }
+    
+    
+    
+    /**
+     * 占位符是否在字符串常量中（单引号或双引号包裹的内容）。
+     * 
+     * 独自构成字符串常量的 '#name' 除外，它是按字符串绑定的占位符。
+     * 但在其它字符串常量中的 '#name' ，如 "a '#name' b" ，仍在字符串常量中。
+     * 
+     * 注：字符串常量跨越 <[ ... ]> 动态分段时无法识别。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     * 
+     * @param i_Info   分段CQL
+     * @param i_Spans  字符串常量的区间（见 DBCQL_Lexer.getStringSpans()）
+     * @param i_Pos    占位符#符号的位置
+     * @param i_End    占位符的结束位置（不包含）
+     * @return
+     */
+    private static boolean isString(String i_Info ,List<int []> i_Spans ,int i_Pos ,int i_End)
+    {
+        for (int [] v_Span : i_Spans)
+        {
+            if ( v_Span[0] < i_Pos && i_Pos < v_Span[1] )
+            {
+                return v_Span[0] != i_Pos - 1
+                    || v_Span[1] != i_End + 1
+                    || i_Info.charAt(v_Span[0]) != '\'';
+            }
+            else if ( v_Span[0] > i_Pos )
+            {
+                break;
+            }
+        }
+        
+        return false;
+    }
+    
+    
+    
+    /**
+     * 占位符是否在可变长度关系的范围中，如 -[*1..#depth]-> 、 <-[r:KNOWS*#min..#max]- 。
+     * 
+     * Neo4j不允许范围的上下限为参数，所以这些插槽在参数绑定模式下也须拼接数值。
+     * 
+     * 从占位符的位置向前查找，在遇到 ] ( ) { } 及引号前先遇到 [ ，并且 [ 与占位符之间有 * ，
+     * 同时 [ 之前（忽略空白）为关系的 - 符号时，即为范围中的占位符。
+     * 
+     * 注：范围跨越 <[ ... ]> 动态分段时无法识别。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Info  分段CQL
+     * @param i_Pos   占位符#符号的位置
+     * @return
+     */
+    private static boolean isRange(String i_Info ,int i_Pos)
+    {
+        boolean v_HaveStar = false;
+        
+        for (int x=i_Pos-1; x>=0; x--)
+        {
+            char v_Char = i_Info.charAt(x);
+            
+            if ( v_Char == '*' )
+            {
+                v_HaveStar = true;
+            }
+            else if ( v_Char == '[' )
+            {
+                if ( !v_HaveStar )
+                {
+                    return false;
+                }
+                
+                for (int y=x-1; y>=0; y--)
+                {
+                    if ( !Character.isWhitespace(i_Info.charAt(y)) )
+                    {
+                        return i_Info.charAt(y) == '-';
+                    }
+                }
+                return false;
+            }
+            else if ( v_Char == ']' || v_Char == '(' || v_Char == ')' || v_Char == '{' || v_Char == '}' || v_Char == '\'' || v_Char == '"' )
+            {
+                return false;
+            }
+        }
+        
+        return false;
+    }
+    
+    
+    
+    /**
+     * 渲染计划：占位符插槽之间的文本片段。
+     * 
+     * 元素个数比插槽个数多一个。第N个插槽位于第N个与第N+1个文本片段之间
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public String [] getPlanTexts()
+    {
+        if ( this.planTexts == null )
+        {
+            return new String[] {Help.NVL(this.info)};
+        }
+        return this.planTexts;
+    }
+    
+    
+    
+    /**
+     * 渲染计划：所有占位符。与 getPlaceholders() 的降序顺序一致
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public DBCQL_Placeholder [] getPlanPlaceholders()
+    {
+        return this.planPlaceholders;
+    }
+    
+    
+    
+    /**
+     * 渲染计划：插槽的个数
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public int getSlotSize()
+    {
+        return this.planSlots == null ? 0 : this.planSlots.length;
+    }
+    
+    
+    
+    /**
+     * 渲染计划：插槽对应的占位符
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Slot  插槽下标
+     * @return
+     */
+    public DBCQL_Placeholder getSlotPlaceholder(int i_Slot)
+    {
+        return this.planSlots[i_Slot];
+    }
+    
+    
+    
+    /**
+     * 渲染计划：插槽是否为前后带单引号的占位符，如 '#name'
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Slot  插槽下标
+     * @return
+     */
+    public boolean isSlotMark(int i_Slot)
+    {
+        return this.planMarks[i_Slot];
+    }
+    
+    
+    
+    /**
+     * 渲染计划：插槽是否在可变长度关系的范围中，如 -[*1..#depth]->
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Slot  插槽下标
+     * @return
+     */
+    public boolean isSlotRange(int i_Slot)
+    {
+        return this.planRanges[i_Slot];
+    }
+    
+    
+    
+    /**
+     * 渲染计划：插槽是否在字符串常量中，如 "#name" 、 'Mr #name' 。不包括独自构成字符串常量的 '#name'
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     * 
+     * @param i_Slot  插槽下标
+     * @return
+     */
+    public boolean isSlotString(int i_Slot)
+    {
+        return this.planStrings[i_Slot];
     }
     
     
@@ -0,0 +1,550 @@
+package org.hy.common.xcql;
+
+import java.util.Map;
+import java.util.Set;
+
+
+
+
+/**
+ * 分段CQL一次生成过程中，各插槽的填充数值。
+ * 
+ * 每次生成可执行CQL时，为每个分段CQL构建一个本类的实例，先按占位符填充各插槽的数值，
+ * 最后按渲染计划一次性追加到CQL缓冲区中。
+ * 
+ * 本类的填充方法与原 DBCQLFill 的替换方法一一对应：
+ *   1. fillFirst    对应替换首个占位符
+ *   2. fillAll      对应替换所有相同的占位符
+ *   3. fillAllMark  对应替换所有前后带单引号的占位符（单引号也一同被替换）
+ *   4. fillSpace    对应将占位符替换成空字符串
+ * 
+ * 已填充过的插槽不会被再次填充，等同于原先替换后占位符就不再存在的效果。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  添加：参数绑定模式。插槽保存原始数值，可生成 $name 形式的参数化CQL及参数集合
+ *              v3.0  2026-10-17  添加：生成CQL形状的骨架，配合 DBCQL_Shape 按形状缓存
+ *              v4.0  2026-10-18  修改：参数绑定模式下，字符串常量中的占位符不绑定
+ */
+public class DBCQL_Values
+{
+    /** 插槽的填充类型：未填充，保持占位符原样输出 */
+    private final static byte $Fill_None     = 0;
+    
+    /** 插槽的填充类型：替换数据库关键字后填充 */
+    private final static byte $Fill_Key      = 1;
+    
+    /** 插槽的填充类型：只填充，不替换特殊字符 */
+    private final static byte $Fill_Only     = 2;
+    
+    /** 插槽的填充类型：替换数据库关键字后填充，并且替换占位符前后的单引号 */
+    private final static byte $Fill_KeyMark  = 3;
+    
+    /** 插槽的填充类型：只填充，并且替换占位符前后的单引号 */
+    private final static byte $Fill_OnlyMark = 4;
+    
+    
+    
+    /** 所属的分段CQL */
+    private final DBCQL_Split segment;
+    
+    /** 各插槽的填充数值（原始数值，生成CQL时才转为字符串） */
+    private final Object []   values;
+    
+    /** 各插槽的填充类型 */
+    private final byte []     fills;
+    
+    
+    
+    public DBCQL_Values(DBCQL_Split i_Segment)
+    {
+        this.segment = i_Segment;
+        this.values  = new Object[i_Segment.getSlotSize()];
+        this.fills   = new byte  [i_Segment.getSlotSize()];
+    }
+    
+    
+    
+    /**
+     * 占位符的所有插槽是否均已填充
+     * 
+     * @param i_Placeholder  占位符
+     * @return
+     */
+    public boolean isFilled(DBCQL_Placeholder i_Placeholder)
+    {
+        for (int v_Slot : i_Placeholder.getSlots())
+        {
+            if ( this.fills[v_Slot] == $Fill_None )
+            {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    
+    
+    /**
+     * 填充首个未填充的插槽
+     * 
+     * @param i_Placeholder  占位符
+     * @param i_Value        填充数值
+     * @param i_IsOnly       是否只填充，不替换特殊字符
+     * @return               是否有插槽被填充
+     */
+    public boolean fillFirst(DBCQL_Placeholder i_Placeholder ,Object i_Value ,boolean i_IsOnly)
+    {
+        for (int v_Slot : i_Placeholder.getSlots())
+        {
+            if ( this.fills[v_Slot] == $Fill_None )
+            {
+                this.values[v_Slot] = i_Value;
+                this.fills [v_Slot] = i_IsOnly ? $Fill_Only : $Fill_Key;
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    
+    
+    /**
+     * 填充所有未填充的插槽
+     * 
+     * @param i_Placeholder  占位符
+     * @param i_Value        填充数值
+     * @param i_IsOnly       是否只填充，不替换特殊字符
+     */
+    public void fillAll(DBCQL_Placeholder i_Placeholder ,Object i_Value ,boolean i_IsOnly)
+    {
+        byte v_Fill = i_IsOnly ? $Fill_Only : $Fill_Key;
+        
+        for (int v_Slot : i_Placeholder.getSlots())
+        {
+            if ( this.fills[v_Slot] == $Fill_None )
+            {
+                this.values[v_Slot] = i_Value;
+                this.fills [v_Slot] = v_Fill;
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 填充所有未填充的、前后带单引号的插槽（单引号也一同被替换）
+     * 
+     * @param i_Placeholder  占位符
+     * @param i_Value        填充数值
+     * @param i_IsOnly       是否只填充，不替换特殊字符
+     */
+    public void fillAllMark(DBCQL_Placeholder i_Placeholder ,Object i_Value ,boolean i_IsOnly)
+    {
+        byte v_Fill = i_IsOnly ? $Fill_OnlyMark : $Fill_KeyMark;
+        
+        for (int v_Slot : i_Placeholder.getSlots())
+        {
+            if ( this.fills[v_Slot] == $Fill_None && this.segment.isSlotMark(v_Slot) )
+            {
+                this.values[v_Slot] = i_Value;
+                this.fills [v_Slot] = v_Fill;
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 将所有未填充的插槽填充为空字符串
+     * 
+     * @param i_Placeholder  占位符
+     */
+    public void fillSpace(DBCQL_Placeholder i_Placeholder)
+    {
+        this.fillAll(i_Placeholder ,"" ,true);
+    }
+    
+    
+    
+    /**
+     * 按渲染计划，将分段CQL及填充数值一次性追加到CQL缓冲区中
+     * 
+     * @param io_CQL     CQL缓冲区
+     * @param i_Fill     填充占位符的类（替换数据库关键字）
+     * @param i_DBType   数据库类型
+     */
+    public void toCQL(StringBuilder io_CQL ,DBCQLFill i_Fill ,String i_DBType)
+    {
+        this.toCQL(io_CQL ,null ,null ,i_Fill ,i_DBType);
+    }
+    
+    
+    
+    /**
+     * 按渲染计划，将分段CQL及填充数值一次性追加到CQL缓冲区中
+     * 
+     * 当 io_Params 不为空时为参数绑定模式，以下插槽将生成 $name 形式的参数，数值放入 io_Params 中：
+     *   1. 前后带单引号的占位符，如 '#name'，按字符串绑定；
+     *   2. 不带单引号的占位符，数值为数字或布尔类型时，按原类型绑定；
+     *   3. 填充为NULL值的占位符，绑定为NULL值。
+     * 
+     * 其它插槽（如可变长度关系的范围 -[*1..#depth]-> 、占位符取值条件、不替换数据库关键字的占位符、CQL片段等）仍按原值拼接。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param io_CQL           CQL缓冲区
+     * @param io_Params        参数集合。为NULL时，所有数值均拼接在CQL中
+     * @param i_NotKeyReplace  不替换数据库关键字的占位符。这些占位符不做参数绑定。可为NULL
+     * @param i_Fill           填充占位符的类（替换数据库关键字）
+     * @param i_DBType         数据库类型
+     */
+    public void toCQL(StringBuilder io_CQL ,Map<String ,Object> io_Params ,Set<String> i_NotKeyReplace ,DBCQLFill i_Fill ,String i_DBType)
+    {
+        String [] v_Texts = this.segment.getPlanTexts();
+        
+        io_CQL.append(v_Texts[0]);
+        
+        for (int v_Slot=0; v_Slot<this.fills.length; v_Slot++)
+        {
+            String v_Name = this.segment.getSlotPlaceholder(v_Slot).getName();
+            
+            if ( io_Params != null && this.isBound(v_Slot ,i_NotKeyReplace) )
+            {
+                io_CQL.append('$').append(bind(io_Params ,v_Name ,this.getBindValue(v_Slot)));
+                appendBoundSpace(io_CQL ,v_Texts[v_Slot + 1]);
+            }
+            else
+            {
+                this.toCQL(io_CQL ,v_Slot ,i_Fill ,i_DBType);
+            }
+            
+            io_CQL.append(v_Texts[v_Slot + 1]);
+        }
+    }
+    
+    
+    
+    /**
+     * 按拼接的方式，将一个插槽的填充数值追加到CQL缓冲区中
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param io_CQL    CQL缓冲区
+     * @param i_Slot    插槽下标
+     * @param i_Fill    填充占位符的类（替换数据库关键字）
+     * @param i_DBType  数据库类型
+     */
+    private void toCQL(StringBuilder io_CQL ,int i_Slot ,DBCQLFill i_Fill ,String i_DBType)
+    {
+        boolean v_IsMark = this.segment.isSlotMark(i_Slot);
+        String  v_Name   = this.segment.getSlotPlaceholder(i_Slot).getName();
+        
+        switch ( this.fills[i_Slot] )
+        {
+            case $Fill_Key:
+                if ( v_IsMark )
+                {
+                    io_CQL.append('\'');
+                    i_Fill.fill(io_CQL ,v_Name ,this.values[i_Slot].toString() ,i_DBType);
+                    io_CQL.append('\'');
+                }
+                else
+                {
+                    i_Fill.fill(io_CQL ,v_Name ,this.values[i_Slot].toString() ,i_DBType);
+                }
+                break;
+            
+            case $Fill_Only:
+                if ( v_IsMark )
+                {
+                    io_CQL.append('\'').append(this.values[i_Slot]).append('\'');
+                }
+                else
+                {
+                    io_CQL.append(this.values[i_Slot]);
+                }
+                break;
+            
+            case $Fill_KeyMark:
+                i_Fill.fill(io_CQL ,v_Name ,this.values[i_Slot].toString() ,i_DBType);
+                break;
+            
+            case $Fill_OnlyMark:
+                io_CQL.append(this.values[i_Slot]);
+                break;
+            
+            default:
+                // 未填充的插槽，保持占位符原样输出
+                if ( v_IsMark )
+                {
+                    io_CQL.append('\'').append(DBCQL.$Placeholder).append(v_Name).append('\'');
+                }
+                else
+                {
+                    io_CQL.append(DBCQL.$Placeholder).append(v_Name);
+                }
+                break;
+        }
+    }
+    
+    
+    
+    /**
+     * 参数绑定模式下，插槽是否生成 $name 形式的参数
+     * 
+     *   1. 前后带单引号的占位符，如 '#name'，按字符串绑定；
+     *   2. 不带单引号的占位符，数值为数字或布尔类型时，按原类型绑定；
+     *   3. 填充为NULL值的占位符，绑定为NULL值。
+     * 
+     * 可变长度关系的范围中的占位符（如 -[*1..#depth]-> ）均不绑定，因为Neo4j不允许范围为参数。
+     * 
+     * 字符串常量中的其它占位符（如 "#name" 、 'Mr #name' 、 "a '#name' b" ）均不绑定，因为参数在字符串常量中只是普通文本。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *              v2.0  2026-10-18  修改：字符串常量中的占位符（独自构成字符串常量的 '#name' 除外）不绑定
+     * 
+     * @param i_Slot           插槽下标
+     * @param i_NotKeyReplace  不替换数据库关键字的占位符。这些占位符不做参数绑定。可为NULL
+     * @return
+     */
+    public boolean isBound(int i_Slot ,Set<String> i_NotKeyReplace)
+    {
+        if ( i_NotKeyReplace != null && i_NotKeyReplace.contains(this.segment.getSlotPlaceholder(i_Slot).getName()) )
+        {
+            return false;
+        }
+        else if ( this.segment.isSlotRange(i_Slot) )
+        {
+            // Neo4j不允许可变长度关系的范围为参数，如 -[*1..$depth]->
+            return false;
+        }
+        else if ( this.segment.isSlotString(i_Slot) )
+        {
+            // 字符串常量中的 $name 不是参数，如 "$name" 、 'Mr $name'
+            return false;
+        }
+        
+        switch ( this.fills[i_Slot] )
+        {
+            case $Fill_Key:
+                return this.segment.isSlotMark(i_Slot) || isBindable(this.values[i_Slot]);
+            
+            case $Fill_KeyMark:
+                return true;
+            
+            default:
+                return false;
+        }
+    }
+    
+    
+    
+    /**
+     * 参数绑定模式下，插槽绑定的数值
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Slot  插槽下标
+     * @return
+     */
+    public Object getBindValue(int i_Slot)
+    {
+        if ( this.fills[i_Slot] == $Fill_KeyMark )
+        {
+            // 填充的是NULL值
+            return null;
+        }
+        else if ( this.segment.isSlotMark(i_Slot) )
+        {
+            return this.values[i_Slot].toString();
+        }
+        else
+        {
+            return this.values[i_Slot];
+        }
+    }
+    
+    
+    
+    /**
+     * 参数绑定模式下，本分段生成的CQL文本是否与数值无关，即可按形状缓存。
+     * 
+     * 要求每个插槽要么生成 $name 形式的参数，要么是保持原样输出的非占位符（如 #MI）。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_NotKeyReplace    不替换数据库关键字的占位符。可为NULL
+     * @param i_NotPlaceholders  不是占位符的关键字
+     * @return
+     */
+    public boolean isShapeable(Set<String> i_NotKeyReplace ,Set<String> i_NotPlaceholders)
+    {
+        for (int v_Slot=0; v_Slot<this.fills.length; v_Slot++)
+        {
+            if ( this.isBound(v_Slot ,i_NotKeyReplace) )
+            {
+                continue;
+            }
+            
+            if ( this.fills[v_Slot] == $Fill_None && i_NotPlaceholders.contains(this.segment.getSlotPlaceholder(v_Slot).getName()) )
+            {
+                continue;
+            }
+            
+            return false;
+        }
+        
+        return true;
+    }
+    
+    
+    
+    /**
+     * 生成本分段的CQL形状的骨架：参数插槽输出为 i_Mark 标记，其它插槽保持原样输出。
+     * 
+     * 须先通过 isShapeable() 的判定
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param io_CQL           CQL骨架的缓冲区
+     * @param i_Mark           参数插槽的标记
+     * @param i_NotKeyReplace  不替换数据库关键字的占位符。可为NULL
+     */
+    public void toShape(StringBuilder io_CQL ,char i_Mark ,Set<String> i_NotKeyReplace)
+    {
+        String [] v_Texts = this.segment.getPlanTexts();
+        
+        io_CQL.append(v_Texts[0]);
+        
+        for (int v_Slot=0; v_Slot<this.fills.length; v_Slot++)
+        {
+            if ( this.isBound(v_Slot ,i_NotKeyReplace) )
+            {
+                io_CQL.append(i_Mark);
+                appendBoundSpace(io_CQL ,v_Texts[v_Slot + 1]);
+            }
+            else
+            {
+                this.toCQL(io_CQL ,v_Slot ,null ,null);
+            }
+            
+            io_CQL.append(v_Texts[v_Slot + 1]);
+        }
+    }
+    
+    
+    
+    /**
+     * 参数名称后直接跟随的是关键字等标识符时（如被去除的动态分段两侧的空格），须用空格隔开
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param io_CQL   CQL缓冲区
+     * @param i_Next   参数名称后的文本片段
+     */
+    private static void appendBoundSpace(StringBuilder io_CQL ,String i_Next)
+    {
+        if ( i_Next.isEmpty() || Character.isLetterOrDigit(i_Next.charAt(0)) || i_Next.charAt(0) == '_' )
+        {
+            io_CQL.append(' ');
+        }
+    }
+    
+    
+    
+    /**
+     * 获取：所属的分段CQL
+     */
+    public DBCQL_Split getSegment()
+    {
+        return this.segment;
+    }
+    
+    
+    
+    /**
+     * 不带单引号的占位符，是否可按参数绑定。
+     * 
+     * 只有数字及布尔类型才能确定其为数值，而不是标签、属性名称等CQL片段。
+     * 同时也须是Neo4j驱动可直接转换的类型（如BigDecimal就不可以）。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Value
+     * @return
+     */
+    private static boolean isBindable(Object i_Value)
+    {
+        return i_Value instanceof Integer
+            || i_Value instanceof Long
+            || i_Value instanceof Double
+            || i_Value instanceof Float
+            || i_Value instanceof Short
+            || i_Value instanceof Byte
+            || i_Value instanceof Boolean;
+    }
+    
+    
+    
+    /**
+     * 将数值放入参数集合，并返回参数名称。
+     * 
+     * 参数名称由占位符名称转换而来（非字母、数字的字符替换为下划线）。
+     * 同名参数已有不同的数值时（如动态占位符每次取值均不同），参数名称追加序号以区分。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param io_Params  参数集合
+     * @param i_Name     占位符名称
+     * @param i_Value    数值
+     * @return           参数名称。前缀不包含$符号
+     */
+    public static String bind(Map<String ,Object> io_Params ,String i_Name ,Object i_Value)
+    {
+        StringBuilder v_Key = new StringBuilder(i_Name.length());
+        for (int x=0; x<i_Name.length(); x++)
+        {
+            char v_Char = i_Name.charAt(x);
+            v_Key.append(Character.isLetterOrDigit(v_Char) ? v_Char : '_');
+        }
+        
+        String v_Name  = v_Key.toString();
+        String v_Param = v_Name;
+        int    v_Index = 0;
+        while ( io_Params.containsKey(v_Param) )
+        {
+            Object v_Old = io_Params.get(v_Param);
+            if ( v_Old == null ? i_Value == null : v_Old.equals(i_Value) )
+            {
+                return v_Param;
+            }
+            v_Param = v_Name + "_" + (++v_Index);
+        }
+        
+        io_Params.put(v_Param ,i_Value);
+        return v_Param;
+    }
+    
+}
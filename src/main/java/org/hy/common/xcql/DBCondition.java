@@ -10,9 +10,9 @@ import org.hy.common.PartitionMap;
 import org.hy.common.StringHelp;
 import org.hy.common.xml.log.Logger;
 
+import com.greenpineyu.fel.Expression;
 import com.greenpineyu.fel.FelEngine;
 import com.greenpineyu.fel.FelEngineImpl;
-import com.greenpineyu.fel.context.FelContext;
 import com.greenpineyu.fel.context.MapContext;
 
 
@@ -37,6 +37,8 @@ import com.greenpineyu.fel.context.MapContext;
  * 
  * @author      ZhengWei(HY)
  * @createDate  2023-06-03
+ * @version     v1.0
+ *              v2.0  2026-10-17  添加：Fel条件在设置时预先解析为语法树，判定时使用线程内复用的上下文，不再每次解析文本
  */
 public class DBCondition implements Serializable
 {
@@ -65,6 +67,14 @@ public class DBCondition implements Serializable
     /** 表达式引擎 */
     private static final FelEngine $FelEngine = new FelEngineImpl();
     
+    /**
+     * 线程内复用的Fel上下文。
+     * 
+     * 使用时从线程中取走（置为NULL），用完后清空再放回。
+     * 判定过程中重入时（如函数型占位符内又执行了条件判定），线程中已没有上下文，重入者将使用新建的上下文，互不干扰
+     */
+    private static final ThreadLocal<MapContext> $FelContexts = ThreadLocal.withInitial(MapContext::new);
+    
     
     
     /** 占位符的名称。不包括：冒号。不区分大小写 */
@@ -95,6 +105,15 @@ public class DBCondition implements Serializable
      */
     private PartitionMap<String ,Integer> placeholders;
     
+    /** 占位符名称的数组。与 this.placeholders 的顺序一致 */
+    private String []                     placeholderNames;
+    
+    /** 占位符在Fel上下文中的变量名称。与 this.placeholderNames 一一对应。"点" 原本就是Fel关键字，所以替换为下划线 */
+    private String []                     felNames;
+    
+    /** 预先解析的Fel条件的语法树。不参与序列化，反序列化后首次判定时再解析 */
+    private transient Expression          conditionNode;
+    
     /** 条件满足时的真值。也可以是另一个占位符，但必须以冒号开头。不区分大小写 */
     private String                        trueValue;
     
@@ -423,22 +442,18 @@ public class DBCondition implements Serializable
             return true;
         }
         
-        String v_Placeholder = null;
+        String    v_Placeholder = null;
+        Object [] v_Values      = new Object[this.placeholderNames.length];
         try
         {
-            FelContext v_FelContext = new MapContext();
-            
-            for (String v_Key : this.placeholders.keySet())
+            for (int x=0; x<v_Values.length; x++)
             {
-                v_Placeholder = v_Key;
-                Object v_Value = getValueByMap(v_Placeholder ,i_ConditionValues ,true);
-                
-                v_Placeholder = StringHelp.replaceAll(v_Placeholder ,"." ,"_"); // "点" 原本就是Fel关键字，所以要替换 ZhengWei(HY) Add 2017-05-23
-                
-                v_FelContext.set(v_Placeholder ,v_Value);
+                v_Placeholder = this.placeholderNames[x];
+                v_Values[x]   = getValueByMap(v_Placeholder ,i_ConditionValues ,true);
             }
             
-            return (Boolean) $FelEngine.eval(this.conditionFel ,v_FelContext);
+            v_Placeholder = null;
+            return this.eval(v_Values);
         }
         catch (Exception exce)
         {
@@ -476,22 +491,18 @@ public class DBCondition implements Serializable
             return this.isPass((Map<String ,?>)i_ConditionValues);
         }
         
-        String v_Placeholder = null;
+        String    v_Placeholder = null;
+        Object [] v_Values      = new Object[this.placeholderNames.length];
         try
         {
-            FelContext v_FelContext = new MapContext();
-            
-            for (String v_Key : this.placeholders.keySet())
+            for (int x=0; x<v_Values.length; x++)
             {
-                v_Placeholder = v_Key;
-                Object v_Value = getValueByObject(v_Placeholder ,i_ConditionValues ,true);
-                
-                v_Placeholder = StringHelp.replaceAll(v_Placeholder ,"." ,"_"); // "点" 原本就是Fel关键字，所以要替换 ZhengWei(HY) Add 2017-05-23
-                
-                v_FelContext.set(v_Placeholder ,v_Value);
+                v_Placeholder = this.placeholderNames[x];
+                v_Values[x]   = getValueByObject(v_Placeholder ,i_ConditionValues ,true);
             }
             
-            return (Boolean) $FelEngine.eval(this.conditionFel ,v_FelContext);
+            v_Placeholder = null;
+            return this.eval(v_Values);
         }
         catch (Exception exce)
         {
@@ -501,6 +512,60 @@ public class DBCondition implements Serializable
     
     
     
+    /**
+     * 用预先解析的Fel语法树判定条件。
+     * 
+     * 占位符的数值须在调用前全部取出，使取值过程中的重入不影响本次判定所用的上下文。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Values  各占位符的数值。与 this.felNames 一一对应
+     * @return
+     */
+    private boolean eval(Object [] i_Values)
+    {
+        Expression v_Node    = this.conditionNode;
+        MapContext v_Context = $FelContexts.get();
+        boolean    v_IsOwner = v_Context != null;
+        
+        if ( v_Node == null )
+        {
+            v_Node = $FelEngine.parse(this.conditionFel);
+            this.conditionNode = v_Node;
+        }
+        
+        if ( v_IsOwner )
+        {
+            $FelContexts.set(null);
+        }
+        else
+        {
+            v_Context = new MapContext();
+        }
+        
+        try
+        {
+            for (int x=0; x<i_Values.length; x++)
+            {
+                v_Context.set(this.felNames[x] ,i_Values[x]);
+            }
+            
+            return (Boolean) v_Node.eval(v_Context);
+        }
+        finally
+        {
+            if ( v_IsOwner )
+            {
+                v_Context.clear();
+                $FelContexts.set(v_Context);
+            }
+        }
+    }
+    
+    
+    
     /**
      * 获取某一占位符对应的数值
      * 
@@ -680,20 +745,37 @@ public class DBCondition implements Serializable
      */
     public void setCondition(String i_Condition)
     {
-        this.condition    = i_Condition;
-        this.conditionFel = i_Condition;
-        this.placeholders = null;
+        this.condition        = i_Condition;
+        this.conditionFel     = i_Condition;
+        this.conditionNode    = null;
+        this.placeholders     = null;
+        this.placeholderNames = null;
+        this.felNames         = null;
         
         if ( !Help.isNull(this.condition) )
         {
-            this.placeholders = Help.toReverse(StringHelp.parsePlaceholders(this.condition ,true));
+            this.placeholders     = Help.toReverse(StringHelp.parsePlaceholders(this.condition ,true));
+            this.placeholderNames = this.placeholders.keySet().toArray(new String[this.placeholders.size()]);
+            this.felNames         = new String[this.placeholderNames.length];
             
-            for (String v_Key : this.placeholders.keySet())
+            for (int x=0; x<this.placeholderNames.length; x++)
             {
-                this.conditionFel = StringHelp.replaceAll(this.conditionFel ,DBCQL.$Placeholder + v_Key ,StringHelp.replaceAll(v_Key ,"." ,"_"));
+                // "点" 原本就是Fel关键字，所以要替换 ZhengWei(HY) Add 2017-05-23
+                this.felNames[x]  = StringHelp.replaceAll(this.placeholderNames[x] ,"." ,"_");
+                this.conditionFel = StringHelp.replaceAll(this.conditionFel ,DBCQL.$Placeholder + this.placeholderNames[x] ,this.felNames[x]);
             }
             
             this.conditionFel = StringHelp.replaceAll(this.conditionFel ,$Fel_BlockingUp ,new String[]{""});
+            
+            try
+            {
+                this.conditionNode = $FelEngine.parse(this.conditionFel);
+            }
+            catch (Exception exce)
+            {
+                // 解析异常时，在条件判定时再次解析并抛出异常
+                $Logger.error(exce);
+            }
         }
     }
     
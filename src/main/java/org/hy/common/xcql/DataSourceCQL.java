@@ -1,6 +1,8 @@
 package org.hy.common.xcql;
 
 import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.hy.common.Date;
 import org.hy.common.Help;
@@ -13,6 +15,10 @@ import org.neo4j.driver.GraphDatabase;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.reactive.RxSession;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 
 
@@ -24,6 +30,9 @@ import org.neo4j.driver.SessionConfig;
  * @author      ZhengWei(HY)
  * @createDate  2023-05-31
  * @version     v1.0
+ *              v2.0  2026-10-17  添加：异步会话 getAsyncSession()
+ *              v3.0  2026-10-17  添加：响应式会话 getRxSession()
+ *              v4.0  2026-10-17  修改：各类会话的打开与活动连接数量的统计统一由 openSession() 完成
  */
 public class DataSourceCQL implements Comparable<DataSourceCQL> ,XJavaID ,Serializable
 {
@@ -198,6 +207,151 @@ public class DataSourceCQL implements Comparable<DataSourceCQL> ,XJavaID ,Serial
     
     
     
+    /**
+     * 获取异步的数据库会话。与 getConnection() 共用连接驱动、会话配置，并同样计入活动连接数量。
+     * 
+     * 使用完成后，须通过 closeAsyncSession() 关闭。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @return
+     */
+    public AsyncSession getAsyncSession()
+    {
+        return this.openSession(v_Driver -> v_Driver.asyncSession(this.config));
+    }
+    
+    
+    
+    /**
+     * 关闭异步的数据库会话。关闭完成时，减少活动连接数量
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Session  由 getAsyncSession() 获取的异步会话
+     * @return
+     */
+    public CompletionStage<Void> closeAsyncSession(AsyncSession i_Session)
+    {
+        return i_Session.closeAsync().whenComplete((v_Void ,v_Exce) ->
+        {
+            if ( v_Exce != null )
+            {
+                $Logger.error(v_Exce);
+            }
+            this.connClosed();
+        });
+    }
+    
+    
+    
+    /**
+     * 获取响应式的数据库会话。与 getConnection() 共用连接驱动、会话配置，并同样计入活动连接数量。
+     * 
+     * 使用完成后，须通过 closeRxSession() 关闭。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @return
+     */
+    public RxSession getRxSession()
+    {
+        return this.openSession(v_Driver -> v_Driver.rxSession(this.config));
+    }
+    
+    
+    
+    /**
+     * 打开一个数据库会话，并计入活动连接数量。首次打开时初始化连接驱动
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Opener  按连接驱动打开会话的方法
+     * @return
+     */
+    private synchronized <S> S openSession(Function<Driver ,S> i_Opener)
+    {
+        if ( this.config == null )
+        {
+            this.initConnection();
+        }
+        
+        try
+        {
+            S v_Session = i_Opener.apply(this.driver);
+            
+            this.connActiveCount++;
+            if ( this.connActiveCount > this.connMaxUseCount )
+            {
+                this.connMaxUseCount = this.connActiveCount;
+            }
+            this.isException  = false;
+            this.connLastTime = new Date();
+            
+            return v_Session;
+        }
+        catch (Exception exce)
+        {
+            this.isException = true;
+            $Logger.error(exce);
+            throw exce;
+        }
+    }
+    
+    
+    
+    /**
+     * 关闭响应式的数据库会话。关闭完成时，减少活动连接数量
+     * 
+     * 响应式会话的 close() 只有被订阅后才执行，这里直接订阅它。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Session  由 getRxSession() 获取的响应式会话
+     */
+    public void closeRxSession(RxSession i_Session)
+    {
+        i_Session.<Void>close().subscribe(new Subscriber<Void>()
+        {
+            @Override
+            public void onSubscribe(Subscription i_Subscription)
+            {
+                i_Subscription.request(Long.MAX_VALUE);
+            }
+            
+            @Override
+            public void onNext(Void i_Void)
+            {
+                // 关闭会话时没有数据
+            }
+            
+            @Override
+            public void onError(Throwable i_Exce)
+            {
+                $Logger.error(i_Exce);
+                connClosed();
+            }
+            
+            @Override
+            public void onComplete()
+            {
+                connClosed();
+            }
+        });
+    }
+    
+    
+    
     /**
      * 获取：最后一次正常连接的时间
      */
@@ -2,10 +2,12 @@ package org.hy.common.xcql;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.hy.common.AnalyseTotal;
 import org.hy.common.Busway;
@@ -19,6 +21,7 @@ import org.hy.common.TablePartitionBusway;
 import org.hy.common.XJavaID;
 import org.hy.common.xml.log.Logger;
 import org.hy.common.xml.plugins.XRule;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.Result;
 
 
@@ -47,6 +50,16 @@ import org.neo4j.driver.Result;
  * @createDate  2023-06-02
  * @version     v1.0
  *              v2.0 2023-10-18  添加：是否附加触发额外参数 triggerParams
+ *              v3.0 2026-10-17  添加：参数绑定模式 paramBinding
+ *              v4.0 2026-10-17  添加：触发器额外参数由按Java类预先编译的提取器生成
+ *              v5.0 2026-10-17  添加：键集分页查询 queryXCQLDataByKeyset()
+ *              v6.0 2026-10-17  添加：流式查询 queryStream()
+ *              v7.0 2026-10-17  添加：异步查询 queryAsync() 和异步执行 executeUpdateAsync()
+ *              v8.0 2026-10-17  添加：响应式（有背压）查询 queryPublisher()
+ *              v9.0 2026-10-17  添加：查询结果的缓存 cache 。写操作执行成功后，按标签失效相关的缓存
+ *              v10.0 2026-10-17  添加：并发的相同查询的合并执行 singleFlight
+ *              v11.0 2026-10-18  修改：不能确定是否有写操作的XCQL执行成功后，所有的缓存失效。更换缓存时注销原缓存
+ *              v12.0 2026-10-18  修改：外部传入数据库连接的写操作在事务中执行成功时，事务提交后再次失效相关的缓存
  */
 public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaID
 {
@@ -230,6 +243,27 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
      */
     private XRule                          afterRule;
     
+    /**
+     * 查询结果的缓存（读穿透）。为NULL时不缓存（默认状态）
+     * 
+     * 注：只用于查询返回的XCQL。
+     */
+    private XCQLCache                      cache;
+    
+    /**
+     * 是否合并执行并发的相同查询（Single-Flight）。默认为：false
+     * 
+     * 多个线程同时按相同的数据源、可执行CQL及参数查询时，只访问一次数据库，并共享查询结果。
+     * 
+     * 注：只用于查询返回的XCQL。
+     */
+    private boolean                        singleFlight;
+    
+    /**
+     * 合并执行时，共享查询结果的调用者是否获取查询结果的副本（见 XCQLData.copy()）。默认为：false，即共享同一查询结果
+     */
+    private boolean                        singleFlightCopy;
+    
     
     
     public XCQL()
@@ -246,6 +280,9 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
         this.comment            = null;
         this.beforeRule         = null;
         this.afterRule          = null;
+        this.cache              = null;
+        this.singleFlight       = false;
+        this.singleFlightCopy   = false;
         this.error              = (XCQLError) xjavaGetObject($XCQLErrors);
     }
     
@@ -320,6 +357,11 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
     {
         super.reset();
         
+        if ( this.cache != null )
+        {
+            this.cache.reset();
+        }
+        
         if ( this.isTriggers() )
         {
             for (XCQLTriggerInfo v_XCQLTrigger : this.trigger.getXcqls())
@@ -364,6 +406,81 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
     protected void success(Date i_ExecuteTime ,double i_TimeLen ,int i_SumCount ,long i_IORowCount)
     {
         super.success(i_ExecuteTime ,i_TimeLen ,i_SumCount ,i_IORowCount);
+        
+        // 写操作执行成功后，与其标签有交集的查询结果缓存失效
+        Set<String> v_Labels = this.getInvalidateLabels();
+        if ( v_Labels != null )
+        {
+            XCQLCache.invalidates(v_Labels);
+        }
+    }
+    
+    
+    
+    /**
+     * 外部传入数据库连接时，数据处理成功时的统计
+     * 
+     * 写操作在外部开启的事务中执行的，在事务提交前，其它的查询仍可能读到旧数据并缓存。
+     * 所以除了执行成功时失效相关的缓存外，还要在事务提交后（见 Connection.beginTransaction().commit()）再次失效。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     * @param i_ExecuteTime  执行时间
+     * @param i_TimeLen      用时时长（单位：毫秒）
+     * @param i_SumCount     成功次数
+     * @param i_IORowCount   读写行数
+     * @param i_Conn         外部传入的数据库连接。可为NULL
+     */
+    protected void success(Date i_ExecuteTime ,double i_TimeLen ,int i_SumCount ,long i_IORowCount ,Connection i_Conn)
+    {
+        this.success(i_ExecuteTime ,i_TimeLen ,i_SumCount ,i_IORowCount);
+        
+        if ( i_Conn != null )
+        {
+            Set<String> v_Labels = this.getInvalidateLabels();
+            if ( v_Labels != null )
+            {
+                i_Conn.invalidatesOnCommit(v_Labels);
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 获取写操作执行成功后，须失效的查询结果缓存的标签
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     * @return  非写操作时返回NULL。空集合表示可能涉及所有的标签
+     */
+    private Set<String> getInvalidateLabels()
+    {
+        if ( this.content == null )
+        {
+            return null;
+        }
+        
+        int v_CQLType = this.content.getCQLType();
+        if ( v_CQLType == DBCQL.$DBCQL_TYPE_CREATE
+          || v_CQLType == DBCQL.$DBCQL_TYPE_SET
+          || v_CQLType == DBCQL.$DBCQL_TYPE_DELETE )
+        {
+            return this.content.getLabels();
+        }
+        else if ( v_CQLType == DBCQL.$DBCQL_TYPE_UNKNOWN )
+        {
+            // 不能确定是否有写操作的（如调用过程），按可能涉及所有的标签失效
+            return Collections.emptySet();
+        }
+        else
+        {
+            return null;
+        }
     }
     
     
@@ -1064,6 +1181,276 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
         return XCQLOPQuery.queryXCQLData(this ,i_CQL ,i_StartRow ,i_PagePerSize);
     }
     
+    
+    
+    /**
+     * 占位符CQL的查询。键集分页查询（见 XCQLKeyset）。 -- 无填充值的
+     * 
+     * 与游标分页查询相比，无论翻到第几页，数据库端都只须从上一页最后一条记录的排序键之后开始读取。
+     * 下一页的续页标记，通过返回结果的 XCQLData.getNextToken() 获取，为NULL时表示没有下一页。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_SortKey          排序键。须是唯一的，如 n.id
+     * @param i_Token            续页标记。为NULL时表示首页
+     * @param i_PagePerSize      每页显示多少条数据。须大于0
+     * @return
+     */
+    public XCQLData queryXCQLDataByKeyset(String i_SortKey ,String i_Token ,int i_PagePerSize)
+    {
+        return XCQLOPQuery.queryXCQLDataByKeyset(this ,i_SortKey ,i_Token ,i_PagePerSize);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的查询。键集分页查询（见 XCQLKeyset）。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * 与游标分页查询相比，无论翻到第几页，数据库端都只须从上一页最后一条记录的排序键之后开始读取。
+     * 下一页的续页标记，通过返回结果的 XCQLData.getNextToken() 获取，为NULL时表示没有下一页。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @param i_SortKey          排序键。须是唯一的，如 n.id
+     * @param i_Token            续页标记。为NULL时表示首页
+     * @param i_PagePerSize      每页显示多少条数据。须大于0
+     * @return
+     */
+    public XCQLData queryXCQLDataByKeyset(Map<String ,?> i_Values ,String i_SortKey ,String i_Token ,int i_PagePerSize)
+    {
+        return XCQLOPQuery.queryXCQLDataByKeyset(this ,i_Values ,i_SortKey ,i_Token ,i_PagePerSize);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的查询。键集分页查询（见 XCQLKeyset）。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * 与游标分页查询相比，无论翻到第几页，数据库端都只须从上一页最后一条记录的排序键之后开始读取。
+     * 下一页的续页标记，通过返回结果的 XCQLData.getNextToken() 获取，为NULL时表示没有下一页。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Obj              占位符CQL的填充对象。
+     * @param i_SortKey          排序键。须是唯一的，如 n.id
+     * @param i_Token            续页标记。为NULL时表示首页
+     * @param i_PagePerSize      每页显示多少条数据。须大于0
+     * @return
+     */
+    public XCQLData queryXCQLDataByKeyset(Object i_Obj ,String i_SortKey ,String i_Token ,int i_PagePerSize)
+    {
+        return XCQLOPQuery.queryXCQLDataByKeyset(this ,i_Obj ,i_SortKey ,i_Token ,i_PagePerSize);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的流式查询。 -- 无填充值的
+     * 
+     * 按记录到达的顺序，逐条转化为行级对象（行级对象按 row、cfill 转化），内存占用不随结果集的大小而增长。
+     * 返回的 XCQLStream 可直接遍历，也可通过 stream() 转为 java.util.stream.Stream。
+     * 在它关闭之前，数据库连接一直保持打开，所以须用 try-with-resources 或在 finally 中关闭。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public XCQLStream queryStream()
+    {
+        return XCQLOPQuery.queryStream(this);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的流式查询。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集逐条转化为Java实例对象返回
+     * 
+     * 按记录到达的顺序，逐条转化为行级对象（行级对象按 row、cfill 转化），内存占用不随结果集的大小而增长。
+     * 返回的 XCQLStream 可直接遍历，也可通过 stream() 转为 java.util.stream.Stream。
+     * 在它关闭之前，数据库连接一直保持打开，所以须用 try-with-resources 或在 finally 中关闭。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @return
+     */
+    public XCQLStream queryStream(Map<String ,?> i_Values)
+    {
+        return XCQLOPQuery.queryStream(this ,i_Values);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的流式查询。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集逐条转化为Java实例对象返回
+     * 
+     * 按记录到达的顺序，逐条转化为行级对象（行级对象按 row、cfill 转化），内存占用不随结果集的大小而增长。
+     * 返回的 XCQLStream 可直接遍历，也可通过 stream() 转为 java.util.stream.Stream。
+     * 在它关闭之前，数据库连接一直保持打开，所以须用 try-with-resources 或在 finally 中关闭。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Obj              占位符CQL的填充对象。
+     * @return
+     */
+    public XCQLStream queryStream(Object i_Obj)
+    {
+        return XCQLOPQuery.queryStream(this ,i_Obj);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的响应式（有背压）查询。 -- 无填充值的
+     * 
+     * 返回 org.reactivestreams.Publisher，可直接用于 Reactor、RxJava、Spring WebFlux 等响应式框架。
+     * 每次订阅时才执行查询，下游请求多少行才从数据库端读取多少条记录，行级对象按 row、cfill 转化。
+     * 查询完成、异常或取消订阅时，立即关闭响应式会话。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public XCQLPublisher queryPublisher()
+    {
+        return XCQLOPQuery.queryPublisher(this);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的响应式（有背压）查询。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 订阅时提交数据库执行CQL，将数据库结果集按下游的请求逐条转化为Java实例对象发布
+     * 
+     * 每次订阅时才执行查询，下游请求多少行才从数据库端读取多少条记录，行级对象按 row、cfill 转化。
+     * 查询完成、异常或取消订阅时，立即关闭响应式会话。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @return
+     */
+    public XCQLPublisher queryPublisher(Map<String ,?> i_Values)
+    {
+        return XCQLOPQuery.queryPublisher(this ,i_Values);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的响应式（有背压）查询。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 订阅时提交数据库执行CQL，将数据库结果集按下游的请求逐条转化为Java实例对象发布
+     * 
+     * 每次订阅时才执行查询，下游请求多少行才从数据库端读取多少条记录，行级对象按 row、cfill 转化。
+     * 查询完成、异常或取消订阅时，立即关闭响应式会话。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Obj              占位符CQL的填充对象。
+     * @return
+     */
+    public XCQLPublisher queryPublisher(Object i_Obj)
+    {
+        return XCQLOPQuery.queryPublisher(this ,i_Obj);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的异步查询。 -- 无填充值的
+     * 
+     * 使用Neo4j驱动的异步会话，调用线程不等待数据库的往返。统计、触发器、异常日志与同步的方法相同。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return                   查询结果的 CompletionStage。异常时以 CompletionException 包装 RuntimeException 异常的方式完成
+     */
+    public CompletionStage<XCQLData> queryAsync()
+    {
+        return XCQLOPAsync.queryXCQLDataAsync(this);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的异步查询。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * 使用Neo4j驱动的异步会话，调用线程不等待数据库的往返。统计、触发器、异常日志与同步的方法相同。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @return                   查询结果的 CompletionStage。异常时以 CompletionException 包装 RuntimeException 异常的方式完成
+     */
+    public CompletionStage<XCQLData> queryAsync(Map<String ,?> i_Values)
+    {
+        return XCQLOPAsync.queryXCQLDataAsync(this ,i_Values);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的异步查询。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * 使用Neo4j驱动的异步会话，调用线程不等待数据库的往返。统计、触发器、异常日志与同步的方法相同。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Obj              占位符CQL的填充对象。
+     * @return                   查询结果的 CompletionStage。异常时以 CompletionException 包装 RuntimeException 异常的方式完成
+     */
+    public CompletionStage<XCQLData> queryAsync(Object i_Obj)
+    {
+        return XCQLOPAsync.queryXCQLDataAsync(this ,i_Obj);
+    }
+    
 
     
     /**
@@ -1513,6 +1900,66 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
     
     
     
+    /**
+     * 占位符CQL的Create\Set\Delete语句的异步执行。 -- 无填充值的
+     * 
+     * 使用Neo4j驱动的异步会话，调用线程不等待数据库的往返。统计、触发器、异常日志与同步的方法相同。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return                   返回语句影响数量的 CompletionStage。异常时以 CompletionException 包装 RuntimeException 异常的方式完成
+     */
+    public CompletionStage<Integer> executeUpdateAsync()
+    {
+        return XCQLOPAsync.executeUpdateAsync(this);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的Create\Set\Delete语句的异步执行。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 
+     * 使用Neo4j驱动的异步会话，调用线程不等待数据库的往返。统计、触发器、异常日志与同步的方法相同。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @return                   返回语句影响数量的 CompletionStage。异常时以 CompletionException 包装 RuntimeException 异常的方式完成
+     */
+    public CompletionStage<Integer> executeUpdateAsync(Map<String ,?> i_Values)
+    {
+        return XCQLOPAsync.executeUpdateAsync(this ,i_Values);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的Create\Set\Delete语句的异步执行。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 
+     * 使用Neo4j驱动的异步会话，调用线程不等待数据库的往返。统计、触发器、异常日志与同步的方法相同。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Obj              占位符CQL的填充对象。
+     * @return                   返回语句影响数量的 CompletionStage。异常时以 CompletionException 包装 RuntimeException 异常的方式完成
+     */
+    public CompletionStage<Integer> executeUpdateAsync(Object i_Obj)
+    {
+        return XCQLOPAsync.executeUpdateAsync(this ,i_Obj);
+    }
+    
+    
+    
     /**
      * 常规Insert语句与Update语句的执行。
      * 
@@ -1938,6 +2385,43 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
     
     
     
+    /**
+     * 获取：是否启用参数绑定模式。
+     * 
+     * 启用后，占位符将改写为 $name 参数，数值通过 Connection.run(String ,Map) 传递给Neo4j，
+     * 同一XCQL生成的CQL文本保持稳定，Neo4j可复用其执行计划缓存。
+     * 
+     * 默认为：false，即数值直接拼接在CQL中。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public boolean isParamBinding()
+    {
+        return this.content.isParamBinding();
+    }
+    
+    
+    
+    /**
+     * 设置：是否启用参数绑定模式。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_ParamBinding
+     */
+    public void setParamBinding(boolean i_ParamBinding)
+    {
+        this.content.setParamBinding(i_ParamBinding);
+    }
+    
+    
+    
     public DBCQL getContentDB()
     {
         return this.content;
@@ -2340,6 +2824,7 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
      * @author      ZhengWei(HY)
      * @createDate  2023-10-17
      * @version     v1.0
+     *              v2.0  2026-10-17  修改：使用按Java类预先编译的提取器 DBCQL_Extractor，替代每次反射的 Help.toMap()
      *
      * @param i_ExecuteType  触发源的执行方式
      * @return
@@ -2354,7 +2839,8 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
             {
                 try
                 {
-                    v_Params = Help.toMap(i_XSQLParam ,null ,true ,false ,true);
+                    // 按Java类预先编译的提取器，并为下面的4个触发参数预留空间  ZhengWei(HY) Edit 2026-10-17
+                    v_Params = DBCQL_Extractor.getInstance(i_XSQLParam.getClass()).toMap(i_XSQLParam ,4);
                 }
                 catch (Exception e)
                 {
@@ -2396,7 +2882,7 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
         
         if ( this.triggerParams )
         {
-            v_Params = new HashMap<String ,Object>();
+            v_Params = new HashMap<String ,Object>(((Help.isNull(i_XSQLParam) ? 0 : i_XSQLParam.size()) + 4) * 4 / 3 + 1);
             
             if ( !Help.isNull(i_XSQLParam) )
             {
@@ -2601,6 +3087,52 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
     
     
     
+    /**
+     * 执行CQL异常时的统一处理方法（参数绑定模式的CQL查询）
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Query
+     * @param i_Exce
+     * @param i_XCQL
+     */
+    protected static void erroring(Query i_Query ,Exception i_Exce ,XCQL i_XCQL)
+    {
+        erroring(toLog(i_Query) ,i_Exce ,i_XCQL);
+    }
+    
+    
+    
+    /**
+     * CQL查询的日志文本。有参数时，在CQL文本后追加参数信息
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Query
+     * @return
+     */
+    protected static String toLog(Query i_Query)
+    {
+        if ( i_Query == null )
+        {
+            return null;
+        }
+        else if ( i_Query.parameters().isEmpty() )
+        {
+            return i_Query.text();
+        }
+        else
+        {
+            return i_Query.text() + "\n-- Params: " + i_Query.parameters();
+        }
+    }
+    
+    
+    
     /**
      * 获取：可自行定制的XCQL异常处理机制
      */
@@ -2623,6 +3155,24 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
     
     
     
+    /**
+     * 执行之后的日志（参数绑定模式的CQL查询）。
+     * 
+     * 只记录CQL文本，不记录参数，使同一XCQL的执行日志保持相同的CQL文本
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Query
+     */
+    protected void log(Query i_Query)
+    {
+        this.log(i_Query.text());
+    }
+    
+    
+    
     /**
      * 执行之后的日志。（在CQL语法成功执行之后，在this.result.getDatas(...)方法之前执行）
      * 
@@ -2729,6 +3279,108 @@ public final class XCQL extends AnalyseTotal implements Comparable<XCQL> ,XJavaI
     
     
     
+    /**
+     * 获取：查询结果的缓存（读穿透）。为NULL时不缓存（默认状态）
+     * 
+     * 注：只用于查询返回的XCQL。
+     */
+    public XCQLCache getCache()
+    {
+        return cache;
+    }
+    
+    
+    
+    /**
+     * 设置：查询结果的缓存（读穿透）。为NULL时不缓存（默认状态）
+     * 
+     * 注：只用于查询返回的XCQL。
+     * 
+     * @param i_Cache
+     */
+    public void setCache(XCQLCache i_Cache)
+    {
+        XCQLCache.unregister(this.cache);
+        this.cache = i_Cache;
+        XCQLCache.register(i_Cache);
+    }
+    
+    
+    
+    /**
+     * 获取：查询结果的缓存的命中次数。没有缓存时为 0
+     * 
+     * 与 getRequestCount() 等统计数据相互独立：命中缓存时，不再统计请求次数与成功次数。
+     */
+    public long getCacheHitCount()
+    {
+        return this.cache == null ? 0L : this.cache.getHitCount();
+    }
+    
+    
+    
+    /**
+     * 获取：查询结果的缓存的未命中次数。没有缓存时为 0
+     */
+    public long getCacheMissCount()
+    {
+        return this.cache == null ? 0L : this.cache.getMissCount();
+    }
+    
+    
+    
+    /**
+     * 获取：是否合并执行并发的相同查询（Single-Flight）。默认为：false
+     * 
+     * 多个线程同时按相同的数据源、可执行CQL及参数查询时，只访问一次数据库，并共享查询结果。
+     * 
+     * 注：只用于查询返回的XCQL。
+     */
+    public boolean isSingleFlight()
+    {
+        return singleFlight;
+    }
+    
+    
+    
+    /**
+     * 设置：是否合并执行并发的相同查询（Single-Flight）。默认为：false
+     * 
+     * 多个线程同时按相同的数据源、可执行CQL及参数查询时，只访问一次数据库，并共享查询结果。
+     * 
+     * 注：只用于查询返回的XCQL。
+     * 
+     * @param i_SingleFlight
+     */
+    public void setSingleFlight(boolean i_SingleFlight)
+    {
+        this.singleFlight = i_SingleFlight;
+    }
+    
+    
+    
+    /**
+     * 获取：合并执行时，共享查询结果的调用者是否获取查询结果的副本（见 XCQLData.copy()）。默认为：false
+     */
+    public boolean isSingleFlightCopy()
+    {
+        return singleFlightCopy;
+    }
+    
+    
+    
+    /**
+     * 设置：合并执行时，共享查询结果的调用者是否获取查询结果的副本（见 XCQLData.copy()）。默认为：false
+     * 
+     * @param i_SingleFlightCopy
+     */
+    public void setSingleFlightCopy(boolean i_SingleFlightCopy)
+    {
+        this.singleFlightCopy = i_SingleFlightCopy;
+    }
+    
+    
+    
     /**
      * 为规则解释器添加默认的包名称及引用类信息
      * 
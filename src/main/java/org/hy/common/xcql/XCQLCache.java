@@ -0,0 +1,517 @@
+package org.hy.common.xcql;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.driver.Query;
+
+
+
+
+
+/**
+ * 查询结果的缓存（读穿透）。配置在XCQL上，同一XCQL按相同的可执行CQL及参数（及分页）查询时，直接返回缓存的结果。
+ * 
+ *   1. 缓存的键为结果集的转换规则、数据源、可执行CQL的文本、参数集合（参数绑定模式时）及游标分页的开始行号与每页数量。
+ *      同一缓存可被多个XCQL共用，转换规则或数据源不同的XCQL（均按对象的身份比较）不共享查询结果；
+ *   2. 按最近最少使用（LRU）淘汰。同时限制缓存的个数 maxSize 与总权重 maxWeight（权重按行数 × 列数估算）；
+ *   3. 按存活时长 timeToLive 过期；
+ *   4. 每个缓存记录其占位符CQL涉及的节点标签与关系类型（DBCQL.getLabels()）。
+ *      CREATE（含MERGE）、SET、DELETE类型的XCQL执行成功后，与其标签（DBCQL.getLabels()）有交集的缓存失效。空的标签集合表示可能涉及所有的标签。
+ *      写操作在外部传入的数据库连接开启的事务中执行的，事务提交后再次失效（见 Connection.beginTransaction()）。
+ *      不能确定是否有写操作的XCQL（如调用过程 CALL xxx()）执行成功后，所有的缓存失效；
+ *   5. 查询执行前记录缓存的失效代数 getGeneration()，执行期间有失效发生时（代数变化），不缓存本次的查询结果，防止缓存失效前读到的旧数据。
+ * 
+ * 注1：只缓存通过数据源（DataSourceCQL）执行的查询。外部传入数据库连接（Connection）的查询可能在事务中，不缓存。
+ * 注2：缓存的结果被多个调用者共享，调用者不应修改查询返回的结果。
+ * 注3：命中缓存时，不再统计XCQL的执行次数与用时（AnalyseTotal），而是统计命中次数 getHitCount() 。
+ * 
+ * 配置举例：
+ *   <xcql id="XCQL_Query_Dashboard">
+ *       <cache class="org.hy.common.xcql.XCQLCache">
+ *           <maxSize>500</maxSize>
+ *           <timeToLive>60000</timeToLive>
+ *       </cache>
+ *       ...
+ *   </xcql>
+ * 
+ * 线程安全。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-18  添加：失效代数 generation ，执行期间有失效发生时不缓存查询结果。更换缓存时注销原缓存
+ *              v3.0  2026-10-18  修改：缓存的键添加结果集的转换规则与数据源，被多个XCQL共用时不再错误地共享查询结果
+ */
+public class XCQLCache
+{
+    
+    /** 所有被XCQL使用的缓存。用于写操作时按标签统一失效。Map.value 为使用此缓存的XCQL的个数 */
+    private static final Map<XCQLCache ,Integer> $Caches = new ConcurrentHashMap<XCQLCache ,Integer>();
+    
+    
+    
+    /** 缓存。按访问顺序排序，首个元素即为最近最少使用的 */
+    private final LinkedHashMap<XCQLCacheKey ,XCQLCacheValue> datas;
+    
+    /** 最大缓存个数。小于等于0时不限制。默认为：1000 */
+    private int                                               maxSize;
+    
+    /** 最大总权重（行数 × 列数的总和）。小于等于0时不限制。默认为：0 */
+    private long                                              maxWeight;
+    
+    /** 存活时长（单位：毫秒）。小于等于0时永不过期。默认为：60秒 */
+    private long                                              timeToLive;
+    
+    /** 当前的总权重 */
+    private long                                              weight;
+    
+    /** 命中次数 */
+    private long                                              hitCount;
+    
+    /** 未命中次数 */
+    private long                                              missCount;
+    
+    /** 因超过缓存个数、总权重或存活时长而淘汰的次数 */
+    private long                                              evictionCount;
+    
+    /** 因写操作而失效的次数 */
+    private long                                              invalidateCount;
+    
+    /** 失效代数。每次失效（或清空）时加一 */
+    private long                                              generation;
+    
+    
+    
+    public XCQLCache()
+    {
+        this.datas      = new LinkedHashMap<XCQLCacheKey ,XCQLCacheValue>(16 ,0.75F ,true);
+        this.maxSize    = 1000;
+        this.maxWeight  = 0L;
+        this.timeToLive = 60 * 1000L;
+        this.weight     = 0L;
+    }
+    
+    
+    
+    /**
+     * 登记被XCQL使用的缓存。由 XCQL.setCache() 调用
+     * 
+     * @param i_Cache
+     */
+    static void register(XCQLCache i_Cache)
+    {
+        if ( i_Cache != null )
+        {
+            $Caches.merge(i_Cache ,1 ,Integer::sum);
+        }
+    }
+    
+    
+    
+    /**
+     * 注销被XCQL使用的缓存。由 XCQL.setCache() 更换缓存时调用。没有其它XCQL使用时，不再参与写操作时的统一失效
+     * 
+     * @param i_Cache
+     */
+    static void unregister(XCQLCache i_Cache)
+    {
+        if ( i_Cache != null )
+        {
+            $Caches.computeIfPresent(i_Cache ,(v_Cache ,v_Count) -> v_Count <= 1 ? null : v_Count - 1);
+        }
+    }
+    
+    
+    
+    /**
+     * 所有缓存中，与标签有交集的缓存失效。由写操作的XCQL执行成功后调用
+     * 
+     * @param i_Labels  写操作涉及的节点标签与关系类型。空集合表示可能涉及所有的标签
+     * @return          失效的缓存个数
+     */
+    public static int invalidates(Set<String> i_Labels)
+    {
+        int v_Count = 0;
+        for (XCQLCache v_Cache : $Caches.keySet())
+        {
+            v_Count += v_Cache.invalidate(i_Labels);
+        }
+        return v_Count;
+    }
+    
+    
+    
+    /**
+     * 获取缓存的查询结果。未命中或已过期时返回NULL
+     * 
+     * @param i_Result       结果集的转换规则
+     * @param i_DSCQL        数据源
+     * @param i_Query        可执行的CQL
+     * @param i_StartRow     开始读取的行号。非分页查询时为 0
+     * @param i_PagePerSize  每页显示多少条数据。非分页查询时为 0
+     * @return
+     */
+    public synchronized XCQLData get(XCQLResult i_Result ,DataSourceCQL i_DSCQL ,Query i_Query ,int i_StartRow ,int i_PagePerSize)
+    {
+        XCQLCacheKey   v_Key   = new XCQLCacheKey(i_Result ,i_DSCQL ,i_Query ,i_StartRow ,i_PagePerSize);
+        XCQLCacheValue v_Value = this.datas.get(v_Key);
+        
+        if ( v_Value == null )
+        {
+            this.missCount++;
+            return null;
+        }
+        
+        if ( v_Value.isExpired(System.currentTimeMillis()) )
+        {
+            this.remove(v_Key);
+            this.evictionCount++;
+            this.missCount++;
+            return null;
+        }
+        
+        this.hitCount++;
+        return v_Value.data;
+    }
+    
+    
+    
+    /**
+     * 获取：失效代数。查询执行前获取，缓存查询结果时 put() 传入
+     */
+    public synchronized long getGeneration()
+    {
+        return this.generation;
+    }
+    
+    
+    
+    /**
+     * 缓存查询结果。超过缓存个数或总权重时，淘汰最近最少使用的。
+     * 
+     * 查询执行期间有失效发生时（失效代数与查询执行前的不同），查询结果可能是失效前的旧数据，不缓存。
+     * 
+     * @param i_Result       结果集的转换规则
+     * @param i_DSCQL        数据源
+     * @param i_Query        可执行的CQL
+     * @param i_StartRow     开始读取的行号。非分页查询时为 0
+     * @param i_PagePerSize  每页显示多少条数据。非分页查询时为 0
+     * @param i_Data         查询结果
+     * @param i_Labels       查询涉及的节点标签与关系类型
+     * @param i_Generation   查询执行前的失效代数（见 getGeneration()）
+     */
+    public synchronized void put(XCQLResult i_Result ,DataSourceCQL i_DSCQL ,Query i_Query ,int i_StartRow ,int i_PagePerSize ,XCQLData i_Data ,Set<String> i_Labels ,long i_Generation)
+    {
+        if ( i_Query == null || i_Data == null || i_Generation != this.generation )
+        {
+            return;
+        }
+        
+        long         v_Weight = Math.max(i_Data.getRowCount() ,1L) * Math.max(i_Data.getColCount() ,1);
+        long         v_Expire = this.timeToLive > 0 ? System.currentTimeMillis() + this.timeToLive : Long.MAX_VALUE;
+        XCQLCacheKey v_Key    = new XCQLCacheKey(i_Result ,i_DSCQL ,i_Query ,i_StartRow ,i_PagePerSize);
+        
+        if ( this.maxWeight > 0 && v_Weight > this.maxWeight )
+        {
+            // 单个结果就超过总权重的，不缓存
+            return;
+        }
+        
+        this.remove(v_Key);
+        this.datas.put(v_Key ,new XCQLCacheValue(i_Data ,v_Expire ,v_Weight ,i_Labels));
+        this.weight += v_Weight;
+        
+        Iterator<Map.Entry<XCQLCacheKey ,XCQLCacheValue>> v_Iter = this.datas.entrySet().iterator();
+        while ( v_Iter.hasNext()
+            && ((this.maxSize   > 0 && this.datas.size() > this.maxSize)
+             || (this.maxWeight > 0 && this.weight       > this.maxWeight)) )
+        {
+            XCQLCacheValue v_Eldest = v_Iter.next().getValue();
+            v_Iter.remove();
+            this.weight -= v_Eldest.weight;
+            this.evictionCount++;
+        }
+    }
+    
+    
+    
+    /**
+     * 与标签有交集的缓存失效
+     * 
+     * @param i_Labels  写操作涉及的节点标签与关系类型。空集合表示可能涉及所有的标签
+     * @return          失效的缓存个数
+     */
+    public synchronized int invalidate(Set<String> i_Labels)
+    {
+        int v_Count = 0;
+        
+        // 执行中的查询的结果，在失效前读取的，不再缓存
+        this.generation++;
+        
+        Iterator<XCQLCacheValue> v_Iter = this.datas.values().iterator();
+        while ( v_Iter.hasNext() )
+        {
+            XCQLCacheValue v_Value = v_Iter.next();
+            if ( v_Value.isIntersect(i_Labels) )
+            {
+                v_Iter.remove();
+                this.weight -= v_Value.weight;
+                v_Count++;
+            }
+        }
+        
+        this.invalidateCount += v_Count;
+        return v_Count;
+    }
+    
+    
+    
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear()
+    {
+        this.datas.clear();
+        this.weight = 0L;
+        this.generation++;
+    }
+    
+    
+    
+    /**
+     * 重置统计数据
+     */
+    public synchronized void reset()
+    {
+        this.hitCount        = 0L;
+        this.missCount       = 0L;
+        this.evictionCount   = 0L;
+        this.invalidateCount = 0L;
+    }
+    
+    
+    
+    /**
+     * 删除一个缓存
+     * 
+     * @param i_Key
+     */
+    private void remove(XCQLCacheKey i_Key)
+    {
+        XCQLCacheValue v_Old = this.datas.remove(i_Key);
+        if ( v_Old != null )
+        {
+            this.weight -= v_Old.weight;
+        }
+    }
+    
+    
+    
+    /**
+     * 获取：当前的缓存个数
+     */
+    public synchronized int getSize()
+    {
+        return this.datas.size();
+    }
+    
+    
+    
+    /**
+     * 获取：当前的总权重（行数 × 列数的总和）
+     */
+    public synchronized long getWeight()
+    {
+        return this.weight;
+    }
+    
+    
+    
+    /**
+     * 获取：命中次数
+     */
+    public synchronized long getHitCount()
+    {
+        return this.hitCount;
+    }
+    
+    
+    
+    /**
+     * 获取：未命中次数
+     */
+    public synchronized long getMissCount()
+    {
+        return this.missCount;
+    }
+    
+    
+    
+    /**
+     * 获取：命中率。没有请求时为 0
+     */
+    public synchronized double getHitRate()
+    {
+        long v_Total = this.hitCount + this.missCount;
+        return v_Total <= 0 ? 0D : (double) this.hitCount / v_Total;
+    }
+    
+    
+    
+    /**
+     * 获取：因超过缓存个数、总权重或存活时长而淘汰的次数
+     */
+    public synchronized long getEvictionCount()
+    {
+        return this.evictionCount;
+    }
+    
+    
+    
+    /**
+     * 获取：因写操作而失效的次数
+     */
+    public synchronized long getInvalidateCount()
+    {
+        return this.invalidateCount;
+    }
+    
+    
+    
+    /**
+     * 获取：最大缓存个数。小于等于0时不限制。默认为：1000
+     */
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+    
+    
+    
+    /**
+     * 设置：最大缓存个数。小于等于0时不限制。默认为：1000
+     * 
+     * @param i_MaxSize
+     */
+    public void setMaxSize(int i_MaxSize)
+    {
+        this.maxSize = i_MaxSize;
+    }
+    
+    
+    
+    /**
+     * 获取：最大总权重（行数 × 列数的总和）。小于等于0时不限制。默认为：0
+     */
+    public long getMaxWeight()
+    {
+        return maxWeight;
+    }
+    
+    
+    
+    /**
+     * 设置：最大总权重（行数 × 列数的总和）。小于等于0时不限制。默认为：0
+     * 
+     * @param i_MaxWeight
+     */
+    public void setMaxWeight(long i_MaxWeight)
+    {
+        this.maxWeight = i_MaxWeight;
+    }
+    
+    
+    
+    /**
+     * 获取：存活时长（单位：毫秒）。小于等于0时永不过期。默认为：60秒
+     */
+    public long getTimeToLive()
+    {
+        return timeToLive;
+    }
+    
+    
+    
+    /**
+     * 设置：存活时长（单位：毫秒）。小于等于0时永不过期。默认为：60秒
+     * 
+     * @param i_TimeToLive
+     */
+    public void setTimeToLive(long i_TimeToLive)
+    {
+        this.timeToLive = i_TimeToLive;
+    }
+    
+}
+
+
+
+
+
+/**
+ * 缓存的值：查询结果、过期时间、权重及涉及的标签
+ */
+final class XCQLCacheValue
+{
+    
+    final XCQLData    data;
+    
+    final long        expireTime;
+    
+    final long        weight;
+    
+    final Set<String> labels;
+    
+    
+    
+    public XCQLCacheValue(XCQLData i_Data ,long i_ExpireTime ,long i_Weight ,Set<String> i_Labels)
+    {
+        this.data       = i_Data;
+        this.expireTime = i_ExpireTime;
+        this.weight     = i_Weight;
+        this.labels     = i_Labels;
+    }
+    
+    
+    
+    /**
+     * 是否已过期
+     * 
+     * @param i_Now  当前时间
+     * @return
+     */
+    public boolean isExpired(long i_Now)
+    {
+        return i_Now >= this.expireTime;
+    }
+    
+    
+    
+    /**
+     * 是否与写操作的标签有交集。任何一方为空集合时（可能涉及所有的标签），均认为有交集
+     * 
+     * @param i_Labels  写操作涉及的节点标签与关系类型
+     * @return
+     */
+    public boolean isIntersect(Set<String> i_Labels)
+    {
+        if ( this.labels == null || this.labels.isEmpty() || i_Labels == null || i_Labels.isEmpty() )
+        {
+            return true;
+        }
+        
+        for (String v_Label : i_Labels)
+        {
+            if ( this.labels.contains(v_Label) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+}
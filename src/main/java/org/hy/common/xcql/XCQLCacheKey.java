@@ -0,0 +1,83 @@
+package org.hy.common.xcql;
+
+import org.neo4j.driver.Query;
+
+
+
+
+
+/**
+ * 查询结果的缓存（XCQLCache）及并发的相同查询的合并执行（XCQLSingleFlight）共用的查询的键：
+ * 结果集的转换规则、数据源、可执行CQL（文本及参数集合）与游标分页的范围
+ * 
+ * 查询结果是按XCQL的结果集的转换规则生成的，同一缓存被多个XCQL共用时，转换规则不同的（如行级对象的类型不同），
+ * 或数据源不同的，即使可执行CQL相同，也不共享查询结果。转换规则与数据源均按对象的身份（==）比较
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-18  添加：结果集的转换规则与数据源
+ */
+final class XCQLCacheKey
+{
+    
+    private final XCQLResult    result;
+    
+    private final DataSourceCQL dscql;
+    
+    private final Query         query;
+    
+    private final int           startRow;
+    
+    private final int           pagePerSize;
+    
+    private final int           hashCode;
+    
+    
+    
+    public XCQLCacheKey(XCQLResult i_Result ,DataSourceCQL i_DSCQL ,Query i_Query ,int i_StartRow ,int i_PagePerSize)
+    {
+        this.result      = i_Result;
+        this.dscql       = i_DSCQL;
+        this.query       = i_Query;
+        this.startRow    = i_StartRow;
+        this.pagePerSize = i_PagePerSize;
+        this.hashCode    = (((System.identityHashCode(i_Result) * 31
+                         + System.identityHashCode(i_DSCQL)) * 31
+                         + i_Query.hashCode()) * 31
+                         + i_StartRow) * 31
+                         + i_PagePerSize;
+    }
+    
+    
+    
+    @Override
+    public int hashCode()
+    {
+        return this.hashCode;
+    }
+    
+    
+    
+    @Override
+    public boolean equals(Object i_Other)
+    {
+        if ( this == i_Other )
+        {
+            return true;
+        }
+        else if ( !(i_Other instanceof XCQLCacheKey) )
+        {
+            return false;
+        }
+        
+        XCQLCacheKey v_Other = (XCQLCacheKey) i_Other;
+        return this.hashCode    == v_Other.hashCode
+            && this.result      == v_Other.result
+            && this.dscql       == v_Other.dscql
+            && this.startRow    == v_Other.startRow
+            && this.pagePerSize == v_Other.pagePerSize
+            && this.query.equals(v_Other.query);
+    }
+    
+}
@@ -0,0 +1,1134 @@
+package org.hy.common.xcql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.types.TypeConstructor;
+import org.neo4j.driver.internal.types.TypeRepresentation;
+
+
+
+
+
+/**
+ * 列式存储的查询结果。用于统计分析类的查询（行数多、列数少、多为数值列）。
+ * 
+ * 每列一个原始类型的数组，不再为每行创建行级对象，也不再为每个值装箱：
+ *   1. 图数据库的 Integer 列，存为 long[]
+ *   2. 图数据库的 Float   列，存为 double[]（Integer 与 Float 混合的列，也存为 double[]）
+ *   3. 图数据库的 Boolean 列，存为 boolean[]
+ *   4. 图数据库的 String  列，按字典编码存储。即 int[] 编码 + 不重复的字符串字典
+ *   5. 其它类型或类型不一致的列，存为 Object[]
+ * 
+ * 值为NULL的单元格，在原始类型的数组中为默认值（0、0.0、false），可通过 Column.isNull() 判定。
+ * 
+ * 使用方法：XCQLResult 的表级对象配置为本类即可，此时 row、cfill、fill、fillEvent 均不生效。
+ *   <result>
+ *       <table>org.hy.common.xcql.XCQLColumns</table>
+ *   </result>
+ * 
+ * 列名称与行级对象的属性名称的规则相同，如 MATCH (n) RETURN n.amount 的列名称为 amount。
+ * 不同的数据子集的列名称相同时（如 RETURN a.id ,b.id），按数据子集的全名称（如 a.id 、b.id）为列名称。
+ * 
+ * 非线程安全。查询完成后只读使用。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-18  修改：列名称相同的不同数据子集，按全名称区分为不同的列，不再合并为一列
+ */
+public class XCQLColumns
+{
+    
+    /** 数组的初始容量 */
+    private static final int $InitCapacity = 64;
+    
+    
+    
+    /** 所有列。按列在结果集中首次出现的顺序。列的类型未确定时（之前的值均为NULL）为NULL */
+    private final List<Column>         columns;
+    
+    /** 所有列的名称。与 columns 的顺序相同 */
+    private final List<String>         columnNames;
+    
+    /** 列名称的索引。Map.value 为列的下标 */
+    private final Map<String ,Integer> columnIndexes;
+    
+    /** 数据子集的名称的索引。Map.value 为列的下标 */
+    private final Map<String ,Integer> keyColumns;
+    
+    /** 行数 */
+    private int                        rowCount;
+    
+    /** 上一条记录的数据子集的名称。与本条记录相同时，复用 keyIndexes */
+    private List<String>               keys;
+    
+    /** 记录中数据子集的下标对应的列的下标 */
+    private int []                     keyIndexes;
+    
+    
+    
+    public XCQLColumns()
+    {
+        this.columns       = new ArrayList<Column>();
+        this.columnNames   = new ArrayList<String>();
+        this.columnIndexes = new HashMap<String ,Integer>();
+        this.keyColumns    = new HashMap<String ,Integer>();
+        this.rowCount      = 0;
+    }
+    
+    
+    
+    /**
+     * 添加一条记录。由 XCQLResult.getDatas() 调用
+     * 
+     * 记录中没有的列，填充NULL值。记录中新出现的列，之前的行均为NULL值。
+     * 
+     * 同一数据子集始终对应同一列。数据子集的列名称已被其它数据子集占用，或与本记录中其它数据子集的列名称相同时，
+     * 按数据子集的全名称为列名称。全名称也被占用时，抛出异常。
+     * 
+     * @param i_Record
+     */
+    void add(Record i_Record)
+    {
+        List<String> v_Keys = i_Record.keys();
+        if ( v_Keys != this.keys && !v_Keys.equals(this.keys) )
+        {
+            this.keys       = v_Keys;
+            this.keyIndexes = new int[v_Keys.size()];
+            
+            for (int x=0; x<this.keyIndexes.length; x++)
+            {
+                String  v_Key   = v_Keys.get(x);
+                Integer v_Index = this.keyColumns.get(v_Key);
+                if ( v_Index == null )
+                {
+                    String v_Name = toColumnName(v_Key);
+                    if ( this.columnIndexes.containsKey(v_Name) || isDuplicate(v_Keys ,x ,v_Name) )
+                    {
+                        v_Name = v_Key;
+                        if ( this.columnIndexes.containsKey(v_Name) )
+                        {
+                            throw new IllegalArgumentException("Column[" + v_Key + "] is duplicate.");
+                        }
+                    }
+                    
+                    v_Index = this.columns.size();
+                    this.columns.add(null);
+                    this.columnNames.add(v_Name);
+                    this.columnIndexes.put(v_Name ,v_Index);
+                    this.keyColumns   .put(v_Key  ,v_Index);
+                }
+                this.keyIndexes[x] = v_Index;
+            }
+        }
+        
+        for (int x=0; x<this.keyIndexes.length; x++)
+        {
+            this.addValue(this.keyIndexes[x] ,i_Record.get(x));
+        }
+        
+        this.rowCount++;
+        
+        // 记录中没有的列，填充NULL值
+        if ( this.keyIndexes.length < this.columns.size() )
+        {
+            for (Column v_Column : this.columns)
+            {
+                if ( v_Column != null && v_Column.size < this.rowCount )
+                {
+                    v_Column.addNull();
+                }
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 向列中添加一个值。列的类型与值的类型不一致时，升级列的类型
+     * 
+     * @param i_ColIndex  列的下标
+     * @param i_Value     图数据库的值
+     */
+    private void addValue(int i_ColIndex ,Value i_Value)
+    {
+        Column v_Column = this.columns.get(i_ColIndex);
+        
+        if ( i_Value.isNull() )
+        {
+            if ( v_Column != null )
+            {
+                v_Column.addNull();
+            }
+            // 列的类型还未确定时，待确定后再补充之前的NULL值
+            return;
+        }
+        
+        TypeConstructor v_Type = typeOf(i_Value);
+        
+        if ( v_Column == null )
+        {
+            v_Column = newColumn(this.columnNames.get(i_ColIndex) ,v_Type);
+            v_Column.addNulls(this.rowCount);
+            this.columns.set(i_ColIndex ,v_Column);
+        }
+        else if ( !v_Column.accept(v_Type) )
+        {
+            v_Column = v_Column.promote(v_Type);
+            this.columns.set(i_ColIndex ,v_Column);
+        }
+        
+        v_Column.add(i_Value);
+    }
+    
+    
+    
+    /**
+     * 结束添加。将各列的数组收缩到实际的行数，释放多余的容量
+     */
+    void finish()
+    {
+        for (int x=0; x<this.columns.size(); x++)
+        {
+            Column v_Column = this.columns.get(x);
+            
+            // 全部为NULL值的列
+            if ( v_Column == null )
+            {
+                v_Column = new ObjectColumn(this.columnNames.get(x));
+                v_Column.addNulls(this.rowCount);
+                this.columns.set(x ,v_Column);
+            }
+            
+            v_Column.trimToSize();
+        }
+    }
+    
+    
+    
+    /**
+     * 获取：行数
+     */
+    public int getRowCount()
+    {
+        return this.rowCount;
+    }
+    
+    
+    
+    /**
+     * 获取：列数
+     */
+    public int getColCount()
+    {
+        return this.columns.size();
+    }
+    
+    
+    
+    /**
+     * 获取：所有列的名称。按列在结果集中首次出现的顺序
+     */
+    public List<String> getColumnNames()
+    {
+        return new ArrayList<String>(this.columnNames);
+    }
+    
+    
+    
+    /**
+     * 获取列
+     * 
+     * @param i_ColNo  列的下标。下标从 0 开始
+     * @return
+     */
+    public Column getColumn(int i_ColNo)
+    {
+        return this.columns.get(i_ColNo);
+    }
+    
+    
+    
+    /**
+     * 获取列。不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     * @return
+     */
+    public Column getColumn(String i_ColName)
+    {
+        Integer v_Index = this.columnIndexes.get(i_ColName);
+        return v_Index == null ? null : this.columns.get(v_Index);
+    }
+    
+    
+    
+    /**
+     * 获取 long[] 存储的列。不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     * @return
+     */
+    public LongColumn getLongColumn(String i_ColName)
+    {
+        return this.getColumn(i_ColName ,LongColumn.class);
+    }
+    
+    
+    
+    /**
+     * 获取 double[] 存储的列。不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     * @return
+     */
+    public DoubleColumn getDoubleColumn(String i_ColName)
+    {
+        return this.getColumn(i_ColName ,DoubleColumn.class);
+    }
+    
+    
+    
+    /**
+     * 获取 boolean[] 存储的列。不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     * @return
+     */
+    public BooleanColumn getBooleanColumn(String i_ColName)
+    {
+        return this.getColumn(i_ColName ,BooleanColumn.class);
+    }
+    
+    
+    
+    /**
+     * 获取字典编码存储的字符串列。不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     * @return
+     */
+    public StringColumn getStringColumn(String i_ColName)
+    {
+        return this.getColumn(i_ColName ,StringColumn.class);
+    }
+    
+    
+    
+    /**
+     * 获取指定存储类型的列。不存在时返回NULL，存储类型不同时抛出异常
+     * 
+     * @param i_ColName      列名称
+     * @param i_ColumnClass  列的存储类型
+     * @return
+     */
+    private <C extends Column> C getColumn(String i_ColName ,Class<C> i_ColumnClass)
+    {
+        Column v_Column = this.getColumn(i_ColName);
+        if ( v_Column == null )
+        {
+            return null;
+        }
+        else if ( !i_ColumnClass.isInstance(v_Column) )
+        {
+            throw new ClassCastException("Column[" + i_ColName + "] is " + v_Column.getClass().getSimpleName() + ", not " + i_ColumnClass.getSimpleName() + ".");
+        }
+        
+        return i_ColumnClass.cast(v_Column);
+    }
+    
+    
+    
+    /**
+     * 数据子集的名称转为列名称。与行级对象的属性名称的规则相同：RETURN n.amount 时为 amount
+     * 
+     * @param i_Key
+     * @return
+     */
+    private static String toColumnName(String i_Key)
+    {
+        String [] v_FieldNameArr = i_Key.split("\\.");
+        return v_FieldNameArr.length >= 2 ? v_FieldNameArr[1] : v_FieldNameArr[0];
+    }
+    
+    
+    
+    /**
+     * 记录中其它数据子集的列名称，是否与此列名称相同
+     * 
+     * @param i_Keys   记录中所有数据子集的名称
+     * @param i_Index  数据子集的下标
+     * @param i_Name   数据子集的列名称
+     * @return
+     */
+    private static boolean isDuplicate(List<String> i_Keys ,int i_Index ,String i_Name)
+    {
+        for (int x=0; x<i_Keys.size(); x++)
+        {
+            if ( x != i_Index && i_Name.equals(toColumnName(i_Keys.get(x))) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    
+    
+    /**
+     * 获取图数据库的值的类型
+     * 
+     * @param i_Value
+     * @return
+     */
+    private static TypeConstructor typeOf(Value i_Value)
+    {
+        if ( i_Value.type() instanceof TypeRepresentation )
+        {
+            return ((TypeRepresentation) i_Value.type()).constructor();
+        }
+        return TypeConstructor.ANY;
+    }
+    
+    
+    
+    /**
+     * 按值的类型创建列
+     * 
+     * @param i_ColName  列名称
+     * @param i_Type     值的类型
+     * @return
+     */
+    private static Column newColumn(String i_ColName ,TypeConstructor i_Type)
+    {
+        switch ( i_Type )
+        {
+            case INTEGER:
+                return new LongColumn(i_ColName);
+            case FLOAT:
+                return new DoubleColumn(i_ColName);
+            case BOOLEAN:
+                return new BooleanColumn(i_ColName);
+            case STRING:
+                return new StringColumn(i_ColName);
+            default:
+                return new ObjectColumn(i_ColName);
+        }
+    }
+    
+    
+    
+    /**
+     * 扩容后的容量
+     * 
+     * @param i_Capacity  原容量
+     * @return
+     */
+    private static int grow(int i_Capacity)
+    {
+        return i_Capacity <= 0 ? $InitCapacity : i_Capacity + (i_Capacity >> 1);
+    }
+    
+    
+    
+    
+    
+    /**
+     * 列。每列的存储类型是确定的，具体由子类实现
+     */
+    public abstract static class Column
+    {
+        
+        /** 列名称 */
+        protected final String name;
+        
+        /** 值为NULL的行。没有NULL值时为NULL，不占用内存 */
+        protected BitSet       nulls;
+        
+        /** 行数 */
+        protected int          size;
+        
+        
+        
+        protected Column(String i_Name)
+        {
+            this.name = i_Name;
+            this.size = 0;
+        }
+        
+        
+        
+        /**
+         * 获取：列名称
+         */
+        public String getName()
+        {
+            return this.name;
+        }
+        
+        
+        
+        /**
+         * 获取：行数
+         */
+        public int size()
+        {
+            return this.size;
+        }
+        
+        
+        
+        /**
+         * 是否为NULL值
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public boolean isNull(int i_RowNo)
+        {
+            if ( i_RowNo < 0 || i_RowNo >= this.size )
+            {
+                throw new IndexOutOfBoundsException("RowNo=" + i_RowNo + "  Size=" + this.size);
+            }
+            return this.nulls != null && this.nulls.get(i_RowNo);
+        }
+        
+        
+        
+        /**
+         * 获取装箱后的值。NULL值时返回NULL。
+         * 
+         * 主要用于通用的访问，大量数据的统计分析时，请用子类的原始类型的方法。
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public Object getObject(int i_RowNo)
+        {
+            return this.isNull(i_RowNo) ? null : this.getValue(i_RowNo);
+        }
+        
+        
+        
+        /**
+         * 获取装箱后的值（不判定NULL值）
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        protected abstract Object getValue(int i_RowNo);
+        
+        
+        
+        /**
+         * 是否能存储此类型的值
+         * 
+         * @param i_Type  值的类型
+         * @return
+         */
+        protected abstract boolean accept(TypeConstructor i_Type);
+        
+        
+        
+        /**
+         * 添加一个非NULL的值
+         * 
+         * @param i_Value
+         */
+        protected abstract void add(Value i_Value);
+        
+        
+        
+        /**
+         * 确保能再添加一个值
+         */
+        protected abstract void ensureCapacity();
+        
+        
+        
+        /**
+         * 将数组收缩到实际的行数
+         */
+        protected abstract void trimToSize();
+        
+        
+        
+        /**
+         * 添加一个NULL值
+         */
+        protected void addNull()
+        {
+            this.ensureCapacity();
+            if ( this.nulls == null )
+            {
+                this.nulls = new BitSet();
+            }
+            this.nulls.set(this.size++);
+        }
+        
+        
+        
+        /**
+         * 添加多个NULL值
+         * 
+         * @param i_Count  数量
+         */
+        protected void addNulls(int i_Count)
+        {
+            for (int x=0; x<i_Count; x++)
+            {
+                this.addNull();
+            }
+        }
+        
+        
+        
+        /**
+         * 升级为能存储此类型的值的列。Integer 列遇到 Float 值时，升级为 double[] 的列，其它均升级为 Object[] 的列
+         * 
+         * @param i_Type  值的类型
+         * @return
+         */
+        protected Column promote(TypeConstructor i_Type)
+        {
+            Column v_New = null;
+            if ( this instanceof LongColumn && i_Type == TypeConstructor.FLOAT )
+            {
+                DoubleColumn v_Double = new DoubleColumn(this.name);
+                v_Double.values = new double[Math.max(this.size ,$InitCapacity)];
+                for (int x=0; x<this.size; x++)
+                {
+                    v_Double.values[x] = ((LongColumn) this).values[x];
+                }
+                v_New = v_Double;
+            }
+            else
+            {
+                ObjectColumn v_Object = new ObjectColumn(this.name);
+                v_Object.values = new Object[Math.max(this.size ,$InitCapacity)];
+                for (int x=0; x<this.size; x++)
+                {
+                    v_Object.values[x] = this.getObject(x);
+                }
+                v_New = v_Object;
+            }
+            
+            v_New.size  = this.size;
+            v_New.nulls = this.nulls;
+            return v_New;
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * long[] 存储的列。对应图数据库的 Integer 类型
+     */
+    public static final class LongColumn extends Column
+    {
+        
+        private long [] values;
+        
+        
+        
+        LongColumn(String i_Name)
+        {
+            super(i_Name);
+            this.values = new long[0];
+        }
+        
+        
+        
+        /**
+         * 获取值。NULL值时返回 0
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public long get(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        /**
+         * 获取：存储值的数组（不是副本）。数组的长度与行数相同，NULL值为 0
+         */
+        public long [] getValues()
+        {
+            return this.values;
+        }
+        
+        
+        
+        @Override
+        protected Object getValue(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        @Override
+        protected boolean accept(TypeConstructor i_Type)
+        {
+            return i_Type == TypeConstructor.INTEGER;
+        }
+        
+        
+        
+        @Override
+        protected void add(Value i_Value)
+        {
+            this.ensureCapacity();
+            this.values[this.size++] = i_Value.asLong();
+        }
+        
+        
+        
+        @Override
+        protected void ensureCapacity()
+        {
+            if ( this.size >= this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,grow(this.values.length));
+            }
+        }
+        
+        
+        
+        @Override
+        protected void trimToSize()
+        {
+            if ( this.size < this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,this.size);
+            }
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * double[] 存储的列。对应图数据库的 Float 类型，及 Integer 与 Float 混合的列
+     */
+    public static final class DoubleColumn extends Column
+    {
+        
+        private double [] values;
+        
+        
+        
+        DoubleColumn(String i_Name)
+        {
+            super(i_Name);
+            this.values = new double[0];
+        }
+        
+        
+        
+        /**
+         * 获取值。NULL值时返回 0.0
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public double get(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        /**
+         * 获取：存储值的数组（不是副本）。数组的长度与行数相同，NULL值为 0.0
+         */
+        public double [] getValues()
+        {
+            return this.values;
+        }
+        
+        
+        
+        @Override
+        protected Object getValue(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        @Override
+        protected boolean accept(TypeConstructor i_Type)
+        {
+            return i_Type == TypeConstructor.FLOAT || i_Type == TypeConstructor.INTEGER;
+        }
+        
+        
+        
+        @Override
+        protected void add(Value i_Value)
+        {
+            this.ensureCapacity();
+            this.values[this.size++] = i_Value.asDouble();
+        }
+        
+        
+        
+        @Override
+        protected void ensureCapacity()
+        {
+            if ( this.size >= this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,grow(this.values.length));
+            }
+        }
+        
+        
+        
+        @Override
+        protected void trimToSize()
+        {
+            if ( this.size < this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,this.size);
+            }
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * boolean[] 存储的列。对应图数据库的 Boolean 类型
+     */
+    public static final class BooleanColumn extends Column
+    {
+        
+        private boolean [] values;
+        
+        
+        
+        BooleanColumn(String i_Name)
+        {
+            super(i_Name);
+            this.values = new boolean[0];
+        }
+        
+        
+        
+        /**
+         * 获取值。NULL值时返回 false
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public boolean get(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        /**
+         * 获取：存储值的数组（不是副本）。数组的长度与行数相同，NULL值为 false
+         */
+        public boolean [] getValues()
+        {
+            return this.values;
+        }
+        
+        
+        
+        @Override
+        protected Object getValue(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        @Override
+        protected boolean accept(TypeConstructor i_Type)
+        {
+            return i_Type == TypeConstructor.BOOLEAN;
+        }
+        
+        
+        
+        @Override
+        protected void add(Value i_Value)
+        {
+            this.ensureCapacity();
+            this.values[this.size++] = i_Value.asBoolean();
+        }
+        
+        
+        
+        @Override
+        protected void ensureCapacity()
+        {
+            if ( this.size >= this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,grow(this.values.length));
+            }
+        }
+        
+        
+        
+        @Override
+        protected void trimToSize()
+        {
+            if ( this.size < this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,this.size);
+            }
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * 字典编码存储的列。对应图数据库的 String 类型。
+     * 
+     * 每行只存储字符串在字典中的编码，重复的字符串只存储一次。
+     */
+    public static final class StringColumn extends Column
+    {
+        
+        /** 每行的编码。NULL值为 -1 */
+        private int []               codes;
+        
+        /** 字典。下标即为编码 */
+        private List<String>         dictionary;
+        
+        /** 字典的索引。只在添加时使用，结束添加后释放 */
+        private Map<String ,Integer> dictionaryIndexes;
+        
+        
+        
+        StringColumn(String i_Name)
+        {
+            super(i_Name);
+            this.codes             = new int[0];
+            this.dictionary        = new ArrayList<String>();
+            this.dictionaryIndexes = new HashMap<String ,Integer>();
+        }
+        
+        
+        
+        /**
+         * 获取值。NULL值时返回NULL
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public String get(int i_RowNo)
+        {
+            int v_Code = this.codes[i_RowNo];
+            return v_Code < 0 ? null : this.dictionary.get(v_Code);
+        }
+        
+        
+        
+        /**
+         * 获取编码。NULL值时返回 -1
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public int getCode(int i_RowNo)
+        {
+            return this.codes[i_RowNo];
+        }
+        
+        
+        
+        /**
+         * 获取：每行的编码的数组（不是副本）。数组的长度与行数相同，NULL值为 -1
+         */
+        public int [] getCodes()
+        {
+            return this.codes;
+        }
+        
+        
+        
+        /**
+         * 获取：字典。下标即为编码
+         */
+        public List<String> getDictionary()
+        {
+            return this.dictionary;
+        }
+        
+        
+        
+        @Override
+        protected Object getValue(int i_RowNo)
+        {
+            return this.get(i_RowNo);
+        }
+        
+        
+        
+        @Override
+        protected boolean accept(TypeConstructor i_Type)
+        {
+            return i_Type == TypeConstructor.STRING && this.dictionaryIndexes != null;
+        }
+        
+        
+        
+        @Override
+        protected void add(Value i_Value)
+        {
+            String  v_Value = i_Value.asString();
+            Integer v_Code  = this.dictionaryIndexes.get(v_Value);
+            if ( v_Code == null )
+            {
+                v_Code = this.dictionary.size();
+                this.dictionary.add(v_Value);
+                this.dictionaryIndexes.put(v_Value ,v_Code);
+            }
+            
+            this.ensureCapacity();
+            this.codes[this.size++] = v_Code;
+        }
+        
+        
+        
+        @Override
+        protected void addNull()
+        {
+            super.addNull();
+            this.codes[this.size - 1] = -1;
+        }
+        
+        
+        
+        @Override
+        protected void ensureCapacity()
+        {
+            if ( this.size >= this.codes.length )
+            {
+                this.codes = Arrays.copyOf(this.codes ,grow(this.codes.length));
+            }
+        }
+        
+        
+        
+        @Override
+        protected void trimToSize()
+        {
+            if ( this.size < this.codes.length )
+            {
+                this.codes = Arrays.copyOf(this.codes ,this.size);
+            }
+            this.dictionaryIndexes = null;
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * Object[] 存储的列。对应图数据库的其它类型，及类型不一致的列
+     */
+    public static final class ObjectColumn extends Column
+    {
+        
+        private Object [] values;
+        
+        
+        
+        ObjectColumn(String i_Name)
+        {
+            super(i_Name);
+            this.values = new Object[0];
+        }
+        
+        
+        
+        /**
+         * 获取值。NULL值时返回NULL
+         * 
+         * @param i_RowNo  行号。下标从 0 开始
+         * @return
+         */
+        public Object get(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        @Override
+        protected Object getValue(int i_RowNo)
+        {
+            return this.values[i_RowNo];
+        }
+        
+        
+        
+        @Override
+        protected boolean accept(TypeConstructor i_Type)
+        {
+            return true;
+        }
+        
+        
+        
+        @Override
+        protected void add(Value i_Value)
+        {
+            this.ensureCapacity();
+            this.values[this.size++] = i_Value.asObject();
+        }
+        
+        
+        
+        @Override
+        protected void ensureCapacity()
+        {
+            if ( this.size >= this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,grow(this.values.length));
+            }
+        }
+        
+        
+        
+        @Override
+        protected void trimToSize()
+        {
+            if ( this.size < this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,this.size);
+            }
+        }
+        
+    }
+    
+}
@@ -1,5 +1,12 @@
 package org.hy.common.xcql;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 
 
 
@@ -12,6 +19,10 @@ package org.hy.common.xcql;
  * @author      ZhengWei(HY)
  * @createDate  2023-06-02
  * @version     v1.0
+ *              v2.0  2026-10-17  添加：键集分页的续页标记 nextToken
+ *              v3.0  2026-10-17  添加：列式存储结果的类型化的列访问方法
+ *              v4.0  2026-10-17  添加：图结构的查询结果的访问方法
+ *              v5.0  2026-10-17  添加：查询结果的副本 copy() 。用于合并执行的相同查询，各调用者获取独立的表级对象
  */
 public class XCQLData
 {
@@ -34,6 +45,9 @@ public class XCQLData
     /** 结果集的字段结构 */
     private DBTableMetaData metaData;
     
+    /** 键集分页的续页标记。为NULL时表示没有下一页（仅键集分页查询时有效） */
+    private String          nextToken;
+    
     
     
     public XCQLData(Object i_Datas ,long i_RowCount ,int i_ColCount ,long i_RelCount,long i_TimeLen ,DBTableMetaData i_MetaData)
@@ -117,5 +131,138 @@ public class XCQLData
     {
         this.relCount = i_RelCount;
     }
+
+
+    
+    /**
+     * 获取：键集分页的续页标记。为NULL时表示没有下一页（仅键集分页查询时有效）
+     */
+    public String getNextToken()
+    {
+        return nextToken;
+    }
+
+
+    
+    /**
+     * 设置：键集分页的续页标记。为NULL时表示没有下一页（仅键集分页查询时有效）
+     * 
+     * @param i_NextToken 键集分页的续页标记
+     */
+    public void setNextToken(String i_NextToken)
+    {
+        this.nextToken = i_NextToken;
+    }
+
+
+    
+    /**
+     * 获取：列式存储的查询结果。非列式存储时返回NULL
+     */
+    public XCQLColumns getColumns()
+    {
+        return this.datas instanceof XCQLColumns ? (XCQLColumns) this.datas : null;
+    }
+
+
+    
+    /**
+     * 获取：列式存储的 long[] 列（图数据库的 Integer 类型）。非列式存储或列不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     */
+    public XCQLColumns.LongColumn getLongColumn(String i_ColName)
+    {
+        XCQLColumns v_Columns = this.getColumns();
+        return v_Columns == null ? null : v_Columns.getLongColumn(i_ColName);
+    }
+
+
+    
+    /**
+     * 获取：列式存储的 double[] 列（图数据库的 Float 类型）。非列式存储或列不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     */
+    public XCQLColumns.DoubleColumn getDoubleColumn(String i_ColName)
+    {
+        XCQLColumns v_Columns = this.getColumns();
+        return v_Columns == null ? null : v_Columns.getDoubleColumn(i_ColName);
+    }
+
+
+    
+    /**
+     * 获取：列式存储的 boolean[] 列（图数据库的 Boolean 类型）。非列式存储或列不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     */
+    public XCQLColumns.BooleanColumn getBooleanColumn(String i_ColName)
+    {
+        XCQLColumns v_Columns = this.getColumns();
+        return v_Columns == null ? null : v_Columns.getBooleanColumn(i_ColName);
+    }
+
+
+    
+    /**
+     * 获取：列式存储的字典编码的字符串列（图数据库的 String 类型）。非列式存储或列不存在时返回NULL
+     * 
+     * @param i_ColName  列名称。区分大小写
+     */
+    public XCQLColumns.StringColumn getStringColumn(String i_ColName)
+    {
+        XCQLColumns v_Columns = this.getColumns();
+        return v_Columns == null ? null : v_Columns.getStringColumn(i_ColName);
+    }
+    
+
+
+    
+    /**
+     * 获取：紧凑的图结构的查询结果。非图结构时返回NULL
+     */
+    public XCQLGraph getGraph()
+    {
+        return this.datas instanceof XCQLGraph ? (XCQLGraph) this.datas : null;
+    }
+    
+
+
+    
+    /**
+     * 生成查询结果的副本。
+     * 
+     * 表级对象为 List、Set、Map 时，复制一份新的表级对象（浅复制，行级对象不复制），
+     * 调用者可增删副本中的元素，而不影响其它调用者。其它类型的表级对象（如 XCQLColumns、XCQLGraph 只读使用）不复制。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    @SuppressWarnings({"rawtypes" ,"unchecked"})
+    public XCQLData copy()
+    {
+        Object v_Datas = this.datas;
+        
+        if ( v_Datas instanceof List )
+        {
+            v_Datas = new ArrayList((List) v_Datas);
+        }
+        else if ( v_Datas instanceof Set )
+        {
+            v_Datas = new LinkedHashSet((Set) v_Datas);
+        }
+        else if ( v_Datas instanceof Map )
+        {
+            v_Datas = new LinkedHashMap((Map) v_Datas);
+        }
+        
+        XCQLData v_Copy = new XCQLData(v_Datas ,this.rowCount ,this.colCount ,this.relCount ,this.timeLen ,this.metaData);
+        v_Copy.setNextToken(this.nextToken);
+        return v_Copy;
+    }
     
 }
@@ -3,6 +3,8 @@ package org.hy.common.xcql;
 import java.util.List;
 import java.util.Map;
 
+import org.neo4j.driver.Query;
+
 
 
 
@@ -55,6 +57,13 @@ public class XCQLErrorInfo
         this.exce = i_Exce;
         this.xcql = i_XCQL;
     }
+    
+    
+    
+    public XCQLErrorInfo(Query i_Query ,Exception i_Exce ,XCQL i_XCQL)
+    {
+        this(XCQL.toLog(i_Query) ,i_Exce ,i_XCQL);
+    }
 
     
     /**
@@ -0,0 +1,1052 @@
+package org.hy.common.xcql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.types.TypeConstructor;
+import org.neo4j.driver.internal.types.TypeRepresentation;
+import org.neo4j.driver.types.Entity;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Path;
+import org.neo4j.driver.types.Relationship;
+
+
+
+
+
+/**
+ * 紧凑的图结构的查询结果。用于返回节点、关系、路径的查询（如路径查询、K跳邻居的子图查询）。
+ * 
+ * 收集结果集中所有的节点与关系（包括路径、列表、Map中的），按编号去重，并按紧凑的结构存储：
+ *   1. 节点与关系的编号，存为 long[]
+ *   2. 节点的标签、关系的类型、属性名称，按字典编码存储
+ *   3. 节点的标签与属性、关系的属性，按 CSR（Compressed Sparse Row）的偏移量数组 + 数据数组存储
+ *   4. 节点的出边与入边的邻接关系，按 CSR 存储。即 offsets[节点下标] 至 offsets[节点下标 + 1] 之间为该节点的关系下标
+ * 
+ * 节点与关系均用下标（从 0 开始，按首次出现的顺序）访问，编号与下标可互相转换。
+ * 关系的起点或终点不在结果集中时，补充一个没有标签和属性的节点，保证邻接关系的完整。
+ * 
+ * 使用方法：XCQLResult 的表级对象配置为本类即可，此时 row、cfill、fill、fillEvent 均不生效，非图结构的值被忽略。
+ *   <result>
+ *       <table>org.hy.common.xcql.XCQLGraph</table>
+ *   </result>
+ * 
+ * 非线程安全。查询完成后只读使用。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+public class XCQLGraph
+{
+    
+    /** 数组的初始容量 */
+    private static final int $InitCapacity = 64;
+    
+    
+    
+    /** 节点的编号。下标为节点下标 */
+    private long []          nodeIds;
+    
+    /** 节点数量 */
+    private int              nodeCount;
+    
+    /** 节点编号的索引。编号转下标 */
+    private LongIndex        nodeIndexes;
+    
+    /** 节点的标签的偏移量（CSR）。长度为 nodeCount + 1 */
+    private int []           nodeLabelOffsets;
+    
+    /** 节点的标签编码 */
+    private IntArray         nodeLabels;
+    
+    /** 节点的属性的偏移量（CSR）。长度为 nodeCount + 1 */
+    private int []           nodePropertyOffsets;
+    
+    /** 节点的属性名称的编码 */
+    private IntArray         nodePropertyKeys;
+    
+    /** 节点的属性值 */
+    private ObjectArray      nodePropertyValues;
+    
+    
+    /** 关系的编号。下标为关系下标 */
+    private long []          relIds;
+    
+    /** 关系数量 */
+    private int              relCount;
+    
+    /** 关系编号的索引。编号转下标 */
+    private LongIndex        relIndexes;
+    
+    /** 关系的起点编号。结束添加后转为起点的节点下标 relStarts */
+    private long []          relStartIds;
+    
+    /** 关系的终点编号。结束添加后转为终点的节点下标 relEnds */
+    private long []          relEndIds;
+    
+    /** 关系的起点的节点下标 */
+    private int []           relStarts;
+    
+    /** 关系的终点的节点下标 */
+    private int []           relEnds;
+    
+    /** 关系的类型编码 */
+    private int []           relTypes;
+    
+    /** 关系的属性的偏移量（CSR）。长度为 relCount + 1 */
+    private int []           relPropertyOffsets;
+    
+    /** 关系的属性名称的编码 */
+    private IntArray         relPropertyKeys;
+    
+    /** 关系的属性值 */
+    private ObjectArray      relPropertyValues;
+    
+    
+    /** 出边的偏移量（CSR）。长度为 nodeCount + 1 */
+    private int []           outOffsets;
+    
+    /** 出边的关系下标 */
+    private int []           outRels;
+    
+    /** 入边的偏移量（CSR）。长度为 nodeCount + 1 */
+    private int []           inOffsets;
+    
+    /** 入边的关系下标 */
+    private int []           inRels;
+    
+    
+    /** 节点的标签的字典 */
+    private Dictionary       labels;
+    
+    /** 关系的类型的字典 */
+    private Dictionary       types;
+    
+    /** 属性名称的字典。节点与关系共用 */
+    private Dictionary       propertyKeys;
+    
+    
+    
+    public XCQLGraph()
+    {
+        this.nodeIds             = new long[$InitCapacity];
+        this.nodeCount           = 0;
+        this.nodeIndexes         = new LongIndex();
+        this.nodeLabelOffsets    = new int[$InitCapacity + 1];
+        this.nodeLabels          = new IntArray();
+        this.nodePropertyOffsets = new int[$InitCapacity + 1];
+        this.nodePropertyKeys    = new IntArray();
+        this.nodePropertyValues  = new ObjectArray();
+        
+        this.relIds              = new long[$InitCapacity];
+        this.relCount            = 0;
+        this.relIndexes          = new LongIndex();
+        this.relStartIds         = new long[$InitCapacity];
+        this.relEndIds           = new long[$InitCapacity];
+        this.relTypes            = new int[$InitCapacity];
+        this.relPropertyOffsets  = new int[$InitCapacity + 1];
+        this.relPropertyKeys     = new IntArray();
+        this.relPropertyValues   = new ObjectArray();
+        
+        this.labels              = new Dictionary();
+        this.types               = new Dictionary();
+        this.propertyKeys        = new Dictionary();
+    }
+    
+    
+    
+    /**
+     * 添加一条记录中所有的节点与关系。由 XCQLResult.getDatas() 调用
+     * 
+     * @param i_Record
+     */
+    void add(Record i_Record)
+    {
+        for (int x=0; x<i_Record.size(); x++)
+        {
+            this.addValue(i_Record.get(x));
+        }
+    }
+    
+    
+    
+    /**
+     * 添加值中的节点与关系。递归识别路径、列表、Map中的节点与关系
+     * 
+     * @param i_Value
+     */
+    private void addValue(Value i_Value)
+    {
+        if ( !(i_Value.type() instanceof TypeRepresentation) )
+        {
+            return;
+        }
+        
+        TypeConstructor v_Type = ((TypeRepresentation) i_Value.type()).constructor();
+        switch ( v_Type )
+        {
+            case NODE:
+                this.addNode(i_Value.asNode());
+                break;
+            
+            case RELATIONSHIP:
+                this.addRelationship(i_Value.asRelationship());
+                break;
+            
+            case PATH:
+                Path v_Path = i_Value.asPath();
+                for (Node v_Node : v_Path.nodes())
+                {
+                    this.addNode(v_Node);
+                }
+                for (Relationship v_Rel : v_Path.relationships())
+                {
+                    this.addRelationship(v_Rel);
+                }
+                break;
+            
+            case LIST:
+            case MAP:
+                for (Value v_Item : i_Value.values())
+                {
+                    this.addValue(v_Item);
+                }
+                break;
+            
+            default:
+                // 非图结构的值被忽略
+                break;
+        }
+    }
+    
+    
+    
+    /**
+     * 添加节点。已存在时忽略
+     * 
+     * @param i_Node
+     */
+    private void addNode(Node i_Node)
+    {
+        if ( this.nodeIndexes.get(i_Node.id()) >= 0 )
+        {
+            return;
+        }
+        
+        this.appendNode(i_Node.id());
+        
+        for (String v_Label : i_Node.labels())
+        {
+            this.nodeLabels.add(this.labels.encode(v_Label));
+        }
+        this.nodeLabelOffsets[this.nodeCount] = this.nodeLabels.size();
+        
+        this.addProperties(i_Node ,this.nodePropertyKeys ,this.nodePropertyValues);
+        this.nodePropertyOffsets[this.nodeCount] = this.nodePropertyKeys.size();
+    }
+    
+    
+    
+    /**
+     * 追加一个节点的编号。标签与属性的偏移量的数组同时扩容
+     * 
+     * @param i_NodeId  节点编号
+     */
+    private void appendNode(long i_NodeId)
+    {
+        if ( this.nodeCount >= this.nodeIds.length )
+        {
+            int v_Capacity = grow(this.nodeIds.length);
+            this.nodeIds             = Arrays.copyOf(this.nodeIds             ,v_Capacity);
+            this.nodeLabelOffsets    = Arrays.copyOf(this.nodeLabelOffsets    ,v_Capacity + 1);
+            this.nodePropertyOffsets = Arrays.copyOf(this.nodePropertyOffsets ,v_Capacity + 1);
+        }
+        
+        this.nodeIndexes.put(i_NodeId ,this.nodeCount);
+        this.nodeIds[this.nodeCount++] = i_NodeId;
+        this.nodeLabelOffsets   [this.nodeCount] = this.nodeLabels.size();
+        this.nodePropertyOffsets[this.nodeCount] = this.nodePropertyKeys.size();
+    }
+    
+    
+    
+    /**
+     * 添加关系。已存在时忽略
+     * 
+     * @param i_Rel
+     */
+    private void addRelationship(Relationship i_Rel)
+    {
+        if ( this.relIndexes.get(i_Rel.id()) >= 0 )
+        {
+            return;
+        }
+        
+        if ( this.relCount >= this.relIds.length )
+        {
+            int v_Capacity = grow(this.relIds.length);
+            this.relIds             = Arrays.copyOf(this.relIds             ,v_Capacity);
+            this.relStartIds        = Arrays.copyOf(this.relStartIds        ,v_Capacity);
+            this.relEndIds          = Arrays.copyOf(this.relEndIds          ,v_Capacity);
+            this.relTypes           = Arrays.copyOf(this.relTypes           ,v_Capacity);
+            this.relPropertyOffsets = Arrays.copyOf(this.relPropertyOffsets ,v_Capacity + 1);
+        }
+        
+        this.relIndexes.put(i_Rel.id() ,this.relCount);
+        this.relIds     [this.relCount] = i_Rel.id();
+        this.relStartIds[this.relCount] = i_Rel.startNodeId();
+        this.relEndIds  [this.relCount] = i_Rel.endNodeId();
+        this.relTypes   [this.relCount] = this.types.encode(i_Rel.type());
+        this.relCount++;
+        
+        this.addProperties(i_Rel ,this.relPropertyKeys ,this.relPropertyValues);
+        this.relPropertyOffsets[this.relCount] = this.relPropertyKeys.size();
+    }
+    
+    
+    
+    /**
+     * 添加节点或关系的属性
+     * 
+     * @param i_Entity   节点或关系
+     * @param io_Keys    属性名称的编码
+     * @param io_Values  属性值
+     */
+    private void addProperties(Entity i_Entity ,IntArray io_Keys ,ObjectArray io_Values)
+    {
+        for (String v_Key : i_Entity.keys())
+        {
+            io_Keys  .add(this.propertyKeys.encode(v_Key));
+            io_Values.add(XCQLMethod.getValue(i_Entity.get(v_Key)));
+        }
+    }
+    
+    
+    
+    /**
+     * 结束添加。解释关系的起点与终点，生成出边与入边的邻接关系，并收缩数组
+     */
+    void finish()
+    {
+        this.relStarts = new int[this.relCount];
+        this.relEnds   = new int[this.relCount];
+        
+        for (int x=0; x<this.relCount; x++)
+        {
+            this.relStarts[x] = this.resolveNode(this.relStartIds[x]);
+            this.relEnds  [x] = this.resolveNode(this.relEndIds  [x]);
+        }
+        this.relStartIds = null;
+        this.relEndIds   = null;
+        
+        this.nodeIds             = Arrays.copyOf(this.nodeIds             ,this.nodeCount);
+        this.nodeLabelOffsets    = Arrays.copyOf(this.nodeLabelOffsets    ,this.nodeCount + 1);
+        this.nodePropertyOffsets = Arrays.copyOf(this.nodePropertyOffsets ,this.nodeCount + 1);
+        this.relIds              = Arrays.copyOf(this.relIds              ,this.relCount);
+        this.relTypes            = Arrays.copyOf(this.relTypes            ,this.relCount);
+        this.relPropertyOffsets  = Arrays.copyOf(this.relPropertyOffsets  ,this.relCount + 1);
+        this.nodeLabels        .trimToSize();
+        this.nodePropertyKeys  .trimToSize();
+        this.nodePropertyValues.trimToSize();
+        this.relPropertyKeys   .trimToSize();
+        this.relPropertyValues .trimToSize();
+        
+        this.outOffsets = new int[this.nodeCount + 1];
+        this.outRels    = new int[this.relCount];
+        this.inOffsets  = new int[this.nodeCount + 1];
+        this.inRels     = new int[this.relCount];
+        toCSR(this.relStarts ,null ,this.relCount ,this.nodeCount ,this.outOffsets ,this.outRels);
+        toCSR(this.relEnds   ,null ,this.relCount ,this.nodeCount ,this.inOffsets  ,this.inRels);
+    }
+    
+    
+    
+    /**
+     * 节点编号转下标。结果集中没有的节点，补充一个没有标签和属性的节点
+     * 
+     * @param i_NodeId  节点编号
+     * @return
+     */
+    private int resolveNode(long i_NodeId)
+    {
+        int v_Index = this.nodeIndexes.get(i_NodeId);
+        if ( v_Index < 0 )
+        {
+            v_Index = this.nodeCount;
+            this.appendNode(i_NodeId);
+        }
+        return v_Index;
+    }
+    
+    
+    
+    /**
+     * 按计数排序生成 CSR 的邻接结构。XCQLGraph 与 XCQLGraphProjection 共用
+     * 
+     * @param i_From        每个关系的分组端的节点下标（起点或终点）
+     * @param i_To          每个关系的另一端的节点下标。为NULL时，保存关系下标
+     * @param i_RelCount    关系数量
+     * @param i_NodeCount   节点数量
+     * @param io_Offsets    偏移量。长度为 i_NodeCount + 1
+     * @param io_Targets    另一端的节点下标（或关系下标）。按节点分组，同一节点内按关系下标的顺序
+     */
+    static void toCSR(int [] i_From ,int [] i_To ,int i_RelCount ,int i_NodeCount ,int [] io_Offsets ,int [] io_Targets)
+    {
+        for (int x=0; x<i_RelCount; x++)
+        {
+            io_Offsets[i_From[x] + 1]++;
+        }
+        for (int x=0; x<i_NodeCount; x++)
+        {
+            io_Offsets[x + 1] += io_Offsets[x];
+        }
+        
+        int [] v_Next = Arrays.copyOf(io_Offsets ,i_NodeCount);
+        for (int x=0; x<i_RelCount; x++)
+        {
+            io_Targets[v_Next[i_From[x]]++] = i_To == null ? x : i_To[x];
+        }
+    }
+    
+    
+    
+    /**
+     * 获取：节点数量
+     */
+    public int getNodeCount()
+    {
+        return this.nodeCount;
+    }
+    
+    
+    
+    /**
+     * 获取：关系数量
+     */
+    public int getRelationshipCount()
+    {
+        return this.relCount;
+    }
+    
+    
+    
+    /**
+     * 获取：节点的编号的数组（不是副本）。下标为节点下标
+     */
+    public long [] getNodeIds()
+    {
+        return this.nodeIds;
+    }
+    
+    
+    
+    /**
+     * 获取节点的编号
+     * 
+     * @param i_Node  节点下标
+     * @return
+     */
+    public long getNodeId(int i_Node)
+    {
+        return this.nodeIds[i_Node];
+    }
+    
+    
+    
+    /**
+     * 节点编号转下标。不存在时返回 -1
+     * 
+     * @param i_NodeId  节点编号
+     * @return
+     */
+    public int getNodeIndex(long i_NodeId)
+    {
+        return this.nodeIndexes.get(i_NodeId);
+    }
+    
+    
+    
+    /**
+     * 获取节点的标签
+     * 
+     * @param i_Node  节点下标
+     * @return
+     */
+    public List<String> getNodeLabels(int i_Node)
+    {
+        List<String> v_Labels = new ArrayList<String>(this.nodeLabelOffsets[i_Node + 1] - this.nodeLabelOffsets[i_Node]);
+        for (int x=this.nodeLabelOffsets[i_Node]; x<this.nodeLabelOffsets[i_Node + 1]; x++)
+        {
+            v_Labels.add(this.labels.decode(this.nodeLabels.get(x)));
+        }
+        return v_Labels;
+    }
+    
+    
+    
+    /**
+     * 节点是否有此标签
+     * 
+     * @param i_Node   节点下标
+     * @param i_Label  标签
+     * @return
+     */
+    public boolean hasLabel(int i_Node ,String i_Label)
+    {
+        int v_Code = this.labels.indexOf(i_Label);
+        if ( v_Code < 0 )
+        {
+            return false;
+        }
+        
+        for (int x=this.nodeLabelOffsets[i_Node]; x<this.nodeLabelOffsets[i_Node + 1]; x++)
+        {
+            if ( this.nodeLabels.get(x) == v_Code )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    
+    
+    /**
+     * 获取节点的属性值。不存在时返回NULL
+     * 
+     * @param i_Node  节点下标
+     * @param i_Key   属性名称
+     * @return
+     */
+    public Object getNodeProperty(int i_Node ,String i_Key)
+    {
+        return this.getProperty(this.nodePropertyOffsets ,this.nodePropertyKeys ,this.nodePropertyValues ,i_Node ,i_Key);
+    }
+    
+    
+    
+    /**
+     * 获取节点的所有属性
+     * 
+     * @param i_Node  节点下标
+     * @return
+     */
+    public Map<String ,Object> getNodeProperties(int i_Node)
+    {
+        return this.getProperties(this.nodePropertyOffsets ,this.nodePropertyKeys ,this.nodePropertyValues ,i_Node);
+    }
+    
+    
+    
+    /**
+     * 获取：关系的编号的数组（不是副本）。下标为关系下标
+     */
+    public long [] getRelationshipIds()
+    {
+        return this.relIds;
+    }
+    
+    
+    
+    /**
+     * 获取关系的编号
+     * 
+     * @param i_Rel  关系下标
+     * @return
+     */
+    public long getRelationshipId(int i_Rel)
+    {
+        return this.relIds[i_Rel];
+    }
+    
+    
+    
+    /**
+     * 关系编号转下标。不存在时返回 -1
+     * 
+     * @param i_RelId  关系编号
+     * @return
+     */
+    public int getRelationshipIndex(long i_RelId)
+    {
+        return this.relIndexes.get(i_RelId);
+    }
+    
+    
+    
+    /**
+     * 获取关系的起点的节点下标
+     * 
+     * @param i_Rel  关系下标
+     * @return
+     */
+    public int getStartNode(int i_Rel)
+    {
+        return this.relStarts[i_Rel];
+    }
+    
+    
+    
+    /**
+     * 获取关系的终点的节点下标
+     * 
+     * @param i_Rel  关系下标
+     * @return
+     */
+    public int getEndNode(int i_Rel)
+    {
+        return this.relEnds[i_Rel];
+    }
+    
+    
+    
+    /**
+     * 获取关系的类型
+     * 
+     * @param i_Rel  关系下标
+     * @return
+     */
+    public String getRelationshipType(int i_Rel)
+    {
+        return this.types.decode(this.relTypes[i_Rel]);
+    }
+    
+    
+    
+    /**
+     * 获取关系的属性值。不存在时返回NULL
+     * 
+     * @param i_Rel  关系下标
+     * @param i_Key  属性名称
+     * @return
+     */
+    public Object getRelationshipProperty(int i_Rel ,String i_Key)
+    {
+        return this.getProperty(this.relPropertyOffsets ,this.relPropertyKeys ,this.relPropertyValues ,i_Rel ,i_Key);
+    }
+    
+    
+    
+    /**
+     * 获取关系的所有属性
+     * 
+     * @param i_Rel  关系下标
+     * @return
+     */
+    public Map<String ,Object> getRelationshipProperties(int i_Rel)
+    {
+        return this.getProperties(this.relPropertyOffsets ,this.relPropertyKeys ,this.relPropertyValues ,i_Rel);
+    }
+    
+    
+    
+    /**
+     * 获取节点的出度
+     * 
+     * @param i_Node  节点下标
+     * @return
+     */
+    public int getOutDegree(int i_Node)
+    {
+        return this.outOffsets[i_Node + 1] - this.outOffsets[i_Node];
+    }
+    
+    
+    
+    /**
+     * 获取节点的入度
+     * 
+     * @param i_Node  节点下标
+     * @return
+     */
+    public int getInDegree(int i_Node)
+    {
+        return this.inOffsets[i_Node + 1] - this.inOffsets[i_Node];
+    }
+    
+    
+    
+    /**
+     * 获取：出边的偏移量（CSR，不是副本）。节点 i 的出边为 getOutRelationships() 中 [offsets[i] ,offsets[i + 1]) 之间的关系下标
+     */
+    public int [] getOutOffsets()
+    {
+        return this.outOffsets;
+    }
+    
+    
+    
+    /**
+     * 获取：出边的关系下标（CSR，不是副本）。按起点分组
+     */
+    public int [] getOutRelationships()
+    {
+        return this.outRels;
+    }
+    
+    
+    
+    /**
+     * 获取：入边的偏移量（CSR，不是副本）。节点 i 的入边为 getInRelationships() 中 [offsets[i] ,offsets[i + 1]) 之间的关系下标
+     */
+    public int [] getInOffsets()
+    {
+        return this.inOffsets;
+    }
+    
+    
+    
+    /**
+     * 获取：入边的关系下标（CSR，不是副本）。按终点分组
+     */
+    public int [] getInRelationships()
+    {
+        return this.inRels;
+    }
+    
+    
+    
+    /**
+     * 获取：关系的起点的节点下标的数组（不是副本）
+     */
+    public int [] getStartNodes()
+    {
+        return this.relStarts;
+    }
+    
+    
+    
+    /**
+     * 获取：关系的终点的节点下标的数组（不是副本）
+     */
+    public int [] getEndNodes()
+    {
+        return this.relEnds;
+    }
+    
+    
+    
+    /**
+     * 获取：节点的标签的字典。下标即为编码
+     */
+    public List<String> getLabels()
+    {
+        return this.labels.values();
+    }
+    
+    
+    
+    /**
+     * 获取：关系的类型的字典。下标即为编码
+     */
+    public List<String> getRelationshipTypes()
+    {
+        return this.types.values();
+    }
+    
+    
+    
+    /**
+     * 获取：属性名称的字典。下标即为编码
+     */
+    public List<String> getPropertyKeys()
+    {
+        return this.propertyKeys.values();
+    }
+    
+    
+    
+    /**
+     * 按 CSR 获取一个属性值
+     */
+    private Object getProperty(int [] i_Offsets ,IntArray i_Keys ,ObjectArray i_Values ,int i_Index ,String i_Key)
+    {
+        int v_Code = this.propertyKeys.indexOf(i_Key);
+        if ( v_Code < 0 )
+        {
+            return null;
+        }
+        
+        for (int x=i_Offsets[i_Index]; x<i_Offsets[i_Index + 1]; x++)
+        {
+            if ( i_Keys.get(x) == v_Code )
+            {
+                return i_Values.get(x);
+            }
+        }
+        return null;
+    }
+    
+    
+    
+    /**
+     * 按 CSR 获取所有属性
+     */
+    private Map<String ,Object> getProperties(int [] i_Offsets ,IntArray i_Keys ,ObjectArray i_Values ,int i_Index)
+    {
+        Map<String ,Object> v_Properties = new LinkedHashMap<String ,Object>();
+        for (int x=i_Offsets[i_Index]; x<i_Offsets[i_Index + 1]; x++)
+        {
+            v_Properties.put(this.propertyKeys.decode(i_Keys.get(x)) ,i_Values.get(x));
+        }
+        return v_Properties;
+    }
+    
+    
+    
+    /**
+     * 扩容后的容量
+     * 
+     * @param i_Capacity  原容量
+     * @return
+     */
+    private static int grow(int i_Capacity)
+    {
+        return i_Capacity <= 0 ? $InitCapacity : i_Capacity + (i_Capacity >> 1);
+    }
+    
+    
+    
+    
+    
+    /**
+     * 字符串的字典编码
+     */
+    private static final class Dictionary
+    {
+        
+        private final List<String>         values  = new ArrayList<String>();
+        
+        private final Map<String ,Integer> indexes = new HashMap<String ,Integer>();
+        
+        
+        
+        public int encode(String i_Value)
+        {
+            Integer v_Code = this.indexes.get(i_Value);
+            if ( v_Code == null )
+            {
+                v_Code = this.values.size();
+                this.values.add(i_Value);
+                this.indexes.put(i_Value ,v_Code);
+            }
+            return v_Code;
+        }
+        
+        
+        
+        public int indexOf(String i_Value)
+        {
+            Integer v_Code = this.indexes.get(i_Value);
+            return v_Code == null ? -1 : v_Code;
+        }
+        
+        
+        
+        public String decode(int i_Code)
+        {
+            return this.values.get(i_Code);
+        }
+        
+        
+        
+        public List<String> values()
+        {
+            return Collections.unmodifiableList(this.values);
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * 编号转下标的索引。开放寻址的哈希表，不为编号装箱。XCQLGraph 与 XCQLGraphProjection 共用
+     */
+    static final class LongIndex
+    {
+        
+        private long [] keys;
+        
+        /** 下标 + 1。为 0 时表示空位 */
+        private int []  values;
+        
+        private int     size;
+        
+        
+        
+        public LongIndex()
+        {
+            this.keys   = new long[$InitCapacity * 2];
+            this.values = new int [$InitCapacity * 2];
+            this.size   = 0;
+        }
+        
+        
+        
+        public int get(long i_Key)
+        {
+            int v_Mask = this.keys.length - 1;
+            for (int v_Slot = hash(i_Key) & v_Mask; this.values[v_Slot] != 0; v_Slot = (v_Slot + 1) & v_Mask)
+            {
+                if ( this.keys[v_Slot] == i_Key )
+                {
+                    return this.values[v_Slot] - 1;
+                }
+            }
+            return -1;
+        }
+        
+        
+        
+        public void put(long i_Key ,int i_Value)
+        {
+            if ( (this.size + 1) * 2 > this.keys.length )
+            {
+                this.rehash();
+            }
+            
+            int v_Mask = this.keys.length - 1;
+            int v_Slot = hash(i_Key) & v_Mask;
+            while ( this.values[v_Slot] != 0 && this.keys[v_Slot] != i_Key )
+            {
+                v_Slot = (v_Slot + 1) & v_Mask;
+            }
+            
+            if ( this.values[v_Slot] == 0 )
+            {
+                this.size++;
+            }
+            this.keys  [v_Slot] = i_Key;
+            this.values[v_Slot] = i_Value + 1;
+        }
+        
+        
+        
+        private void rehash()
+        {
+            long [] v_Keys   = this.keys;
+            int  [] v_Values = this.values;
+            
+            this.keys   = new long[v_Keys.length * 2];
+            this.values = new int [v_Keys.length * 2];
+            this.size   = 0;
+            
+            for (int x=0; x<v_Keys.length; x++)
+            {
+                if ( v_Values[x] != 0 )
+                {
+                    this.put(v_Keys[x] ,v_Values[x] - 1);
+                }
+            }
+        }
+        
+        
+        
+        private static int hash(long i_Key)
+        {
+            long v_Hash = i_Key * 0x9E3779B97F4A7C15L;
+            return (int) (v_Hash ^ (v_Hash >>> 32));
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * 可增长的 int[]
+     */
+    private static final class IntArray
+    {
+        
+        private int [] values = new int[$InitCapacity];
+        
+        private int    size   = 0;
+        
+        
+        
+        public void add(int i_Value)
+        {
+            if ( this.size >= this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,grow(this.values.length));
+            }
+            this.values[this.size++] = i_Value;
+        }
+        
+        
+        
+        public int get(int i_Index)
+        {
+            return this.values[i_Index];
+        }
+        
+        
+        
+        public int size()
+        {
+            return this.size;
+        }
+        
+        
+        
+        public void trimToSize()
+        {
+            this.values = Arrays.copyOf(this.values ,this.size);
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * 可增长的 Object[]
+     */
+    private static final class ObjectArray
+    {
+        
+        private Object [] values = new Object[$InitCapacity];
+        
+        private int       size   = 0;
+        
+        
+        
+        public void add(Object i_Value)
+        {
+            if ( this.size >= this.values.length )
+            {
+                this.values = Arrays.copyOf(this.values ,grow(this.values.length));
+            }
+            this.values[this.size++] = i_Value;
+        }
+        
+        
+        
+        public Object get(int i_Index)
+        {
+            return this.values[i_Index];
+        }
+        
+        
+        
+        public void trimToSize()
+        {
+            this.values = Arrays.copyOf(this.values ,this.size);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,729 @@
+package org.hy.common.xcql;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import org.hy.common.Help;
+
+
+
+
+
+/**
+ * 图的投影。将 XCQLGraph（或按XCQL查询出的子图）投影为只有整数下标的 CSR 邻接结构，并在进程内执行图算法。
+ * 
+ * 用于在查询结果上反复执行的广度优先遍历、最短路径、连通分量、度数、PageRank 等计算，
+ * 不用再按每一跳发起一次 Cypher 查询。
+ * 
+ * 投影后的节点用下标（从 0 开始）访问，与 XCQLGraph 的节点下标不同，可用 getNodeId() 与 getNodeIndex() 转换。
+ * 邻接结构为：
+ *   1. 出边：outOffsets[i] 至 outOffsets[i + 1] 之间的 outTargets 为节点 i 的出边的终点
+ *   2. 入边：inOffsets[i]  至 inOffsets[i + 1]  之间的 inSources  为节点 i 的入边的起点
+ * 
+ * 度数、广度优先遍历、弱连通分量、PageRank 按 Fork/Join 并行执行。
+ * 最短路径找到终点即停止，通常只遍历图的一小部分，按单线程执行。
+ * 
+ * 计算结果可通过 writeBack() 批量写回图数据库。
+ * 
+ * 投影后只读，算法可被多个线程并发执行。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-18  修改：度数、弱连通分量改为并行计算
+ */
+public class XCQLGraphProjection
+{
+    
+    /** 遍历方向 */
+    public enum Direction
+    {
+        /** 沿出边 */
+        OUT,
+        
+        /** 沿入边 */
+        IN,
+        
+        /** 不区分方向 */
+        BOTH
+    }
+    
+    
+    
+    /** 并行计算时，每个任务处理的最少节点数量 */
+    private static final int $ParallelThreshold = 1024;
+    
+    /** 写回图数据库时，节点编号的参数名称 */
+    public  static final String $WriteBack_ID   = "id";
+    
+    
+    
+    /** 节点的编号。下标为投影后的节点下标 */
+    private final long []              nodeIds;
+    
+    /** 节点编号转下标 */
+    private final XCQLGraph.LongIndex  nodeIndexes;
+    
+    /** 出边的偏移量。长度为节点数量 + 1 */
+    private final int []               outOffsets;
+    
+    /** 出边的终点的节点下标 */
+    private final int []               outTargets;
+    
+    /** 入边的偏移量。长度为节点数量 + 1 */
+    private final int []               inOffsets;
+    
+    /** 入边的起点的节点下标 */
+    private final int []               inSources;
+    
+    
+    
+    /**
+     * 投影整个图
+     * 
+     * @param i_Graph  图结构的查询结果
+     */
+    public XCQLGraphProjection(XCQLGraph i_Graph)
+    {
+        this(i_Graph ,null);
+    }
+    
+    
+    
+    /**
+     * 按节点标签与关系类型投影子图
+     * 
+     * @param i_Graph      图结构的查询结果
+     * @param i_NodeLabel  只投影有此标签的节点。为空时投影所有节点
+     * @param i_RelTypes   只投影这些类型的关系。为空时投影所有关系。两端节点均被投影时，关系才被投影
+     */
+    public XCQLGraphProjection(XCQLGraph i_Graph ,String i_NodeLabel ,String ... i_RelTypes)
+    {
+        if ( i_Graph == null )
+        {
+            throw new NullPointerException("XCQLGraph is null.");
+        }
+        
+        // 投影节点。图的节点下标转投影后的节点下标，未投影的为 -1
+        int [] v_NodeMap   = new int[i_Graph.getNodeCount()];
+        int    v_NodeCount = 0;
+        for (int x=0; x<v_NodeMap.length; x++)
+        {
+            if ( Help.isNull(i_NodeLabel) || i_Graph.hasLabel(x ,i_NodeLabel) )
+            {
+                v_NodeMap[x] = v_NodeCount++;
+            }
+            else
+            {
+                v_NodeMap[x] = -1;
+            }
+        }
+        
+        this.nodeIds     = new long[v_NodeCount];
+        this.nodeIndexes = new XCQLGraph.LongIndex();
+        for (int x=0; x<v_NodeMap.length; x++)
+        {
+            if ( v_NodeMap[x] >= 0 )
+            {
+                this.nodeIds[v_NodeMap[x]] = i_Graph.getNodeId(x);
+                this.nodeIndexes.put(i_Graph.getNodeId(x) ,v_NodeMap[x]);
+            }
+        }
+        
+        // 投影关系
+        Set<String> v_RelTypes = Help.isNull(i_RelTypes) ? null : new HashSet<String>(Arrays.asList(i_RelTypes));
+        int []      v_Starts   = new int[i_Graph.getRelationshipCount()];
+        int []      v_Ends     = new int[i_Graph.getRelationshipCount()];
+        int         v_RelCount = 0;
+        for (int x=0; x<i_Graph.getRelationshipCount(); x++)
+        {
+            int v_Start = v_NodeMap[i_Graph.getStartNode(x)];
+            int v_End   = v_NodeMap[i_Graph.getEndNode(x)];
+            
+            if ( v_Start < 0 || v_End < 0 )
+            {
+                continue;
+            }
+            if ( v_RelTypes != null && !v_RelTypes.contains(i_Graph.getRelationshipType(x)) )
+            {
+                continue;
+            }
+            
+            v_Starts[v_RelCount] = v_Start;
+            v_Ends  [v_RelCount] = v_End;
+            v_RelCount++;
+        }
+        
+        this.outOffsets = new int[v_NodeCount + 1];
+        this.outTargets = new int[v_RelCount];
+        this.inOffsets  = new int[v_NodeCount + 1];
+        this.inSources  = new int[v_RelCount];
+        XCQLGraph.toCSR(v_Starts ,v_Ends   ,v_RelCount ,v_NodeCount ,this.outOffsets ,this.outTargets);
+        XCQLGraph.toCSR(v_Ends   ,v_Starts ,v_RelCount ,v_NodeCount ,this.inOffsets  ,this.inSources);
+    }
+    
+    
+    
+    /**
+     * 按XCQL查询子图并投影。XCQL的结果的表级对象须配置为 XCQLGraph
+     * 
+     * @param i_XCQL    查询子图的XCQL。如 MATCH (a:Person)-[r:KNOWS]->(b:Person) RETURN a ,r ,b
+     * @param i_Values  XCQL的占位符的填充值。可为NULL
+     * @return
+     */
+    public static XCQLGraphProjection load(XCQL i_XCQL ,Map<String ,?> i_Values)
+    {
+        XCQLData v_Data = i_Values == null ? i_XCQL.queryXCQLData() : i_XCQL.queryXCQLData(i_Values);
+        if ( v_Data == null || v_Data.getGraph() == null )
+        {
+            throw new IllegalArgumentException("XCQL[" + i_XCQL.getXJavaID() + "] result table is not " + XCQLGraph.class.getName() + ".");
+        }
+        
+        return new XCQLGraphProjection(v_Data.getGraph());
+    }
+    
+    
+    
+    /**
+     * 获取：节点数量
+     */
+    public int getNodeCount()
+    {
+        return this.nodeIds.length;
+    }
+    
+    
+    
+    /**
+     * 获取：关系数量
+     */
+    public int getRelationshipCount()
+    {
+        return this.outTargets.length;
+    }
+    
+    
+    
+    /**
+     * 获取节点的编号
+     * 
+     * @param i_Node  投影后的节点下标
+     * @return
+     */
+    public long getNodeId(int i_Node)
+    {
+        return this.nodeIds[i_Node];
+    }
+    
+    
+    
+    /**
+     * 节点编号转投影后的节点下标。未投影时返回 -1
+     * 
+     * @param i_NodeId  节点编号
+     * @return
+     */
+    public int getNodeIndex(long i_NodeId)
+    {
+        return this.nodeIndexes.get(i_NodeId);
+    }
+    
+    
+    
+    /**
+     * 获取：出边的偏移量（不是副本）
+     */
+    public int [] getOutOffsets()
+    {
+        return this.outOffsets;
+    }
+    
+    
+    
+    /**
+     * 获取：出边的终点的节点下标（不是副本）
+     */
+    public int [] getOutTargets()
+    {
+        return this.outTargets;
+    }
+    
+    
+    
+    /**
+     * 获取：入边的偏移量（不是副本）
+     */
+    public int [] getInOffsets()
+    {
+        return this.inOffsets;
+    }
+    
+    
+    
+    /**
+     * 获取：入边的起点的节点下标（不是副本）
+     */
+    public int [] getInSources()
+    {
+        return this.inSources;
+    }
+    
+    
+    
+    /**
+     * 计算每个节点的度数。每个节点只写自己的值，按 Fork/Join 分片并行计算
+     * 
+     * @param i_Direction  OUT 为出度，IN 为入度，BOTH 为两者之和
+     * @return             下标为投影后的节点下标
+     */
+    public int [] degrees(Direction i_Direction)
+    {
+        final int [] v_Degrees = new int[this.nodeIds.length];
+        
+        new RangeTask(0 ,v_Degrees.length ,(i_From ,i_To) ->
+        {
+            for (int x=i_From; x<i_To; x++)
+            {
+                if ( i_Direction != Direction.IN )
+                {
+                    v_Degrees[x] += this.outOffsets[x + 1] - this.outOffsets[x];
+                }
+                if ( i_Direction != Direction.OUT )
+                {
+                    v_Degrees[x] += this.inOffsets[x + 1] - this.inOffsets[x];
+                }
+            }
+        }).invoke();
+        
+        return v_Degrees;
+    }
+    
+    
+    
+    /**
+     * 并行的广度优先遍历。按层同步，每层的前沿节点按 Fork/Join 分片并行扩展。
+     * 
+     * @param i_Source     起点的节点下标
+     * @param i_Direction  遍历方向
+     * @param i_MaxDepth   最大跳数。小于 0 时不限制
+     * @return             每个节点与起点的跳数。不可达的为 -1 。下标为投影后的节点下标
+     */
+    public int [] bfs(int i_Source ,Direction i_Direction ,int i_MaxDepth)
+    {
+        final AtomicIntegerArray v_Depths   = new AtomicIntegerArray(this.nodeIds.length);
+        int []                   v_Frontier = new int[this.nodeIds.length];
+        int []                   v_NextOnes = new int[this.nodeIds.length];
+        int                      v_Size     = 1;
+        int                      v_Depth    = 0;
+        
+        for (int x=0; x<this.nodeIds.length; x++)
+        {
+            v_Depths.set(x ,-1);
+        }
+        v_Depths.set(i_Source ,0);
+        v_Frontier[0] = i_Source;
+        
+        while ( v_Size > 0 && (i_MaxDepth < 0 || v_Depth < i_MaxDepth) )
+        {
+            final int []        v_Current  = v_Frontier;
+            final int []        v_Next     = v_NextOnes;
+            final int           v_NewDepth = ++v_Depth;
+            final AtomicInteger v_NextSize = new AtomicInteger(0);
+            
+            new RangeTask(0 ,v_Size ,(i_From ,i_To) ->
+            {
+                for (int x=i_From; x<i_To; x++)
+                {
+                    int v_Node = v_Current[x];
+                    if ( i_Direction != Direction.IN )
+                    {
+                        this.visit(v_Depths ,v_Next ,v_NextSize ,v_NewDepth ,this.outOffsets ,this.outTargets ,v_Node);
+                    }
+                    if ( i_Direction != Direction.OUT )
+                    {
+                        this.visit(v_Depths ,v_Next ,v_NextSize ,v_NewDepth ,this.inOffsets  ,this.inSources  ,v_Node);
+                    }
+                }
+            }).invoke();
+            
+            v_Frontier = v_Next;
+            v_NextOnes = v_Current;
+            v_Size     = v_NextSize.get();
+        }
+        
+        int [] v_Ret = new int[this.nodeIds.length];
+        for (int x=0; x<v_Ret.length; x++)
+        {
+            v_Ret[x] = v_Depths.get(x);
+        }
+        return v_Ret;
+    }
+    
+    
+    
+    /**
+     * 广度优先遍历时，访问一个节点的邻居。首次访问的邻居加入下一层的前沿
+     */
+    private void visit(AtomicIntegerArray io_Depths ,int [] io_Next ,AtomicInteger io_NextSize ,int i_Depth ,int [] i_Offsets ,int [] i_Targets ,int i_Node)
+    {
+        for (int y=i_Offsets[i_Node]; y<i_Offsets[i_Node + 1]; y++)
+        {
+            int v_Neighbor = i_Targets[y];
+            if ( io_Depths.get(v_Neighbor) < 0 && io_Depths.compareAndSet(v_Neighbor ,-1 ,i_Depth) )
+            {
+                io_Next[io_NextSize.getAndIncrement()] = v_Neighbor;
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 最短路径（按跳数，不计权重）。找到终点即停止遍历
+     * 
+     * @param i_Source     起点的节点下标
+     * @param i_Target     终点的节点下标
+     * @param i_Direction  遍历方向
+     * @return             路径上的节点下标（含起点与终点）。不可达时返回NULL
+     */
+    public int [] shortestPath(int i_Source ,int i_Target ,Direction i_Direction)
+    {
+        int [] v_Parents = new int[this.nodeIds.length];
+        int [] v_Queue   = new int[this.nodeIds.length];
+        int    v_Head    = 0;
+        int    v_Tail    = 0;
+        
+        Arrays.fill(v_Parents ,-1);
+        v_Parents[i_Source] = i_Source;
+        v_Queue[v_Tail++]   = i_Source;
+        
+        while ( v_Head < v_Tail && v_Parents[i_Target] < 0 )
+        {
+            int v_Node = v_Queue[v_Head++];
+            if ( i_Direction != Direction.IN )
+            {
+                v_Tail = enqueue(v_Parents ,v_Queue ,v_Tail ,this.outOffsets ,this.outTargets ,v_Node);
+            }
+            if ( i_Direction != Direction.OUT )
+            {
+                v_Tail = enqueue(v_Parents ,v_Queue ,v_Tail ,this.inOffsets  ,this.inSources  ,v_Node);
+            }
+        }
+        
+        if ( v_Parents[i_Target] < 0 )
+        {
+            return null;
+        }
+        
+        List<Integer> v_Path = new ArrayList<Integer>();
+        for (int v_Node = i_Target; v_Node != i_Source; v_Node = v_Parents[v_Node])
+        {
+            v_Path.add(v_Node);
+        }
+        v_Path.add(i_Source);
+        
+        int [] v_Ret = new int[v_Path.size()];
+        for (int x=0; x<v_Ret.length; x++)
+        {
+            v_Ret[x] = v_Path.get(v_Ret.length - 1 - x);
+        }
+        return v_Ret;
+    }
+    
+    
+    
+    /**
+     * 最短路径遍历时，未访问的邻居入队
+     * 
+     * @return  入队后的队尾
+     */
+    private static int enqueue(int [] io_Parents ,int [] io_Queue ,int i_Tail ,int [] i_Offsets ,int [] i_Targets ,int i_Node)
+    {
+        int v_Tail = i_Tail;
+        for (int y=i_Offsets[i_Node]; y<i_Offsets[i_Node + 1]; y++)
+        {
+            int v_Neighbor = i_Targets[y];
+            if ( io_Parents[v_Neighbor] < 0 )
+            {
+                io_Parents[v_Neighbor] = i_Node;
+                io_Queue[v_Tail++]     = v_Neighbor;
+            }
+        }
+        return v_Tail;
+    }
+    
+    
+    
+    /**
+     * 弱连通分量。按无锁的并查集计算：各出边按 Fork/Join 分片并行合并，合并时用 CAS 将下标大的根挂到下标小的根上，
+     * 查找时用 CAS 做路径减半。所以每个分量的根，就是分量中最小的节点下标。
+     * 
+     * @return  每个节点的分量编号。编号从 0 开始，按分量中首个节点的下标排序。下标为投影后的节点下标
+     */
+    public int [] weaklyConnectedComponents()
+    {
+        final int                v_NodeCount = this.nodeIds.length;
+        final AtomicIntegerArray v_Parents   = new AtomicIntegerArray(v_NodeCount);
+        for (int x=0; x<v_NodeCount; x++)
+        {
+            v_Parents.set(x ,x);
+        }
+        
+        new RangeTask(0 ,v_NodeCount ,(i_From ,i_To) ->
+        {
+            for (int x=i_From; x<i_To; x++)
+            {
+                for (int y=this.outOffsets[x]; y<this.outOffsets[x + 1]; y++)
+                {
+                    union(v_Parents ,x ,this.outTargets[y]);
+                }
+            }
+        }).invoke();
+        
+        // 分量编号压缩为连续的编号。根是分量中最小的节点下标，所以按下标顺序编号时，根总是先于分量中的其它节点
+        int [] v_Components = new int[v_NodeCount];
+        int    v_Count      = 0;
+        for (int x=0; x<v_NodeCount; x++)
+        {
+            int v_Root = find(v_Parents ,x);
+            v_Components[x] = v_Root == x ? v_Count++ : v_Components[v_Root];
+        }
+        return v_Components;
+    }
+    
+    
+    
+    /**
+     * 并查集的合并。下标大的根挂到下标小的根上，CAS 失败（根已被其它线程挂走）时重新查找后再试
+     */
+    private static void union(AtomicIntegerArray io_Parents ,int i_A ,int i_B)
+    {
+        int v_A = i_A;
+        int v_B = i_B;
+        while ( true )
+        {
+            v_A = find(io_Parents ,v_A);
+            v_B = find(io_Parents ,v_B);
+            if ( v_A == v_B )
+            {
+                return;
+            }
+            
+            if ( v_A < v_B )
+            {
+                int v_Temp = v_A;
+                v_A = v_B;
+                v_B = v_Temp;
+            }
+            if ( io_Parents.compareAndSet(v_A ,v_A ,v_B) )
+            {
+                return;
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 并查集的查找（路径减半）。父节点的下标总不大于自己的下标，并发的路径减半只会让路径变短
+     */
+    private static int find(AtomicIntegerArray io_Parents ,int i_Node)
+    {
+        int v_Node = i_Node;
+        while ( true )
+        {
+            int v_Parent = io_Parents.get(v_Node);
+            if ( v_Parent == v_Node )
+            {
+                return v_Node;
+            }
+            
+            int v_Grand = io_Parents.get(v_Parent);
+            if ( v_Grand != v_Parent )
+            {
+                io_Parents.compareAndSet(v_Node ,v_Parent ,v_Grand);
+            }
+            v_Node = v_Grand;
+        }
+    }
+    
+    
+    
+    /**
+     * PageRank 。按入边拉取（pull）的方式迭代，每个节点只写自己的值，按 Fork/Join 分片并行计算。
+     * 没有出边的节点的值，平均分给所有节点。
+     * 
+     * @param i_Damping     阻尼系数。常用 0.85
+     * @param i_MaxIterate  最大迭代次数
+     * @param i_Tolerance   收敛的容差。两次迭代的值的差的绝对值之和小于此值时停止迭代
+     * @return              每个节点的值。所有节点的值之和为 1 。下标为投影后的节点下标
+     */
+    public double [] pageRank(double i_Damping ,int i_MaxIterate ,double i_Tolerance)
+    {
+        final int      v_NodeCount = this.nodeIds.length;
+        double []      v_Ranks     = new double[v_NodeCount];
+        double []      v_NextRanks = new double[v_NodeCount];
+        final double[] v_Contribs  = new double[v_NodeCount];
+        
+        if ( v_NodeCount == 0 )
+        {
+            return v_Ranks;
+        }
+        Arrays.fill(v_Ranks ,1D / v_NodeCount);
+        
+        for (int v_Iterate=0; v_Iterate<i_MaxIterate; v_Iterate++)
+        {
+            final double [] v_Current = v_Ranks;
+            final double [] v_Next    = v_NextRanks;
+            final DoubleAdder v_Dangling = new DoubleAdder();
+            final DoubleAdder v_Delta    = new DoubleAdder();
+            
+            new RangeTask(0 ,v_NodeCount ,(i_From ,i_To) ->
+            {
+                double v_Sum = 0D;
+                for (int x=i_From; x<i_To; x++)
+                {
+                    int v_OutDegree = this.outOffsets[x + 1] - this.outOffsets[x];
+                    if ( v_OutDegree == 0 )
+                    {
+                        v_Contribs[x] = 0D;
+                        v_Sum        += v_Current[x];
+                    }
+                    else
+                    {
+                        v_Contribs[x] = v_Current[x] / v_OutDegree;
+                    }
+                }
+                v_Dangling.add(v_Sum);
+            }).invoke();
+            
+            final double v_Base = (1D - i_Damping) / v_NodeCount + i_Damping * v_Dangling.sum() / v_NodeCount;
+            
+            new RangeTask(0 ,v_NodeCount ,(i_From ,i_To) ->
+            {
+                double v_Sum = 0D;
+                for (int x=i_From; x<i_To; x++)
+                {
+                    double v_Rank = 0D;
+                    for (int y=this.inOffsets[x]; y<this.inOffsets[x + 1]; y++)
+                    {
+                        v_Rank += v_Contribs[this.inSources[y]];
+                    }
+                    v_Next[x] = v_Base + i_Damping * v_Rank;
+                    v_Sum    += Math.abs(v_Next[x] - v_Current[x]);
+                }
+                v_Delta.add(v_Sum);
+            }).invoke();
+            
+            v_Ranks     = v_Next;
+            v_NextRanks = v_Current;
+            
+            if ( v_Delta.sum() < i_Tolerance )
+            {
+                break;
+            }
+        }
+        
+        return v_Ranks;
+    }
+    
+    
+    
+    /**
+     * 将算法的计算结果批量写回图数据库。
+     * 
+     * 每个节点生成一个Map，包含节点编号（占位符 #id）与计算结果（占位符为 i_ValueName），按 XCQL.executeUpdates() 批量执行。
+     * 分批提交按XCQL的 batchCommit 配置。
+     * 
+     * @param i_XCQL       写回的XCQL。如 MATCH (n) WHERE id(n) = #id SET n.rank = #rank
+     * @param i_ValueName  计算结果的占位符名称。如 rank
+     * @param i_Values     计算结果。下标为投影后的节点下标，可以是 int[]、long[]、double[] 或 Object[]
+     * @return             影响的记录数
+     */
+    public int writeBack(XCQL i_XCQL ,String i_ValueName ,Object i_Values)
+    {
+        if ( i_Values == null || !i_Values.getClass().isArray() || Array.getLength(i_Values) != this.nodeIds.length )
+        {
+            throw new IllegalArgumentException("Values is not an array of projection node count(" + this.nodeIds.length + ").");
+        }
+        
+        List<Map<String ,Object>> v_Rows = new ArrayList<Map<String ,Object>>(this.nodeIds.length);
+        for (int x=0; x<this.nodeIds.length; x++)
+        {
+            Map<String ,Object> v_Row = new HashMap<String ,Object>(4);
+            v_Row.put($WriteBack_ID ,this.nodeIds[x]);
+            v_Row.put(i_ValueName   ,Array.get(i_Values ,x));
+            v_Rows.add(v_Row);
+        }
+        
+        return i_XCQL.executeUpdates(v_Rows);
+    }
+    
+    
+    
+    
+    
+    /**
+     * 分片执行的范围的处理方法
+     */
+    @FunctionalInterface
+    private interface RangeBody
+    {
+        public void apply(int i_From ,int i_To);
+    }
+    
+    
+    
+    
+    
+    /**
+     * 按节点下标的范围分片的 Fork/Join 任务。范围不大于 $ParallelThreshold 时在当前线程执行
+     */
+    private static final class RangeTask extends RecursiveAction
+    {
+        
+        private static final long serialVersionUID = -6146128837925390826L;
+        
+        private final int       from;
+        
+        private final int       to;
+        
+        private final RangeBody body;
+        
+        
+        
+        public RangeTask(int i_From ,int i_To ,RangeBody i_Body)
+        {
+            this.from = i_From;
+            this.to   = i_To;
+            this.body = i_Body;
+        }
+        
+        
+        
+        @Override
+        protected void compute()
+        {
+            if ( this.to - this.from <= $ParallelThreshold )
+            {
+                this.body.apply(this.from ,this.to);
+                return;
+            }
+            
+            int v_Middle = (this.from + this.to) >>> 1;
+            invokeAll(new RangeTask(this.from ,v_Middle ,this.body) ,new RangeTask(v_Middle ,this.to ,this.body));
+        }
+        
+    }
+    
+}
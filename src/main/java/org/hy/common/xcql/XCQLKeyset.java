@@ -0,0 +1,398 @@
+package org.hy.common.xcql;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.summary.ResultSummary;
+
+
+
+
+
+/**
+ * 键集分页（Keyset，也称Seek分页）。
+ * 
+ * 与 SKIP/LIMIT 分页相比，无论翻到第几页，数据库端都只须从上一页最后一条记录的排序键之后开始读取，
+ * 第N页与第1页的代价相同，适用于海量节点的无限滚动列表。
+ * 
+ * 改写规则：在最外层 RETURN 子句之前插入 WITH * WHERE 排序键 > $xcqlKeysetAfter（首页时不插入），
+ *          在末尾追加 ORDER BY 排序键 LIMIT $xcqlPagingLimit。
+ * 
+ * 约定1：排序键须是唯一的，如 n.id。否则相同排序键的记录可能跨页时被遗漏。
+ * 
+ * 约定2：排序键须能从返回的数据子集中取值，如 RETURN n 时的 n.id，或 RETURN n.id 时的 n.id。
+ * 
+ * 约定3：续页标记是不透明的字符串，只应原样传回，不应解释或修改它。为NULL时表示首页。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+public class XCQLKeyset
+{
+    
+    /** 键集分页时，上一页最后一条记录的排序键的参数名称 */
+    public static final String $Keyset_After = "xcqlKeysetAfter";
+    
+    
+    
+    /**
+     * 将查询改写为键集分页的查询
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Query        常规CQL语句
+     * @param i_SortKey      排序键。如 n.id
+     * @param i_Token        续页标记。为NULL时表示首页
+     * @param i_PagePerSize  每页显示多少条数据
+     * @return               不能改写时（见 DBCQL_Lexer.getKeysetPosition()），返回NULL
+     */
+    public static Query toKeysetQuery(Query i_Query ,String i_SortKey ,String i_Token ,int i_PagePerSize)
+    {
+        if ( i_Query == null || i_PagePerSize <= 0 )
+        {
+            return null;
+        }
+        
+        if ( !isSortKey(i_SortKey) )
+        {
+            throw new IllegalArgumentException("Sort key[" + i_SortKey + "] is not a property path, such as n.id.");
+        }
+        
+        Value v_Params = i_Query.parameters();
+        if ( v_Params.containsKey($Keyset_After) || v_Params.containsKey(XCQLOPQuery.$Paging_Limit) )
+        {
+            return null;
+        }
+        
+        String v_CQL      = i_Query.text();
+        int    v_Position = new DBCQL_Lexer(v_CQL).getKeysetPosition();
+        if ( v_Position < 0 )
+        {
+            return null;
+        }
+        
+        StringBuilder       v_Buffer = new StringBuilder(v_CQL.length() + 128);
+        Map<String ,Object> v_Keyset = new HashMap<String ,Object>(4);
+        Object              v_After  = decode(i_Token);
+        
+        v_Buffer.append(v_CQL ,0 ,v_Position);
+        if ( v_After != null )
+        {
+            v_Buffer.append("WITH * WHERE ").append(i_SortKey).append(" > $").append($Keyset_After).append(" ");
+            v_Keyset.put($Keyset_After ,v_After);
+        }
+        v_Buffer.append(v_CQL.substring(v_Position).trim());
+        v_Buffer.append(" ORDER BY ").append(i_SortKey).append(" LIMIT $").append(XCQLOPQuery.$Paging_Limit);
+        v_Keyset.put(XCQLOPQuery.$Paging_Limit ,i_PagePerSize);
+        
+        return i_Query.withText(v_Buffer.toString()).withUpdatedParameters(Values.value(v_Keyset));
+    }
+    
+    
+    
+    /**
+     * 是否为合法的排序键，即由字母、数字、下划线组成的属性路径，如 n.id。
+     * 
+     * 排序键将拼接在CQL语句中，所以不允许其它字符，防止CQL注入。
+     * 
+     * @param i_SortKey
+     * @return
+     */
+    private static boolean isSortKey(String i_SortKey)
+    {
+        if ( i_SortKey == null || i_SortKey.isEmpty() || i_SortKey.startsWith(".") || i_SortKey.endsWith(".") )
+        {
+            return false;
+        }
+        
+        for (int x=0; x<i_SortKey.length(); x++)
+        {
+            char v_Char = i_SortKey.charAt(x);
+            
+            if ( v_Char == '.' )
+            {
+                if ( i_SortKey.charAt(x - 1) == '.' )
+                {
+                    return false;
+                }
+            }
+            else if ( !Character.isLetterOrDigit(v_Char) && v_Char != '_' )
+            {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    
+    
+    /**
+     * 从记录中获取排序键的值。
+     * 
+     * 先按排序键的全名（如 RETURN n.id 时的数据子集名称 n.id）取值，再按属性路径（如 RETURN n 时 n 的 id 属性）取值。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Record   记录
+     * @param i_SortKey  排序键
+     * @return           排序键的值为NULL时，返回NULL
+     */
+    public static Object getSortValue(Record i_Record ,String i_SortKey)
+    {
+        if ( i_Record.containsKey(i_SortKey) )
+        {
+            return i_Record.get(i_SortKey).asObject();
+        }
+        
+        String [] v_Names = i_SortKey.split("\\.");
+        if ( !i_Record.containsKey(v_Names[0]) )
+        {
+            throw new IllegalArgumentException("Sort key[" + i_SortKey + "] is not returned.");
+        }
+        
+        Value v_Value = i_Record.get(v_Names[0]);
+        for (int x=1; x<v_Names.length && !v_Value.isNull(); x++)
+        {
+            v_Value = v_Value.get(v_Names[x]);
+        }
+        
+        return v_Value.asObject();
+    }
+    
+    
+    
+    /**
+     * 生成续页标记。支持的排序键的类型为：整数、浮点数、字符串
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_SortValue  最后一条记录的排序键的值
+     * @return
+     */
+    public static String encode(Object i_SortValue)
+    {
+        String v_Token = null;
+        
+        if ( i_SortValue instanceof Long || i_SortValue instanceof Integer )
+        {
+            v_Token = "L" + i_SortValue;
+        }
+        else if ( i_SortValue instanceof Double || i_SortValue instanceof Float )
+        {
+            v_Token = "D" + i_SortValue;
+        }
+        else if ( i_SortValue instanceof String )
+        {
+            v_Token = "S" + i_SortValue;
+        }
+        else
+        {
+            throw new IllegalArgumentException("Sort value[" + i_SortValue + "] is not a integer, float or string.");
+        }
+        
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(v_Token.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    
+    
+    /**
+     * 解释续页标记
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Token  续页标记
+     * @return         为NULL或空字符串时，返回NULL
+     */
+    public static Object decode(String i_Token)
+    {
+        if ( i_Token == null || i_Token.isEmpty() )
+        {
+            return null;
+        }
+        
+        String v_Token = null;
+        try
+        {
+            v_Token = new String(Base64.getUrlDecoder().decode(i_Token) ,StandardCharsets.UTF_8);
+            
+            switch ( v_Token.isEmpty() ? ' ' : v_Token.charAt(0) )
+            {
+                case 'L':
+                    return Long.valueOf(v_Token.substring(1));
+                case 'D':
+                    return Double.valueOf(v_Token.substring(1));
+                case 'S':
+                    return v_Token.substring(1);
+                default:
+                    break;
+            }
+        }
+        catch (IllegalArgumentException exce)
+        {
+            // 与格式错误一并在下方抛出
+        }
+        
+        throw new IllegalArgumentException("Keyset token[" + i_Token + "] is invalid.");
+    }
+    
+    
+    
+    /**
+     * 记录最后一条读取记录的结果集。读取的过程与原结果集完全相同
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     */
+    public static class KeysetResult implements Result
+    {
+        
+        /** 原结果集 */
+        private final Result result;
+        
+        /** 最后一条读取的记录 */
+        private Record       lastRecord;
+        
+        /** 已读取的记录数 */
+        private long         readCount;
+        
+        
+        
+        public KeysetResult(Result i_Result)
+        {
+            this.result    = i_Result;
+            this.readCount = 0L;
+        }
+        
+        
+        
+        /**
+         * 获取：最后一条读取的记录。未读取过时为NULL
+         */
+        public Record getLastRecord()
+        {
+            return this.lastRecord;
+        }
+        
+        
+        
+        /**
+         * 获取：已读取的记录数
+         */
+        public long getReadCount()
+        {
+            return this.readCount;
+        }
+        
+        
+        
+        private Record read(Record i_Record)
+        {
+            this.lastRecord = i_Record;
+            this.readCount++;
+            return i_Record;
+        }
+        
+        
+        
+        @Override
+        public List<String> keys()
+        {
+            return this.result.keys();
+        }
+        
+        
+        
+        @Override
+        public boolean hasNext()
+        {
+            return this.result.hasNext();
+        }
+        
+        
+        
+        @Override
+        public Record next()
+        {
+            return this.read(this.result.next());
+        }
+        
+        
+        
+        @Override
+        public Record single() throws NoSuchRecordException
+        {
+            return this.read(this.result.single());
+        }
+        
+        
+        
+        @Override
+        public Record peek()
+        {
+            return this.result.peek();
+        }
+        
+        
+        
+        @Override
+        public Stream<Record> stream()
+        {
+            return this.result.stream().map(this::read);
+        }
+        
+        
+        
+        @Override
+        public List<Record> list()
+        {
+            List<Record> v_Records = this.result.list();
+            
+            for (Record v_Record : v_Records)
+            {
+                this.read(v_Record);
+            }
+            
+            return v_Records;
+        }
+        
+        
+        
+        @Override
+        public <T> List<T> list(Function<Record ,T> i_Mapper)
+        {
+            return this.result.list(v_Record -> i_Mapper.apply(this.read(v_Record)));
+        }
+        
+        
+        
+        @Override
+        public ResultSummary consume()
+        {
+            return this.result.consume();
+        }
+        
+    }
+    
+}
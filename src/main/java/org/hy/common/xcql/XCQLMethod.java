@@ -1,11 +1,27 @@
 package org.hy.common.xcql;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hy.common.Date;
 import org.hy.common.Help;
@@ -13,7 +29,9 @@ import org.hy.common.MethodReflect;
 import org.hy.common.StaticReflect;
 import org.hy.common.StringHelp;
 import org.neo4j.driver.Value;
-import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.exceptions.value.Uncoercible;
+import org.neo4j.driver.internal.types.TypeConstructor;
+import org.neo4j.driver.internal.types.TypeRepresentation;
 import org.neo4j.driver.types.Type;
 
 
@@ -28,9 +46,40 @@ import org.neo4j.driver.types.Type;
  * @author      ZhengWei(HY)
  * @createDate  2023-06-03
  * @version     v1.0
+ *              v2.0  2026-10-17  添加：填充方法编译为组合的 MethodHandle，替代每次填充时的反射调用
+ *              v3.0  2026-10-17  修改：按图数据库的原生类型取值，保留Long、Double、时间、列表、Map等类型的全部精度
+ *              v4.0  2026-10-18  修改：按运行时的值的类型加工的 MachiningRuntime 改为本类的内部类
  */
 public final class XCQLMethod
 {
+    
+    /** 编译状态：未编译 */
+    private static final int        $Compile_None   = 0;
+    
+    /** 编译状态：已编译 */
+    private static final int        $Compile_Finish = 1;
+    
+    /** 编译状态：编译失败，按反射的方式填充 */
+    private static final int        $Compile_Error  = -1;
+    
+    /** 填充对象的取值方法的类型：(Object 填充对象 ,Long 编号 ,String 名称)Object */
+    private static final MethodType $ParamType      = MethodType.methodType(Object.class ,Object.class ,Long.class ,String.class);
+    
+    /** 编译后的填充方法的类型：(Object 父级对象 ,Object 填充对象 ,Long 编号 ,String 名称)void */
+    private static final MethodType $CallType       = MethodType.methodType(void.class ,Object.class ,Object.class ,Long.class ,String.class);
+    
+    /** 图数据库的类型对应的取值方法。只在解释时查找一次 */
+    private static final Map<TypeConstructor ,Method>         $ValueGetters = newValueGetters();
+    
+    /**
+     * 取值的Java类型转填充方法的入参类型的加工类。
+     * 
+     * Map.key  为 "取值的Java类型->入参类型"
+     */
+    private static final Map<String ,MachiningValue<? ,?>>   $Machinings   = newMachinings();
+    
+    
+    
     /** 调用的方法 */
     private Method                               call;
     
@@ -96,6 +145,30 @@ public final class XCQLMethod
      */
     private Class<?>                             collectionElement;
     
+    /** 编译状态。只在解释完成后的首次填充时编译一次 */
+    private volatile int                         compileStatus;
+    
+    /** 编译后的填充方法。类型为 $CallType */
+    private MethodHandle                         callHandle;
+    
+    /** 编译后的按已取得的入参数值执行的填充方法。类型为 (Object ,Object[])void */
+    private MethodHandle                         valuesCallHandle;
+    
+    /** 编译后的填充方法的所有入参数值的取值。类型为 (Object ,Long ,String)Object[] */
+    private MethodHandle                         paramsHandle;
+    
+    /** 编译后的 getInstanceOfMethod 。类型为 (Object)Object */
+    private MethodHandle                         getInstanceHandle;
+    
+    /** 编译后的 setInstanceOfMethod 。类型为 (Object ,Object)void */
+    private MethodHandle                         setInstanceHandle;
+    
+    /** 编译后的对象B（或集合元素）的无参构造器。类型为 ()Object */
+    private MethodHandle                         newInstanceHandle;
+    
+    /** 编译后的 resultSet_Getter 与 machiningValue 的组合。类型为 (Value)Object */
+    private MethodHandle                         colValueHandle;
+    
     
     
     public XCQLMethod()
@@ -108,6 +181,7 @@ public final class XCQLMethod
         this.setInstanceOfMethod = null;
         this.collection          = null;
         this.collectionElement   = null;
+        this.compileStatus       = $Compile_None;
     }
     
     
@@ -129,11 +203,9 @@ public final class XCQLMethod
     @SuppressWarnings("unchecked")
     public void invoke(Object i_Father ,Object i_Child ,Long i_ChildNo ,String i_ChildName)
     {
-        Object [] v_Values = new Object[this.paramList.size()];
-        
-        for (int i=0; i<this.paramList.size(); i++)
+        if ( this.compileStatus == $Compile_None )
         {
-            v_Values[i] = this.paramList.get(i).invoke(i_Child ,i_ChildNo ,i_ChildName);
+            this.compile();
         }
         
         try
@@ -141,9 +213,10 @@ public final class XCQLMethod
             // 对象A的属性还是一个对象B，现对对象B的属性进行填充。ZhengWei(HY) Add 2015-07-04
             if ( this.getInstanceOfMethod != null )
             {
-                Object  v_FatherTemp            = this.getInstanceOfMethod.invoke(i_Father);
-                Object  v_CollectionElementTemp = null;
-                boolean v_ValuesIsNull          = Help.isNullByAll(v_Values);
+                Object    v_FatherTemp            = this.getInstanceOf(i_Father);
+                Object    v_CollectionElementTemp = null;
+                Object [] v_Values                = this.invokeParams(i_Child ,i_ChildNo ,i_ChildName);
+                boolean   v_ValuesIsNull          = Help.isNullByAll(v_Values);
                 
                 
                 if ( v_FatherTemp == null )
@@ -163,7 +236,7 @@ public final class XCQLMethod
                             
                             if ( !v_ValuesIsNull )
                             {
-                                v_CollectionElementTemp = this.collectionElement.getDeclaredConstructor().newInstance();
+                                v_CollectionElementTemp = this.newInstanceOf();
                                 ((List<Object>)v_FatherTemp).add(v_CollectionElementTemp);
                             }
                         }
@@ -173,22 +246,22 @@ public final class XCQLMethod
                             
                             if ( !v_ValuesIsNull )
                             {
-                                v_CollectionElementTemp = this.collectionElement.getDeclaredConstructor().newInstance();
+                                v_CollectionElementTemp = this.newInstanceOf();
                                 ((Set<Object>)v_FatherTemp).add(v_CollectionElementTemp);
                             }
                         }
                         else
                         {
-                            v_FatherTemp = this.getInstanceOfMethod.getReturnType().getDeclaredConstructor().newInstance();
+                            v_FatherTemp = this.newInstanceOf();
                         }
                     }
-                    catch (Exception exce)
+                    catch (Throwable exce)
                     {
                         // 当对象B实例化失败时，就不再执行填充动作
                         return;
                     }
                     
-                    this.setInstanceOfMethod.invoke(i_Father ,v_FatherTemp);
+                    this.setInstanceOf(i_Father ,v_FatherTemp);
                 }
                 
                 
@@ -203,7 +276,7 @@ public final class XCQLMethod
                         {
                             if ( !v_ValuesIsNull )
                             {
-                                v_CollectionElementTemp = this.collectionElement.getDeclaredConstructor().newInstance();
+                                v_CollectionElementTemp = this.newInstanceOf();
                                 v_CollectionTemp.add(v_CollectionElementTemp);
                             }
                         }
@@ -215,7 +288,7 @@ public final class XCQLMethod
                     
                     if ( v_CollectionElementTemp != null )
                     {
-                        this.call.invoke(v_CollectionElementTemp ,v_Values);
+                        this.invokeCall(v_CollectionElementTemp ,v_Values);
                     }
                 }
                 else if ( this.collection == Set.class )
@@ -228,7 +301,7 @@ public final class XCQLMethod
                         {
                             if ( !v_ValuesIsNull )
                             {
-                                v_CollectionElementTemp = this.collectionElement.getDeclaredConstructor().newInstance();
+                                v_CollectionElementTemp = this.newInstanceOf();
                                 v_CollectionTemp.add(v_CollectionElementTemp);
                             }
                         }
@@ -240,25 +313,33 @@ public final class XCQLMethod
                     
                     if ( v_CollectionElementTemp != null )
                     {
-                        this.call.invoke(v_CollectionElementTemp ,v_Values);
+                        this.invokeCall(v_CollectionElementTemp ,v_Values);
                     }
                 }
                 else
                 {
-                    this.call.invoke(v_FatherTemp ,v_Values);
+                    this.invokeCall(v_FatherTemp ,v_Values);
                 }
             }
             else
             {
-                this.call.invoke(i_Father ,v_Values);
+                this.invokeCall(i_Father ,i_Child ,i_ChildNo ,i_ChildName);
             }
         }
-        catch (Exception exce)
+        catch (Throwable exce)
         {
             String v_VString = "";
-            if ( !Help.isNull(v_Values) )
+            try
+            {
+                Object [] v_Values = this.getParamValues(i_Child ,i_ChildNo ,i_ChildName);
+                if ( !Help.isNull(v_Values) )
+                {
+                    v_VString = StringHelp.toString(v_Values);
+                }
+            }
+            catch (Exception exceValues)
             {
-                v_VString = StringHelp.toString(v_Values);
+                // 只用于异常信息，取不到参数值时不再显示
             }
             throw new RuntimeException(i_Father.getClass().getName() + "." + this.call.getName() + "(" + v_VString + ").\n" + exce.getMessage());
         }
@@ -267,248 +348,713 @@ public final class XCQLMethod
     
     
     /**
-     * 添加解释后的方法的参数信息
+     * 按 resultSet_Getter 从图数据库的值中取值，并按 machiningValue 加工成 call 方法的入参类型的值
      * 
-     * @param i_MethodParam
-     */
-    public void addParam(XCQLMethodParam i_XCQLMethodParam)
-    {
-        if ( i_XCQLMethodParam == null )
-        {
-            throw new NullPointerException("Method add parameter is null.");
-        }
-        
-        this.paramList.add(i_XCQLMethodParam);
-    }
-    
-    
-    
-    /**
-     * 按图数据库的值类型，返回不同的Java类型的值。
+     * 当 XCQLResult.cfill 等于 "setter(colValue)" 时（即，XCQLResult.$CFILL_METHOD_VARY），才可调用此方法。
      * 
-     * 一般用于固定方法的填充
+     * 值为NULL时返回NULL，不再取值与加工（call 方法的入参为基本类型时，抛出异常）。
      * 
      * @author      ZhengWei(HY)
-     * @createDate  2023-06-25
+     * @createDate  2026-10-17
      * @version     v1.0
+     *              v2.0  2026-10-17  修改：值为NULL时返回NULL
      *
-     * @param i_Value
+     * @param i_Value  图数据库的值
      * @return
      */
-    public static Object getValue(Value i_Value)
+    @SuppressWarnings("unchecked")
+    public Object getColValue(Value i_Value)
     {
-        Type v_ValueType = i_Value.type();
+        // 图数据库的NULL值，不再取值与加工
+        if ( i_Value.isNull() )
+        {
+            Class<?> v_ParamClass = this.call.getParameterTypes()[0];
+            if ( v_ParamClass.isPrimitive() )
+            {
+                throw new RuntimeException("Cannot coerce NULL to Java " + v_ParamClass.getName());
+            }
+            return null;
+        }
         
-        if ( InternalTypeSystem.TYPE_SYSTEM.STRING().equals(v_ValueType) )
+        if ( this.compileStatus == $Compile_None )
         {
-            return i_Value.asString();
+            this.compile();
         }
-        else if ( InternalTypeSystem.TYPE_SYSTEM.INTEGER().equals(v_ValueType) )
+        
+        try
         {
-            return i_Value.asInt();
+            if ( this.colValueHandle != null )
+            {
+                return (Object) this.colValueHandle.invokeExact(i_Value);
+            }
+            else
+            {
+                return this.machiningValue.getValue(this.resultSet_Getter.invoke(i_Value));
+            }
         }
-        else if ( InternalTypeSystem.TYPE_SYSTEM.FLOAT().equals(v_ValueType) )
+        catch (Uncoercible exce)
         {
-            return i_Value.asFloat();
+            // 同一列的值的类型与解释时的不同（图数据库是非结构化的）
+            return this.getColValueByRuntime(i_Value);
         }
-        else if ( InternalTypeSystem.TYPE_SYSTEM.BOOLEAN().equals(v_ValueType) )
+        catch (InvocationTargetException exce)
         {
-            return i_Value.asBoolean();
+            if ( exce.getCause() instanceof Uncoercible )
+            {
+                return this.getColValueByRuntime(i_Value);
+            }
+            throw new RuntimeException(exce.getCause() != null ? exce.getCause().getMessage() : exce.getMessage());
         }
-        else
+        catch (RuntimeException exce)
         {
-            return i_Value.toString();
+            throw exce;
+        }
+        catch (Throwable exce)
+        {
+            throw new RuntimeException(exce.getMessage());
         }
     }
     
     
     
     /**
-     * 按 call 方法的入参类型，决定 org.neo4j.driver.Result 获取字段值的方法
-     * 
-     * 当 XCQLResult.cfill 等于 "setter(colValue)" 时（即，XCQLResult.$CFILL_METHOD_VARY），此值才会有效。
+     * 值的类型与解释时的类型不同时，按值的实际类型取值并加工。只在同一列的值的类型不一致时使用
      * 
      * @author      ZhengWei(HY)
-     * @createDate  2023-06-07
+     * @createDate  2026-10-17
      * @version     v1.0
      *
-     * @param i_Neo4jFieldType   Neo4j的属性类型。这里假设：同一属性的类型是一致的哈
+     * @param i_Value  图数据库的值
+     * @return
      */
     @SuppressWarnings("unchecked")
-    public void parseResultSet_Getter(Type i_Neo4jFieldType)
+    private Object getColValueByRuntime(Value i_Value)
     {
-        if ( this.call == null )
+        Object v_Value = i_Value.asObject();
+        return ((MachiningValue<Object ,Object>) parseMachiningValue(v_Value.getClass() ,this.call.getParameterTypes()[0])).getValue(v_Value);
+    }
+    
+    
+    
+    /**
+     * 将填充方法编译为组合的 MethodHandle，省去每次填充时的 Object[] 入参数组、XCQLMethodParam 的逐个取值及反射调用。
+     * 
+     * 编译后的填充方法的类型为 (Object 父级对象 ,Object 填充对象 ,Long 编号 ,String 名称)void ，
+     * 由 call 方法，与每个入参对应的 row、rowNo、row.xxx、colValue、colName 的取值组合而成。
+     * 
+     * 对象B的属性填充（a.b）时，"get对象B()"、"set对象B(...)"、对象B的构造器也一同编译。
+     * 
+     * 编译失败时（如方法不可访问、自定义的 XCQLMethodParam），仍按反射的方式填充，功能不受影响。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     */
+    private synchronized void compile()
+    {
+        if ( this.compileStatus != $Compile_None )
         {
             return;
         }
         
-        
-        Class<?> v_SetterParamClass = this.call.getParameterTypes()[0];
+        this.callHandle        = null;
+        this.valuesCallHandle  = null;
+        this.paramsHandle      = null;
+        this.getInstanceHandle = null;
+        this.setInstanceHandle = null;
+        this.newInstanceHandle = null;
+        this.colValueHandle    = null;
         
         try
         {
-            if ( InternalTypeSystem.TYPE_SYSTEM.STRING().equals(i_Neo4jFieldType) )
+            MethodHandles.Lookup v_Lookup = MethodHandles.lookup();
+            
+            if ( this.call != null )
             {
-                this.resultSet_Getter = Value.class.getDeclaredMethod("asString");
+                this.callHandle = compileCall(v_Lookup ,this.call ,this.paramList);
                 
-                if ( v_SetterParamClass == String.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
-                }
-                else if ( v_SetterParamClass == int.class
-                       || v_SetterParamClass == Integer.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToInteger;
-                }
-                else if ( v_SetterParamClass == BigDecimal.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToBigDecimal;
-                }
-                else if ( v_SetterParamClass == double.class
-                       || v_SetterParamClass == Double.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToDouble;
-                }
-                else if ( v_SetterParamClass == Date.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningMyDate;
-                }
-                else if ( v_SetterParamClass == java.util.Date.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDate;
-                }
-                else if ( v_SetterParamClass == boolean.class
-                       || v_SetterParamClass == Boolean.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToBoolean;
-                }
-                else if ( v_SetterParamClass == long.class
-                       || v_SetterParamClass == Long.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToLong;
-                }
-                else if ( v_SetterParamClass == short.class
-                       || v_SetterParamClass == Short.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToShort;
-                }
-                else if ( v_SetterParamClass == byte.class
-                       || v_SetterParamClass == Byte.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToByte;
-                }
-                else if ( v_SetterParamClass == byte[].class
-                       || v_SetterParamClass == Byte[].class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningStringToByteArray;
-                }
-                else if ( MethodReflect.isExtendImplement(v_SetterParamClass ,Enum.class) )
-                {
-                    this.machiningValue = new MachiningEnum((Class<? extends Enum<?>>)v_SetterParamClass);
-                }
-                else
+                if ( this.getInstanceOfMethod != null )
                 {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
+                    // 对象B的填充须先判定入参数值是否均为空，入参数值只取一次，再按取得的数值执行填充方法
+                    this.valuesCallHandle = compileRawCall(v_Lookup ,this.call ,this.paramList.size()).asSpreader(Object[].class ,this.paramList.size());
+                    this.paramsHandle     = compileParams(v_Lookup ,this.paramList);
                 }
             }
-            else if ( InternalTypeSystem.TYPE_SYSTEM.INTEGER().equals(i_Neo4jFieldType) )
+            
+            if ( this.getInstanceOfMethod != null )
             {
-                this.resultSet_Getter = Value.class.getDeclaredMethod("asInt");
+                this.getInstanceHandle = v_Lookup.unreflect(this.getInstanceOfMethod).asType(MethodType.methodType(Object.class ,Object.class));
                 
-                if ( v_SetterParamClass == int.class
-                  || v_SetterParamClass == Integer.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
-                }
-                else if ( v_SetterParamClass == boolean.class
-                       || v_SetterParamClass == Boolean.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningIntegerToBoolean;
-                }
-                else if ( v_SetterParamClass == BigDecimal.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningIntegerToBigDecimal;
-                }
-                else if ( v_SetterParamClass == double.class
-                       || v_SetterParamClass == Double.class )
+                Class<?> v_InstanceClass = this.collection != null ? this.collectionElement : this.getInstanceOfMethod.getReturnType();
+                try
                 {
-                    this.machiningValue = MachiningDefault.$MachiningIntegerToDouble;
+                    this.newInstanceHandle = v_Lookup.findConstructor(v_InstanceClass ,MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
                 }
-                else if ( v_SetterParamClass == long.class
-                       || v_SetterParamClass == Long.class )
+                catch (Exception exce)
                 {
-                    this.machiningValue = MachiningDefault.$MachiningIntegerToLong;
-                }
-                else if ( v_SetterParamClass == short.class
-                       || v_SetterParamClass == Short.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningIntegerToShort;
-                }
-                else if ( v_SetterParamClass == String.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningToString;
-                }
-                else
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
+                    // 没有可访问的无参构造器时，仍按反射的方式实例化（与未编译时的处理一致）
                 }
             }
-            else if ( InternalTypeSystem.TYPE_SYSTEM.FLOAT().equals(i_Neo4jFieldType) )
+            
+            if ( this.setInstanceOfMethod != null )
             {
-                this.resultSet_Getter = Value.class.getDeclaredMethod("asDouble");
-                this.machiningValue   = MachiningDefault.$MachiningDefault;
-                
-                if ( v_SetterParamClass == double.class
-                  || v_SetterParamClass == Double.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
-                }
-                else if ( v_SetterParamClass == BigDecimal.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDoubleToBigDecimal;
-                }
-                else if ( v_SetterParamClass == String.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningToString;
-                }
-                else
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
-                }
+                this.setInstanceHandle = v_Lookup.unreflect(this.setInstanceOfMethod).asType(MethodType.methodType(void.class ,Object.class ,Object.class));
             }
-            else if ( InternalTypeSystem.TYPE_SYSTEM.BOOLEAN().equals(i_Neo4jFieldType) )
+            
+            if ( this.resultSet_Getter != null && this.machiningValue != null )
             {
-                this.resultSet_Getter = Value.class.getDeclaredMethod("asBoolean");
-                
-                if ( v_SetterParamClass == boolean.class
-                  || v_SetterParamClass == Boolean.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
-                }
-                else if ( v_SetterParamClass == int.class
-                       || v_SetterParamClass == Integer.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningBooleanToInteger;
-                }
-                else if ( v_SetterParamClass == String.class )
-                {
-                    this.machiningValue = MachiningDefault.$MachiningToString;
-                }
-                else
-                {
-                    this.machiningValue = MachiningDefault.$MachiningDefault;
-                }
+                MethodHandle v_Getter    = v_Lookup.unreflect(this.resultSet_Getter).asType(MethodType.methodType(Object.class ,Value.class));
+                MethodHandle v_Machining = v_Lookup.findVirtual(MachiningValue.class ,"getValue" ,MethodType.methodType(Object.class ,Object.class)).bindTo(this.machiningValue);
+                this.colValueHandle = MethodHandles.filterReturnValue(v_Getter ,v_Machining);
             }
-            else
+            
+            this.compileStatus = $Compile_Finish;
+        }
+        catch (Exception exce)
+        {
+            this.callHandle        = null;
+            this.valuesCallHandle  = null;
+            this.paramsHandle      = null;
+            this.getInstanceHandle = null;
+            this.setInstanceHandle = null;
+            this.newInstanceHandle = null;
+            this.colValueHandle    = null;
+            this.compileStatus     = $Compile_Error;
+        }
+    }
+    
+    
+    
+    /**
+     * 编译填充方法。
+     * 
+     * 先将 call 方法的入参及返回类型统一为 Object 和 void，再将每个入参替换为它在 (填充对象 ,编号 ,名称) 上的取值，
+     * 最后将重复出现的 (填充对象 ,编号 ,名称) 合并为一组。
+     * 
+     * @param i_Lookup
+     * @param i_Call       填充方法
+     * @param i_ParamList  填充方法的入参信息
+     * @return             类型为 (Object ,Object ,Long ,String)void
+     * @throws IllegalAccessException
+     */
+    private static MethodHandle compileCall(MethodHandles.Lookup i_Lookup ,Method i_Call ,List<XCQLMethodParam> i_ParamList) throws IllegalAccessException
+    {
+        int          v_ParamCount = i_ParamList.size();
+        MethodHandle v_Call       = compileRawCall(i_Lookup ,i_Call ,v_ParamCount);
+        
+        // 从后向前替换，前面入参的位置不变
+        for (int i=v_ParamCount - 1; i>=0; i--)
+        {
+            v_Call = MethodHandles.collectArguments(v_Call ,i + 1 ,compileParam(i_Lookup ,i_ParamList.get(i)));
+        }
+        
+        int [] v_Reorder = new int[1 + v_ParamCount * 3];
+        for (int i=0; i<v_ParamCount; i++)
+        {
+            v_Reorder[1 + i * 3]     = 1;
+            v_Reorder[1 + i * 3 + 1] = 2;
+            v_Reorder[1 + i * 3 + 2] = 3;
+        }
+        
+        return MethodHandles.permuteArguments(v_Call ,$CallType ,v_Reorder);
+    }
+    
+    
+    
+    /**
+     * 编译填充方法本身，入参及返回类型统一为 Object 和 void
+     * 
+     * @param i_Lookup
+     * @param i_Call        填充方法
+     * @param i_ParamCount  填充方法的入参个数
+     * @return              类型为 (Object 实例对象 ,Object ...)void
+     * @throws IllegalAccessException
+     */
+    private static MethodHandle compileRawCall(MethodHandles.Lookup i_Lookup ,Method i_Call ,int i_ParamCount) throws IllegalAccessException
+    {
+        MethodHandle v_Call = i_Lookup.unreflect(i_Call);
+        
+        if ( i_Call.getParameterCount() != i_ParamCount )
+        {
+            throw new IllegalArgumentException("Method[" + i_Call.getName() + "] parameter count is not " + i_ParamCount + ".");
+        }
+        
+        if ( Modifier.isStatic(i_Call.getModifiers()) )
+        {
+            // 与反射一样，静态方法时忽略实例对象
+            v_Call = MethodHandles.dropArguments(v_Call ,0 ,Object.class);
+        }
+        
+        return v_Call.asType(MethodType.genericMethodType(i_ParamCount + 1).changeReturnType(void.class));
+    }
+    
+    
+    
+    /**
+     * 编译填充方法的所有入参数值的取值
+     * 
+     * @param i_Lookup
+     * @param i_ParamList  填充方法的入参信息
+     * @return             类型为 (Object 填充对象 ,Long 编号 ,String 名称)Object[]
+     * @throws IllegalAccessException
+     */
+    private static MethodHandle compileParams(MethodHandles.Lookup i_Lookup ,List<XCQLMethodParam> i_ParamList) throws IllegalAccessException
+    {
+        int          v_ParamCount = i_ParamList.size();
+        MethodHandle v_Params     = MethodHandles.identity(Object[].class).asCollector(Object[].class ,v_ParamCount);
+        
+        // 从后向前替换，前面入参的位置不变
+        for (int i=v_ParamCount - 1; i>=0; i--)
+        {
+            v_Params = MethodHandles.collectArguments(v_Params ,i ,compileParam(i_Lookup ,i_ParamList.get(i)));
+        }
+        
+        int [] v_Reorder = new int[v_ParamCount * 3];
+        for (int i=0; i<v_ParamCount; i++)
+        {
+            v_Reorder[i * 3]     = 0;
+            v_Reorder[i * 3 + 1] = 1;
+            v_Reorder[i * 3 + 2] = 2;
+        }
+        
+        return MethodHandles.permuteArguments(v_Params ,$ParamType.changeReturnType(Object[].class) ,v_Reorder);
+    }
+    
+    
+    
+    /**
+     * 编译填充方法的一个入参的取值
+     * 
+     * @param i_Lookup
+     * @param i_Param   入参信息
+     * @return          类型为 (Object 填充对象 ,Long 编号 ,String 名称)Object
+     * @throws IllegalAccessException
+     */
+    private static MethodHandle compileParam(MethodHandles.Lookup i_Lookup ,XCQLMethodParam i_Param) throws IllegalAccessException
+    {
+        Method v_ObjGetter = XCQLMethodParam_Fill.getObjGetter(i_Param);
+        
+        // 行级对象、行号、字段值、字段名称的参数信息均为单例
+        if ( i_Param == XCQLMethodParam_Fill.getInstance(XCQLMethodParam_Fill.$FILL_ROW) || i_Param == XCQLMethodParam_CFill.getInstance(XCQLMethodParam_CFill.$CFILL_COL_VALUE) )
+        {
+            return selectParam(0);
+        }
+        else if ( i_Param == XCQLMethodParam_Fill.getInstance(XCQLMethodParam_Fill.$FILL_ROW_NO) )
+        {
+            return selectParam(1);
+        }
+        else if ( i_Param == XCQLMethodParam_CFill.getInstance(XCQLMethodParam_CFill.$CFILL_COL_NAME) )
+        {
+            return selectParam(2);
+        }
+        else if ( v_ObjGetter != null )
+        {
+            MethodHandle v_Getter = i_Lookup.unreflect(v_ObjGetter);
+            v_Getter = v_Getter.asType(MethodType.methodType(Object.class ,Object.class));
+            return MethodHandles.dropArguments(v_Getter ,1 ,Long.class ,String.class);
+        }
+        else
+        {
+            throw new IllegalArgumentException("Method parameter[" + i_Param.getClass().getName() + "] is not support compile.");
+        }
+    }
+    
+    
+    
+    /**
+     * 生成只返回 (填充对象 ,编号 ,名称) 中的某一个的方法
+     * 
+     * @param i_Index  下标从 0 开始
+     * @return         类型为 (Object ,Long ,String)Object
+     */
+    private static MethodHandle selectParam(int i_Index)
+    {
+        Class<?>       v_Type   = $ParamType.parameterType(i_Index);
+        List<Class<?>> v_Types  = $ParamType.parameterList();
+        MethodHandle   v_Handle = MethodHandles.identity(v_Type).asType(MethodType.methodType(Object.class ,v_Type));
+        
+        v_Handle = MethodHandles.dropArguments(v_Handle ,0 ,v_Types.subList(0 ,i_Index));
+        return MethodHandles.dropArguments(v_Handle ,i_Index + 1 ,v_Types.subList(i_Index + 1 ,v_Types.size()));
+    }
+    
+    
+    
+    /**
+     * 执行填充方法
+     * 
+     * @param i_Father
+     * @param i_Child
+     * @param i_ChildNo
+     * @param i_ChildName
+     * @throws Throwable
+     */
+    private void invokeCall(Object i_Father ,Object i_Child ,Long i_ChildNo ,String i_ChildName) throws Throwable
+    {
+        if ( this.callHandle != null )
+        {
+            this.callHandle.invokeExact(i_Father ,i_Child ,i_ChildNo ,i_ChildName);
+        }
+        else
+        {
+            this.call.invoke(i_Father ,this.getParamValues(i_Child ,i_ChildNo ,i_ChildName));
+        }
+    }
+    
+    
+    
+    /**
+     * 按已取得的入参数值执行填充方法
+     * 
+     * @param i_Father
+     * @param i_Values  填充方法的所有入参数值（见 invokeParams() 方法）
+     * @throws Throwable
+     */
+    private void invokeCall(Object i_Father ,Object [] i_Values) throws Throwable
+    {
+        if ( this.valuesCallHandle != null )
+        {
+            this.valuesCallHandle.invokeExact(i_Father ,i_Values);
+        }
+        else
+        {
+            this.call.invoke(i_Father ,i_Values);
+        }
+    }
+    
+    
+    
+    /**
+     * 获取填充方法的所有入参数值。已编译时按编译后的方法取值
+     * 
+     * @param i_Child
+     * @param i_ChildNo
+     * @param i_ChildName
+     * @return
+     * @throws Throwable
+     */
+    private Object [] invokeParams(Object i_Child ,Long i_ChildNo ,String i_ChildName) throws Throwable
+    {
+        if ( this.paramsHandle != null )
+        {
+            return (Object []) this.paramsHandle.invokeExact(i_Child ,i_ChildNo ,i_ChildName);
+        }
+        else
+        {
+            return this.getParamValues(i_Child ,i_ChildNo ,i_ChildName);
+        }
+    }
+    
+    
+    
+    /**
+     * 获取填充方法的所有入参数值
+     * 
+     * @param i_Child
+     * @param i_ChildNo
+     * @param i_ChildName
+     * @return
+     */
+    private Object [] getParamValues(Object i_Child ,Long i_ChildNo ,String i_ChildName)
+    {
+        Object [] v_Values = new Object[this.paramList.size()];
+        
+        for (int i=0; i<this.paramList.size(); i++)
+        {
+            v_Values[i] = this.paramList.get(i).invoke(i_Child ,i_ChildNo ,i_ChildName);
+        }
+        
+        return v_Values;
+    }
+    
+    
+    
+    /**
+     * 执行 "get对象B()" 的方法
+     * 
+     * @param i_Father
+     * @return
+     * @throws Throwable
+     */
+    private Object getInstanceOf(Object i_Father) throws Throwable
+    {
+        if ( this.getInstanceHandle != null )
+        {
+            return (Object) this.getInstanceHandle.invokeExact(i_Father);
+        }
+        else
+        {
+            return this.getInstanceOfMethod.invoke(i_Father);
+        }
+    }
+    
+    
+    
+    /**
+     * 执行 "set对象B(...)" 的方法
+     * 
+     * @param i_Father
+     * @param i_Instance
+     * @throws Throwable
+     */
+    private void setInstanceOf(Object i_Father ,Object i_Instance) throws Throwable
+    {
+        if ( this.setInstanceHandle != null )
+        {
+            this.setInstanceHandle.invokeExact(i_Father ,i_Instance);
+        }
+        else
+        {
+            this.setInstanceOfMethod.invoke(i_Father ,i_Instance);
+        }
+    }
+    
+    
+    
+    /**
+     * 实例化对象B。对象B为集合时，实例化集合元素
+     * 
+     * @return
+     * @throws Throwable
+     */
+    private Object newInstanceOf() throws Throwable
+    {
+        if ( this.newInstanceHandle != null )
+        {
+            return (Object) this.newInstanceHandle.invokeExact();
+        }
+        else if ( this.collection != null )
+        {
+            return this.collectionElement.getDeclaredConstructor().newInstance();
+        }
+        else
+        {
+            return this.getInstanceOfMethod.getReturnType().getDeclaredConstructor().newInstance();
+        }
+    }
+    
+    
+    
+    /**
+     * 添加解释后的方法的参数信息
+     * 
+     * @param i_MethodParam
+     */
+    public void addParam(XCQLMethodParam i_XCQLMethodParam)
+    {
+        if ( i_XCQLMethodParam == null )
+        {
+            throw new NullPointerException("Method add parameter is null.");
+        }
+        
+        this.paramList.add(i_XCQLMethodParam);
+        this.compileStatus = $Compile_None;
+    }
+    
+    
+    
+    /**
+     * 按图数据库的值类型，返回对应的Java类型的值。
+     * 
+     * 一般用于固定方法的填充
+     * 
+     *    1. INTEGER           返回 Long   。不再截断为 int
+     *    2. FLOAT             返回 Double 。不再截断为 float
+     *    3. STRING、BOOLEAN   返回 String、Boolean
+     *    4. BYTES             返回 byte[]
+     *    5. DATE、TIME、LOCAL_TIME、DATE_TIME、LOCAL_DATE_TIME 返回 java.time 的 LocalDate、OffsetTime、LocalTime、ZonedDateTime、LocalDateTime
+     *    6. LIST、MAP         返回 List、Map ，其元素也按本规则转换
+     *    7. NODE、RELATIONSHIP、PATH、POINT、DURATION 返回驱动的 Node、Relationship、Path、Point、IsoDuration
+     *    8. NULL              返回 null
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2023-06-25
+     * @version     v1.0
+     *              v2.0  2026-10-17  修改：按值类型直接返回Java类型，不再经 toString() 转换
+     *
+     * @param i_Value
+     * @return
+     */
+    public static Object getValue(Value i_Value)
+    {
+        // 由各值类型的实现类直接分派，不用逐个类型比较
+        return i_Value.asObject();
+    }
+    
+    
+    
+    /**
+     * 按 call 方法的入参类型，决定 org.neo4j.driver.Result 获取字段值的方法
+     * 
+     * 当 XCQLResult.cfill 等于 "setter(colValue)" 时（即，XCQLResult.$CFILL_METHOD_VARY），此值才会有效。
+     * 
+     * 先按图数据库的值类型，从 $ValueGetters 中取得返回对应的Java类型的取值方法，
+     * 再按取值方法的返回类型与 call 方法的入参类型，决定加工方法。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2023-06-07
+     * @version     v1.0
+     *              v2.0  2026-10-17  修改：按值类型的分派表取值，支持所有的值类型。整数按 long 取值，不再截断
+     *
+     * @param i_Neo4jFieldType   Neo4j的属性类型。这里假设：同一属性的类型是一致的哈
+     */
+    public void parseResultSet_Getter(Type i_Neo4jFieldType)
+    {
+        if ( this.call == null )
+        {
+            return;
+        }
+        
+        TypeConstructor v_TypeConstructor = TypeConstructor.ANY;
+        if ( i_Neo4jFieldType instanceof TypeRepresentation )
+        {
+            v_TypeConstructor = ((TypeRepresentation) i_Neo4jFieldType).constructor();
+        }
+        
+        this.resultSet_Getter = $ValueGetters.get(v_TypeConstructor);
+        if ( this.resultSet_Getter == null )
+        {
+            // NULL、ANY 等不确定Java类型的，按运行时的值的类型加工
+            this.resultSet_Getter = $ValueGetters.get(TypeConstructor.ANY);
+        }
+        
+        this.machiningValue = parseMachiningValue(this.resultSet_Getter.getReturnType() ,this.call.getParameterTypes()[0]);
+        this.compileStatus  = $Compile_None;
+    }
+    
+    
+    
+    /**
+     * 按取值的Java类型与 call 方法的入参类型，决定加工方法
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_ValueClass         取值的Java类型
+     * @param i_SetterParamClass   call 方法的入参类型
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    static MachiningValue<? ,?> parseMachiningValue(Class<?> i_ValueClass ,Class<?> i_SetterParamClass)
+    {
+        Class<?> v_ValueClass       = MethodType.methodType(i_ValueClass).wrap().returnType();
+        Class<?> v_SetterParamClass = MethodType.methodType(i_SetterParamClass).wrap().returnType();
+        
+        if ( v_ValueClass == Object.class )
+        {
+            if ( v_SetterParamClass == Object.class )
             {
-                this.resultSet_Getter = Value.class.getDeclaredMethod("toString");
-                this.machiningValue   = MachiningDefault.$MachiningDefault;
+                return MachiningDefault.$MachiningDefault;
             }
+            return new MachiningRuntime(v_SetterParamClass);
+        }
+        else if ( v_SetterParamClass.isAssignableFrom(v_ValueClass) )
+        {
+            return MachiningDefault.$MachiningDefault;
+        }
+        else if ( MethodReflect.isExtendImplement(v_SetterParamClass ,Enum.class) )
+        {
+            return new MachiningEnum((Class<? extends Enum<?>>)v_SetterParamClass);
+        }
+        else if ( v_SetterParamClass == String.class )
+        {
+            return MachiningDefault.$MachiningToString;
+        }
+        
+        MachiningValue<? ,?> v_Machining = $Machinings.get(v_ValueClass.getName() + "->" + v_SetterParamClass.getName());
+        if ( v_Machining == null && Temporal.class.isAssignableFrom(v_ValueClass) )
+        {
+            v_Machining = $Machinings.get(Temporal.class.getName() + "->" + v_SetterParamClass.getName());
+        }
+        
+        return v_Machining != null ? v_Machining : MachiningDefault.$MachiningDefault;
+    }
+    
+    
+    
+    /**
+     * 按图数据库的值类型的分派表，生成取值方法的表
+     * 
+     * @return
+     */
+    private static Map<TypeConstructor ,Method> newValueGetters()
+    {
+        Map<TypeConstructor ,Method> v_Getters = new EnumMap<TypeConstructor ,Method>(TypeConstructor.class);
+        
+        try
+        {
+            v_Getters.put(TypeConstructor.STRING          ,Value.class.getMethod("asString"));
+            v_Getters.put(TypeConstructor.INTEGER         ,Value.class.getMethod("asLong"));
+            v_Getters.put(TypeConstructor.FLOAT           ,Value.class.getMethod("asDouble"));
+            v_Getters.put(TypeConstructor.BOOLEAN         ,Value.class.getMethod("asBoolean"));
+            v_Getters.put(TypeConstructor.BYTES           ,Value.class.getMethod("asByteArray"));
+            v_Getters.put(TypeConstructor.DATE            ,Value.class.getMethod("asLocalDate"));
+            v_Getters.put(TypeConstructor.TIME            ,Value.class.getMethod("asOffsetTime"));
+            v_Getters.put(TypeConstructor.LOCAL_TIME      ,Value.class.getMethod("asLocalTime"));
+            v_Getters.put(TypeConstructor.DATE_TIME       ,Value.class.getMethod("asZonedDateTime"));
+            v_Getters.put(TypeConstructor.LOCAL_DATE_TIME ,Value.class.getMethod("asLocalDateTime"));
+            v_Getters.put(TypeConstructor.DURATION        ,Value.class.getMethod("asIsoDuration"));
+            v_Getters.put(TypeConstructor.POINT           ,Value.class.getMethod("asPoint"));
+            v_Getters.put(TypeConstructor.LIST            ,Value.class.getMethod("asList"));
+            v_Getters.put(TypeConstructor.MAP             ,Value.class.getMethod("asMap"));
+            v_Getters.put(TypeConstructor.NODE            ,Value.class.getMethod("asNode"));
+            v_Getters.put(TypeConstructor.RELATIONSHIP    ,Value.class.getMethod("asRelationship"));
+            v_Getters.put(TypeConstructor.PATH            ,Value.class.getMethod("asPath"));
+            v_Getters.put(TypeConstructor.ANY             ,Value.class.getMethod("asObject"));
         }
         catch (Exception exce)
         {
             throw new RuntimeException(exce.getMessage());
         }
+        
+        return v_Getters;
+    }
+    
+    
+    
+    /**
+     * 生成加工方法的表
+     * 
+     * Map.key    为 "取值的Java类型->入参类型"
+     * Map.value  为加工方法
+     * 
+     * @return
+     */
+    private static Map<String ,MachiningValue<? ,?>> newMachinings()
+    {
+        Map<String ,MachiningValue<? ,?>> v_Machinings = new HashMap<String ,MachiningValue<? ,?>>();
+        
+        putMachining(v_Machinings ,String.class    ,Integer.class        ,MachiningDefault.$MachiningStringToInteger);
+        putMachining(v_Machinings ,String.class    ,BigDecimal.class     ,MachiningDefault.$MachiningStringToBigDecimal);
+        putMachining(v_Machinings ,String.class    ,Double.class         ,MachiningDefault.$MachiningStringToDouble);
+        putMachining(v_Machinings ,String.class    ,Date.class           ,MachiningDefault.$MachiningMyDate);
+        putMachining(v_Machinings ,String.class    ,java.util.Date.class ,MachiningDefault.$MachiningDate);
+        putMachining(v_Machinings ,String.class    ,Boolean.class        ,MachiningDefault.$MachiningStringToBoolean);
+        putMachining(v_Machinings ,String.class    ,Long.class           ,MachiningDefault.$MachiningStringToLong);
+        putMachining(v_Machinings ,String.class    ,Short.class          ,MachiningDefault.$MachiningStringToShort);
+        putMachining(v_Machinings ,String.class    ,Byte.class           ,MachiningDefault.$MachiningStringToByte);
+        putMachining(v_Machinings ,String.class    ,byte[].class         ,MachiningDefault.$MachiningStringToByteArray);
+        putMachining(v_Machinings ,Long.class      ,Integer.class        ,MachiningDefault.$MachiningLongToInteger);
+        putMachining(v_Machinings ,Long.class      ,Short.class          ,MachiningDefault.$MachiningLongToShort);
+        putMachining(v_Machinings ,Long.class      ,Double.class         ,MachiningDefault.$MachiningLongToDouble);
+        putMachining(v_Machinings ,Long.class      ,BigDecimal.class     ,MachiningDefault.$MachiningLongToBigDecimal);
+        putMachining(v_Machinings ,Long.class      ,Boolean.class        ,MachiningDefault.$MachiningLongToBoolean);
+        putMachining(v_Machinings ,Double.class    ,Float.class          ,MachiningDefault.$MachiningDoubleToFloat);
+        putMachining(v_Machinings ,Double.class    ,BigDecimal.class     ,MachiningDefault.$MachiningDoubleToBigDecimal);
+        putMachining(v_Machinings ,Boolean.class   ,Integer.class        ,MachiningDefault.$MachiningBooleanToInteger);
+        putMachining(v_Machinings ,Temporal.class  ,java.util.Date.class ,MachiningDefault.$MachiningTemporalToDate);
+        putMachining(v_Machinings ,Temporal.class  ,Date.class           ,MachiningDefault.$MachiningTemporalToMyDate);
+        putMachining(v_Machinings ,Temporal.class  ,LocalDate.class      ,MachiningDefault.$MachiningTemporalToLocalDate);
+        putMachining(v_Machinings ,Temporal.class  ,LocalDateTime.class  ,MachiningDefault.$MachiningTemporalToLocalDateTime);
+        
+        return v_Machinings;
+    }
+    
+    
+    
+    private static void putMachining(Map<String ,MachiningValue<? ,?>> io_Machinings ,Class<?> i_ValueClass ,Class<?> i_SetterParamClass ,MachiningValue<? ,?> i_Machining)
+    {
+        io_Machinings.put(i_ValueClass.getName() + "->" + i_SetterParamClass.getName() ,i_Machining);
     }
     
     
@@ -522,7 +1068,8 @@ public final class XCQLMethod
     
     public void setCall(Method i_Call)
     {
-        this.call = i_Call;
+        this.call          = i_Call;
+        this.compileStatus = $Compile_None;
     }
     
     
@@ -537,6 +1084,7 @@ public final class XCQLMethod
     public void setResultSet_Getter(Method resultSet_Getter)
     {
         this.resultSet_Getter = resultSet_Getter;
+        this.compileStatus    = $Compile_None;
     }
     
     
@@ -576,6 +1124,7 @@ public final class XCQLMethod
     public void setGetInstanceOfMethod(Method i_GetInstanceOfMethod)
     {
         this.getInstanceOfMethod = i_GetInstanceOfMethod;
+        this.compileStatus       = $Compile_None;
     }
 
 
@@ -604,6 +1153,7 @@ public final class XCQLMethod
     public void setSetInstanceOfMethod(Method setInstanceOfMethod)
     {
         this.setInstanceOfMethod = setInstanceOfMethod;
+        this.compileStatus       = $Compile_None;
     }
 
 
@@ -631,7 +1181,8 @@ public final class XCQLMethod
      */
     public void setCollection(Class<?> collection)
     {
-        this.collection = collection;
+        this.collection    = collection;
+        this.compileStatus = $Compile_None;
     }
 
 
@@ -660,6 +1211,7 @@ public final class XCQLMethod
     public void setCollectionElement(Class<?> collectionElement)
     {
         this.collectionElement = collectionElement;
+        this.compileStatus     = $Compile_None;
     }
 
 
@@ -672,9 +1224,61 @@ public final class XCQLMethod
         this.setInstanceOfMethod = null;
         this.collection          = null;
         this.collectionElement   = null;
+        this.compileStatus       = $Compile_None;
         this.paramList.clear();
     }
     
+    
+    
+    
+    
+    /**
+     * 取值的Java类型在解释时不确定（如首条记录的值为NULL）的加工类。
+     * 
+     * 按运行时的值的Java类型决定加工方法，并按Java类型缓存。
+     * 
+     * @author      ZhengWei(HY)
+     * @version     v1.0
+     * @createDate  2026-10-17
+     */
+    static final class MachiningRuntime implements MachiningValue<Object ,Object>
+    {
+        
+        /** call 方法的入参类型 */
+        private Class<?>                                         setterParamClass;
+        
+        /** 按运行时的值的Java类型缓存的加工方法 */
+        private Map<Class<?> ,MachiningValue<Object ,Object>>    machinings;
+        
+        
+        public MachiningRuntime(Class<?> i_SetterParamClass)
+        {
+            this.setterParamClass = i_SetterParamClass;
+            this.machinings       = new ConcurrentHashMap<Class<?> ,MachiningValue<Object ,Object>>();
+        }
+        
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object getValue(Object i_Value)
+        {
+            if ( i_Value == null )
+            {
+                return null;
+            }
+            
+            MachiningValue<Object ,Object> v_Machining = this.machinings.get(i_Value.getClass());
+            if ( v_Machining == null )
+            {
+                v_Machining = (MachiningValue<Object ,Object>) XCQLMethod.parseMachiningValue(i_Value.getClass() ,this.setterParamClass);
+                this.machinings.put(i_Value.getClass() ,v_Machining);
+            }
+            
+            return v_Machining.getValue(i_Value);
+        }
+        
+    }
+    
 }
 
 
@@ -719,25 +1323,30 @@ interface MachiningValue<R ,V>
 class MachiningDefault implements MachiningValue<Object ,Object>
 {
     /** 单例化：减少重复创建对象实例，减少内存占用 */
-    public static final MachiningDefault             $MachiningDefault             = new MachiningDefault();
-    public static final MachiningToString            $MachiningToString            = new MachiningToString();
-    public static final MachiningStringToInteger     $MachiningStringToInteger     = new MachiningStringToInteger();
-    public static final MachiningStringToBigDecimal  $MachiningStringToBigDecimal  = new MachiningStringToBigDecimal();
-    public static final MachiningStringToDouble      $MachiningStringToDouble      = new MachiningStringToDouble();
-    public static final MachiningStringToBoolean     $MachiningStringToBoolean     = new MachiningStringToBoolean();
-    public static final MachiningStringToLong        $MachiningStringToLong        = new MachiningStringToLong();
-    public static final MachiningStringToShort       $MachiningStringToShort       = new MachiningStringToShort();
-    public static final MachiningStringToByte        $MachiningStringToByte        = new MachiningStringToByte();
-    public static final MachiningStringToByteArray   $MachiningStringToByteArray   = new MachiningStringToByteArray();
-    public static final MachiningDate                $MachiningDate                = new MachiningDate();
-    public static final MachiningMyDate              $MachiningMyDate              = new MachiningMyDate();
-    public static final MachiningBooleanToInteger    $MachiningBooleanToInteger    = new MachiningBooleanToInteger();
-    public static final MachiningIntegerToBoolean    $MachiningIntegerToBoolean    = new MachiningIntegerToBoolean();
-    public static final MachiningIntegerToBigDecimal $MachiningIntegerToBigDecimal = new MachiningIntegerToBigDecimal();
-    public static final MachiningIntegerToDouble     $MachiningIntegerToDouble     = new MachiningIntegerToDouble();
-    public static final MachiningIntegerToLong       $MachiningIntegerToLong       = new MachiningIntegerToLong();
-    public static final MachiningIntegerToShort      $MachiningIntegerToShort      = new MachiningIntegerToShort();
-    public static final MachiningDoubleToBigDecimal  $MachiningDoubleToBigDecimal  = new MachiningDoubleToBigDecimal();
+    public static final MachiningDefault                 $MachiningDefault                 = new MachiningDefault();
+    public static final MachiningToString                $MachiningToString                = new MachiningToString();
+    public static final MachiningStringToInteger         $MachiningStringToInteger         = new MachiningStringToInteger();
+    public static final MachiningStringToBigDecimal      $MachiningStringToBigDecimal      = new MachiningStringToBigDecimal();
+    public static final MachiningStringToDouble          $MachiningStringToDouble          = new MachiningStringToDouble();
+    public static final MachiningStringToBoolean         $MachiningStringToBoolean         = new MachiningStringToBoolean();
+    public static final MachiningStringToLong            $MachiningStringToLong            = new MachiningStringToLong();
+    public static final MachiningStringToShort           $MachiningStringToShort           = new MachiningStringToShort();
+    public static final MachiningStringToByte            $MachiningStringToByte            = new MachiningStringToByte();
+    public static final MachiningStringToByteArray       $MachiningStringToByteArray       = new MachiningStringToByteArray();
+    public static final MachiningDate                    $MachiningDate                    = new MachiningDate();
+    public static final MachiningMyDate                  $MachiningMyDate                  = new MachiningMyDate();
+    public static final MachiningBooleanToInteger        $MachiningBooleanToInteger        = new MachiningBooleanToInteger();
+    public static final MachiningLongToBoolean           $MachiningLongToBoolean           = new MachiningLongToBoolean();
+    public static final MachiningLongToBigDecimal        $MachiningLongToBigDecimal        = new MachiningLongToBigDecimal();
+    public static final MachiningLongToDouble            $MachiningLongToDouble            = new MachiningLongToDouble();
+    public static final MachiningLongToInteger           $MachiningLongToInteger           = new MachiningLongToInteger();
+    public static final MachiningLongToShort             $MachiningLongToShort             = new MachiningLongToShort();
+    public static final MachiningDoubleToBigDecimal      $MachiningDoubleToBigDecimal      = new MachiningDoubleToBigDecimal();
+    public static final MachiningDoubleToFloat           $MachiningDoubleToFloat           = new MachiningDoubleToFloat();
+    public static final MachiningTemporalToDate          $MachiningTemporalToDate          = new MachiningTemporalToDate();
+    public static final MachiningTemporalToMyDate        $MachiningTemporalToMyDate        = new MachiningTemporalToMyDate();
+    public static final MachiningTemporalToLocalDate     $MachiningTemporalToLocalDate     = new MachiningTemporalToLocalDate();
+    public static final MachiningTemporalToLocalDateTime $MachiningTemporalToLocalDateTime = new MachiningTemporalToLocalDateTime();
     
     
 
@@ -1023,15 +1632,37 @@ class MachiningMyDate implements MachiningValue<Date ,String>
  * @createDate  2014-04-16
  * @version     v1.0
  *              v2.0  2018-05-08  添加：支持枚举名称的匹配
+ *              v3.0  2026-10-17  优化：按小写名称的哈希表匹配，替代逐个枚举的遍历比较
  */
 class MachiningEnum implements MachiningValue<Enum<?> ,Object>
 {
-    private Enum<?> [] enums;
+    private Enum<?> []           enums;
+    
+    /**
+     * 小写名称的索引。
+     * 
+     * Map.key    为小写的枚举toString()或枚举名称。toString()优先（与逐个遍历比较时的匹配顺序一致）
+     * Map.value  为枚举
+     */
+    private Map<String ,Enum<?>> names;
     
     
     public MachiningEnum(Class<? extends Enum<?>> i_EnumClass)
     {
         this.enums = StaticReflect.getEnums(i_EnumClass);
+        this.names = new HashMap<String ,Enum<?>>(this.enums.length * 4);
+        
+        // ZhengWei(HY) Add 2018-05-08  支持枚举toString()的匹配
+        for (Enum<?> v_Enum : this.enums)
+        {
+            this.names.putIfAbsent(v_Enum.toString().toLowerCase(Locale.ROOT) ,v_Enum);
+        }
+        
+        // ZhengWei(HY) Add 2018-05-08  支持枚举名称的匹配
+        for (Enum<?> v_Enum : this.enums)
+        {
+            this.names.putIfAbsent(v_Enum.name().toLowerCase(Locale.ROOT) ,v_Enum);
+        }
     }
     
     
@@ -1044,24 +1675,11 @@ class MachiningEnum implements MachiningValue<Enum<?> ,Object>
         }
         else
         {
-            String v_Value = i_Value.toString();
-            
-            // ZhengWei(HY) Add 2018-05-08  支持枚举toString()的匹配
-            for (Enum<?> v_Enum : this.enums)
-            {
-                if ( v_Value.equalsIgnoreCase(v_Enum.toString()) )
-                {
-                    return v_Enum;
-                }
-            }
-            
-            // ZhengWei(HY) Add 2018-05-08  支持枚举名称的匹配
-            for (Enum<?> v_Enum : this.enums)
+            String  v_Value = i_Value.toString();
+            Enum<?> v_Enum  = this.names.get(v_Value.toLowerCase(Locale.ROOT));
+            if ( v_Enum != null )
             {
-                if ( v_Value.equalsIgnoreCase(v_Enum.name()) )
-                {
-                    return v_Enum;
-                }
+                return v_Enum;
             }
             
             // 尝试用枚举值匹配
@@ -1107,17 +1725,18 @@ class MachiningBooleanToInteger implements MachiningValue<Integer ,Boolean>
 
 
 /**
- * 图数据库的Integer转Java的Boolean的加工类
+ * 图数据库的Integer（Java的Long）转Java的Boolean的加工类
  * 
  * @author      ZhengWei(HY)
  * @version     v1.0
  * @createDate  2023-06-07
+ *              v2.0  2026-10-17  修改：图数据库的Integer按Java的Long取值
  */
-class MachiningIntegerToBoolean implements MachiningValue<Boolean ,Integer>
+class MachiningLongToBoolean implements MachiningValue<Boolean ,Long>
 {
     
     @Override
-    public Boolean getValue(Integer i_Value)
+    public Boolean getValue(Long i_Value)
     {
         return i_Value != null && i_Value > 0;
     }
@@ -1129,19 +1748,20 @@ class MachiningIntegerToBoolean implements MachiningValue<Boolean ,Integer>
 
 
 /**
- * 图数据库的Integer转Java的BigDecimal的加工类
+ * 图数据库的Integer（Java的Long）转Java的BigDecimal的加工类
  * 
  * @author      ZhengWei(HY)
  * @version     v1.0
  * @createDate  2023-06-07
+ *              v2.0  2026-10-17  修改：图数据库的Integer按Java的Long取值
  */
-class MachiningIntegerToBigDecimal implements MachiningValue<BigDecimal ,Integer>
+class MachiningLongToBigDecimal implements MachiningValue<BigDecimal ,Long>
 {
     
     @Override
-    public BigDecimal getValue(Integer i_Value)
+    public BigDecimal getValue(Long i_Value)
     {
-        return new BigDecimal(i_Value);
+        return BigDecimal.valueOf(i_Value);
     }
     
 }
@@ -1151,17 +1771,18 @@ class MachiningIntegerToBigDecimal implements MachiningValue<BigDecimal ,Integer
 
 
 /**
- * 图数据库的Integer转Java的Double的加工类
+ * 图数据库的Integer（Java的Long）转Java的Double的加工类
  * 
  * @author      ZhengWei(HY)
  * @version     v1.0
  * @createDate  2023-06-07
+ *              v2.0  2026-10-17  修改：图数据库的Integer按Java的Long取值
  */
-class MachiningIntegerToDouble implements MachiningValue<Double ,Integer>
+class MachiningLongToDouble implements MachiningValue<Double ,Long>
 {
     
     @Override
-    public Double getValue(Integer i_Value)
+    public Double getValue(Long i_Value)
     {
         return i_Value.doubleValue();
     }
@@ -1173,19 +1794,19 @@ class MachiningIntegerToDouble implements MachiningValue<Double ,Integer>
 
 
 /**
- * 图数据库的Integer转Java的Long的加工类
+ * 图数据库的Integer（Java的Long）转Java的Integer的加工类。超出int范围时抛出异常，而不是截断
  * 
  * @author      ZhengWei(HY)
  * @version     v1.0
- * @createDate  2023-06-07
+ * @createDate  2026-10-17
  */
-class MachiningIntegerToLong implements MachiningValue<Long ,Integer>
+class MachiningLongToInteger implements MachiningValue<Integer ,Long>
 {
     
     @Override
-    public Long getValue(Integer i_Value)
+    public Integer getValue(Long i_Value)
     {
-        return i_Value.longValue();
+        return Math.toIntExact(i_Value);
     }
     
 }
@@ -1195,17 +1816,18 @@ class MachiningIntegerToLong implements MachiningValue<Long ,Integer>
 
 
 /**
- * 图数据库的Integer转Java的Short的加工类
+ * 图数据库的Integer（Java的Long）转Java的Short的加工类
  * 
  * @author      ZhengWei(HY)
  * @version     v1.0
  * @createDate  2023-06-07
+ *              v2.0  2026-10-17  修改：图数据库的Integer按Java的Long取值
  */
-class MachiningIntegerToShort implements MachiningValue<Short ,Integer>
+class MachiningLongToShort implements MachiningValue<Short ,Long>
 {
     
     @Override
-    public Short getValue(Integer i_Value)
+    public Short getValue(Long i_Value)
     {
         return i_Value.shortValue();
     }
@@ -1217,11 +1839,12 @@ class MachiningIntegerToShort implements MachiningValue<Short ,Integer>
 
 
 /**
- * 图数据库的Double转Java的BigDecimal的加工类
+ * 图数据库的Float（Java的Double）转Java的BigDecimal的加工类
  * 
  * @author      ZhengWei(HY)
  * @version     v1.0
  * @createDate  2023-06-25
+ *              v2.0  2026-10-17  修改：按Double的十进制表示转换，不引入二进制浮点的尾数
  */
 class MachiningDoubleToBigDecimal implements MachiningValue<BigDecimal ,Double>
 {
@@ -1229,7 +1852,159 @@ class MachiningDoubleToBigDecimal implements MachiningValue<BigDecimal ,Double>
     @Override
     public BigDecimal getValue(Double i_Value)
     {
-        return new BigDecimal(i_Value);
+        return BigDecimal.valueOf(i_Value);
+    }
+    
+}
+
+
+
+
+
+/**
+ * 图数据库的Float（Java的Double）转Java的Float的加工类
+ * 
+ * @author      ZhengWei(HY)
+ * @version     v1.0
+ * @createDate  2026-10-17
+ */
+class MachiningDoubleToFloat implements MachiningValue<Float ,Double>
+{
+    
+    @Override
+    public Float getValue(Double i_Value)
+    {
+        return i_Value.floatValue();
+    }
+    
+}
+
+
+
+
+
+/**
+ * 图数据库的时间类型转时间点的工具。
+ * 
+ * 没有时区信息的 LocalDate、LocalDateTime 按系统默认时区。
+ * 
+ * @author      ZhengWei(HY)
+ * @version     v1.0
+ * @createDate  2026-10-17
+ */
+class MachiningTemporal
+{
+    
+    public static ZonedDateTime toZonedDateTime(Object i_Value)
+    {
+        if ( i_Value instanceof ZonedDateTime )
+        {
+            return (ZonedDateTime) i_Value;
+        }
+        else if ( i_Value instanceof LocalDateTime )
+        {
+            return ((LocalDateTime) i_Value).atZone(ZoneId.systemDefault());
+        }
+        else if ( i_Value instanceof OffsetDateTime )
+        {
+            return ((OffsetDateTime) i_Value).toZonedDateTime();
+        }
+        else if ( i_Value instanceof LocalDate )
+        {
+            return ((LocalDate) i_Value).atStartOfDay(ZoneId.systemDefault());
+        }
+        else
+        {
+            throw new ClassCastException(i_Value.getClass().getName() + " cannot be cast to a date time.");
+        }
+    }
+    
+}
+
+
+
+
+
+/**
+ * 图数据库的时间类型（DATE、DATE_TIME、LOCAL_DATE_TIME）转java.util.Date的加工类
+ * 
+ * @author      ZhengWei(HY)
+ * @version     v1.0
+ * @createDate  2026-10-17
+ */
+class MachiningTemporalToDate implements MachiningValue<java.util.Date ,Object>
+{
+    
+    @Override
+    public java.util.Date getValue(Object i_Value)
+    {
+        return i_Value == null ? null : java.util.Date.from(MachiningTemporal.toZonedDateTime(i_Value).toInstant());
+    }
+    
+}
+
+
+
+
+
+/**
+ * 图数据库的时间类型（DATE、DATE_TIME、LOCAL_DATE_TIME）转org.hy.common.Date的加工类
+ * 
+ * @author      ZhengWei(HY)
+ * @version     v1.0
+ * @createDate  2026-10-17
+ */
+class MachiningTemporalToMyDate implements MachiningValue<Date ,Object>
+{
+    
+    @Override
+    public Date getValue(Object i_Value)
+    {
+        return i_Value == null ? null : new Date(MachiningTemporal.toZonedDateTime(i_Value));
+    }
+    
+}
+
+
+
+
+
+/**
+ * 图数据库的时间类型（DATE_TIME、LOCAL_DATE_TIME）转java.time.LocalDate的加工类
+ * 
+ * @author      ZhengWei(HY)
+ * @version     v1.0
+ * @createDate  2026-10-17
+ */
+class MachiningTemporalToLocalDate implements MachiningValue<LocalDate ,Object>
+{
+    
+    @Override
+    public LocalDate getValue(Object i_Value)
+    {
+        return i_Value == null ? null : MachiningTemporal.toZonedDateTime(i_Value).toLocalDate();
+    }
+    
+}
+
+
+
+
+
+/**
+ * 图数据库的时间类型（DATE、DATE_TIME）转java.time.LocalDateTime的加工类
+ * 
+ * @author      ZhengWei(HY)
+ * @version     v1.0
+ * @createDate  2026-10-17
+ */
+class MachiningTemporalToLocalDateTime implements MachiningValue<LocalDateTime ,Object>
+{
+    
+    @Override
+    public LocalDateTime getValue(Object i_Value)
+    {
+        return i_Value == null ? null : MachiningTemporal.toZonedDateTime(i_Value).toLocalDateTime();
     }
     
-}
\ No newline at end of file
+}
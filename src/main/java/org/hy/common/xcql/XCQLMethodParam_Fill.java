@@ -13,6 +13,7 @@ import java.lang.reflect.Method;
  * 
  * @author      ZhengWei(HY)
  * @version     v1.0
+ *              v2.0  2026-10-18  添加：获取参数信息引用的行级对象属性的Getter方法 getObjGetter()
  * @createDate  2023-06-02
  */
 public final class XCQLMethodParam_Fill
@@ -96,6 +97,32 @@ public final class XCQLMethodParam_Fill
     
     
     
+    /**
+     * 获取参数信息引用的行级对象属性的Getter方法，即 $FILL_ROW_GETTER 类型的参数信息的Getter方法
+     * 
+     * 用于 XCQLMethod 编译填充方法时，无须引用本文件中的各参数信息的实现类
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     * 
+     * @param i_Param  参数信息
+     * @return         不是 $FILL_ROW_GETTER 类型的参数信息时，返回NULL
+     */
+    static Method getObjGetter(XCQLMethodParam i_Param)
+    {
+        if ( i_Param instanceof XCQLMethodParam_Fill_Row_Getter )
+        {
+            return ((XCQLMethodParam_Fill_Row_Getter) i_Param).getObjGetter();
+        }
+        else
+        {
+            return null;
+        }
+    }
+    
+    
+    
     /**
      * 不允许被构造
      */
@@ -0,0 +1,671 @@
+package org.hy.common.xcql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hy.common.Date;
+import org.hy.common.Help;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+
+
+
+
+
+/**
+ * XCQL功能中异步的MATCH、Create\Set\Delete语句的具体操作与实现。
+ * 
+ * 使用Neo4j驱动的异步会话（AsyncSession），调用线程不再等待数据库的往返，而是返回 CompletionStage。
+ * 统计、触发器、异常日志与同步的 XCQLOPQuery、XCQLOPUpdate 相同。
+ * 
+ * 注：将结果集转化为Java实例对象、执行触发器等，均在公共线程池中执行，不占用驱动的I/O线程。
+ * 
+ * 独立原因：从XCQL主类中分离的主要原因是：减少XCQL主类的代码量，方便维护。使XCQL主类向外提供统一的操作，本类重点关注实现。
+ * 静态原因：用static方法的原因：不想再构建太多的类实例，减少内存负担
+ * 接口选择：未使用接口的原因：本类的每个方法的首个入参都有一个XCQL类型，并且都是static方法
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  修改：异步会话关闭完成后，返回的 CompletionStage 才完成
+ */
+public class XCQLOPAsync
+{
+    
+    /**
+     * 占位符CQL的异步查询。 -- 无填充值的
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public static CompletionStage<XCQLData> queryXCQLDataAsync(final XCQL i_XCQL)
+    {
+        i_XCQL.checkContent();
+        
+        Map<String ,Object>       v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,(Object) null);
+        Query                     v_Query         = null;
+        CompletionStage<XCQLData> v_Stage         = null;
+        
+        try
+        {
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            v_Stage = XCQLOPAsync.queryXCQLDataAsync_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            v_Stage = failed(exce);
+        }
+        
+        return XCQLOPAsync.finish(i_XCQL ,v_Query ,null ,false ,v_TriggerParams ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的异步查询。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @return
+     */
+    public static CompletionStage<XCQLData> queryXCQLDataAsync(final XCQL i_XCQL ,final Map<String ,?> i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Map<String ,Object>       v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
+        Query                     v_Query         = null;
+        CompletionStage<XCQLData> v_Stage         = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_Stage = XCQLOPAsync.queryXCQLDataAsync_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            v_Stage = failed(exce);
+        }
+        
+        return XCQLOPAsync.finish(i_XCQL ,v_Query ,i_Values ,true ,v_TriggerParams ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的异步查询。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充对象。
+     * @return
+     */
+    public static CompletionStage<XCQLData> queryXCQLDataAsync(final XCQL i_XCQL ,final Object i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Map<String ,Object>       v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
+        Query                     v_Query         = null;
+        CompletionStage<XCQLData> v_Stage         = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_Stage = XCQLOPAsync.queryXCQLDataAsync_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            v_Stage = failed(exce);
+        }
+        
+        return XCQLOPAsync.finish(i_XCQL ,v_Query ,i_Values ,false ,v_TriggerParams ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的Create\Set\Delete语句的异步执行。 -- 无填充值的
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return  返回语句影响的数量（创建、删除节点和关系时，返回影响的节点数量；非节点和关系操作时，才取对属性的影响数量）
+     */
+    public static CompletionStage<Integer> executeUpdateAsync(final XCQL i_XCQL)
+    {
+        i_XCQL.checkContent();
+        
+        Map<String ,Object>      v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,(Object) null);
+        Query                    v_Query         = null;
+        CompletionStage<Integer> v_Stage         = null;
+        
+        try
+        {
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            v_Stage = XCQLOPAsync.executeUpdateAsync_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            v_Stage = failed(exce);
+        }
+        
+        return XCQLOPAsync.finish(i_XCQL ,v_Query ,null ,false ,v_TriggerParams ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的Create\Set\Delete语句的异步执行。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values  占位符CQL的填充集合。
+     * @return          返回语句影响的数量（创建、删除节点和关系时，返回影响的节点数量；非节点和关系操作时，才取对属性的影响数量）
+     */
+    public static CompletionStage<Integer> executeUpdateAsync(final XCQL i_XCQL ,final Map<String ,?> i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Map<String ,Object>      v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,i_Values);
+        Query                    v_Query         = null;
+        CompletionStage<Integer> v_Stage         = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_Stage = XCQLOPAsync.executeUpdateAsync_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            v_Stage = failed(exce);
+        }
+        
+        return XCQLOPAsync.finish(i_XCQL ,v_Query ,i_Values ,true ,v_TriggerParams ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的Create\Set\Delete语句的异步执行。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values  占位符CQL的填充对象。
+     * @return          返回语句影响的数量（创建、删除节点和关系时，返回影响的节点数量；非节点和关系操作时，才取对属性的影响数量）
+     */
+    public static CompletionStage<Integer> executeUpdateAsync(final XCQL i_XCQL ,final Object i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Map<String ,Object>      v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,i_Values);
+        Query                    v_Query         = null;
+        CompletionStage<Integer> v_Stage         = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_Stage = XCQLOPAsync.executeUpdateAsync_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            v_Stage = failed(exce);
+        }
+        
+        return XCQLOPAsync.finish(i_XCQL ,v_Query ,i_Values ,false ,v_TriggerParams ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 常规CQL的异步查询
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Query 常规CQL语句
+     * @return
+     */
+    private static CompletionStage<XCQLData> queryXCQLDataAsync_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSCQL)
+    {
+        long v_BeginTime = i_XCQL.request().getTime();
+        
+        try
+        {
+            if ( i_XCQL.getResult() == null )
+            {
+                throw new NullPointerException("Result is null of XCQL.");
+            }
+            
+            if ( !i_DSCQL.isValid() )
+            {
+                throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
+            }
+            
+            if ( i_Query == null )
+            {
+                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
+            }
+        }
+        catch (Exception exce)
+        {
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
+            return failed(new RuntimeException(exce.getMessage()));
+        }
+        
+        AsyncSession v_Session = i_DSCQL.getAsyncSession();
+        
+        CompletionStage<XCQLData> v_Stage = v_Session.runAsync(i_Query)
+        .thenCompose(v_Cursor -> v_Cursor.listAsync().thenApply(v_Records -> new XCQLRecords(v_Records ,v_Cursor)))
+        .thenApplyAsync(v_Records ->
+        {
+            i_XCQL.log(i_Query);
+            
+            XCQLData v_Ret = i_XCQL.getResult().getDatas(v_Records);
+            Date v_EndTime = Date.getNowTime();
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Ret.getRowCount());
+            
+            i_XCQL.fireAfterRule(v_Ret);
+            
+            return v_Ret;
+        });
+        
+        return XCQLOPAsync.closing(i_XCQL ,i_Query ,i_DSCQL ,v_Session ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 常规Create\Set\Delete语句的异步执行。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Query 常规CQL语句
+     * @return       返回语句影响的数量（创建、删除节点和关系时，返回影响的节点数量；非节点和关系操作时，才取对属性的影响数量）
+     */
+    private static CompletionStage<Integer> executeUpdateAsync_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSG)
+    {
+        long v_BeginTime = i_XCQL.request().getTime();
+        
+        try
+        {
+            if ( !i_DSG.isValid() )
+            {
+                throw new RuntimeException("DataSourceCQL is not valid.");
+            }
+            
+            if ( i_Query == null )
+            {
+                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
+            }
+        }
+        catch (Exception exce)
+        {
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
+            return failed(new RuntimeException(exce.getMessage()));
+        }
+        
+        AsyncSession v_Session = i_DSG.getAsyncSession();
+        
+        CompletionStage<Integer> v_Stage = v_Session.runAsync(i_Query)
+        .thenCompose(ResultCursor::consumeAsync)
+        .thenApplyAsync(v_Summary ->
+        {
+            SummaryCounters v_Counters = v_Summary.counters();
+            
+            int v_Count = v_Counters.nodesCreated()
+                        + v_Counters.nodesDeleted()
+                        + v_Counters.relationshipsCreated()
+                        + v_Counters.relationshipsDeleted();
+            // 当并非创建、删除节点和关系时，才取对属性的操作数量
+            if ( v_Count <= 0 )
+            {
+                v_Count = v_Counters.propertiesSet();
+            }
+            
+            i_XCQL.log(i_Query);
+            
+            Date v_EndTime = Date.getNowTime();
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Count);
+            
+            return v_Count;
+        });
+        
+        return XCQLOPAsync.closing(i_XCQL ,i_Query ,i_DSG ,v_Session ,v_Stage);
+    }
+    
+    
+    
+    /**
+     * 执行完成后（无论成功与否）关闭异步会话，会话关闭完成后才完成。
+     * 执行异常时，与同步的方法一样记录异常，并转为 RuntimeException 异常
+     * 
+     * @param i_XCQL
+     * @param i_Query
+     * @param i_DSCQL
+     * @param i_Session
+     * @param i_Stage
+     * @return
+     */
+    private static <T> CompletionStage<T> closing(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSCQL ,final AsyncSession i_Session ,final CompletionStage<T> i_Stage)
+    {
+        CompletableFuture<T> v_Future = new CompletableFuture<T>();
+        
+        i_Stage.whenComplete((v_Ret ,v_Exce) ->
+        {
+            // 会话关闭的异常已在 closeAsyncSession() 中记录，不影响执行结果
+            i_DSCQL.closeAsyncSession(i_Session).whenCompleteAsync((v_Void ,v_CloseExce) ->
+            {
+                if ( v_Exce != null )
+                {
+                    Exception v_Error = toException(v_Exce);
+                    XCQL.erroring(i_Query ,v_Error ,i_XCQL);
+                    v_Future.completeExceptionally(new RuntimeException(v_Error.getMessage()));
+                }
+                else
+                {
+                    v_Future.complete(v_Ret);
+                }
+            });
+        });
+        
+        return v_Future;
+    }
+    
+    
+    
+    /**
+     * 与同步的方法一样：执行异常时记录异常日志，并执行触发器
+     * 
+     * @param i_XCQL
+     * @param i_Query          常规CQL语句
+     * @param i_Values         占位符CQL的填充集合或对象。无填充值的为NULL
+     * @param i_IsMap          填充值是否为集合
+     * @param i_TriggerParams  触发器的额外参数
+     * @param i_Stage
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> CompletionStage<T> finish(final XCQL i_XCQL ,final Query i_Query ,final Object i_Values ,final boolean i_IsMap ,final Map<String ,Object> i_TriggerParams ,final CompletionStage<T> i_Stage)
+    {
+        return i_Stage.whenCompleteAsync((v_Ret ,v_Exce) ->
+        {
+            boolean v_IsError    = v_Exce != null;
+            String  v_ErrorInfo  = null;
+            long    v_IORowCount = 0L;
+            
+            if ( v_IsError )
+            {
+                Exception v_Error = toException(v_Exce);
+                
+                v_ErrorInfo = Help.NVL(v_Error.getMessage() ,"E");
+                if ( i_XCQL.getError() != null )
+                {
+                    XCQLErrorInfo v_ErrorLog = new XCQLErrorInfo(i_Query ,v_Error ,i_XCQL);
+                    if ( i_IsMap )
+                    {
+                        v_ErrorLog.setValuesMap((Map<String ,?>) i_Values);
+                    }
+                    else if ( i_Values != null )
+                    {
+                        v_ErrorLog.setValuesObject(i_Values);
+                    }
+                    i_XCQL.getError().errorLog(v_ErrorLog);
+                }
+            }
+            else if ( v_Ret instanceof XCQLData )
+            {
+                v_IORowCount = ((XCQLData) v_Ret).getRowCount();
+            }
+            else if ( v_Ret instanceof Number )
+            {
+                v_IORowCount = ((Number) v_Ret).longValue();
+            }
+            
+            if ( i_XCQL.isTriggers(v_IsError) )
+            {
+                if ( i_TriggerParams != null )
+                {
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(i_TriggerParams ,v_IORowCount ,v_ErrorInfo));
+                }
+                else if ( i_IsMap )
+                {
+                    i_XCQL.getTrigger().executes((Map<String ,?>) i_Values);
+                }
+                else if ( i_Values != null )
+                {
+                    i_XCQL.getTrigger().executes(i_Values);
+                }
+                else
+                {
+                    i_XCQL.getTrigger().executes();
+                }
+            }
+        });
+    }
+    
+    
+    
+    /**
+     * 获取异步执行中的原始异常
+     * 
+     * @param i_Exce
+     * @return
+     */
+    private static Exception toException(Throwable i_Exce)
+    {
+        Throwable v_Exce = i_Exce;
+        while ( v_Exce instanceof CompletionException && v_Exce.getCause() != null )
+        {
+            v_Exce = v_Exce.getCause();
+        }
+        
+        return v_Exce instanceof Exception ? (Exception) v_Exce : new RuntimeException(v_Exce);
+    }
+    
+    
+    
+    /**
+     * 生成异常完成的 CompletionStage
+     * 
+     * @param i_Exce
+     * @return
+     */
+    private static <T> CompletionStage<T> failed(RuntimeException i_Exce)
+    {
+        CompletableFuture<T> v_Future = new CompletableFuture<T>();
+        v_Future.completeExceptionally(i_Exce);
+        return v_Future;
+    }
+    
+}
+
+
+
+
+
+/**
+ * 已全部读取到内存中的记录，按结果集的接口提供给 XCQLResult.getDatas() 转化
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  添加：consume() 委托给记录所属的异步游标
+ */
+class XCQLRecords implements Result
+{
+    
+    /** 全部记录 */
+    private final List<Record> records;
+    
+    /** 记录所属的异步游标。用于获取结果摘要 */
+    private final ResultCursor cursor;
+    
+    /** 下一条记录的下标 */
+    private int                index;
+    
+    
+    
+    public XCQLRecords(List<Record> i_Records ,ResultCursor i_Cursor)
+    {
+        this.records = i_Records == null ? Collections.emptyList() : i_Records;
+        this.cursor  = i_Cursor;
+        this.index   = 0;
+    }
+    
+    
+    
+    @Override
+    public List<String> keys()
+    {
+        return this.records.isEmpty() ? Collections.emptyList() : this.records.get(0).keys();
+    }
+    
+    
+    
+    @Override
+    public boolean hasNext()
+    {
+        return this.index < this.records.size();
+    }
+    
+    
+    
+    @Override
+    public Record next()
+    {
+        if ( !this.hasNext() )
+        {
+            throw new NoSuchRecordException("No more records.");
+        }
+        
+        return this.records.get(this.index++);
+    }
+    
+    
+    
+    @Override
+    public Record single() throws NoSuchRecordException
+    {
+        if ( this.records.size() - this.index != 1 )
+        {
+            throw new NoSuchRecordException("Expected a result with a single record, but this result contains " + (this.records.size() - this.index) + " records.");
+        }
+        
+        return this.next();
+    }
+    
+    
+    
+    @Override
+    public Record peek()
+    {
+        if ( !this.hasNext() )
+        {
+            throw new NoSuchRecordException("No more records.");
+        }
+        
+        return this.records.get(this.index);
+    }
+    
+    
+    
+    @Override
+    public Stream<Record> stream()
+    {
+        return this.list().stream();
+    }
+    
+    
+    
+    @Override
+    public List<Record> list()
+    {
+        return this.list(Function.identity());
+    }
+    
+    
+    
+    @Override
+    public <T> List<T> list(Function<Record ,T> i_Mapper)
+    {
+        List<T> v_List = new ArrayList<T>(this.records.size() - this.index);
+        
+        while ( this.hasNext() )
+        {
+            v_List.add(i_Mapper.apply(this.next()));
+        }
+        
+        return v_List;
+    }
+    
+    
+    
+    /**
+     * 丢弃未读取的记录，并返回结果摘要。
+     * 
+     * 记录已由异步游标全部读取，游标的结果摘要已就绪，等待时不会阻塞。
+     */
+    @Override
+    public ResultSummary consume()
+    {
+        this.index = this.records.size();
+        
+        try
+        {
+            return this.cursor.consumeAsync().toCompletableFuture().join();
+        }
+        catch (CompletionException exce)
+        {
+            throw exce.getCause() instanceof RuntimeException ? (RuntimeException) exce.getCause() : exce;
+        }
+    }
+    
+}
@@ -20,6 +20,7 @@ import org.hy.common.Help;
  * @createDate  2023-06-05
  * @version     v1.0
  *              v2.0  2023-10-18  添加：是否附加触发额外参数的功能
+ *              v3.0  2026-10-18  修改：外部传入数据库连接的写操作，在其事务提交后再次失效相关的查询结果缓存
  */
 public class XCQLOPDDL
 {
@@ -621,7 +622,7 @@ public class XCQLOPDDL
             }
             
             Date v_EndTime = Date.getNowTime();
-            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,1L);
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,1L ,i_Conn);
             
             return true;
         }
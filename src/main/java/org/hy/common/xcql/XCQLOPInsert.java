@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.hy.common.Date;
 import org.hy.common.Help;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Transaction;
 
@@ -24,6 +25,7 @@ import org.neo4j.driver.Transaction;
  * @createDate  2022-05-23
  * @version     v1.0
  *              v2.0  2023-10-18  添加：是否附加触发额外参数的功能
+ *              v3.0  2026-10-18  修改：外部传入数据库连接的写操作，在其事务提交后再次失效相关的查询结果缓存
  */
 public class XCQLOPInsert
 {
@@ -47,13 +49,13 @@ public class XCQLOPInsert
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeInsert" ,(Object) null);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL   = i_XCQL.getContent().getCQL(v_DSCQL);
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_Query ,v_DSCQL);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -64,7 +66,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -74,7 +76,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -117,14 +119,14 @@ public class XCQLOPInsert
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeInsert" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_Query ,v_DSCQL);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -135,7 +137,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -145,7 +147,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -188,14 +190,14 @@ public class XCQLOPInsert
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeInsert" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_Query ,v_DSCQL);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -206,7 +208,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -216,7 +218,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -257,7 +259,7 @@ public class XCQLOPInsert
 
         try
         {
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,i_CQL ,i_XCQL.getDataSourceCQL());
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,DBCQL.newQuery(i_CQL ,null) ,i_XCQL.getDataSourceCQL());
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -307,10 +309,10 @@ public class XCQLOPInsert
      * @createDate  2022-05-23
      * @version     v3.0
      * 
-     * @param i_CQL              常规CQL语句
+     * @param i_Query            常规CQL语句
      * @return
      */
-    private static XCQLData executeInsert_Inner(final XCQL i_XCQL ,final String i_CQL ,final DataSourceCQL i_DSG)
+    private static XCQLData executeInsert_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSG)
     {
         Connection v_Conn      = null;
         Result     v_Result    = null;
@@ -323,14 +325,14 @@ public class XCQLOPInsert
                 throw new RuntimeException("DataSourceCQL[" + i_DSG.getXJavaID() + "] is not valid.");
             }
             
-            if ( Help.isNull(i_CQL) )
+            if ( i_Query == null )
             {
                 throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
             }
             
             v_Conn   = i_XCQL.getConnection(i_DSG);
-            v_Result = v_Conn.run(i_CQL);
-            i_XCQL.log(i_CQL);
+            v_Result = v_Conn.run(i_Query);
+            i_XCQL.log(i_Query);
             
             int v_RowCount = v_Result.consume().counters().nodesCreated()
                            + v_Result.consume().counters().nodesDeleted();
@@ -353,7 +355,7 @@ public class XCQLOPInsert
         }
         catch (Exception exce)
         {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
             throw new RuntimeException(exce.getMessage());
         }
         finally
@@ -383,13 +385,13 @@ public class XCQLOPInsert
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeInsert" ,(Object) null);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL   = i_XCQL.getContent().getCQL(v_DSCQL);
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_Query ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -400,7 +402,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -410,7 +412,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -454,14 +456,14 @@ public class XCQLOPInsert
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeInsert" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
         
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_Query ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -472,7 +474,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -483,7 +485,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -527,14 +529,14 @@ public class XCQLOPInsert
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeInsert" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,v_Query ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -545,7 +547,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -555,7 +557,7 @@ public class XCQLOPInsert
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -597,7 +599,7 @@ public class XCQLOPInsert
 
         try
         {
-            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,i_CQL ,i_Conn);
+            XCQLData v_Ret = XCQLOPInsert.executeInsert_Inner(i_XCQL ,DBCQL.newQuery(i_CQL ,null) ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -647,17 +649,17 @@ public class XCQLOPInsert
      * @createDate  2022-05-23
      * @version     v3.0
      * 
-     * @param i_CQL              常规CQL语句
+     * @param i_Query            常规CQL语句
      * @param i_Conn             数据库连接
      * @return
      */
-    private static XCQLData executeInsert_Inner(final XCQL i_XCQL ,final String i_CQL ,final Connection i_Conn)
+    private static XCQLData executeInsert_Inner(final XCQL i_XCQL ,final Query i_Query ,final Connection i_Conn)
     {
         long v_BeginTime = i_XCQL.request().getTime();
         
         try
         {
-            if ( Help.isNull(i_CQL) )
+            if ( i_Query == null )
             {
                 throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
             }
@@ -667,7 +669,7 @@ public class XCQLOPInsert
                 throw new NullPointerException("Connection is null of XCQL.");
             }
             
-            Result v_Result = i_Conn.run(i_CQL);
+            Result v_Result = i_Conn.run(i_Query);
             int v_RowCount = v_Result.consume().counters().nodesCreated()
                            + v_Result.consume().counters().nodesDeleted();
             int v_ColCount = v_Result.consume().counters().propertiesSet();
@@ -681,17 +683,17 @@ public class XCQLOPInsert
                 v_Count = v_ColCount;
             }
             
-            i_XCQL.log(i_CQL);
+            i_XCQL.log(i_Query);
             
             Date v_EndTime = Date.getNowTime();
             long v_TimeLen = v_EndTime.getTime() - v_BeginTime;
-            i_XCQL.success(v_EndTime ,v_TimeLen ,1 ,v_Count);
+            i_XCQL.success(v_EndTime ,v_TimeLen ,1 ,v_Count ,i_Conn);
             
             return new XCQLData(null ,v_RowCount ,v_ColCount ,v_RelCount ,v_TimeLen ,null);
         }
         catch (Exception exce)
         {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
             throw new RuntimeException(exce.getMessage());
         }
         finally
@@ -881,7 +883,7 @@ public class XCQLOPInsert
         Result        v_Result      = null;
         int           v_Ret         = 0;
         long          v_BeginTime   = i_XCQL.request().getTime();
-        String        v_CQL         = null;
+        Query         v_Query       = null;
         int           v_RowCount    = 0;
         int           v_ColCount    = 0;
         int           v_RelCount    = 0;
@@ -916,15 +918,15 @@ public class XCQLOPInsert
                 {
                     if ( i_ObjList.get(i) != null )
                     {
-                        v_CQL       = i_XCQL.getContent().getCQL(i_ObjList.get(i) ,v_DSCQL);
-                        v_Result    = v_Transaction.run(v_CQL);
+                        v_Query     = i_XCQL.getContent().getQuery(i_ObjList.get(i) ,v_DSCQL);
+                        v_Result    = v_Transaction.run(v_Query);
                         v_RowCount += v_Result.consume().counters().nodesCreated()
                                     + v_Result.consume().counters().nodesDeleted();
                         v_ColCount += v_Result.consume().counters().propertiesSet();
                         v_RelCount += v_Result.consume().counters().relationshipsCreated()
                                     + v_Result.consume().counters().relationshipsDeleted();
                         
-                        i_XCQL.log(v_CQL);
+                        i_XCQL.log(v_Query);
                     }
                 }
                 
@@ -941,15 +943,15 @@ public class XCQLOPInsert
                 {
                     if ( i_ObjList.get(i) != null )
                     {
-                        v_CQL       = i_XCQL.getContent().getCQL(i_ObjList.get(i) ,v_DSCQL);
-                        v_Result    = v_Transaction.run(v_CQL);
+                        v_Query     = i_XCQL.getContent().getQuery(i_ObjList.get(i) ,v_DSCQL);
+                        v_Result    = v_Transaction.run(v_Query);
                         v_RowCount += v_Result.consume().counters().nodesCreated()
                                     + v_Result.consume().counters().nodesDeleted();
                         v_ColCount += v_Result.consume().counters().propertiesSet();
                         v_RelCount += v_Result.consume().counters().relationshipsCreated()
                                     + v_Result.consume().counters().relationshipsDeleted();
                     
-                        i_XCQL.log(v_CQL);
+                        i_XCQL.log(v_Query);
                         v_EC++;
                         
                         if ( v_EC % i_XCQL.getBatchCommit() == 0 )
@@ -972,12 +974,12 @@ public class XCQLOPInsert
             
             Date v_EndTime = Date.getNowTime();
             long v_TimeLen = v_EndTime.getTime() - v_BeginTime;
-            i_XCQL.success(v_EndTime ,v_TimeLen ,i_ObjList.size() ,v_Ret);
+            i_XCQL.success(v_EndTime ,v_TimeLen ,i_ObjList.size() ,v_Ret ,i_Conn);
             return new XCQLData(null ,v_RowCount ,v_ColCount ,v_RelCount ,v_TimeLen ,null);
         }
         catch (Exception exce)
         {
-            XCQL.erroring(v_CQL ,exce ,i_XCQL);
+            XCQL.erroring(v_Query ,exce ,i_XCQL);
             
             try
             {
@@ -1,13 +1,16 @@
 package org.hy.common.xcql;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 import org.hy.common.Date;
 import org.hy.common.Help;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
 
 
 
@@ -24,12 +27,24 @@ import org.neo4j.driver.Result;
  * @createDate  2022-06-04
  * @version     v1.0
  *              v2.0  2023-10-18  添加：是否附加触发额外参数的功能
+ *              v3.0  2026-10-17  添加：游标分页查询的 SKIP/LIMIT 下推到数据库端执行
+ *              v4.0  2026-10-17  添加：键集分页查询 queryXCQLDataByKeyset()
+ *              v5.0  2026-10-17  添加：流式查询 queryStream()
+ *              v6.0  2026-10-17  添加：响应式（有背压）查询 queryPublisher()
+ *              v7.0  2026-10-17  添加：查询结果的缓存（读穿透）。见 XCQL.getCache()
+ *              v8.0  2026-10-17  添加：并发的相同查询的合并执行。见 XCQL.isSingleFlight()
+ *              v9.0  2026-10-18  修改：查询执行期间缓存有失效发生时，不缓存查询结果
+ *              v10.0 2026-10-18  修改：分页下推的位置在加载占位符CQL时识别（见 DBCQL.isPageable()），分页查询时不再词法分析
+ *              v11.0 2026-10-18  修改：缓存查询结果时，涉及的标签取自占位符CQL（见 DBCQL.getLabels()），不再词法分析
  */
 public class XCQLOPQuery
 {
     
-    /** 判定查询QL中否有COUNT(1)或COUNT(*)的情况 */
-    private static final String $CQLHaveCount = "( )+[Cc][Oo][Uu][Nn][Tt][ ]*(\\()+";
+    /** 分页下推时，SKIP 子句的参数名称 */
+    public static final String $Paging_Skip  = "xcqlPagingSkip";
+    
+    /** 分页下推时，LIMIT 子句的参数名称 */
+    public static final String $Paging_Limit = "xcqlPagingLimit";
     
     
     
@@ -52,13 +67,13 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,(Object) null);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_XCQL.getContent() ,v_DSCQL);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -68,7 +83,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -78,7 +93,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -119,13 +134,13 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,(Object) null);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -135,7 +150,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -145,7 +160,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -189,14 +204,14 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
         
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_XCQL.getContent() ,v_DSCQL);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -206,7 +221,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -216,7 +231,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -261,14 +276,14 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
         
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -278,7 +293,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -288,7 +303,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -332,14 +347,14 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_XCQL.getContent() ,v_DSCQL);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -349,7 +364,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -359,7 +374,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -404,14 +419,14 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -421,7 +436,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -431,7 +446,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -476,7 +491,7 @@ public class XCQLOPQuery
 
         try
         {
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,i_CQL ,i_Conn);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,DBCQL.newQuery(i_CQL ,null) ,i_Conn);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -541,7 +556,7 @@ public class XCQLOPQuery
 
         try
         {
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,i_CQL ,i_XCQL.getDataSourceCQL());
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,DBCQL.newQuery(i_CQL ,null) ,null ,i_XCQL.getDataSourceCQL());
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -586,16 +601,16 @@ public class XCQLOPQuery
     /**
      * 常规CQL的查询。（内部不再关闭数据库连接）
      * 
-     * 1. 提交数据库执行 i_CQL ，将数据库结果集转化为Java实例对象返回
+     * 1. 提交数据库执行 i_Query ，将数据库结果集转化为Java实例对象返回
      * 
      * @author      ZhengWei(HY)
      * @createDate  2019-03-22
      * @version     v1.0
      * 
-     * @param i_CQL              常规CQL语句
+     * @param i_Query            常规CQL语句
      * @return
      */
-    private static XCQLData queryXCQLData_Inner(final XCQL i_XCQL ,final String i_CQL ,final Connection i_Conn)
+    private static XCQLData queryXCQLData_Inner(final XCQL i_XCQL ,final Query i_Query ,final Connection i_Conn)
     {
         Result v_Resultset = null;
         long   v_BeginTime = i_XCQL.request().getTime();
@@ -607,7 +622,7 @@ public class XCQLOPQuery
                 throw new NullPointerException("Result is null of XCQL.");
             }
             
-            if ( Help.isNull(i_CQL) )
+            if ( i_Query == null )
             {
                 throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
             }
@@ -617,8 +632,8 @@ public class XCQLOPQuery
                 throw new NullPointerException("Connection is null of XCQL.");
             }
             
-            v_Resultset = i_Conn.run(i_CQL);
-            i_XCQL.log(i_CQL);
+            v_Resultset = i_Conn.run(i_Query);
+            i_XCQL.log(i_Query);
             
             XCQLData v_Ret = i_XCQL.getResult().getDatas(v_Resultset);
             Date v_EndTime = Date.getNowTime();
@@ -630,7 +645,7 @@ public class XCQLOPQuery
         }
         catch (Exception exce)
         {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
             throw new RuntimeException(exce.getMessage());
         }
         finally
@@ -661,13 +676,13 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,(Object) null);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,v_DSCQL ,i_StartRow ,i_PagePerSize);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_XCQL.getContent() ,v_DSCQL ,i_StartRow ,i_PagePerSize);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -677,7 +692,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -687,7 +702,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -733,14 +748,14 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,v_DSCQL ,i_StartRow ,i_PagePerSize);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_XCQL.getContent() ,v_DSCQL ,i_StartRow ,i_PagePerSize);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -750,7 +765,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -760,7 +775,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -806,14 +821,14 @@ public class XCQLOPQuery
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLData" ,i_Values);
         long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_CQL ,v_DSCQL ,i_StartRow ,i_PagePerSize);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,v_Query ,i_XCQL.getContent() ,v_DSCQL ,i_StartRow ,i_PagePerSize);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -823,7 +838,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -833,7 +848,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -882,7 +897,7 @@ public class XCQLOPQuery
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,i_CQL ,v_DSCQL ,i_StartRow ,i_PagePerSize);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLData_Inner(i_XCQL ,DBCQL.newQuery(i_CQL ,null) ,null ,v_DSCQL ,i_StartRow ,i_PagePerSize);
             v_IORowCount = v_Ret.getRowCount();
             return v_Ret;
         }
@@ -925,155 +940,35 @@ public class XCQLOPQuery
     
     
     /**
-     * 常规CQL的查询。游标的分页查询（可通用于所有数据库）。
-     * 
-     * 1. 提交数据库执行 i_CQL ，将数据库结果集转化为Java实例对象返回
-     * 
-     * @author      ZhengWei(HY)
-     * @createDate  2019-03-22
-     * @version     v1.0
-     *
-     * @param i_CQL              常规CQL语句
-     * @param i_StartRow         开始读取的行号。下标从0开始。
-     * @param i_PagePerSize      每页显示多少条数据。只有大于0时，游标分页功能才生效。
-     * @return
-     */
-    private static XCQLData queryXCQLData_Inner(final XCQL i_XCQL ,final String i_CQL ,final DataSourceCQL i_DSCQL ,final int i_StartRow ,final int i_PagePerSize)
-    {
-        Connection v_Conn      = null;
-        Result     v_Resultset = null;
-        long       v_BeginTime = i_XCQL.request().getTime();
-        
-        try
-        {
-            if ( i_XCQL.getResult() == null )
-            {
-                throw new NullPointerException("Result is null of XCQL.");
-            }
-            
-            if ( !i_DSCQL.isValid() )
-            {
-                throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
-            }
-            
-            if ( Help.isNull(i_CQL) )
-            {
-                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
-            }
-            
-            v_Conn      = i_XCQL.getConnection(i_DSCQL);
-            v_Resultset = v_Conn.run(i_CQL);
-            i_XCQL.log(i_CQL);
-            
-            XCQLData v_Ret = i_XCQL.getResult().getDatas(v_Resultset ,i_StartRow ,i_PagePerSize);
-            Date v_EndTime = Date.getNowTime();
-            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Ret.getRowCount());
-            
-            i_XCQL.fireAfterRule(v_Ret);
-            
-            return v_Ret;
-        }
-        catch (Exception exce)
-        {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
-            throw new RuntimeException(exce.getMessage());
-        }
-        finally
-        {
-            i_XCQL.closeDB(v_Resultset ,v_Conn);
-        }
-    }
-    
-    
-    
-    /**
-     * 常规CQL的查询
-     * 
-     * 1. 提交数据库执行 i_CQL ，将数据库结果集转化为Java实例对象返回
+     * 占位符CQL的查询。键集分页查询（见 XCQLKeyset），第N页与第1页的代价相同。 -- 无填充值的
      * 
      * @author      ZhengWei(HY)
-     * @createDate  2019-03-22
+     * @createDate  2026-10-17
      * @version     v1.0
      * 
-     * @param i_CQL  常规CQL语句
-     * @return
-     */
-    private static XCQLData queryXCQLData_Inner(final XCQL i_XCQL ,final String i_CQL ,final DataSourceCQL i_DSCQL)
-    {
-        Connection v_Conn      = null;
-        Result     v_Resultset = null;
-        long       v_BeginTime = i_XCQL.request().getTime();
-        
-        try
-        {
-            if ( i_XCQL.getResult() == null )
-            {
-                throw new NullPointerException("Result is null of XCQL.");
-            }
-            
-            if ( !i_DSCQL.isValid() )
-            {
-                throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
-            }
-            
-            if ( Help.isNull(i_CQL) )
-            {
-                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
-            }
-            
-            v_Conn      = i_XCQL.getConnection(i_DSCQL);
-            v_Resultset = v_Conn.run(i_CQL);
-            i_XCQL.log(i_CQL);
-            
-            XCQLData v_Ret = i_XCQL.getResult().getDatas(v_Resultset);
-            Date v_EndTime = Date.getNowTime();
-            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Ret.getRowCount());
-            
-            i_XCQL.fireAfterRule(v_Ret);
-            
-            return v_Ret;
-        }
-        catch (Exception exce)
-        {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
-            throw new RuntimeException(exce.getMessage());
-        }
-        finally
-        {
-            i_XCQL.closeDB(v_Resultset ,v_Conn);
-        }
-    }
-    
-    
-    
-    /**
-     * 统计记录数据：占位符CQL的查询。
-     * 
-     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
-     * 
-     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
-     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
-     * 
-     * @param i_XCQL    查询对象
-     * @param i_Values  占位符CQL的填充集合。
+     * @param i_SortKey          排序键。须是唯一的，如 n.id
+     * @param i_Token            续页标记。为NULL时表示首页
+     * @param i_PagePerSize      每页显示多少条数据。须大于0
      * @return
      */
-    public static long queryCQLCount(final XCQL i_XCQL ,final Map<String ,?> i_Values)
+    public static XCQLData queryXCQLDataByKeyset(final XCQL i_XCQL ,final String i_SortKey ,final String i_Token ,final int i_PagePerSize)
     {
         i_XCQL.checkContent();
         
         boolean             v_IsError       = false;
         String              v_ErrorInfo     = null;
-        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,i_Values);
+        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLDataByKeyset" ,(Object) null);
+        long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
-            i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLDataByKeyset_Inner(i_XCQL ,v_Query ,v_DSCQL ,i_SortKey ,i_Token ,i_PagePerSize);
+            v_IORowCount = v_Ret.getRowCount();
+            return v_Ret;
         }
         catch (NullPointerException exce)
         {
@@ -1081,7 +976,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -1091,7 +986,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -1101,11 +996,11 @@ public class XCQLOPQuery
             {
                 if ( v_TriggerParams == null )
                 {
-                    i_XCQL.getTrigger().executes(i_Values);
+                    i_XCQL.getTrigger().executes();
                 }
                 else
                 {
-                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IORowCount ,v_ErrorInfo));
                 }
             }
         }
@@ -1114,33 +1009,40 @@ public class XCQLOPQuery
     
     
     /**
-     * 统计记录数据：占位符CQL的查询。
-     * 
-     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
+     * 占位符CQL的查询。键集分页查询（见 XCQLKeyset），第N页与第1页的代价相同。
      * 
-     * 1. 按对象 i_Values 填充占位符CQL，生成可执行的CQL语句；
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
      * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
      * 
-     * @param i_XCQL     查询对象
-     * @param i_Values   占位符CQL的填充对象。
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @param i_SortKey          排序键。须是唯一的，如 n.id
+     * @param i_Token            续页标记。为NULL时表示首页
+     * @param i_PagePerSize      每页显示多少条数据。须大于0
      * @return
      */
-    public static long queryCQLCount(final XCQL i_XCQL ,final Object i_Values)
+    public static XCQLData queryXCQLDataByKeyset(final XCQL i_XCQL ,final Map<String ,?> i_Values ,final String i_SortKey ,final String i_Token ,final int i_PagePerSize)
     {
         i_XCQL.checkContent();
         
         boolean             v_IsError       = false;
         String              v_ErrorInfo     = null;
-        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,i_Values);
+        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLDataByKeyset" ,i_Values);
+        long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLDataByKeyset_Inner(i_XCQL ,v_Query ,v_DSCQL ,i_SortKey ,i_Token ,i_PagePerSize);
+            v_IORowCount = v_Ret.getRowCount();
+            return v_Ret;
         }
         catch (NullPointerException exce)
         {
@@ -1148,7 +1050,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -1158,7 +1060,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -1172,7 +1074,7 @@ public class XCQLOPQuery
                 }
                 else
                 {
-                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IORowCount ,v_ErrorInfo));
                 }
             }
         }
@@ -1181,28 +1083,40 @@ public class XCQLOPQuery
     
     
     /**
-     * 查询记录总数
+     * 占位符CQL的查询。键集分页查询（见 XCQLKeyset），第N页与第1页的代价相同。
      * 
-     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
      * 
-     * @param i_XCQL  查询对象
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values              占位符CQL的填充对象。
+     * @param i_SortKey          排序键。须是唯一的，如 n.id
+     * @param i_Token            续页标记。为NULL时表示首页
+     * @param i_PagePerSize      每页显示多少条数据。须大于0
      * @return
      */
-    public static long queryCQLCount(final XCQL i_XCQL)
+    public static XCQLData queryXCQLDataByKeyset(final XCQL i_XCQL ,final Object i_Values ,final String i_SortKey ,final String i_Token ,final int i_PagePerSize)
     {
         i_XCQL.checkContent();
         
         boolean             v_IsError       = false;
         String              v_ErrorInfo     = null;
-        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,(Object) null);
+        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryXCQLDataByKeyset" ,i_Values);
+        long                v_IORowCount    = 0L;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
+            i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(v_DSCQL);
-            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            XCQLData v_Ret = XCQLOPQuery.queryXCQLDataByKeyset_Inner(i_XCQL ,v_Query ,v_DSCQL ,i_SortKey ,i_Token ,i_PagePerSize);
+            v_IORowCount = v_Ret.getRowCount();
+            return v_Ret;
         }
         catch (NullPointerException exce)
         {
@@ -1210,7 +1124,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -1220,7 +1134,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -1230,11 +1144,11 @@ public class XCQLOPQuery
             {
                 if ( v_TriggerParams == null )
                 {
-                    i_XCQL.getTrigger().executes();
+                    i_XCQL.getTrigger().executes(i_Values);
                 }
                 else
                 {
-                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IORowCount ,v_ErrorInfo));
                 }
             }
         }
@@ -1243,84 +1157,997 @@ public class XCQLOPQuery
     
     
     /**
-     * 查询记录总数
+     * 常规CQL的查询。键集分页查询（见 XCQLKeyset）。
      * 
-     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
+     * 1. 提交数据库执行 i_Query ，将数据库结果集转化为Java实例对象返回
+     * 2. 返回结果中带有下一页的续页标记
      * 
-     * @param i_XCQL  查询对象
-     * @param i_CQL   查询CQL
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Query            常规CQL语句
+     * @param i_SortKey          排序键。须是唯一的，如 n.id
+     * @param i_Token            续页标记。为NULL时表示首页
+     * @param i_PagePerSize      每页显示多少条数据。须大于0
      * @return
      */
-    public static long queryCQLCount(final XCQL i_XCQL ,final String i_CQL)
+    private static XCQLData queryXCQLDataByKeyset_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSCQL ,final String i_SortKey ,final String i_Token ,final int i_PagePerSize)
     {
-        i_XCQL.checkContent();
+        Connection v_Conn      = null;
+        Result     v_Resultset = null;
+        Query      v_Keyset    = null;
+        long       v_BeginTime = i_XCQL.request().getTime();
         
-        boolean             v_IsError       = false;
-        String              v_ErrorInfo     = null;
-        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,(Object) null);
-        DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
-
         try
         {
-            v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(v_DSCQL);
-            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_CQL ,v_DSCQL);
-        }
-        catch (NullPointerException exce)
-        {
-            v_IsError   = true;
-            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
-            if ( i_XCQL.getError() != null )
+            if ( i_XCQL.getResult() == null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                throw new NullPointerException("Result is null of XCQL.");
             }
-            throw exce;
-        }
-        catch (RuntimeException exce)
-        {
-            v_IsError   = true;
-            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
-            if ( i_XCQL.getError() != null )
+            
+            if ( !i_DSCQL.isValid() )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
             }
-            throw exce;
+            
+            if ( i_Query == null )
+            {
+                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
+            }
+            
+            if ( i_PagePerSize <= 0 )
+            {
+                throw new IllegalArgumentException("PagePerSize[" + i_PagePerSize + "] must be greater than 0 of keyset paging.");
+            }
+            
+            v_Keyset = XCQLKeyset.toKeysetQuery(i_Query ,i_SortKey ,i_Token ,i_PagePerSize);
+            if ( v_Keyset == null )
+            {
+                throw new IllegalArgumentException("CQL can not be rewritten for keyset paging, it must be a read-only query with RETURN and without ORDER BY, SKIP, LIMIT.");
+            }
+            
+            v_Conn      = i_XCQL.getConnection(i_DSCQL);
+            v_Resultset = v_Conn.run(v_Keyset);
+            i_XCQL.log(v_Keyset);
+            
+            XCQLKeyset.KeysetResult v_Tracker = new XCQLKeyset.KeysetResult(v_Resultset);
+            XCQLData                v_Ret     = i_XCQL.getResult().getDatas(v_Tracker);
+            
+            // 满页时才可能有下一页
+            if ( v_Tracker.getReadCount() >= i_PagePerSize && v_Tracker.getLastRecord() != null )
+            {
+                v_Ret.setNextToken(XCQLKeyset.encode(XCQLKeyset.getSortValue(v_Tracker.getLastRecord() ,i_SortKey)));
+            }
+            
+            Date v_EndTime = Date.getNowTime();
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Ret.getRowCount());
+            
+            i_XCQL.fireAfterRule(v_Ret);
+            
+            return v_Ret;
+        }
+        catch (Exception exce)
+        {
+            XCQL.erroring(v_Keyset != null ? v_Keyset : i_Query ,exce ,i_XCQL);
+            throw new RuntimeException(exce.getMessage());
         }
         finally
         {
-            if ( i_XCQL.isTriggers(v_IsError) )
-            {
-                if ( v_TriggerParams == null )
-                {
-                    i_XCQL.getTrigger().executes();
-                }
-                else
-                {
-                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
-                }
-            }
+            i_XCQL.closeDB(v_Resultset ,v_Conn);
         }
     }
     
     
     
     /**
-     * 查询记录总数
+     * 占位符CQL的流式查询。 -- 无填充值的
+     * 
+     * 按记录到达的顺序，逐条转化为行级对象，内存占用不随结果集的大小而增长。
+     * 在返回的 XCQLStream 关闭之前，数据库连接一直保持打开。
+     * 
+     * 注：流式查询不生成表级对象，也不触发XCQL触发器。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
      * 
-     * 模块CQL的形式如：MATCH (n) RETURN COUNT(n)
-     *
-     * @param i_XCQL  查询对象
-     * @param i_CQL   查询CQL
-     * @param i_DSCQL   查询数据源连接池组
      * @return
      */
-    private static long queryCQLCount_Inner(final XCQL i_XCQL ,final String i_CQL ,final DataSourceCQL i_DSCQL)
+    public static XCQLStream queryStream(final XCQL i_XCQL)
     {
-        Connection v_Conn      = null;
-        Result     v_Resultset = null;
-        long       v_CQLCount  = 0;
-        long       v_BeginTime = i_XCQL.request().getTime();
+        i_XCQL.checkContent();
+        
+        Query v_Query = null;
+        
+        try
+        {
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            return XCQLOPQuery.queryStream_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
+            }
+            throw exce;
+        }
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的流式查询。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集逐条转化为Java实例对象返回
+     * 
+     * 按记录到达的顺序，逐条转化为行级对象，内存占用不随结果集的大小而增长。
+     * 在返回的 XCQLStream 关闭之前，数据库连接一直保持打开。
+     * 
+     * 注：流式查询不生成表级对象，也不触发XCQL触发器。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @return
+     */
+    public static XCQLStream queryStream(final XCQL i_XCQL ,final Map<String ,?> i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Query v_Query = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryStream_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
+            }
+            throw exce;
+        }
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的流式查询。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集逐条转化为Java实例对象返回
+     * 
+     * 按记录到达的顺序，逐条转化为行级对象，内存占用不随结果集的大小而增长。
+     * 在返回的 XCQLStream 关闭之前，数据库连接一直保持打开。
+     * 
+     * 注：流式查询不生成表级对象，也不触发XCQL触发器。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充对象。
+     * @return
+     */
+    public static XCQLStream queryStream(final XCQL i_XCQL ,final Object i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Query v_Query = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryStream_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
+            }
+            throw exce;
+        }
+    }
+    
+    
+    
+    /**
+     * 常规CQL的流式查询。执行查询，并返回保持数据库连接打开的 XCQLStream
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Query            常规CQL语句
+     * @return
+     */
+    private static XCQLStream queryStream_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSCQL)
+    {
+        Connection v_Conn      = null;
+        Result     v_Resultset = null;
+        long       v_BeginTime = i_XCQL.request().getTime();
+        
+        try
+        {
+            if ( i_XCQL.getResult() == null )
+            {
+                throw new NullPointerException("Result is null of XCQL.");
+            }
+            
+            if ( !i_DSCQL.isValid() )
+            {
+                throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
+            }
+            
+            if ( i_Query == null )
+            {
+                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
+            }
+            
+            v_Conn      = i_XCQL.getConnection(i_DSCQL);
+            v_Resultset = v_Conn.run(i_Query);
+            i_XCQL.log(i_Query);
+            
+            // 数据库连接的关闭，由 XCQLStream 负责
+            return new XCQLStream(i_XCQL ,i_Query ,v_Conn ,v_Resultset ,v_BeginTime);
+        }
+        catch (Exception exce)
+        {
+            i_XCQL.closeDB(v_Resultset ,v_Conn);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
+            throw new RuntimeException(exce.getMessage());
+        }
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的响应式查询。 -- 无填充值的
+     * 
+     * 返回冷的发布者：每次订阅时才执行查询，按下游的请求数量（背压）从数据库端读取记录，并逐条转化为行级对象。
+     * 查询完成、异常或取消订阅时，立即关闭响应式会话。
+     * 
+     * 注：响应式查询不生成表级对象，也不触发XCQL触发器。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @return
+     */
+    public static XCQLPublisher queryPublisher(final XCQL i_XCQL)
+    {
+        i_XCQL.checkContent();
+        
+        Query v_Query = null;
+        
+        try
+        {
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            return XCQLOPQuery.queryPublisher_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
+            }
+            throw exce;
+        }
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的响应式查询。
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 订阅时提交数据库执行CQL，将数据库结果集按下游的请求逐条转化为Java实例对象发布
+     * 
+     * 注：响应式查询不生成表级对象，也不触发XCQL触发器。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充集合。
+     * @return
+     */
+    public static XCQLPublisher queryPublisher(final XCQL i_XCQL ,final Map<String ,?> i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Query v_Query = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryPublisher_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
+            }
+            throw exce;
+        }
+    }
+    
+    
+    
+    /**
+     * 占位符CQL的响应式查询。
+     * 
+     * 1. 按对象 i_Obj 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 订阅时提交数据库执行CQL，将数据库结果集按下游的请求逐条转化为Java实例对象发布
+     * 
+     * 注：响应式查询不生成表级对象，也不触发XCQL触发器。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Values           占位符CQL的填充对象。
+     * @return
+     */
+    public static XCQLPublisher queryPublisher(final XCQL i_XCQL ,final Object i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        Query v_Query = null;
+        
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            DataSourceCQL v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryPublisher_Inner(i_XCQL ,v_Query ,v_DSCQL);
+        }
+        catch (RuntimeException exce)
+        {
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
+            }
+            throw exce;
+        }
+    }
+    
+    
+    
+    /**
+     * 常规CQL的响应式查询。只做校验，查询在订阅时才执行
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Query            常规CQL语句
+     * @return
+     */
+    private static XCQLPublisher queryPublisher_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSCQL)
+    {
+        if ( i_XCQL.getResult() == null )
+        {
+            throw new NullPointerException("Result is null of XCQL.");
+        }
+        
+        if ( !i_DSCQL.isValid() )
+        {
+            throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
+        }
+        
+        if ( i_Query == null )
+        {
+            throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
+        }
+        
+        return new XCQLPublisher(i_XCQL ,i_Query ,i_DSCQL);
+    }
+    
+    
+    
+    /**
+     * 常规CQL的查询。游标的分页查询（可通用于所有数据库）。
+     * 
+     * 1. 提交数据库执行 i_Query ，将数据库结果集转化为Java实例对象返回
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2019-03-22
+     * @version     v1.0
+     *              v2.0  2026-10-18  添加：参数 i_DBCQL
+     *
+     * @param i_Query            常规CQL语句
+     * @param i_DBCQL            生成常规CQL语句的占位符CQL。直接执行的CQL文本时为NULL
+     * @param i_StartRow         开始读取的行号。下标从0开始。
+     * @param i_PagePerSize      每页显示多少条数据。只有大于0时，游标分页功能才生效。
+     * @return
+     */
+    private static XCQLData queryXCQLData_Inner(final XCQL i_XCQL ,final Query i_Query ,final DBCQL i_DBCQL ,final DataSourceCQL i_DSCQL ,final int i_StartRow ,final int i_PagePerSize)
+    {
+        XCQLCache v_Cache      = i_XCQL.getCache();
+        long      v_Generation = 0L;
+        if ( v_Cache != null && i_Query != null )
+        {
+            v_Generation = v_Cache.getGeneration();
+            XCQLData v_Cached = v_Cache.get(i_XCQL.getResult() ,i_DSCQL ,i_Query ,i_StartRow ,i_PagePerSize);
+            if ( v_Cached != null )
+            {
+                return v_Cached;
+            }
+        }
+        
+        // 合并执行并发的相同查询。跟随者等待并共享领头者的查询结果
+        XCQLSingleFlight v_Flight = null;
+        if ( i_XCQL.isSingleFlight() && i_Query != null )
+        {
+            v_Flight = XCQLSingleFlight.join(i_XCQL ,i_DSCQL ,i_Query ,i_StartRow ,i_PagePerSize);
+            if ( v_Flight != null && !v_Flight.isLeader() )
+            {
+                return v_Flight.await(i_XCQL.isSingleFlightCopy());
+            }
+        }
+        
+        Connection v_Conn      = null;
+        Result     v_Resultset = null;
+        long       v_BeginTime = i_XCQL.request().getTime();
+        
+        try
+        {
+            if ( i_XCQL.getResult() == null )
+            {
+                throw new NullPointerException("Result is null of XCQL.");
+            }
+            
+            if ( !i_DSCQL.isValid() )
+            {
+                throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
+            }
+            
+            if ( i_Query == null )
+            {
+                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
+            }
+            
+            // 能下推时，由数据库端跳过记录，客户端无须再逐条跳过
+            Query v_Paging   = toPagingQuery(i_Query ,i_DBCQL ,i_StartRow ,i_PagePerSize);
+            int   v_StartRow = v_Paging != null ? 0 : i_StartRow;
+            
+            v_Conn      = i_XCQL.getConnection(i_DSCQL);
+            v_Resultset = v_Conn.run(v_Paging != null ? v_Paging : i_Query);
+            i_XCQL.log(v_Paging != null ? v_Paging : i_Query);
+            
+            XCQLData v_Ret = i_XCQL.getResult().getDatas(v_Resultset ,v_StartRow ,i_PagePerSize);
+            Date v_EndTime = Date.getNowTime();
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Ret.getRowCount());
+            
+            i_XCQL.fireAfterRule(v_Ret);
+            
+            if ( v_Cache != null )
+            {
+                v_Cache.put(i_XCQL.getResult() ,i_DSCQL ,i_Query ,i_StartRow ,i_PagePerSize ,v_Ret ,getLabels(i_Query ,i_DBCQL) ,v_Generation);
+            }
+            
+            if ( v_Flight != null )
+            {
+                v_Flight.complete(v_Ret);
+            }
+            
+            return v_Ret;
+        }
+        catch (Exception exce)
+        {
+            if ( v_Flight != null )
+            {
+                v_Flight.fail(exce);
+            }
+            
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
+            throw new RuntimeException(exce.getMessage());
+        }
+        finally
+        {
+            if ( v_Flight != null )
+            {
+                // 已完成时不再生效。用于非 Exception 类的异常也能唤醒跟随者
+                v_Flight.fail(null);
+            }
+            
+            i_XCQL.closeDB(v_Resultset ,v_Conn);
+        }
+    }
+    
+    
+    
+    /**
+     * 将游标分页查询改写为数据库端的分页查询，即在末尾追加 SKIP $xcqlPagingSkip LIMIT $xcqlPagingLimit 子句。
+     * 
+     * 不能改写时（见 DBCQL_Lexer.getPagingPosition()），返回NULL，由调用者在客户端按游标跳过记录。
+     * 
+     * 由占位符CQL生成的常规CQL，是否可改写已在加载占位符CQL时识别（见 DBCQL.isPageable()），
+     * 只须在去掉末尾空白后追加。只有直接执行的CQL文本，才在此词法分析一次。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *              v2.0  2026-10-18  修改：按占位符CQL预先识别的结果改写，不再每次词法分析
+     *
+     * @param i_Query            常规CQL语句
+     * @param i_DBCQL            生成常规CQL语句的占位符CQL。直接执行的CQL文本时为NULL
+     * @param i_StartRow         开始读取的行号。下标从0开始。
+     * @param i_PagePerSize      每页显示多少条数据。只有大于0时，才改写。
+     * @return
+     */
+    private static Query toPagingQuery(final Query i_Query ,final DBCQL i_DBCQL ,final int i_StartRow ,final int i_PagePerSize)
+    {
+        if ( i_Query == null || i_PagePerSize <= 0 || i_StartRow < 0 )
+        {
+            return null;
+        }
+        
+        Value v_Params = i_Query.parameters();
+        if ( v_Params.containsKey($Paging_Skip) || v_Params.containsKey($Paging_Limit) )
+        {
+            return null;
+        }
+        
+        String v_CQL      = i_Query.text();
+        int    v_Position = -1;
+        if ( i_DBCQL == null )
+        {
+            v_Position = new DBCQL_Lexer(v_CQL).getPagingPosition();
+        }
+        else if ( i_DBCQL.isPageable() )
+        {
+            v_Position = v_CQL.length();
+            while ( v_Position > 0 && Character.isWhitespace(v_CQL.charAt(v_Position - 1)) )
+            {
+                v_Position--;
+            }
+        }
+        
+        if ( v_Position <= 0 )
+        {
+            return null;
+        }
+        
+        Map<String ,Object> v_Paging = new HashMap<String ,Object>(4);
+        v_Paging.put($Paging_Skip  ,i_StartRow);
+        v_Paging.put($Paging_Limit ,i_PagePerSize);
+        
+        return i_Query.withText(v_CQL.substring(0 ,v_Position) + " SKIP $" + $Paging_Skip + " LIMIT $" + $Paging_Limit)
+                      .withUpdatedParameters(Values.value(v_Paging));
+    }
+    
+    
+    
+    /**
+     * 获取查询涉及的节点标签与关系类型。用于查询结果缓存的失效
+     * 
+     * 由占位符CQL生成的常规CQL，取加载占位符CQL时识别的（见 DBCQL.getLabels()）。空集合表示可能涉及所有的标签。
+     * 只有直接执行的CQL文本，才在此词法分析一次。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     * 
+     * @param i_Query            常规CQL语句
+     * @param i_DBCQL            生成常规CQL语句的占位符CQL。直接执行的CQL文本时为NULL
+     * @return
+     */
+    private static Set<String> getLabels(final Query i_Query ,final DBCQL i_DBCQL)
+    {
+        if ( i_DBCQL != null )
+        {
+            return i_DBCQL.getLabels();
+        }
+        else
+        {
+            return new DBCQL_Lexer(i_Query.text()).getLabels();
+        }
+    }
+    
+    
+    
+    /**
+     * 常规CQL的查询
+     * 
+     * 1. 提交数据库执行 i_Query ，将数据库结果集转化为Java实例对象返回
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2019-03-22
+     * @version     v1.0
+     *              v2.0  2026-10-18  添加：参数 i_DBCQL
+     * 
+     * @param i_Query 常规CQL语句
+     * @param i_DBCQL 生成常规CQL语句的占位符CQL。直接执行的CQL文本时为NULL
+     * @return
+     */
+    private static XCQLData queryXCQLData_Inner(final XCQL i_XCQL ,final Query i_Query ,final DBCQL i_DBCQL ,final DataSourceCQL i_DSCQL)
+    {
+        XCQLCache v_Cache      = i_XCQL.getCache();
+        long      v_Generation = 0L;
+        if ( v_Cache != null && i_Query != null )
+        {
+            v_Generation = v_Cache.getGeneration();
+            XCQLData v_Cached = v_Cache.get(i_XCQL.getResult() ,i_DSCQL ,i_Query ,0 ,0);
+            if ( v_Cached != null )
+            {
+                return v_Cached;
+            }
+        }
+        
+        // 合并执行并发的相同查询。跟随者等待并共享领头者的查询结果
+        XCQLSingleFlight v_Flight = null;
+        if ( i_XCQL.isSingleFlight() && i_Query != null )
+        {
+            v_Flight = XCQLSingleFlight.join(i_XCQL ,i_DSCQL ,i_Query ,0 ,0);
+            if ( v_Flight != null && !v_Flight.isLeader() )
+            {
+                return v_Flight.await(i_XCQL.isSingleFlightCopy());
+            }
+        }
+        
+        Connection v_Conn      = null;
+        Result     v_Resultset = null;
+        long       v_BeginTime = i_XCQL.request().getTime();
+        
+        try
+        {
+            if ( i_XCQL.getResult() == null )
+            {
+                throw new NullPointerException("Result is null of XCQL.");
+            }
+            
+            if ( !i_DSCQL.isValid() )
+            {
+                throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
+            }
+            
+            if ( i_Query == null )
+            {
+                throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
+            }
+            
+            v_Conn      = i_XCQL.getConnection(i_DSCQL);
+            v_Resultset = v_Conn.run(i_Query);
+            i_XCQL.log(i_Query);
+            
+            XCQLData v_Ret = i_XCQL.getResult().getDatas(v_Resultset);
+            Date v_EndTime = Date.getNowTime();
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Ret.getRowCount());
+            
+            i_XCQL.fireAfterRule(v_Ret);
+            
+            if ( v_Cache != null )
+            {
+                v_Cache.put(i_XCQL.getResult() ,i_DSCQL ,i_Query ,0 ,0 ,v_Ret ,getLabels(i_Query ,i_DBCQL) ,v_Generation);
+            }
+            
+            if ( v_Flight != null )
+            {
+                v_Flight.complete(v_Ret);
+            }
+            
+            return v_Ret;
+        }
+        catch (Exception exce)
+        {
+            if ( v_Flight != null )
+            {
+                v_Flight.fail(exce);
+            }
+            
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
+            throw new RuntimeException(exce.getMessage());
+        }
+        finally
+        {
+            if ( v_Flight != null )
+            {
+                // 已完成时不再生效。用于非 Exception 类的异常也能唤醒跟随者
+                v_Flight.fail(null);
+            }
+            
+            i_XCQL.closeDB(v_Resultset ,v_Conn);
+        }
+    }
+    
+    
+    
+    /**
+     * 统计记录数据：占位符CQL的查询。
+     * 
+     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
+     * 
+     * 1. 按集合 Map<String ,Object> 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * @param i_XCQL    查询对象
+     * @param i_Values  占位符CQL的填充集合。
+     * @return
+     */
+    public static long queryCQLCount(final XCQL i_XCQL ,final Map<String ,?> i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        boolean             v_IsError       = false;
+        String              v_ErrorInfo     = null;
+        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,i_Values);
+        DataSourceCQL       v_DSCQL         = null;
+        Query               v_Query         = null;
+
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_Query ,v_DSCQL ,i_XCQL.getContent().isHaveCount());
+        }
+        catch (NullPointerException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
+            }
+            throw exce;
+        }
+        catch (RuntimeException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
+            }
+            throw exce;
+        }
+        finally
+        {
+            if ( i_XCQL.isTriggers(v_IsError) )
+            {
+                if ( v_TriggerParams == null )
+                {
+                    i_XCQL.getTrigger().executes(i_Values);
+                }
+                else
+                {
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
+                }
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 统计记录数据：占位符CQL的查询。
+     * 
+     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
+     * 
+     * 1. 按对象 i_Values 填充占位符CQL，生成可执行的CQL语句；
+     * 2. 并提交数据库执行CQL，将数据库结果集转化为Java实例对象返回
+     * 
+     * @param i_XCQL     查询对象
+     * @param i_Values   占位符CQL的填充对象。
+     * @return
+     */
+    public static long queryCQLCount(final XCQL i_XCQL ,final Object i_Values)
+    {
+        i_XCQL.checkContent();
+        
+        boolean             v_IsError       = false;
+        String              v_ErrorInfo     = null;
+        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,i_Values);
+        DataSourceCQL       v_DSCQL         = null;
+        Query               v_Query         = null;
+
+        try
+        {
+            i_XCQL.fireBeforeRule(i_Values);
+            v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_Query ,v_DSCQL ,i_XCQL.getContent().isHaveCount());
+        }
+        catch (NullPointerException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
+            }
+            throw exce;
+        }
+        catch (RuntimeException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
+            }
+            throw exce;
+        }
+        finally
+        {
+            if ( i_XCQL.isTriggers(v_IsError) )
+            {
+                if ( v_TriggerParams == null )
+                {
+                    i_XCQL.getTrigger().executes(i_Values);
+                }
+                else
+                {
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
+                }
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 查询记录总数
+     * 
+     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
+     * 
+     * @param i_XCQL  查询对象
+     * @return
+     */
+    public static long queryCQLCount(final XCQL i_XCQL)
+    {
+        i_XCQL.checkContent();
+        
+        boolean             v_IsError       = false;
+        String              v_ErrorInfo     = null;
+        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,(Object) null);
+        DataSourceCQL       v_DSCQL         = null;
+        Query               v_Query         = null;
+
+        try
+        {
+            v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_Query ,v_DSCQL ,i_XCQL.getContent().isHaveCount());
+        }
+        catch (NullPointerException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
+            }
+            throw exce;
+        }
+        catch (RuntimeException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
+            }
+            throw exce;
+        }
+        finally
+        {
+            if ( i_XCQL.isTriggers(v_IsError) )
+            {
+                if ( v_TriggerParams == null )
+                {
+                    i_XCQL.getTrigger().executes();
+                }
+                else
+                {
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
+                }
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 查询记录总数
+     * 
+     * 模块CQL的形式如：SELECT COUNT(1) FROM ...
+     * 
+     * @param i_XCQL  查询对象
+     * @param i_CQL   查询CQL
+     * @return
+     */
+    public static long queryCQLCount(final XCQL i_XCQL ,final String i_CQL)
+    {
+        i_XCQL.checkContent();
+        
+        boolean             v_IsError       = false;
+        String              v_ErrorInfo     = null;
+        Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLCount" ,(Object) null);
+        DataSourceCQL       v_DSCQL         = null;
+        Query               v_Query         = null;
+
+        try
+        {
+            v_DSCQL = i_XCQL.getDataSourceCQL();
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            return XCQLOPQuery.queryCQLCount_Inner(i_XCQL ,v_Query ,v_DSCQL ,i_XCQL.getContent().isHaveCount());
+        }
+        catch (NullPointerException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
+            }
+            throw exce;
+        }
+        catch (RuntimeException exce)
+        {
+            v_IsError   = true;
+            v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
+            if ( i_XCQL.getError() != null )
+            {
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
+            }
+            throw exce;
+        }
+        finally
+        {
+            if ( i_XCQL.isTriggers(v_IsError) )
+            {
+                if ( v_TriggerParams == null )
+                {
+                    i_XCQL.getTrigger().executes();
+                }
+                else
+                {
+                    i_XCQL.getTrigger().executes(i_XCQL.executeAfterForTrigger(v_TriggerParams ,v_IsError?0L:1L ,v_ErrorInfo));
+                }
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 查询记录总数
+     * 
+     * 模块CQL的形式如：MATCH (n) RETURN COUNT(n)
+     *
+     * @param i_XCQL  查询对象
+     * @param i_Query 查询CQL
+     * @param i_DSCQL   查询数据源连接池组
+     * @param i_HaveCount  查询CQL中是否有 COUNT( 统计函数
+     * @return
+     */
+    private static long queryCQLCount_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSCQL ,final boolean i_HaveCount)
+    {
+        Connection v_Conn      = null;
+        Result     v_Resultset = null;
+        long       v_CQLCount  = 0;
+        long       v_BeginTime = i_XCQL.request().getTime();
         
         try
         {
@@ -1329,25 +2156,20 @@ public class XCQLOPQuery
                 throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
             }
             
-            if ( Help.isNull(i_CQL) )
+            if ( i_Query == null )
             {
                 throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
             }
             
             // XCQL getCQLCount() 自行判定是否有count(1) or count(*)
-            Pattern v_Pattern = null;
-            Matcher v_Matcher = null;
-            
-            v_Pattern = Pattern.compile($CQLHaveCount);
-            v_Matcher = v_Pattern.matcher(i_CQL);
-            if ( !v_Matcher.find() )
+            if ( !i_HaveCount )
             {
                 throw new RuntimeException("XCQL.queryCQLCount()'s CQL is not find COUNT(1) or COUNT(*).");
             }
             
             v_Conn      = i_XCQL.getConnection(i_DSCQL);
-            v_Resultset = v_Conn.run(i_CQL);
-            i_XCQL.log(i_CQL);
+            v_Resultset = v_Conn.run(i_Query);
+            i_XCQL.log(i_Query);
             
             if ( v_Resultset.hasNext() )
             {
@@ -1372,7 +2194,7 @@ public class XCQLOPQuery
         }
         catch (Exception exce)
         {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
             throw new RuntimeException(exce.getMessage());
         }
         finally
@@ -1409,14 +2231,14 @@ public class XCQLOPQuery
         String              v_ErrorInfo     = null;
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLValue" ,i_Values);
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_Query ,v_DSCQL);
         }
         catch (NullPointerException exce)
         {
@@ -1424,7 +2246,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -1434,7 +2256,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -1479,14 +2301,14 @@ public class XCQLOPQuery
         String              v_ErrorInfo     = null;
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLValue" ,i_Values);
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_Query ,v_DSCQL);
         }
         catch (NullPointerException exce)
         {
@@ -1494,7 +2316,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -1504,7 +2326,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -1544,13 +2366,13 @@ public class XCQLOPQuery
         String              v_ErrorInfo     = null;
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLValue" ,(Object) null);
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(v_DSCQL);
-            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_Query ,v_DSCQL);
         }
         catch (NullPointerException exce)
         {
@@ -1558,7 +2380,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -1568,7 +2390,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -1609,13 +2431,13 @@ public class XCQLOPQuery
         String              v_ErrorInfo     = null;
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("queryCQLValue" ,(Object) null);
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL = i_XCQL.getContent().getCQL(v_DSCQL);
-            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            return XCQLOPQuery.queryCQLValue_Inner(i_XCQL ,v_Query ,v_DSCQL);
         }
         catch (NullPointerException exce)
         {
@@ -1623,7 +2445,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -1633,7 +2455,7 @@ public class XCQLOPQuery
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -1663,11 +2485,11 @@ public class XCQLOPQuery
      * @version     v1.0
      *
      * @param i_XCQL   查询对象
-     * @param i_CQL    查询CQL
+     * @param i_Query  查询CQL
      * @param i_DSCQL    数据库连接池组
      * @return
      */
-    private static Object queryCQLValue_Inner(final XCQL i_XCQL ,final String i_CQL ,final DataSourceCQL i_DSCQL)
+    private static Object queryCQLValue_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSCQL)
     {
         Connection v_Conn      = null;
         Result     v_Resultset = null;
@@ -1682,14 +2504,14 @@ public class XCQLOPQuery
                 throw new RuntimeException("DataSourceCQL[" + i_DSCQL.getXJavaID() + "] is not valid.");
             }
             
-            if ( Help.isNull(i_CQL) )
+            if ( i_Query == null )
             {
                 throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
             }
             
             v_Conn      = i_XCQL.getConnection(i_DSCQL);
-            v_Resultset = v_Conn.run(i_CQL);
-            i_XCQL.log(i_CQL);
+            v_Resultset = v_Conn.run(i_Query);
+            i_XCQL.log(i_Query);
             
             if ( v_Resultset.hasNext() )
             {
@@ -1702,7 +2524,7 @@ public class XCQLOPQuery
         }
         catch (Exception exce)
         {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
             throw new RuntimeException(exce.getMessage());
         }
         finally
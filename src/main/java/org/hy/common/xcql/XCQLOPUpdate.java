@@ -9,6 +9,7 @@ import org.hy.common.Date;
 import org.hy.common.Help;
 import org.hy.common.PartitionMap;
 import org.hy.common.Return;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Transaction;
 
@@ -27,6 +28,7 @@ import org.neo4j.driver.Transaction;
  * @createDate  2023-06-05
  * @version     v1.0
  *              v2.0  2023-10-18  添加：是否附加触发额外参数的功能
+ *              v3.0  2026-10-18  修改：外部传入数据库连接的写操作，在其事务提交后再次失效相关的查询结果缓存
  */
 public class XCQLOPUpdate
 {
@@ -45,13 +47,13 @@ public class XCQLOPUpdate
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,(Object) null);
         int                 v_IORowCount    = 0;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL   = i_XCQL.getContent().getCQL(v_DSCQL);
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_Query ,v_DSCQL);
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -61,7 +63,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -71,7 +73,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -110,14 +112,14 @@ public class XCQLOPUpdate
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,i_Values);
         int                 v_IORowCount    = 0;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL   = i_XCQL.getDataSourceCQL();
-            v_CQL     = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query   = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_Query ,v_DSCQL);
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -127,7 +129,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -137,7 +139,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -176,14 +178,14 @@ public class XCQLOPUpdate
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,i_Values);
         int                 v_IORowCount    = 0;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL   = i_XCQL.getDataSourceCQL();
-            v_CQL     = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_CQL ,v_DSCQL);
+            v_Query   = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_Query ,v_DSCQL);
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -193,7 +195,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -203,7 +205,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -240,7 +242,7 @@ public class XCQLOPUpdate
 
         try
         {
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,i_CQL ,i_XCQL.getDataSourceCQL());
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,DBCQL.newQuery(i_CQL ,null) ,i_XCQL.getDataSourceCQL());
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -285,10 +287,10 @@ public class XCQLOPUpdate
     /**
      * 常规Create\Set\Delete语句的执行。
      * 
-     * @param i_CQL  常规CQL语句
+     * @param i_Query 常规CQL语句
      * @return       返回语句影响的数量（创建、删除节点和关系时，返回影响的节点数量；非节点和关系操作时，才取对属性的影响数量）
      */
-    private static int executeUpdate_Inner(final XCQL i_XCQL ,final String i_CQL ,final DataSourceCQL i_DSG)
+    private static int executeUpdate_Inner(final XCQL i_XCQL ,final Query i_Query ,final DataSourceCQL i_DSG)
     {
         Connection v_Conn      = null;
         Result     v_Result    = null;
@@ -301,13 +303,13 @@ public class XCQLOPUpdate
                 throw new RuntimeException("DataSourceCQL is not valid.");
             }
             
-            if ( Help.isNull(i_CQL) )
+            if ( i_Query == null )
             {
                 throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
             }
             
             v_Conn   = i_XCQL.getConnection(i_DSG);
-            v_Result = v_Conn.run(i_CQL);
+            v_Result = v_Conn.run(i_Query);
             
             int v_Count = v_Result.consume().counters().nodesCreated()
                         + v_Result.consume().counters().nodesDeleted()
@@ -319,7 +321,7 @@ public class XCQLOPUpdate
                 v_Count = v_Result.consume().counters().propertiesSet();
             }
             
-            i_XCQL.log(i_CQL);
+            i_XCQL.log(i_Query);
             
             Date v_EndTime = Date.getNowTime();
             i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Count);
@@ -328,7 +330,7 @@ public class XCQLOPUpdate
         }
         catch (Exception exce)
         {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
             throw new RuntimeException(exce.getMessage());
         }
         finally
@@ -354,13 +356,13 @@ public class XCQLOPUpdate
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,(Object) null);
         int                 v_IORowCount    = 0;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL   = i_XCQL.getContent().getCQL(v_DSCQL);
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(v_DSCQL);
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_Query ,i_Conn);
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -370,7 +372,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -380,7 +382,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL));
             }
             throw exce;
         }
@@ -420,14 +422,14 @@ public class XCQLOPUpdate
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,i_Values);
         int                 v_IORowCount    = 0;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL   = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_Query ,i_Conn);
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -437,7 +439,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -447,7 +449,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesMap(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesMap(i_Values));
             }
             throw exce;
         }
@@ -487,14 +489,14 @@ public class XCQLOPUpdate
         Map<String ,Object> v_TriggerParams = i_XCQL.executeBeforeForTrigger("executeUpdate" ,i_Values);
         int                 v_IORowCount    = 0;
         DataSourceCQL       v_DSCQL         = null;
-        String              v_CQL           = null;
+        Query               v_Query         = null;
 
         try
         {
             i_XCQL.fireBeforeRule(i_Values);
             v_DSCQL = i_XCQL.getDataSourceCQL();
-            v_CQL   = i_XCQL.getContent().getCQL(i_Values ,v_DSCQL);
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_CQL ,i_Conn);
+            v_Query = i_XCQL.getContent().getQuery(i_Values ,v_DSCQL);
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,v_Query ,i_Conn);
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -504,7 +506,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -514,7 +516,7 @@ public class XCQLOPUpdate
             v_ErrorInfo = Help.NVL(exce.getMessage() ,"E");
             if ( i_XCQL.getError() != null )
             {
-                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_CQL ,exce ,i_XCQL).setValuesObject(i_Values));
+                i_XCQL.getError().errorLog(new XCQLErrorInfo(v_Query ,exce ,i_XCQL).setValuesObject(i_Values));
             }
             throw exce;
         }
@@ -552,7 +554,7 @@ public class XCQLOPUpdate
 
         try
         {
-            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,i_CQL ,i_Conn);
+            v_IORowCount = XCQLOPUpdate.executeUpdate_Inner(i_XCQL ,DBCQL.newQuery(i_CQL ,null) ,i_Conn);
             return v_IORowCount;
         }
         /* try{}已有中捕获所有异常，并仅出外抛出Null和Runtime两种异常。为保持异常类型不变，写了两遍一样的 */
@@ -598,18 +600,18 @@ public class XCQLOPUpdate
      * 常规Create\Set\Delete语句的执行。（内部不再关闭数据库连接）
      * 
      * @param i_XCQL  XCQL对象
-     * @param i_CQL   常规CQL语句
+     * @param i_Query 常规CQL语句
      * @param i_Conn  数据库连接
      * @return        返回语句影响的数量（创建、删除节点和关系时，返回影响的节点数量；非节点和关系操作时，才取对属性的影响数量）
      */
-    private static int executeUpdate_Inner(final XCQL i_XCQL ,final String i_CQL ,Connection i_Conn)
+    private static int executeUpdate_Inner(final XCQL i_XCQL ,final Query i_Query ,Connection i_Conn)
     {
         Result v_Result    = null;
         long   v_BeginTime = i_XCQL.request().getTime();
         
         try
         {
-            if ( Help.isNull(i_CQL) )
+            if ( i_Query == null )
             {
                 throw new NullPointerException("CQL or CQL-Params is null of XCQL.");
             }
@@ -619,7 +621,7 @@ public class XCQLOPUpdate
                 throw new NullPointerException("Connection is null of XCQL.");
             }
             
-            v_Result = i_Conn.run(i_CQL);
+            v_Result = i_Conn.run(i_Query);
             
             int v_Count = v_Result.consume().counters().nodesCreated()
                         + v_Result.consume().counters().nodesDeleted()
@@ -631,16 +633,16 @@ public class XCQLOPUpdate
                 v_Count = v_Result.consume().counters().propertiesSet();
             }
             
-            i_XCQL.log(i_CQL);
+            i_XCQL.log(i_Query);
             
             Date v_EndTime = Date.getNowTime();
-            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Count);
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,1 ,v_Count ,i_Conn);
             
             return v_Count;
         }
         catch (Exception exce)
         {
-            XCQL.erroring(i_CQL ,exce ,i_XCQL);
+            XCQL.erroring(i_Query ,exce ,i_XCQL);
             throw new RuntimeException(exce.getMessage());
         }
         finally
@@ -820,7 +822,7 @@ public class XCQLOPUpdate
         Result        v_Result      = null;
         int           v_Ret         = 0;
         long          v_BeginTime   = i_XCQL.request().getTime();
-        String        v_CQL         = null;
+        Query         v_Query       = null;
         int           v_CQLCount    = 0;
         
         try
@@ -853,8 +855,8 @@ public class XCQLOPUpdate
                 {
                     if ( i_ObjList.get(i) != null )
                     {
-                        v_CQL      = i_XCQL.getContent().getCQL(i_ObjList.get(i) ,v_DSCQL);
-                        v_Result   = v_Transaction.run(v_CQL);
+                        v_Query    = i_XCQL.getContent().getQuery(i_ObjList.get(i) ,v_DSCQL);
+                        v_Result   = v_Transaction.run(v_Query);
                         v_CQLCount = v_Result.consume().counters().nodesCreated()
                                    + v_Result.consume().counters().nodesDeleted()
                                    + v_Result.consume().counters().relationshipsCreated()
@@ -870,7 +872,7 @@ public class XCQLOPUpdate
                         {
                             v_Ret += v_CQLCount;
                         }
-                        i_XCQL.log(v_CQL);
+                        i_XCQL.log(v_Query);
                     }
                 }
                 
@@ -887,8 +889,8 @@ public class XCQLOPUpdate
                 {
                     if ( i_ObjList.get(i) != null )
                     {
-                        v_CQL      = i_XCQL.getContent().getCQL(i_ObjList.get(i) ,v_DSCQL);
-                        v_Result   = v_Transaction.run(v_CQL);
+                        v_Query    = i_XCQL.getContent().getQuery(i_ObjList.get(i) ,v_DSCQL);
+                        v_Result   = v_Transaction.run(v_Query);
                         v_CQLCount = v_Result.consume().counters().nodesCreated()
                                    + v_Result.consume().counters().nodesDeleted()
                                    + v_Result.consume().counters().relationshipsCreated()
@@ -904,7 +906,7 @@ public class XCQLOPUpdate
                         {
                             v_Ret += v_CQLCount;
                         }
-                        i_XCQL.log(v_CQL);
+                        i_XCQL.log(v_Query);
                         v_EC++;
                         
                         if ( v_EC % i_XCQL.getBatchCommit() == 0 )
@@ -926,12 +928,12 @@ public class XCQLOPUpdate
             }
             
             Date v_EndTime = Date.getNowTime();
-            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,i_ObjList.size() ,v_Ret);
+            i_XCQL.success(v_EndTime ,v_EndTime.getTime() - v_BeginTime ,i_ObjList.size() ,v_Ret ,i_Conn);
             return v_Ret;
         }
         catch (Exception exce)
         {
-            XCQL.erroring(v_CQL ,exce ,i_XCQL);
+            XCQL.erroring(v_Query ,exce ,i_XCQL);
             
             try
             {
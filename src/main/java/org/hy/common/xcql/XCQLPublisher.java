@@ -0,0 +1,261 @@
+package org.hy.common.xcql;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hy.common.Date;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.reactive.RxSession;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+
+
+
+
+/**
+ * 响应式（有背压）查询的发布者。基于Neo4j驱动的响应式会话（RxSession）。
+ * 
+ * 下游请求多少行，才向数据库端请求多少条记录，并在记录到达时逐条转化为行级对象。
+ * 下游消费得慢时（如HTTP响应、文件写入），数据库端的读取也随之变慢，记录不会在内存中堆积。
+ * 
+ * 使用规则：
+ *   1. 每次订阅都执行一次查询，并打开一个独立的会话。查询完成、异常或取消订阅时，立即关闭会话；
+ *   2. 行级对象按 XCQLResult 的 row、cfill 规则转化，但不生成表级对象，即 table、fill、fillEvent 不生效；
+ *   3. 与流式查询相同，不触发XCQL触发器。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  优化：复用结果集的形状 XCQLResultShape
+ */
+public class XCQLPublisher implements Publisher<Object>
+{
+    
+    /** 所属的XCQL */
+    private final XCQL          xcql;
+    
+    /** 查询语句 */
+    private final Query         query;
+    
+    /** 数据库连接信息 */
+    private final DataSourceCQL dataSourceCQL;
+    
+    
+    
+    /**
+     * 构造器。由 XCQLOPQuery 在生成查询语句后创建
+     * 
+     * @param i_XCQL           所属的XCQL
+     * @param i_Query          查询语句
+     * @param i_DataSourceCQL  数据库连接信息
+     */
+    protected XCQLPublisher(XCQL i_XCQL ,Query i_Query ,DataSourceCQL i_DataSourceCQL)
+    {
+        this.xcql          = i_XCQL;
+        this.query         = i_Query;
+        this.dataSourceCQL = i_DataSourceCQL;
+    }
+    
+    
+    
+    /**
+     * 订阅。执行查询，并按下游的请求发布行级对象
+     */
+    @Override
+    public void subscribe(Subscriber<? super Object> i_Subscriber)
+    {
+        if ( i_Subscriber == null )
+        {
+            throw new NullPointerException("Subscriber is null.");
+        }
+        
+        RxSession v_Session   = null;
+        long      v_BeginTime = this.xcql.request().getTime();
+        
+        try
+        {
+            v_Session = this.dataSourceCQL.getRxSession();
+            v_Session.run(this.query).records().subscribe(new RowSubscriber(i_Subscriber ,v_Session ,v_BeginTime));
+            this.xcql.log(this.query);
+        }
+        catch (RuntimeException exce)
+        {
+            if ( v_Session != null )
+            {
+                this.dataSourceCQL.closeRxSession(v_Session);
+            }
+            this.erroring(exce);
+            
+            i_Subscriber.onSubscribe(new Subscription()
+            {
+                @Override
+                public void request(long i_Count)
+                {
+                    // 已异常，没有数据
+                }
+                
+                @Override
+                public void cancel()
+                {
+                    // 已异常，无须取消
+                }
+            });
+            i_Subscriber.onError(exce);
+        }
+    }
+    
+    
+    
+    /**
+     * 与同步的方法一样记录异常
+     * 
+     * @param i_Exce
+     */
+    private void erroring(Throwable i_Exce)
+    {
+        Exception v_Exce = i_Exce instanceof Exception ? (Exception) i_Exce : new RuntimeException(i_Exce);
+        
+        XCQL.erroring(this.query ,v_Exce ,this.xcql);
+        if ( this.xcql.getError() != null )
+        {
+            this.xcql.getError().errorLog(new XCQLErrorInfo(this.query ,v_Exce ,this.xcql));
+        }
+    }
+    
+    
+    
+    
+    
+    /**
+     * 订阅数据库记录，转化为行级对象后发布给下游。
+     * 
+     * 记录与行级对象是一对一的，所以下游的请求数量、取消，均直接转给数据库记录的订阅。
+     */
+    private class RowSubscriber implements Subscriber<Record> ,Subscription
+    {
+        
+        /** 下游的订阅者 */
+        private final Subscriber<? super Object> subscriber;
+        
+        /** 响应式会话 */
+        private final RxSession                  session;
+        
+        /** 查询的开始时间 */
+        private final long                       beginTime;
+        
+        /** 是否已结束（完成、异常或取消） */
+        private final AtomicBoolean              finished;
+        
+        /** 数据库记录的订阅 */
+        private volatile Subscription            upstream;
+        
+        /** 结果集的形状。首条记录时解释，之后复用 */
+        private XCQLResultShape                  shape;
+        
+        /** 已转化的行数 */
+        private long                             rowCount;
+        
+        
+        
+        public RowSubscriber(Subscriber<? super Object> i_Subscriber ,RxSession i_Session ,long i_BeginTime)
+        {
+            this.subscriber = i_Subscriber;
+            this.session    = i_Session;
+            this.beginTime  = i_BeginTime;
+            this.finished   = new AtomicBoolean(false);
+            this.rowCount   = 0L;
+        }
+        
+        
+        
+        @Override
+        public void onSubscribe(Subscription i_Subscription)
+        {
+            this.upstream = i_Subscription;
+            this.subscriber.onSubscribe(this);
+        }
+        
+        
+        
+        @Override
+        public void onNext(Record i_Record)
+        {
+            if ( this.finished.get() )
+            {
+                return;
+            }
+            
+            Object v_Row = null;
+            try
+            {
+                this.shape = XCQLResultShape.of(this.shape ,i_Record);
+                v_Row      = xcql.getResult().getDatasRow(i_Record ,this.shape);
+            }
+            catch (RuntimeException exce)
+            {
+                this.upstream.cancel();
+                this.onError(exce);
+                return;
+            }
+            
+            this.rowCount++;
+            this.subscriber.onNext(v_Row);
+        }
+        
+        
+        
+        @Override
+        public void onError(Throwable i_Exce)
+        {
+            if ( this.finished.compareAndSet(false ,true) )
+            {
+                dataSourceCQL.closeRxSession(this.session);
+                erroring(i_Exce);
+                this.subscriber.onError(i_Exce);
+            }
+        }
+        
+        
+        
+        @Override
+        public void onComplete()
+        {
+            if ( this.finished.compareAndSet(false ,true) )
+            {
+                dataSourceCQL.closeRxSession(this.session);
+                
+                Date v_EndTime = Date.getNowTime();
+                xcql.success(v_EndTime ,v_EndTime.getTime() - this.beginTime ,1 ,this.rowCount);
+                
+                this.subscriber.onComplete();
+            }
+        }
+        
+        
+        
+        @Override
+        public void request(long i_Count)
+        {
+            this.upstream.request(i_Count);
+        }
+        
+        
+        
+        /**
+         * 取消订阅时，立即关闭会话
+         */
+        @Override
+        public void cancel()
+        {
+            if ( this.finished.compareAndSet(false ,true) )
+            {
+                this.upstream.cancel();
+                dataSourceCQL.closeRxSession(this.session);
+            }
+        }
+        
+    }
+    
+}
@@ -1,5 +1,9 @@
 package org.hy.common.xcql;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -9,6 +13,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,7 +21,7 @@ import org.hy.common.Date;
 import org.hy.common.Help;
 import org.hy.common.MethodReflect;
 import org.hy.common.StringHelp;
-import org.hy.common.xcql.event.DefaultXCQLResultFillEvent;
+import org.hy.common.xcql.event.GroupingXCQLResultFillEvent;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Value;
@@ -32,6 +37,14 @@ import org.neo4j.driver.types.Type;
  * @author      ZhengWei(HY)
  * @createDate  2023-06-02
  * @version     v1.0
+ *              v2.0  2026-10-17  添加：逐条记录转化为行级对象的 getDatasRow()，用于流式查询
+ *              v3.0  2026-10-17  优化：列级取值与填充改用 XCQLMethod 编译后的 MethodHandle
+ *              v4.0  2026-10-17  优化：按结果集的形状（XCQLResultShape）解释一次数据子集，之后按下标取值
+ *              v5.0  2026-10-17  添加：表级对象为 XCQLColumns 时，按列式存储结果集，不生成行级对象
+ *              v6.0  2026-10-17  添加：按构造器生成不可变的行级对象（Java record 或全参构造器的类）
+ *              v7.0  2026-10-17  修改：一对多关系按关系字段的哈希索引合并，结果集不用再按关系字段排序
+ *              v8.0  2026-10-17  添加：表级对象为 XCQLGraph 时，按紧凑的图结构存储结果集中的节点与关系
+ *              v9.0  2026-10-18  修改：一对多关系的 "多对象" 只按 cfill 的 a.b 形式的属性路径识别
  */
 public final class XCQLResult
 {
@@ -113,6 +126,17 @@ public final class XCQLResult
     /** 行级对象的Class类型 */
     private Class<?>                row;
     
+    /**
+     * 按构造器生成行级对象(解释 row 后生成)。
+     * 
+     * 行级对象为 Java record ，或没有无参构造器的类时才有效，此时 cfill 不生效。
+     * 其它情况为NULL，按无参构造器实例化后再逐个填充。
+     */
+    private XCQLRowConstructor      rowConstructor;
+    
+    /** 行级对象的无参构造器(解释 row 后生成)。类型为 ()Object */
+    private MethodHandle            rowNewHandle;
+    
     /** 行级对象填充到表级对象的填充方法字符串 */
     private String                  fill;
     
@@ -165,6 +189,16 @@ public final class XCQLResult
      */
     private String                  relationKeys;
     
+    /** 一对多关系时，识别出属于同一对象的主键的Getter方法(解释 relationKeys 后生成) */
+    private List<Method>            relationKeyMethods;
+    
+    /**
+     * 一对多关系时，从 "一对象" 中获取 "多对象" 的Getter方法(解释 cfill 的 a.b 形式的属性路径后生成)
+     * 
+     * 只有路径中 a 的Getter方法的返回类型为集合时，才是 "多对象"
+     */
+    private Map<Method ,Object>     relationValueMethods;
+    
     
     /** 是否重新分析。任何一个对外的属性值变化后，都要重新分析。 */
     private boolean                 isAgainParse;
@@ -173,17 +207,19 @@ public final class XCQLResult
     
     public XCQLResult()
     {
-        this.table           = ArrayList.class;
-        this.row             = ArrayList.class;
-        this.fill            = "add(row)";
-        this.fillMethod      = new XCQLMethod();
-        this.cfill           = "add(colValue)";
-        this.cfillMethodType = $CFILL_METHOD_FIXED;
-        this.cfillMethodArr  = null;
-        this.cstyle          = DBNameStyle.$Upper;
-        this.dbMetaData      = new DBTableMetaData(this.cstyle);
-        this.relationKeys    = null;
-        this.isAgainParse    = true;
+        this.table                = ArrayList.class;
+        this.row                  = ArrayList.class;
+        this.fill                 = "add(row)";
+        this.fillMethod           = new XCQLMethod();
+        this.cfill                = "add(colValue)";
+        this.cfillMethodType      = $CFILL_METHOD_FIXED;
+        this.cfillMethodArr       = null;
+        this.cstyle               = DBNameStyle.$Upper;
+        this.dbMetaData           = new DBTableMetaData(this.cstyle);
+        this.relationKeys         = null;
+        this.relationKeyMethods   = new ArrayList<Method>();
+        this.relationValueMethods = new LinkedHashMap<Method ,Object>();
+        this.isAgainParse         = true;
     }
     
     
@@ -238,19 +274,33 @@ public final class XCQLResult
             throw new NullPointerException("Result is null.");
         }
         
+        // 列式存储。不生成行级对象
+        if ( XCQLColumns.class.isAssignableFrom(this.table) )
+        {
+            return this.getDatasColumns(i_Result ,i_StartRow ,i_PagePerSize);
+        }
+        
+        // 图结构。不生成行级对象
+        if ( XCQLGraph.class.isAssignableFrom(this.table) )
+        {
+            return this.getDatasGraph(i_Result ,i_StartRow ,i_PagePerSize);
+        }
         
-        Object  v_Table         = null;
-        long    v_RowNo         = 0;
-        int     v_ColNo         = 0;
-        String  v_FieldName     = "";
-        boolean v_FillEvent     = false;
-        Date    v_ExecBeginTime = null;
+        
+        Object              v_Table          = null;
+        long                v_RowNo          = 0;
+        int                 v_ColNo          = 0;
+        XCQLResultShape     v_Shape          = null;
+        boolean             v_FillEvent      = false;
+        XCQLResultFillEvent v_FillEventStart = null;
+        Date                v_ExecBeginTime  = null;
         
         try
         {
             v_Table = this.newTableObject();
             
             getDatasParse(i_Result);
+            this.parseRelationValues(i_Result);
             
             v_ExecBeginTime = new Date();
             
@@ -276,45 +326,11 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( v_Count < i_PagePerSize && i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Object v_Row    = this.newRowObject();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData.get(v_FieldName));
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData);
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            this.fillRow(v_CFillMethod ,v_Row ,v_Record ,v_Shape);
                             
                             this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                             v_Count++;
@@ -326,57 +342,10 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( v_Count < i_PagePerSize && i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Value      v_FieldValue  = v_RData.get(v_FieldName);
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Value      v_FieldValue  = v_RData;
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            Object v_Row = this.newRowVary(v_Record ,v_Shape);
                             
                             this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                             v_Count++;
@@ -388,7 +357,8 @@ public final class XCQLResult
                 {
                     Object v_RowPrevious = null;
                     
-                    this.fillEvent.start(v_Table);
+                    v_FillEventStart = this.fillEvent;
+                    v_FillEventStart.start(v_Table);
                     
                     // 列级对象填充到行级对象中行级对象的方法类型: 固定方法
                     if ( this.cfillMethodType == $CFILL_METHOD_FIXED )
@@ -398,48 +368,14 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( v_Count < i_PagePerSize && i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Object v_Row    = this.newRowObject();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData.get(v_FieldName));
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData);
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            this.fillRow(v_CFillMethod ,v_Row ,v_Record ,v_Shape);
                             
                             v_FillEvent = true;
-                            if ( this.fillEvent.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
+                            if ( v_FillEventStart.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
                             {
                                 this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                                 v_RowPrevious = v_Row;
@@ -454,60 +390,13 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( v_Count < i_PagePerSize && i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Value      v_FieldValue  = v_RData.get(v_FieldName);
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Value      v_FieldValue  = v_RData;
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            Object v_Row = this.newRowVary(v_Record ,v_Shape);
                             
                             v_FillEvent = true;
-                            if ( this.fillEvent.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
+                            if ( v_FillEventStart.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
                             {
                                 this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                                 v_RowPrevious = v_Row;
@@ -532,45 +421,11 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Object v_Row    = this.newRowObject();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData.get(v_FieldName));
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData);
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            this.fillRow(v_CFillMethod ,v_Row ,v_Record ,v_Shape);
                             
                             this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                         }
@@ -581,57 +436,10 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Value      v_FieldValue  = v_RData.get(v_FieldName);
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Value      v_FieldValue  = v_RData;
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            Object v_Row = this.newRowVary(v_Record ,v_Shape);
                             
                             this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                         }
@@ -642,7 +450,8 @@ public final class XCQLResult
                 {
                     Object v_RowPrevious = null;
                     
-                    this.fillEvent.start(v_Table);
+                    v_FillEventStart = this.fillEvent;
+                    v_FillEventStart.start(v_Table);
                     
                     // 列级对象填充到行级对象中行级对象的方法类型: 固定方法
                     if ( this.cfillMethodType == $CFILL_METHOD_FIXED )
@@ -652,48 +461,14 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Object v_Row    = this.newRowObject();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData.get(v_FieldName));
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Object v_ColValue = XCQLMethod.getValue(v_RData);
-                                    v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            this.fillRow(v_CFillMethod ,v_Row ,v_Record ,v_Shape);
                             
                             v_FillEvent = true;
-                            if ( this.fillEvent.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
+                            if ( v_FillEventStart.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
                             {
                                 this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                                 v_RowPrevious = v_Row;
@@ -707,60 +482,13 @@ public final class XCQLResult
                         // 遍历每条记录
                         while ( i_Result.hasNext() )
                         {
-                            Object       v_Row    = this.newRowObject();
-                            Record       v_Record = i_Result.next();
-                            List<String> v_RNames = v_Record.keys();
+                            Record v_Record = i_Result.next();
                             
-                            // 遍历每条记录中的每个数据子集
-                            // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
-                            for (String v_RName : v_RNames)
-                            {
-                                Value            v_RData      = v_Record.get(v_RName);
-                                Iterable<String> v_FieldNames = v_RData.keys();
-                                boolean          v_IsEmpty    = true;
-                                
-                                // 遍历节点属性
-                                // 识别类似 MATCH (n) RETURN n 中的 n 的属性
-                                for (String v_FName : v_FieldNames)
-                                {
-                                    v_FieldName = v_FName;
-                                    v_IsEmpty   = false;
-                                    
-                                    Value      v_FieldValue  = v_RData.get(v_FieldName);
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                                
-                                // 处理非数据子集的，具体指定RETURN的属性
-                                // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
-                                if ( v_IsEmpty )
-                                {
-                                    String [] v_FieldNameArr = v_RName.split("\\.");
-                                    
-                                    v_FieldName = v_FieldNameArr[0];
-                                    if ( v_FieldNameArr.length >= 2 )
-                                    {
-                                        v_FieldName = v_FieldNameArr[1];
-                                    }
-                                    
-                                    Value      v_FieldValue  = v_RData;
-                                    XCQLMethod v_CFillMethod = this.parseCFill(v_FieldName ,v_FieldValue.type());
-                                    if ( v_CFillMethod != null )
-                                    {
-                                        Object v_ColValue = v_CFillMethod.getResultSet_Getter().invoke(v_FieldValue);
-                                        v_ColValue = v_CFillMethod.getMachiningValue().getValue(v_ColValue);
-                                        v_CFillMethod.invoke(v_Row ,v_ColValue ,(Long)null ,v_FieldName);
-                                    }
-                                }
-                            }
+                            v_Shape = XCQLResultShape.of(v_Shape ,v_Record);
+                            Object v_Row = this.newRowVary(v_Record ,v_Shape);
                             
                             v_FillEvent = true;
-                            if ( this.fillEvent.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
+                            if ( v_FillEventStart.before(v_Table ,v_Row ,v_RowNo ,v_RowPrevious) )
                             {
                                 this.fillMethod.invoke(v_Table ,v_Row ,v_RowNo++ ,null);
                                 v_RowPrevious = v_Row;
@@ -776,19 +504,337 @@ public final class XCQLResult
         {
             if ( !v_FillEvent )
             {
-                throw new java.lang.RuntimeException("RowNo=" + v_RowNo + "  ColNo=" + v_ColNo + "  ColName=" + v_FieldName + "  " + exce.getMessage());
+                throw new java.lang.RuntimeException("RowNo=" + v_RowNo + "  ColNo=" + v_ColNo + "  ColName=" + (v_Shape == null ? "" : v_Shape.getFieldName()) + "  " + exce.getMessage());
             }
             else
             {
                 throw new java.lang.RuntimeException("Call FillEvent Error for RowNo=" + v_RowNo + "  " + exce.getMessage());
             }
         }
+        finally
+        {
+            if ( v_FillEventStart != null )
+            {
+                v_FillEventStart.end(v_Table);
+            }
+        }
         
         return new XCQLData(v_Table ,v_RowNo ,this.cfillMethodArr.size() ,0 ,Date.getNowTime().differ(v_ExecBeginTime) ,this.dbMetaData);
     }
     
     
     
+    /**
+     * 将数据库结果集转化为列式存储的 XCQLColumns。
+     * 
+     * 每列一个原始类型的数组，不生成行级对象，所以 row、cfill、fill、fillEvent 均不生效。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Result
+     * @param i_StartRow         开始读取的行号。下标从0开始。
+     * @param i_PagePerSize      每页显示多少条数据。只有大于0时，游标分页功能才生效。
+     * @return
+     */
+    private XCQLData getDatasColumns(Result i_Result ,int i_StartRow ,int i_PagePerSize)
+    {
+        XCQLColumns v_Table         = this.newTableObject(XCQLColumns.class);
+        Date        v_ExecBeginTime = new Date();
+        long        v_RowNo         = this.addRecords(i_Result ,i_StartRow ,i_PagePerSize ,v_Table::add);
+        
+        v_Table.finish();
+        
+        return new XCQLData(v_Table ,v_RowNo ,v_Table.getColCount() ,0 ,Date.getNowTime().differ(v_ExecBeginTime) ,this.dbMetaData);
+    }
+    
+    
+    
+    /**
+     * 将数据库结果集转化为紧凑的图结构 XCQLGraph。
+     * 
+     * 只收集结果集中的节点与关系，不生成行级对象，所以 row、cfill、fill、fillEvent 均不生效。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Result
+     * @param i_StartRow         开始读取的行号。下标从0开始。
+     * @param i_PagePerSize      每页显示多少条数据。只有大于0时，游标分页功能才生效。
+     * @return
+     */
+    private XCQLData getDatasGraph(Result i_Result ,int i_StartRow ,int i_PagePerSize)
+    {
+        XCQLGraph v_Table         = this.newTableObject(XCQLGraph.class);
+        Date      v_ExecBeginTime = new Date();
+        long      v_RowNo         = this.addRecords(i_Result ,i_StartRow ,i_PagePerSize ,v_Table::add);
+        
+        v_Table.finish();
+        
+        return new XCQLData(v_Table ,v_RowNo ,0 ,v_Table.getRelationshipCount() ,Date.getNowTime().differ(v_ExecBeginTime) ,this.dbMetaData);
+    }
+    
+    
+    
+    /**
+     * 将数据库结果集中的记录逐条添加到表级对象中。getDatasColumns() 与 getDatasGraph() 共用
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Result
+     * @param i_StartRow         开始读取的行号。下标从0开始。
+     * @param i_PagePerSize      每页显示多少条数据。只有大于0时，游标分页功能才生效。
+     * @param i_Table            添加一条记录到表级对象的方法
+     * @return                   添加的记录数
+     */
+    private long addRecords(Result i_Result ,int i_StartRow ,int i_PagePerSize ,Consumer<Record> i_Table)
+    {
+        long v_RowNo = 0;
+        
+        try
+        {
+            // 游标分页功能
+            if ( i_PagePerSize > 0 )
+            {
+                int v_Count = 0;
+                while ( v_Count < i_StartRow && i_Result.hasNext() )
+                {
+                    i_Result.next();
+                    v_Count++;
+                }
+                
+                while ( v_RowNo < i_PagePerSize && i_Result.hasNext() )
+                {
+                    i_Table.accept(i_Result.next());
+                    v_RowNo++;
+                }
+            }
+            else
+            {
+                while ( i_Result.hasNext() )
+                {
+                    i_Table.accept(i_Result.next());
+                    v_RowNo++;
+                }
+            }
+        }
+        catch (Exception exce)
+        {
+            throw new java.lang.RuntimeException("RowNo=" + v_RowNo + "  " + exce.getMessage());
+        }
+        
+        return v_RowNo;
+    }
+    
+    
+    
+    /**
+     * 将数据库结果集中的一条记录转化为行级对象。用于流式查询，逐条转化，不生成表级对象。
+     * 
+     * 与 getDatas() 相同的列级对象填充到行级对象的规则（cfill）。
+     * 但行级对象不填充到表级对象中（fill），也不触发 fillEvent 事件。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Record  一条记录
+     * @return          行级对象
+     */
+    public Object getDatasRow(Record i_Record)
+    {
+        if ( i_Record == null )
+        {
+            throw new NullPointerException("Record is null.");
+        }
+        
+        return this.getDatasRow(i_Record ,new XCQLResultShape(i_Record));
+    }
+    
+    
+    
+    /**
+     * 将数据库结果集中的一条记录转化为行级对象。
+     * 
+     * 逐条转化同一结果集时，由调用方通过 XCQLResultShape.of() 复用结果集的形状，不用每条记录都解释一次。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Record  一条记录
+     * @param i_Shape   记录的形状
+     * @return          行级对象
+     */
+    Object getDatasRow(Record i_Record ,XCQLResultShape i_Shape)
+    {
+        try
+        {
+            getDatasParse(null);
+            
+            // 列级对象填充到行级对象中行级对象的方法类型: 固定方法
+            if ( this.cfillMethodType == $CFILL_METHOD_FIXED )
+            {
+                Object v_Row = this.newRowObject();
+                this.fillRow(this.cfillMethodArr.get(this.cfill) ,v_Row ,i_Record ,i_Shape);
+                return v_Row;
+            }
+            // 列级对象填充到行级对象中行级对象的方法类型: 变化方法 -- setter(colValue)
+            else
+            {
+                return this.newRowVary(i_Record ,i_Shape);
+            }
+        }
+        catch (Exception exce)
+        {
+            throw new java.lang.RuntimeException("ColName=" + i_Shape.getFieldName() + "  " + exce.getMessage());
+        }
+    }
+    
+    
+    
+    /**
+     * 列级对象填充到行级对象。列级填充方法为固定方法
+     * 
+     * 按结果集的形状，用下标遍历记录中的每个数据子集。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_CFillMethod  列级填充方法
+     * @param i_Row          行级对象
+     * @param i_Record       一条记录
+     * @param i_Shape        记录的形状
+     */
+    private void fillRow(XCQLMethod i_CFillMethod ,Object i_Row ,Record i_Record ,XCQLResultShape i_Shape)
+    {
+        // 遍历记录中的每个数据子集
+        // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
+        for (int x=0; x<i_Shape.size(); x++)
+        {
+            Value   v_RData   = i_Record.get(x);
+            boolean v_IsEmpty = true;
+            
+            // 遍历节点属性
+            // 识别类似 MATCH (n) RETURN n 中的 n 的属性
+            for (String v_FName : v_RData.keys())
+            {
+                i_Shape.setFieldName(v_FName);
+                v_IsEmpty = false;
+                
+                Object v_ColValue = XCQLMethod.getValue(v_RData.get(v_FName));
+                i_CFillMethod.invoke(i_Row ,v_ColValue ,(Long)null ,v_FName);
+            }
+            
+            // 处理非数据子集的，具体指定RETURN的属性
+            // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
+            if ( v_IsEmpty )
+            {
+                String v_FieldName = i_Shape.getFieldName(x);
+                i_Shape.setFieldName(v_FieldName);
+                
+                Object v_ColValue = XCQLMethod.getValue(v_RData);
+                i_CFillMethod.invoke(i_Row ,v_ColValue ,(Long)null ,v_FieldName);
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 生成行级对象。列级填充方法为变化方法 -- setter(colValue)，或按构造器生成行级对象
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Record       一条记录
+     * @param i_Shape        记录的形状
+     * @return               行级对象
+     * @throws ClassNotFoundException
+     * @throws InstantiationException
+     */
+    private Object newRowVary(Record i_Record ,XCQLResultShape i_Shape) throws ClassNotFoundException, InstantiationException
+    {
+        if ( this.rowConstructor != null )
+        {
+            return this.rowConstructor.newInstance(i_Record ,i_Shape);
+        }
+        
+        Object v_Row = this.newRowObject();
+        this.fillRowVary(v_Row ,i_Record ,i_Shape);
+        return v_Row;
+    }
+    
+    
+    
+    /**
+     * 列级对象填充到行级对象。列级填充方法为变化方法 -- setter(colValue)
+     * 
+     * 按结果集的形状，用下标遍历记录中的每个数据子集。非数据子集的列级填充方法只在首次时解释并绑定到形状上。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Row          行级对象
+     * @param i_Record       一条记录
+     * @param i_Shape        记录的形状
+     */
+    private void fillRowVary(Object i_Row ,Record i_Record ,XCQLResultShape i_Shape)
+    {
+        // 遍历记录中的每个数据子集
+        // 识别类似 MATCH (n1:XX) ,(n2:YY) RETURN n1 ,n2 中的 RETURN 的数据子集 n1 和 n2
+        for (int x=0; x<i_Shape.size(); x++)
+        {
+            Value   v_RData   = i_Record.get(x);
+            boolean v_IsEmpty = true;
+            
+            // 遍历节点属性
+            // 识别类似 MATCH (n) RETURN n 中的 n 的属性
+            for (String v_FName : v_RData.keys())
+            {
+                i_Shape.setFieldName(v_FName);
+                v_IsEmpty = false;
+                
+                Value      v_FieldValue  = v_RData.get(v_FName);
+                XCQLMethod v_CFillMethod = this.parseCFill(v_FName ,v_FieldValue.type());
+                if ( v_CFillMethod != null )
+                {
+                    Object v_ColValue = v_CFillMethod.getColValue(v_FieldValue);
+                    v_CFillMethod.invoke(i_Row ,v_ColValue ,(Long)null ,v_FName);
+                }
+            }
+            
+            // 处理非数据子集的，具体指定RETURN的属性
+            // 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName
+            if ( v_IsEmpty )
+            {
+                String v_FieldName = i_Shape.getFieldName(x);
+                i_Shape.setFieldName(v_FieldName);
+                
+                if ( !i_Shape.isBind(x) )
+                {
+                    i_Shape.bind(x ,this.parseCFill(v_FieldName ,v_RData.type()));
+                }
+                
+                XCQLMethod v_CFillMethod = i_Shape.getMethod(x);
+                if ( v_CFillMethod != null )
+                {
+                    Object v_ColValue = v_CFillMethod.getColValue(v_RData);
+                    v_CFillMethod.invoke(i_Row ,v_ColValue ,(Long)null ,v_FieldName);
+                }
+            }
+        }
+    }
+    
+    
+    
     /**
      * 全量解释。
      * 
@@ -832,7 +878,17 @@ public final class XCQLResult
         
         
         this.parseFill();
-        this.parseCFill();
+        this.parseRow();
+        if ( this.rowConstructor != null )
+        {
+            // 按构造器生成行级对象时，cfill 不生效
+            this.cfillMethodArr  = new LinkedHashMap<String ,XCQLMethod>();
+            this.cfillMethodType = $CFILL_METHOD_VARY;
+        }
+        else
+        {
+            this.parseCFill();
+        }
         this.parseRelationKeys();
         
         
@@ -841,6 +897,35 @@ public final class XCQLResult
     
     
     
+    /**
+     * 解释 this.row -- 行级对象的构造器
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     */
+    private void parseRow()
+    {
+        this.rowConstructor = XCQLRowConstructor.of(this.row);
+        this.rowNewHandle   = null;
+        
+        if ( this.rowConstructor == null )
+        {
+            try
+            {
+                Constructor<?> v_Constructor = this.row.getDeclaredConstructor();
+                v_Constructor.setAccessible(true);
+                this.rowNewHandle = MethodHandles.lookup().unreflectConstructor(v_Constructor).asType(MethodType.methodType(Object.class));
+            }
+            catch (Exception exce)
+            {
+                // 不能编译时，仍按反射的方式实例化（实例化时再报错）
+            }
+        }
+    }
+    
+    
+    
     /**
      * 解释 this.fill -- 行级对象填充到表级对象的填充方法字符串
      */
@@ -1060,6 +1145,11 @@ public final class XCQLResult
                 
                 // 按 call 方法的入参类型，决定 org.neo4j.driver.Result 获取字段值的方法
                 v_XCQLMethod.parseResultSet_Getter(i_Neo4jFieldType);
+                
+                if ( v_Collection != null )
+                {
+                    this.addRelationValueMethod(v_InnerObjGetMethod);
+                }
             }
             this.dbMetaData.addColumnInfo(i_Neo4jFieldName);
             this.cfillMethodArr.put(i_Neo4jFieldName ,v_XCQLMethod);
@@ -1189,26 +1279,28 @@ public final class XCQLResult
      * @author      ZhengWei(HY)
      * @createDate  2017-03-01
      * @version     v1.0
+     *              v2.0  2026-10-17  修改：按哈希索引合并（GroupingXCQLResultFillEvent），并按行级对象的集合类型的Getter方法识别 "多对象"
+     *              v3.0  2026-10-18  修改："多对象" 只按 cfill 的 a.b 形式的属性路径识别，变化方法时在运行时解释出路径后再识别
      *
      */
     private void parseRelationKeys()
     {
+        this.relationKeyMethods   = new ArrayList<Method>();
+        this.relationValueMethods = new LinkedHashMap<Method ,Object>();
+        
         if ( Help.isNull(this.relationKeys) || this.row == null )
         {
             return;
         }
         
-        List<Method>        v_RelationKeyMethods   = new ArrayList<Method>();
-        Map<Method ,Object> v_RelationValueMethods = new HashMap<Method ,Object>();
-        
         String [] v_Keys = StringHelp.replaceAll(this.relationKeys ,new String[]{" " ,"\t" ,"\r" ,"\n"} ,new String[]{""}).split(",");
         for (int v_Index=0; v_Index<v_Keys.length; v_Index++)
         {
-            Method v_Method = MethodReflect.getGetMethod(this.row ,v_Keys[0] ,true);
+            Method v_Method = MethodReflect.getGetMethod(this.row ,v_Keys[v_Index] ,true);
             
             if ( v_Method != null )
             {
-                v_RelationKeyMethods.add(v_Method);
+                this.relationKeyMethods.add(v_Method);
             }
         }
         
@@ -1218,14 +1310,97 @@ public final class XCQLResult
             {
                 if ( MethodReflect.isExtendImplement(v_XCQLMethod.getGetInstanceOfMethod().getReturnType() ,Collection.class) )
                 {
-                    v_RelationValueMethods.put(v_XCQLMethod.getGetInstanceOfMethod() ,v_XCQLMethod.getGetInstanceOfMethod());
+                    this.relationValueMethods.put(v_XCQLMethod.getGetInstanceOfMethod() ,v_XCQLMethod.getGetInstanceOfMethod());
                 }
             }
         }
         
-        if ( !Help.isNull(v_RelationKeyMethods) && !Help.isNull(v_RelationValueMethods) )
+        this.parseRelationFillEvent();
+    }
+    
+    
+    
+    /**
+     * 解释：变化方法 setter(colValue) 的列级填充方法是运行时动态解释的。
+     * 
+     * 在填充之前，先按首条记录解释出列级填充方法，识别出 a.b 形式的属性路径中的 "多对象"，
+     * 使首次填充时也能按一对多关系合并。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     * @param i_Result
+     */
+    private void parseRelationValues(Result i_Result)
+    {
+        if ( this.cfillMethodType != $CFILL_METHOD_VARY
+          || this.rowConstructor  != null
+          || Help.isNull(this.relationKeyMethods)
+          || !i_Result.hasNext() )
+        {
+            return;
+        }
+        
+        Record          v_Record = i_Result.peek();
+        XCQLResultShape v_Shape  = new XCQLResultShape(v_Record);
+        
+        for (int x=0; x<v_Shape.size(); x++)
         {
-            this.fillEvent = new DefaultXCQLResultFillEvent(v_RelationKeyMethods ,Help.toListKeys(v_RelationValueMethods));
+            Value   v_RData   = v_Record.get(x);
+            boolean v_IsEmpty = true;
+            
+            for (String v_FName : v_RData.keys())
+            {
+                this.parseCFill(v_FName ,v_RData.get(v_FName).type());
+                v_IsEmpty = false;
+            }
+            
+            if ( v_IsEmpty )
+            {
+                this.parseCFill(v_Shape.getFieldName(x) ,v_RData.type());
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 添加一对多关系时的 "多对象" 的Getter方法。新添加时，重新生成填充事件
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     * @param i_GetMethod  a.b 形式的属性路径中 a 的Getter方法
+     */
+    private synchronized void addRelationValueMethod(Method i_GetMethod)
+    {
+        if ( Help.isNull(this.relationKeyMethods) || this.relationValueMethods.containsKey(i_GetMethod) )
+        {
+            return;
+        }
+        
+        this.relationValueMethods.put(i_GetMethod ,i_GetMethod);
+        this.parseRelationFillEvent();
+    }
+    
+    
+    
+    /**
+     * 按关系字段与 "多对象" 生成填充事件
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    private void parseRelationFillEvent()
+    {
+        if ( !Help.isNull(this.relationKeyMethods) && !Help.isNull(this.relationValueMethods) )
+        {
+            // 按哈希索引合并，结果集不用按关系字段排序
+            this.fillEvent = new GroupingXCQLResultFillEvent(this.relationKeyMethods ,Help.toListKeys(this.relationValueMethods));
         }
         else
         {
@@ -1289,6 +1464,26 @@ public final class XCQLResult
     
     
     
+    /**
+     * 实例化一个指定类型的表级对象。用于不生成行级对象的表级对象（XCQLColumns、XCQLGraph）
+     * 
+     * @param i_TableClass  表级对象的类型
+     * @return
+     */
+    private <T> T newTableObject(Class<T> i_TableClass)
+    {
+        try
+        {
+            return i_TableClass.cast(this.newTableObject());
+        }
+        catch (Exception exce)
+        {
+            throw new java.lang.RuntimeException(exce.getMessage());
+        }
+    }
+    
+    
+    
     /**
      * 实例化一个表级对象
      * 
@@ -1327,9 +1522,14 @@ public final class XCQLResult
         
         try
         {
+            if ( this.rowNewHandle != null )
+            {
+                return (Object) this.rowNewHandle.invokeExact();
+            }
+            
             v_TableInstance = this.row.getDeclaredConstructor().newInstance();
         }
-        catch (Exception exce)
+        catch (Throwable exce)
         {
             throw new InstantiationException("Row Class(" + this.row + ") instantiation is error.");
         }
@@ -12,10 +12,12 @@ package org.hy.common.xcql;
  *   3. 支持多行转一行功能（如，多行字符串合并功能）
  *   4. 支持过滤行记录功能
  *   5. 支持一对多关系功能。见 org.hy.common.xcql.event.DefaultXCQLResultFillEvent
+ *                         及 org.hy.common.xcql.event.GroupingXCQLResultFillEvent
  *
  * @author      ZhengWei(HY)
  * @createDate  2023-06-02
  * @version     v1.0
+ *              v2.0  2026-10-17  添加：整体填充完成（或异常结束）后触发的 end() 方法
  */
 public interface XCQLResultFillEvent
 {
@@ -53,4 +55,22 @@ public interface XCQLResultFillEvent
      */
     public boolean before(final Object i_Table ,final Object i_Row ,final long i_RowNo ,final Object i_PreviousRow);
     
+    
+    
+    /**
+     * 在整体填充完成之后触发，并且只触发一次。异常结束时也会触发。
+     * 
+     * 方便释放在 start() 中初始化的资源。默认为空操作。
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     * @param i_Table
+     */
+    public default void end(final Object i_Table)
+    {
+        // Nothing.
+    }
+    
 }
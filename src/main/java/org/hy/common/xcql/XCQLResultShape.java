@@ -0,0 +1,214 @@
+package org.hy.common.xcql;
+
+import java.util.List;
+
+import org.neo4j.driver.Record;
+
+
+
+
+
+/**
+ * 结果集的形状。即记录中各数据子集（RETURN 的各列）的名称、位置，及非数据子集时的属性名称。
+ * 
+ * 同一结果集的记录，其数据子集的名称与顺序是相同的，所以只须在首条记录时解释一次。
+ * 之后的记录按下标 Record.get(int) 取值，不再按名称查找数据子集，也不再拆分 RETURN n.id 这样的名称。
+ * 当记录的数据子集发生变化时，才重新解释。
+ * 
+ * 注：节点的属性可以不一致（图数据库是非结构化的），所以数据子集内的属性仍按每条记录遍历。
+ * 
+ * 非线程安全。只在一次结果集的转化过程中使用。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  添加：绑定构造器的入参下标，用于按构造器生成行级对象
+ */
+final class XCQLResultShape
+{
+    
+    /** 数据子集的名称。与记录的 Record.keys() 为同一对象时，不用再逐个比较 */
+    private final List<String>  keys;
+    
+    /**
+     * 非数据子集时的属性名称。
+     * 如 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 的 id 和 userName
+     */
+    private final String []     fieldNames;
+    
+    /** 非数据子集时绑定的列级填充方法。cfill 为变化方法 setter(colValue) 时才有效 */
+    private final XCQLMethod [] methods;
+    
+    /** 非数据子集时绑定的构造器的入参下标。按构造器生成行级对象时才有效。-1 表示没有对应的入参 */
+    private final int []        paramIndexes;
+    
+    /** 是否已绑定列级填充方法或构造器的入参下标 */
+    private final boolean []    isBinds;
+    
+    /** 正在填充的属性名称。用于异常信息 */
+    private String              fieldName;
+    
+    
+    
+    /**
+     * 按一条记录解释结果集的形状
+     * 
+     * @param i_Record
+     */
+    public XCQLResultShape(Record i_Record)
+    {
+        this.keys         = i_Record.keys();
+        this.fieldNames   = new String[this.keys.size()];
+        this.methods      = new XCQLMethod[this.keys.size()];
+        this.paramIndexes = new int[this.keys.size()];
+        this.isBinds      = new boolean[this.keys.size()];
+        this.fieldName    = "";
+        
+        for (int x=0; x<this.fieldNames.length; x++)
+        {
+            String [] v_FieldNameArr = this.keys.get(x).split("\\.");
+            
+            this.fieldNames[x] = v_FieldNameArr[0];
+            if ( v_FieldNameArr.length >= 2 )
+            {
+                this.fieldNames[x] = v_FieldNameArr[1];
+            }
+        }
+    }
+    
+    
+    
+    /**
+     * 获取记录的形状。与原形状相同时，返回原形状，否则重新解释
+     * 
+     * @param i_Shape   原形状。可为NULL
+     * @param i_Record  记录
+     * @return
+     */
+    public static XCQLResultShape of(XCQLResultShape i_Shape ,Record i_Record)
+    {
+        if ( i_Shape != null )
+        {
+            List<String> v_Keys = i_Record.keys();
+            if ( i_Shape.keys == v_Keys || i_Shape.keys.equals(v_Keys) )
+            {
+                return i_Shape;
+            }
+        }
+        
+        return new XCQLResultShape(i_Record);
+    }
+    
+    
+    
+    /**
+     * 获取：数据子集的数量
+     */
+    public int size()
+    {
+        return this.fieldNames.length;
+    }
+    
+    
+    
+    /**
+     * 获取：非数据子集时的属性名称
+     * 
+     * @param i_Index  数据子集的下标。下标从 0 开始
+     * @return
+     */
+    public String getFieldName(int i_Index)
+    {
+        return this.fieldNames[i_Index];
+    }
+    
+    
+    
+    /**
+     * 是否已绑定列级填充方法或构造器的入参下标
+     * 
+     * @param i_Index  数据子集的下标。下标从 0 开始
+     * @return
+     */
+    public boolean isBind(int i_Index)
+    {
+        return this.isBinds[i_Index];
+    }
+    
+    
+    
+    /**
+     * 获取：绑定的列级填充方法。可为NULL，表示没有对应的填充方法
+     * 
+     * @param i_Index  数据子集的下标。下标从 0 开始
+     * @return
+     */
+    public XCQLMethod getMethod(int i_Index)
+    {
+        return this.methods[i_Index];
+    }
+    
+    
+    
+    /**
+     * 绑定列级填充方法
+     * 
+     * @param i_Index   数据子集的下标。下标从 0 开始
+     * @param i_Method  列级填充方法。可为NULL
+     */
+    public void bind(int i_Index ,XCQLMethod i_Method)
+    {
+        this.methods[i_Index] = i_Method;
+        this.isBinds[i_Index] = true;
+    }
+    
+    
+    
+    /**
+     * 获取：绑定的构造器的入参下标。-1 表示没有对应的入参
+     * 
+     * @param i_Index  数据子集的下标。下标从 0 开始
+     * @return
+     */
+    public int getParamIndex(int i_Index)
+    {
+        return this.paramIndexes[i_Index];
+    }
+    
+    
+    
+    /**
+     * 绑定构造器的入参下标
+     * 
+     * @param i_Index       数据子集的下标。下标从 0 开始
+     * @param i_ParamIndex  构造器的入参下标。-1 表示没有对应的入参
+     */
+    public void bind(int i_Index ,int i_ParamIndex)
+    {
+        this.paramIndexes[i_Index] = i_ParamIndex;
+        this.isBinds[i_Index]      = true;
+    }
+    
+    
+    
+    /**
+     * 获取：正在填充的属性名称
+     */
+    public String getFieldName()
+    {
+        return this.fieldName;
+    }
+    
+    
+    
+    /**
+     * 设置：正在填充的属性名称
+     * 
+     * @param i_FieldName
+     */
+    public void setFieldName(String i_FieldName)
+    {
+        this.fieldName = i_FieldName;
+    }
+    
+}
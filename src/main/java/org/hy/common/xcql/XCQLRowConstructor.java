@@ -0,0 +1,314 @@
+package org.hy.common.xcql;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+
+
+
+
+
+/**
+ * 按构造器生成行级对象。用于不可变的行级对象，如 Java record ，或只有全参构造器的类。
+ * 
+ * 构造器的入参按名称与结果集的属性名称匹配（先区分大小写，再不区分大小写），每行只调用一次构造器。
+ * 构造器编译为 MethodHandle，不用每行都反射查找与调用构造器。
+ * 
+ * 适用的行级对象的Class类型：
+ *   1. Java record。按记录组件的名称匹配，使用规范构造器；
+ *   2. 没有无参构造器的类。使用入参最多的公开构造器，但须用 javac -parameters 编译，以保留入参名称。
+ * 
+ * 结果集中没有对应属性，或值为NULL的入参，按入参类型的默认值（NULL、0、false）构造。
+ * 
+ * 线程安全。解释后只读。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+final class XCQLRowConstructor
+{
+    
+    /** 编译后的构造器。类型为 (Object [])Object */
+    private final MethodHandle                   invoker;
+    
+    /** 构造器的入参名称 */
+    private final String []                      names;
+    
+    /** 构造器的入参的默认值 */
+    private final Object []                      defaults;
+    
+    /** 构造器的入参的加工方法。按运行时的值的Java类型加工成入参类型 */
+    private final XCQLMethod.MachiningRuntime [] machinings;
+    
+    /** 入参名称的索引。Map.key 为入参名称及小写的入参名称 */
+    private final Map<String ,Integer>           nameIndexes;
+    
+    
+    
+    private XCQLRowConstructor(Constructor<?> i_Constructor ,String [] i_Names) throws IllegalAccessException
+    {
+        Class<?> [] v_ParamTypes = i_Constructor.getParameterTypes();
+        
+        try
+        {
+            i_Constructor.setAccessible(true);
+        }
+        catch (RuntimeException exce)
+        {
+            // 模块化等原因不能设置访问权限时，仍按公开构造器编译
+        }
+        
+        this.invoker     = MethodHandles.lookup().unreflectConstructor(i_Constructor)
+                                                 .asSpreader(Object[].class ,v_ParamTypes.length)
+                                                 .asType(MethodType.methodType(Object.class ,Object[].class));
+        this.names       = i_Names;
+        this.defaults    = new Object[v_ParamTypes.length];
+        this.machinings  = new XCQLMethod.MachiningRuntime[v_ParamTypes.length];
+        this.nameIndexes = new HashMap<String ,Integer>(v_ParamTypes.length * 4);
+        
+        for (int x=0; x<v_ParamTypes.length; x++)
+        {
+            this.defaults[x]   = v_ParamTypes[x].isPrimitive() ? Array.get(Array.newInstance(v_ParamTypes[x] ,1) ,0) : null;
+            this.machinings[x] = new XCQLMethod.MachiningRuntime(v_ParamTypes[x]);
+            this.nameIndexes.put(i_Names[x] ,x);
+        }
+        
+        for (int x=0; x<v_ParamTypes.length; x++)
+        {
+            this.nameIndexes.putIfAbsent(i_Names[x].toLowerCase(Locale.ROOT) ,x);
+        }
+    }
+    
+    
+    
+    /**
+     * 解释行级对象的构造器。行级对象不适用构造器生成时，返回NULL
+     * 
+     * @param i_RowClass  行级对象的Class类型
+     * @return
+     */
+    public static XCQLRowConstructor of(Class<?> i_RowClass)
+    {
+        if ( i_RowClass == null || i_RowClass.isInterface() || Modifier.isAbstract(i_RowClass.getModifiers()) )
+        {
+            return null;
+        }
+        
+        try
+        {
+            if ( i_RowClass.isRecord() )
+            {
+                RecordComponent [] v_Components = i_RowClass.getRecordComponents();
+                Class<?>        [] v_Types      = new Class<?>[v_Components.length];
+                String          [] v_Names      = new String  [v_Components.length];
+                
+                for (int x=0; x<v_Components.length; x++)
+                {
+                    v_Types[x] = v_Components[x].getType();
+                    v_Names[x] = v_Components[x].getName();
+                }
+                
+                return new XCQLRowConstructor(i_RowClass.getDeclaredConstructor(v_Types) ,v_Names);
+            }
+            
+            // 有无参构造器的，按原方式实例化后再逐个填充
+            for (Constructor<?> v_Constructor : i_RowClass.getDeclaredConstructors())
+            {
+                if ( v_Constructor.getParameterCount() == 0 )
+                {
+                    return null;
+                }
+            }
+            
+            Constructor<?> v_Best  = null;
+            boolean        v_Equal = false;
+            for (Constructor<?> v_Constructor : i_RowClass.getConstructors())
+            {
+                if ( !isNamePresent(v_Constructor) )
+                {
+                    continue;
+                }
+                
+                if ( v_Best == null || v_Constructor.getParameterCount() > v_Best.getParameterCount() )
+                {
+                    v_Best  = v_Constructor;
+                    v_Equal = false;
+                }
+                else if ( v_Constructor.getParameterCount() == v_Best.getParameterCount() )
+                {
+                    v_Equal = true;
+                }
+            }
+            
+            if ( v_Best == null )
+            {
+                return null;
+            }
+            else if ( v_Equal )
+            {
+                // 构造器有多个入参个数相同的重载，无法正确识别
+                throw new RuntimeException("Row Class(" + i_RowClass.getName() + ") have much override constructors.");
+            }
+            
+            Parameter [] v_Params = v_Best.getParameters();
+            String    [] v_Names  = new String[v_Params.length];
+            for (int x=0; x<v_Params.length; x++)
+            {
+                v_Names[x] = v_Params[x].getName();
+            }
+            
+            return new XCQLRowConstructor(v_Best ,v_Names);
+        }
+        catch (RuntimeException exce)
+        {
+            throw exce;
+        }
+        catch (Throwable exce)
+        {
+            throw new RuntimeException("Row Class(" + i_RowClass.getName() + ") constructor is error. " + exce.getMessage());
+        }
+    }
+    
+    
+    
+    /**
+     * 构造器的入参名称是否被保留（javac -parameters 编译）
+     * 
+     * @param i_Constructor
+     * @return
+     */
+    private static boolean isNamePresent(Constructor<?> i_Constructor)
+    {
+        for (Parameter v_Param : i_Constructor.getParameters())
+        {
+            if ( !v_Param.isNamePresent() )
+            {
+                return false;
+            }
+        }
+        return i_Constructor.getParameterCount() > 0;
+    }
+    
+    
+    
+    /**
+     * 获取属性名称对应的入参下标。没有对应的入参时返回 -1
+     * 
+     * @param i_FieldName  属性名称
+     * @return
+     */
+    public int indexOf(String i_FieldName)
+    {
+        Integer v_Index = this.nameIndexes.get(i_FieldName);
+        if ( v_Index == null )
+        {
+            v_Index = this.nameIndexes.get(i_FieldName.toLowerCase(Locale.ROOT));
+        }
+        return v_Index == null ? -1 : v_Index;
+    }
+    
+    
+    
+    /**
+     * 获取：构造器的入参个数
+     */
+    public int size()
+    {
+        return this.names.length;
+    }
+    
+    
+    
+    /**
+     * 按一条记录生成行级对象。
+     * 
+     * 与 setter(colValue) 相同的属性识别规则：
+     *   1. 识别类似 MATCH (n) RETURN n 中的 n 的属性；
+     *   2. 识别类似 MATCH (n) RETURN n.id ,n.name AS userName 中 n.id 和 userName 。其入参下标只在首次时解释并绑定到形状上。
+     * 
+     * @param i_Record  一条记录
+     * @param i_Shape   记录的形状
+     * @return
+     */
+    public Object newInstance(Record i_Record ,XCQLResultShape i_Shape)
+    {
+        Object [] v_Args = this.defaults.clone();
+        
+        for (int x=0; x<i_Shape.size(); x++)
+        {
+            Value   v_RData   = i_Record.get(x);
+            boolean v_IsEmpty = true;
+            
+            for (String v_FName : v_RData.keys())
+            {
+                i_Shape.setFieldName(v_FName);
+                v_IsEmpty = false;
+                
+                int v_Index = this.indexOf(v_FName);
+                if ( v_Index >= 0 )
+                {
+                    this.setArg(v_Args ,v_Index ,v_RData.get(v_FName));
+                }
+            }
+            
+            if ( v_IsEmpty )
+            {
+                i_Shape.setFieldName(i_Shape.getFieldName(x));
+                
+                if ( !i_Shape.isBind(x) )
+                {
+                    i_Shape.bind(x ,this.indexOf(i_Shape.getFieldName(x)));
+                }
+                
+                int v_Index = i_Shape.getParamIndex(x);
+                if ( v_Index >= 0 )
+                {
+                    this.setArg(v_Args ,v_Index ,v_RData);
+                }
+            }
+        }
+        
+        try
+        {
+            return (Object) this.invoker.invokeExact(v_Args);
+        }
+        catch (RuntimeException exce)
+        {
+            throw exce;
+        }
+        catch (Throwable exce)
+        {
+            throw new RuntimeException(exce.getMessage());
+        }
+    }
+    
+    
+    
+    /**
+     * 按入参类型加工值。值为NULL时保留默认值
+     * 
+     * @param io_Args   构造器的入参
+     * @param i_Index   入参下标
+     * @param i_Value   图数据库的值
+     */
+    private void setArg(Object [] io_Args ,int i_Index ,Value i_Value)
+    {
+        if ( !i_Value.isNull() )
+        {
+            io_Args[i_Index] = this.machinings[i_Index].getValue(i_Value.asObject());
+        }
+    }
+    
+}
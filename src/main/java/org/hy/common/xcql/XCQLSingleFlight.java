@@ -0,0 +1,178 @@
+package org.hy.common.xcql;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.driver.Query;
+
+
+
+
+
+/**
+ * 并发的相同查询的合并执行（Single-Flight）。
+ * 
+ * 多个线程同时按相同的（结果集的转换规则，数据源，可执行CQL及参数，游标分页的范围）查询时，只有首个线程（领头者）真正访问数据库，
+ * 其它线程（跟随者）等待并共享领头者的查询结果，避免流量高峰时的大量重复查询。
+ * 
+ * 与查询结果的缓存（XCQLCache）不同，查询完成后即不再保留结果，之后的查询重新访问数据库。
+ * 
+ * 领头者的线程在查询过程中（如执行后规则引擎时）再次发起相同的查询时，不合并，直接执行，避免自己等待自己。
+ * 
+ * 使用方法：
+ *   XCQLSingleFlight v_Flight = XCQLSingleFlight.join(...);
+ *   if ( v_Flight != null && !v_Flight.isLeader() )
+ *   {
+ *       return v_Flight.await(...);         // 跟随者
+ *   }
+ *   try
+ *   {
+ *       ...
+ *       v_Flight.complete(v_Ret);           // 领头者
+ *   }
+ *   catch (Exception exce)
+ *   {
+ *       v_Flight.fail(exce);
+ *   }
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-18  修改：查询的键添加结果集的转换规则（XCQLResult），转换规则不同的XCQL不合并执行
+ *              v3.0  2026-10-18  修改：查询的键与查询结果的缓存共用（XCQLCacheKey）。跟随者抛出的异常保留领头者的异常原因
+ */
+final class XCQLSingleFlight
+{
+    
+    /** 正在执行中的查询。Map.key 为查询的键，Map.value 为领头者的执行 */
+    private static final ConcurrentHashMap<XCQLCacheKey ,XCQLSingleFlight> $Flights = new ConcurrentHashMap<XCQLCacheKey ,XCQLSingleFlight>();
+    
+    
+    
+    /** 查询的键 */
+    private final XCQLCacheKey                key;
+    
+    /** 领头者的线程 */
+    private final Thread                      leaderThread;
+    
+    /** 领头者的查询结果 */
+    private final CompletableFuture<XCQLData> future;
+    
+    /** 当前调用者是否为领头者 */
+    private final boolean                     leader;
+    
+    
+    
+    private XCQLSingleFlight(XCQLCacheKey i_Key)
+    {
+        this.key          = i_Key;
+        this.leaderThread = Thread.currentThread();
+        this.future       = new CompletableFuture<XCQLData>();
+        this.leader       = true;
+    }
+    
+    
+    
+    private XCQLSingleFlight(XCQLSingleFlight i_Leader)
+    {
+        this.key          = i_Leader.key;
+        this.leaderThread = i_Leader.leaderThread;
+        this.future       = i_Leader.future;
+        this.leader       = false;
+    }
+    
+    
+    
+    /**
+     * 加入相同查询的执行。没有正在执行中的相同查询时，当前调用者为领头者，否则为跟随者。
+     * 
+     * 查询结果是按XCQL的结果集的转换规则生成的，所以转换规则不同的XCQL（如行级对象的类型不同），
+     * 即使可执行CQL相同，也不合并执行
+     * 
+     * @param i_XCQL         XCQL对象
+     * @param i_DSCQL        数据源
+     * @param i_Query        可执行的CQL
+     * @param i_StartRow     开始读取的行号。非分页查询时为 0
+     * @param i_PagePerSize  每页显示多少条数据。非分页查询时为 0
+     * @return               当前线程就是相同查询的领头者时（重入），返回NULL，由调用者直接执行
+     */
+    public static XCQLSingleFlight join(XCQL i_XCQL ,DataSourceCQL i_DSCQL ,Query i_Query ,int i_StartRow ,int i_PagePerSize)
+    {
+        XCQLCacheKey     v_Key    = new XCQLCacheKey(i_XCQL.getResult() ,i_DSCQL ,i_Query ,i_StartRow ,i_PagePerSize);
+        XCQLSingleFlight v_Flight = new XCQLSingleFlight(v_Key);
+        XCQLSingleFlight v_Leader = $Flights.putIfAbsent(v_Key ,v_Flight);
+        
+        if ( v_Leader == null )
+        {
+            return v_Flight;
+        }
+        else if ( v_Leader.leaderThread == Thread.currentThread() )
+        {
+            return null;
+        }
+        else
+        {
+            return new XCQLSingleFlight(v_Leader);
+        }
+    }
+    
+    
+    
+    /**
+     * 获取：当前调用者是否为领头者
+     */
+    public boolean isLeader()
+    {
+        return this.leader;
+    }
+    
+    
+    
+    /**
+     * 跟随者等待领头者的查询结果。领头者查询异常时，跟随者抛出相同信息的异常，异常原因为领头者的异常
+     * 
+     * @param i_IsCopy  是否返回查询结果的副本（见 XCQLData.copy()）
+     * @return
+     */
+    public XCQLData await(boolean i_IsCopy)
+    {
+        try
+        {
+            XCQLData v_Ret = this.future.join();
+            return i_IsCopy ? v_Ret.copy() : v_Ret;
+        }
+        catch (CompletionException exce)
+        {
+            Throwable v_Cause = exce.getCause() != null ? exce.getCause() : exce;
+            throw new RuntimeException(v_Cause.getMessage() ,v_Cause);
+        }
+    }
+    
+    
+    
+    /**
+     * 领头者完成查询，唤醒所有的跟随者
+     * 
+     * @param i_Data  查询结果
+     */
+    public void complete(XCQLData i_Data)
+    {
+        $Flights.remove(this.key ,this);
+        this.future.complete(i_Data);
+    }
+    
+    
+    
+    /**
+     * 领头者查询异常，唤醒所有的跟随者。已完成时不再生效
+     * 
+     * @param i_Exce  异常
+     */
+    public void fail(Throwable i_Exce)
+    {
+        $Flights.remove(this.key ,this);
+        this.future.completeExceptionally(i_Exce != null ? i_Exce : new RuntimeException("Single-flight query is not completed."));
+    }
+    
+}
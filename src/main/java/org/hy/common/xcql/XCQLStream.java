@@ -0,0 +1,238 @@
+package org.hy.common.xcql;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hy.common.Date;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+
+
+
+
+
+/**
+ * 流式查询的结果。按记录到达的顺序，逐条转化为行级对象，内存占用不随结果集的大小而增长。
+ * 
+ * 使用规则：
+ *   1. 在关闭之前，数据库连接一直保持打开。须用 try-with-resources 或在 finally 中调用 close() 方法；
+ *   2. 行级对象按 XCQLResult 的 row、cfill 规则转化，但不生成表级对象，即 table、fill、fillEvent 不生效；
+ *   3. 只能遍历一次，并且非线程安全。
+ * 
+ * 举例：
+ *   try (XCQLStream v_Rows = v_XCQL.queryStream(v_Params))
+ *   {
+ *       for (Object v_Row : v_Rows) { ... }
+ *   }
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ *              v2.0  2026-10-17  优化：复用结果集的形状 XCQLResultShape
+ */
+public class XCQLStream implements Iterator<Object> ,Iterable<Object> ,AutoCloseable
+{
+    
+    /** 所属的XCQL */
+    private final XCQL       xcql;
+    
+    /** 查询语句 */
+    private final Query      query;
+    
+    /** 数据库连接 */
+    private final Connection conn;
+    
+    /** 数据库结果集 */
+    private final Result     result;
+    
+    /** 查询的开始时间 */
+    private final long       beginTime;
+    
+    /** 结果集的形状。首条记录时解释，之后复用 */
+    private XCQLResultShape  shape;
+    
+    /** 已转化的行数 */
+    private long             rowCount;
+    
+    /** 是否已关闭 */
+    private boolean          closed;
+    
+    
+    
+    /**
+     * 构造器。由 XCQLOPQuery 在执行查询后创建
+     * 
+     * @param i_XCQL       所属的XCQL
+     * @param i_Query      查询语句
+     * @param i_Conn       数据库连接
+     * @param i_Result     数据库结果集
+     * @param i_BeginTime  查询的开始时间
+     */
+    protected XCQLStream(XCQL i_XCQL ,Query i_Query ,Connection i_Conn ,Result i_Result ,long i_BeginTime)
+    {
+        this.xcql      = i_XCQL;
+        this.query     = i_Query;
+        this.conn      = i_Conn;
+        this.result    = i_Result;
+        this.beginTime = i_BeginTime;
+        this.rowCount  = 0L;
+        this.closed    = false;
+    }
+    
+    
+    
+    /**
+     * 是否还有下一行。没有下一行时，自动关闭
+     */
+    @Override
+    public boolean hasNext()
+    {
+        if ( this.closed )
+        {
+            return false;
+        }
+        
+        boolean v_HasNext = false;
+        try
+        {
+            v_HasNext = this.result.hasNext();
+        }
+        catch (RuntimeException exce)
+        {
+            this.error(exce);
+        }
+        
+        if ( !v_HasNext )
+        {
+            this.close();
+        }
+        
+        return v_HasNext;
+    }
+    
+    
+    
+    /**
+     * 获取下一行的行级对象
+     */
+    @Override
+    public Object next()
+    {
+        if ( !this.hasNext() )
+        {
+            throw new NoSuchElementException("XCQLStream has no more rows.");
+        }
+        
+        try
+        {
+            Record v_Record = this.result.next();
+            
+            this.shape = XCQLResultShape.of(this.shape ,v_Record);
+            Object v_Row = this.xcql.getResult().getDatasRow(v_Record ,this.shape);
+            this.rowCount++;
+            return v_Row;
+        }
+        catch (RuntimeException exce)
+        {
+            this.error(exce);
+            return null;
+        }
+    }
+    
+    
+    
+    /**
+     * 只能遍历一次，返回自己
+     */
+    @Override
+    public Iterator<Object> iterator()
+    {
+        return this;
+    }
+    
+    
+    
+    /**
+     * 转为 java.util.stream.Stream。关闭 Stream 时，同时关闭本对象
+     * 
+     * @return
+     */
+    public Stream<Object> stream()
+    {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this ,Spliterator.ORDERED | Spliterator.NONNULL) ,false).onClose(this::close);
+    }
+    
+    
+    
+    /**
+     * 获取：已转化的行数
+     */
+    public long getRowCount()
+    {
+        return this.rowCount;
+    }
+    
+    
+    
+    /**
+     * 是否已关闭
+     * 
+     * @return
+     */
+    public boolean isClosed()
+    {
+        return this.closed;
+    }
+    
+    
+    
+    /**
+     * 关闭数据库连接，并记录执行统计。可重复调用
+     */
+    @Override
+    public synchronized void close()
+    {
+        if ( this.closed )
+        {
+            return;
+        }
+        this.closed = true;
+        
+        try
+        {
+            Date v_EndTime = Date.getNowTime();
+            this.xcql.success(v_EndTime ,v_EndTime.getTime() - this.beginTime ,1 ,this.rowCount);
+        }
+        finally
+        {
+            this.xcql.closeDB(this.result ,this.conn);
+        }
+    }
+    
+    
+    
+    /**
+     * 遍历过程中的异常处理：记录异常、关闭数据库连接，并抛出异常
+     * 
+     * @param i_Exce
+     */
+    private void error(RuntimeException i_Exce)
+    {
+        this.closed = true;
+        this.xcql.closeDB(this.result ,this.conn);
+        
+        XCQL.erroring(this.query ,i_Exce ,this.xcql);
+        if ( this.xcql.getError() != null )
+        {
+            this.xcql.getError().errorLog(new XCQLErrorInfo(this.query ,i_Exce ,this.xcql));
+        }
+        
+        throw i_Exce;
+    }
+    
+}
@@ -0,0 +1,237 @@
+package org.hy.common.xcql.event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hy.common.Help;
+import org.hy.common.MethodReflect;
+import org.hy.common.xcql.XCQLResultFillEvent;
+
+
+
+
+
+/**
+ * 行级对象填充到表级对象时，在填充之前触发的事件接口
+ * 
+ *   1. 一对多关系时，按关系字段的哈希索引，识别出属于同一对象的多个关系信息，并保存在一起。
+ * 
+ * 与 DefaultXCQLResultFillEvent 只与前一行比较不同，本类与之前所有的行比较，结果集的记录不用按关系字段排序。
+ * 关系字段的Getter方法、"多对象" 的Getter与Setter方法，均在构造时编译为 MethodHandle，不用每行都反射调用。
+ * 
+ * 哈希索引只在一次填充过程中有效（start() 至 end() 之间），并按线程隔离，所以同一实例可被多个查询并发使用。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+public class GroupingXCQLResultFillEvent implements XCQLResultFillEvent
+{
+    
+    /** 识别一对多关系的Getter方法。如组合主键时，获取每个主键的Getter方法。类型为 (Object)Object */
+    private final MethodHandle []               relationKeyHandles;
+    
+    /** 一对多关系时，从 "一对象" 中获取 "多对象" 的Getter方法。类型为 (Object)Object */
+    private final MethodHandle []               relationValueGetters;
+    
+    /** 一对多关系时，向 "一对象" 中设置 "多对象" 的Setter方法。类型为 (Object ,Object)void 。没有Setter方法时为NULL */
+    private final MethodHandle []               relationValueSetters;
+    
+    /**
+     * 一次填充过程中的哈希索引。
+     * 
+     * Map.key    为关系字段的值。组合关系时为多个值的列表
+     * Map.value  为首次出现的 "一对象"（已填充到表级对象中的行级对象）
+     */
+    private final ThreadLocal<Map<Object ,Object>> groups;
+    
+    
+    
+    public GroupingXCQLResultFillEvent(List<Method> i_RelationKeyMethods ,List<Method> i_RelationValueMethods)
+    {
+        MethodHandles.Lookup v_Lookup = MethodHandles.lookup();
+        MethodType           v_Getter = MethodType.methodType(Object.class ,Object.class);
+        MethodType           v_Setter = MethodType.methodType(void.class   ,Object.class ,Object.class);
+        
+        this.relationKeyHandles   = new MethodHandle[i_RelationKeyMethods.size()];
+        this.relationValueGetters = new MethodHandle[i_RelationValueMethods.size()];
+        this.relationValueSetters = new MethodHandle[i_RelationValueMethods.size()];
+        this.groups               = new ThreadLocal<Map<Object ,Object>>();
+        
+        try
+        {
+            for (int x=0; x<this.relationKeyHandles.length; x++)
+            {
+                this.relationKeyHandles[x] = v_Lookup.unreflect(i_RelationKeyMethods.get(x)).asType(v_Getter);
+            }
+            
+            for (int x=0; x<this.relationValueGetters.length; x++)
+            {
+                Method v_GetMethod = i_RelationValueMethods.get(x);
+                Method v_SetMethod = MethodReflect.getSetMethod(v_GetMethod.getDeclaringClass() ,v_GetMethod.getName() ,false);
+                
+                this.relationValueGetters[x] = v_Lookup.unreflect(v_GetMethod).asType(v_Getter);
+                if ( v_SetMethod != null )
+                {
+                    this.relationValueSetters[x] = v_Lookup.unreflect(v_SetMethod).asType(v_Setter);
+                }
+            }
+        }
+        catch (IllegalAccessException exce)
+        {
+            throw new RuntimeException(exce.getMessage());
+        }
+    }
+    
+    
+    
+    /**
+     * 在整体开始填充之前触发，并且只触发一次。初始化哈希索引
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Table
+     */
+    @Override
+    public void start(final Object i_Table)
+    {
+        this.groups.set(new HashMap<Object ,Object>());
+    }
+    
+    
+    
+    /**
+     * 填充之前触发的事件方法
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Table        表级对象
+     * @param i_Row          行级对象
+     * @param i_RowNo        行号
+     * @param i_PreviousRow  前一行的行级对象（本类不使用）
+     * @return               当返回false时，不将i_Row行级对象填充到i_Table表级对象中（已合并到之前的 "一对象" 中）。
+     *                       当返回true时，才将行级对象填充到表级对象中。
+     */
+    @Override
+    public boolean before(final Object i_Table ,final Object i_Row ,final long i_RowNo ,final Object i_PreviousRow)
+    {
+        Map<Object ,Object> v_Groups = this.groups.get();
+        if ( v_Groups == null )
+        {
+            // 未调用 start() 时，按单独的一次填充处理
+            v_Groups = new HashMap<Object ,Object>();
+            this.groups.set(v_Groups);
+        }
+        
+        try
+        {
+            Object v_Key    = this.getKey(i_Row);
+            Object v_Parent = v_Groups.putIfAbsent(v_Key ,i_Row);
+            
+            if ( v_Parent == null )
+            {
+                // 首次出现的一行记录
+                return true;
+            }
+            
+            this.merge(v_Parent ,i_Row);
+            return false;
+        }
+        catch (RuntimeException exce)
+        {
+            throw exce;
+        }
+        catch (Throwable exce)
+        {
+            throw new RuntimeException(exce.getMessage());
+        }
+    }
+    
+    
+    
+    /**
+     * 在整体填充完成之后触发。释放哈希索引
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     * 
+     * @param i_Table
+     */
+    @Override
+    public void end(final Object i_Table)
+    {
+        this.groups.remove();
+    }
+    
+    
+    
+    /**
+     * 获取行级对象的关系字段的值。组合关系时为多个值的列表
+     * 
+     * @param i_Row  行级对象
+     * @return
+     * @throws Throwable
+     */
+    private Object getKey(Object i_Row) throws Throwable
+    {
+        if ( this.relationKeyHandles.length == 1 )
+        {
+            return (Object) this.relationKeyHandles[0].invokeExact(i_Row);
+        }
+        
+        Object [] v_Keys = new Object[this.relationKeyHandles.length];
+        for (int x=0; x<v_Keys.length; x++)
+        {
+            v_Keys[x] = (Object) this.relationKeyHandles[x].invokeExact(i_Row);
+        }
+        return Arrays.asList(v_Keys);
+    }
+    
+    
+    
+    /**
+     * 将行级对象的 "多对象" 合并到之前的 "一对象" 中
+     * 
+     * @param i_Parent  之前的 "一对象"
+     * @param i_Row     行级对象
+     * @throws Throwable
+     */
+    @SuppressWarnings("unchecked")
+    private void merge(Object i_Parent ,Object i_Row) throws Throwable
+    {
+        for (int x=0; x<this.relationValueGetters.length; x++)
+        {
+            Collection<Object> v_ParentValue = (Collection<Object>) (Object) this.relationValueGetters[x].invokeExact(i_Parent);
+            Collection<Object> v_Value       = (Collection<Object>) (Object) this.relationValueGetters[x].invokeExact(i_Row);
+            
+            if ( Help.isNull(v_Value) )
+            {
+                continue;
+            }
+            
+            if ( !Help.isNull(v_ParentValue) )
+            {
+                // 向之前的 "一对象" 的 "多对象" 中添加信息
+                v_ParentValue.addAll(v_Value);
+            }
+            else if ( this.relationValueSetters[x] != null )
+            {
+                // 之前的 "一对象" 的 "多对象" 为空时，用当前行的 "多对象" 填充
+                this.relationValueSetters[x].invokeExact(i_Parent ,(Object) v_Value);
+            }
+        }
+    }
+    
+}
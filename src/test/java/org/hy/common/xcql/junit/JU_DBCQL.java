@@ -0,0 +1,243 @@
+package org.hy.common.xcql.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hy.common.xcql.DBCQL;
+import org.hy.common.xcql.DBConditions;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.neo4j.driver.Query;
+
+
+
+
+
+/**
+ * 测试单元：占位符CQL的生成。无须连接图数据库
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-17
+ * @version     v1.0
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JU_DBCQL
+{
+    
+    /**
+     * 参数绑定模式：不带单引号的数字按原类型绑定，带单引号的按字符串绑定
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Binding_001()
+    {
+        DBCQL v_DBCQL = new DBCQL("MATCH (n:Person) WHERE n.id = #id AND n.name = '#name' RETURN n");
+        v_DBCQL.setParamBinding(true);
+        
+        Map<String ,Object> v_Values = new HashMap<String ,Object>();
+        v_Values.put("id"   ,7);
+        v_Values.put("name" ,"ZhengWei");
+        
+        Query v_Query = v_DBCQL.getQuery(v_Values ,null);
+        
+        assertEquals("MATCH (n:Person) WHERE n.id = $id AND n.name = $name RETURN n" ,v_Query.text());
+        assertEquals(7          ,v_Query.parameters().get("id")  .asInt());
+        assertEquals("ZhengWei" ,v_Query.parameters().get("name").asString());
+    }
+    
+    
+    
+    /**
+     * 参数绑定模式：可变长度关系的范围不允许为参数，仍拼接数值
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Binding_002_Range()
+    {
+        DBCQL v_DBCQL = new DBCQL("MATCH (a:Person)-[:KNOWS*1..#depth]->(b) <-[r*..#max]- (c) WHERE a.id = #id AND size([x IN b.tags WHERE x.n * #id > 0]) > 0 RETURN c");
+        v_DBCQL.setParamBinding(true);
+        
+        Map<String ,Object> v_Values = new HashMap<String ,Object>();
+        v_Values.put("depth" ,3);
+        v_Values.put("max"   ,5L);
+        v_Values.put("id"    ,7);
+        
+        Query v_Query = v_DBCQL.getQuery(v_Values ,null);
+        
+        assertEquals("MATCH (a:Person)-[:KNOWS*1..3]->(b) <-[r*..5]- (c) WHERE a.id = $id AND size([x IN b.tags WHERE x.n * $id > 0]) > 0 RETURN c" ,v_Query.text());
+        assertEquals(7 ,v_Query.parameters().get("id").asInt());
+        assertFalse(v_Query.parameters().containsKey("depth"));
+        assertFalse(v_Query.parameters().containsKey("max"));
+    }
+    
+    
+    
+    /**
+     * 参数绑定模式：字符串常量中的占位符（双引号包裹、嵌在其它文本中）不绑定，仍拼接数值。
+     * 只有独自构成字符串常量的 '#name' 才按字符串绑定
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Binding_003_String()
+    {
+        DBCQL v_DBCQL = new DBCQL("MATCH (n:Person) WHERE n.orderBy = \"#orderBy\" AND n.title = 'Mr #age' AND n.note = \"a '#name' b\" AND n.age = #age AND n.name = '#name' RETURN n");
+        v_DBCQL.setParamBinding(true);
+        
+        Map<String ,Object> v_Values = new HashMap<String ,Object>();
+        v_Values.put("orderBy" ,5);
+        v_Values.put("age"     ,30);
+        v_Values.put("name"    ,"ZhengWei");
+        
+        Query v_Query = v_DBCQL.getQuery(v_Values ,null);
+        
+        assertEquals("MATCH (n:Person) WHERE n.orderBy = \"5\" AND n.title = 'Mr 30' AND n.note = \"a 'ZhengWei' b\" AND n.age = $age AND n.name = $name RETURN n" ,v_Query.text());
+        assertEquals(30         ,v_Query.parameters().get("age") .asInt());
+        assertEquals("ZhengWei" ,v_Query.parameters().get("name").asString());
+        assertFalse(v_Query.parameters().containsKey("orderBy"));
+    }
+    
+    
+    
+    /**
+     * 通过 getConditions() 替换已有的取值条件（条件个数不变）后，生成CQL时使用新的取值条件
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Conditions_001_Replace()
+    {
+        DBCQL v_DBCQL = new DBCQL("MATCH (n:Person) WHERE n.kind = '#kind' RETURN n");
+        v_DBCQL.addCondition("kind" ,new ConstConditions("A"));
+        
+        Map<String ,Object> v_Values = new HashMap<String ,Object>();
+        v_Values.put("kind" ,"K");
+        
+        assertEquals("MATCH (n:Person) WHERE n.kind = 'A' RETURN n" ,v_DBCQL.getCQL(v_Values));
+        
+        v_DBCQL.getConditions().put("kind" ,new ConstConditions("B"));
+        assertEquals("MATCH (n:Person) WHERE n.kind = 'B' RETURN n" ,v_DBCQL.getCQL(v_Values));
+        
+        v_DBCQL.getConditions().remove("kind");
+        assertEquals("MATCH (n:Person) WHERE n.kind = 'K' RETURN n" ,v_DBCQL.getCQL(v_Values));
+    }
+    
+    
+    
+    /**
+     * 替换数据库关键字：保持原有的替换结果，已由调用者转义过的数值（如 =~ 的正则表达式）原样追加
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *              v2.0  2026-10-18  修改：一次扫描的替换不改变原有的替换结果
+     *
+     */
+    @Test
+    public void test_KeyReplace_001_Unchanged()
+    {
+        DBCQL v_DBCQL = new DBCQL("MATCH (n:Person) WHERE n.name =~ '#name' RETURN n");
+        
+        Map<String ,Object> v_Values = new HashMap<String ,Object>();
+        v_Values.put("name" ,"^Zheng\\.Wei\\'s$");
+        assertEquals("MATCH (n:Person) WHERE n.name =~ '^Zheng\\.Wei\\'s$' RETURN n" ,v_DBCQL.getCQL(v_Values));
+        
+        v_Values.put("name" ,"C:\\temp\\");
+        assertEquals("MATCH (n:Person) WHERE n.name =~ 'C:\\temp\\' RETURN n" ,v_DBCQL.getCQL(v_Values));
+    }
+    
+    
+    
+    /**
+     * 替换数据库关键字：IN 语法中由外界生成的 'A' ,'B' 形式的数值、及不替换的占位符均原样拼接
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-17
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_KeyReplace_002_NotReplace()
+    {
+        DBCQL v_DBCQL = new DBCQL("MATCH (n:Person) WHERE n.name IN [#names] AND n.code = '#code' RETURN n");
+        
+        Map<String ,Object> v_Values = new HashMap<String ,Object>();
+        v_Values.put("names" ,"'A' ,'B' ,'C'");
+        v_Values.put("code"  ,"x\\'y");
+        assertEquals("MATCH (n:Person) WHERE n.name IN ['A' ,'B' ,'C'] AND n.code = 'x\\'y' RETURN n" ,v_DBCQL.getCQL(v_Values));
+        
+        v_DBCQL.setNotKeyReplaces("code");
+        assertEquals("MATCH (n:Person) WHERE n.name IN ['A' ,'B' ,'C'] AND n.code = 'x\\'y' RETURN n" ,v_DBCQL.getCQL(v_Values));
+    }
+    
+    
+    
+    /**
+     * 分页下推：在加载占位符CQL时识别一次。动态CQL的标记不影响识别，已有 SKIP/LIMIT、写操作时不可下推
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Pageable_001()
+    {
+        assertTrue (new DBCQL("MATCH (n:Person) WHERE <[ n.id = #id ]> RETURN n ORDER BY n.name").isPageable());
+        assertTrue (new DBCQL("MATCH (n:Person) WHERE n.name = '#name' RETURN n").isPageable());
+        assertFalse(new DBCQL("MATCH (n:Person) RETURN n LIMIT 10").isPageable());
+        assertFalse(new DBCQL("MERGE (n:Person {id: #id}) RETURN n").isPageable());
+        assertFalse(new DBCQL("MATCH (n:Person) RETURN n UNION MATCH (n:Movie) RETURN n").isPageable());
+    }
+    
+    
+    
+    
+    
+    /**
+     * 取值恒为常量的取值条件
+     */
+    private static class ConstConditions extends DBConditions
+    {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final String value;
+        
+        
+        
+        public ConstConditions(String i_Value)
+        {
+            this.value = i_Value;
+        }
+        
+        
+        
+        @Override
+        public Object getValue(Map<String ,?> i_ConditionValues ,boolean i_IsPlaceholderFunction)
+        {
+            return this.value;
+        }
+        
+    }
+    
+}
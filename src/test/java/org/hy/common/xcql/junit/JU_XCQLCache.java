@@ -0,0 +1,276 @@
+package org.hy.common.xcql.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.hy.common.xcql.Connection;
+import org.hy.common.xcql.DBCQL;
+import org.hy.common.xcql.DataSourceCQL;
+import org.hy.common.xcql.XCQL;
+import org.hy.common.xcql.XCQLCache;
+import org.hy.common.xcql.XCQLData;
+import org.hy.common.xcql.XCQLResult;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+
+
+
+
+
+/**
+ * 测试单元：查询结果的缓存。无须连接图数据库
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-18
+ * @version     v1.0
+ *              v2.0  2026-10-18  添加：多个XCQL共用缓存、事务提交后失效的测试
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JU_XCQLCache
+{
+    
+    private static final XCQLResult    $Result = new XCQLResult();
+    
+    private static final DataSourceCQL $DSCQL  = new DataSourceCQL();
+    
+    
+    
+    /**
+     * 与写操作的标签有交集的缓存失效，没有交集的保留
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Cache_001_Invalidate()
+    {
+        XCQLCache v_Cache  = new XCQLCache();
+        Query     v_Person = new Query("MATCH (n:Person) RETURN n");
+        Query     v_Movie  = new Query("MATCH (n:Movie) RETURN n");
+        
+        v_Cache.put($Result ,$DSCQL ,v_Person ,0 ,0 ,newData() ,labels("Person") ,v_Cache.getGeneration());
+        v_Cache.put($Result ,$DSCQL ,v_Movie  ,0 ,0 ,newData() ,labels("Movie")  ,v_Cache.getGeneration());
+        assertEquals(2 ,v_Cache.getSize());
+        
+        assertEquals(1 ,v_Cache.invalidate(labels("Person" ,"KNOWS")));
+        assertNull   (v_Cache.get($Result ,$DSCQL ,v_Person ,0 ,0));
+        assertNotNull(v_Cache.get($Result ,$DSCQL ,v_Movie  ,0 ,0));
+        
+        assertEquals(1 ,v_Cache.invalidate(Collections.emptySet()));
+        assertEquals(0 ,v_Cache.getSize());
+    }
+    
+    
+    
+    /**
+     * 查询执行期间有失效发生时（失效代数变化），不缓存查询结果
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Cache_002_Generation()
+    {
+        XCQLCache v_Cache      = new XCQLCache();
+        Query     v_Query      = new Query("MATCH (n:Person) RETURN n");
+        long      v_Generation = v_Cache.getGeneration();
+        
+        // 查询执行期间，其它线程的写操作使缓存失效
+        v_Cache.invalidate(labels("Movie"));
+        
+        v_Cache.put($Result ,$DSCQL ,v_Query ,0 ,0 ,newData() ,labels("Person") ,v_Generation);
+        assertNull(v_Cache.get($Result ,$DSCQL ,v_Query ,0 ,0));
+        
+        v_Cache.put($Result ,$DSCQL ,v_Query ,0 ,0 ,newData() ,labels("Person") ,v_Cache.getGeneration());
+        assertNotNull(v_Cache.get($Result ,$DSCQL ,v_Query ,0 ,0));
+    }
+    
+    
+    
+    /**
+     * MERGE 为写操作；调用过程不能确定是否有写操作，为未知类型；子查询按其内部的关键字识别
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Cache_003_CQLType()
+    {
+        assertEquals(DBCQL.$DBCQL_TYPE_CREATE  ,new DBCQL("MERGE (n:Person {id: #id}) RETURN n").getCQLType());
+        assertEquals(DBCQL.$DBCQL_TYPE_UNKNOWN ,new DBCQL("CALL db.labels()").getCQLType());
+        assertEquals(DBCQL.$DBCQL_TYPE_UNKNOWN ,new DBCQL("MATCH (n:Person) CALL apoc.refactor.rename.label('A' ,'B' ,[n]) YIELD total RETURN total").getCQLType());
+        assertEquals(DBCQL.$DBCQL_TYPE_MATCH   ,new DBCQL("MATCH (n:Person) CALL { WITH n RETURN n.id AS id } RETURN id").getCQLType());
+        assertEquals(DBCQL.$DBCQL_TYPE_MATCH   ,new DBCQL("OPTIONAL MATCH (n:Person) RETURN n").getCQLType());
+    }
+    
+    
+    
+    /**
+     * XCQL更换缓存后，原缓存不再参与写操作时的统一失效
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Cache_004_SetCache()
+    {
+        XCQLCache v_Old   = new XCQLCache();
+        XCQLCache v_New   = new XCQLCache();
+        XCQL      v_XCQL  = new XCQL();
+        Query     v_Query = new Query("MATCH (n:Person) RETURN n");
+        
+        v_XCQL.setCache(v_Old);
+        v_XCQL.setCache(v_New);
+        
+        v_Old.put($Result ,$DSCQL ,v_Query ,0 ,0 ,newData() ,labels("Person") ,v_Old.getGeneration());
+        v_New.put($Result ,$DSCQL ,v_Query ,0 ,0 ,newData() ,labels("Person") ,v_New.getGeneration());
+        
+        XCQLCache.invalidates(labels("Person"));
+        assertNotNull(v_Old.get($Result ,$DSCQL ,v_Query ,0 ,0));
+        assertNull   (v_New.get($Result ,$DSCQL ,v_Query ,0 ,0));
+        
+        v_XCQL.setCache(null);
+    }
+    
+    
+    
+    /**
+     * 多个XCQL共用同一缓存时，结果集的转换规则或数据源不同的，不共享查询结果
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Cache_005_Share()
+    {
+        XCQLCache     v_Cache  = new XCQLCache();
+        XCQLResult    v_Result = new XCQLResult();
+        DataSourceCQL v_DSCQL  = new DataSourceCQL();
+        Query         v_Query  = new Query("MATCH (n:Person) RETURN n");
+        XCQLData      v_Data   = newData();
+        
+        v_Cache.put($Result ,$DSCQL ,v_Query ,0 ,0 ,v_Data ,labels("Person") ,v_Cache.getGeneration());
+        assertSame(v_Data ,v_Cache.get($Result ,$DSCQL ,v_Query ,0 ,0));
+        assertNull(v_Cache.get(v_Result ,$DSCQL  ,v_Query ,0 ,0));
+        assertNull(v_Cache.get($Result  ,v_DSCQL ,v_Query ,0 ,0));
+        assertNull(v_Cache.get($Result  ,$DSCQL  ,v_Query ,0 ,10));
+        
+        v_Cache.put(v_Result ,$DSCQL ,v_Query ,0 ,0 ,newData() ,labels("Person") ,v_Cache.getGeneration());
+        assertEquals(2 ,v_Cache.getSize());
+        assertSame(v_Data ,v_Cache.get($Result ,$DSCQL ,v_Query ,0 ,0));
+    }
+    
+    
+    
+    /**
+     * 外部传入数据库连接的写操作在事务中执行成功时，事务提交后再次失效相关的缓存；回滚时不再失效
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Cache_006_Commit()
+    {
+        XCQLCache  v_Cache  = new XCQLCache();
+        XCQL       v_Query  = new XCQL();
+        XCQL       v_Update = new XCQL();
+        Query      v_CQL    = new Query("MATCH (n:Person) RETURN n");
+        Connection v_Conn   = new Connection(newSession() ,null);
+        
+        v_Query.setCache(v_Cache);
+        v_Update.setContent("MATCH (n:Person) SET n.age = 18");
+        
+        // 事务中执行成功时失效一次
+        Transaction v_Transaction = v_Conn.beginTransaction();
+        v_Cache.put($Result ,$DSCQL ,v_CQL ,0 ,0 ,newData() ,labels("Person") ,v_Cache.getGeneration());
+        v_Update.execute(v_Conn);
+        assertNull(v_Cache.get($Result ,$DSCQL ,v_CQL ,0 ,0));
+        
+        // 事务提交前，其它的查询读到旧数据并缓存。提交后再次失效
+        v_Cache.put($Result ,$DSCQL ,v_CQL ,0 ,0 ,newData() ,labels("Person") ,v_Cache.getGeneration());
+        v_Transaction.commit();
+        assertNull(v_Cache.get($Result ,$DSCQL ,v_CQL ,0 ,0));
+        
+        // 回滚的事务，不再失效
+        v_Transaction = v_Conn.beginTransaction();
+        v_Update.execute(v_Conn);
+        v_Cache.put($Result ,$DSCQL ,v_CQL ,0 ,0 ,newData() ,labels("Person") ,v_Cache.getGeneration());
+        v_Transaction.rollback();
+        assertNotNull(v_Cache.get($Result ,$DSCQL ,v_CQL ,0 ,0));
+        
+        v_Query.setCache(null);
+    }
+    
+    
+    
+    /**
+     * 模拟的图数据库会话。只记录事务是否开启，不执行CQL
+     */
+    private static Session newSession()
+    {
+        return (Session) Proxy.newProxyInstance(Session.class.getClassLoader() ,new Class<?>[] {Session.class} ,(v_Session ,v_Method ,v_Args) ->
+        {
+            if ( "beginTransaction".equals(v_Method.getName()) )
+            {
+                boolean [] v_Open = {true};
+                return Proxy.newProxyInstance(Transaction.class.getClassLoader() ,new Class<?>[] {Transaction.class} ,(v_Transaction ,v_TMethod ,v_TArgs) ->
+                {
+                    if ( "isOpen".equals(v_TMethod.getName()) )
+                    {
+                        return v_Open[0];
+                    }
+                    else if ( "commit".equals(v_TMethod.getName()) || "rollback".equals(v_TMethod.getName()) || "close".equals(v_TMethod.getName()) )
+                    {
+                        v_Open[0] = false;
+                    }
+                    return null;
+                });
+            }
+            else if ( "isOpen".equals(v_Method.getName()) )
+            {
+                return true;
+            }
+            return null;
+        });
+    }
+    
+    
+    
+    private static XCQLData newData()
+    {
+        return new XCQLData(new ArrayList<Object>() ,1 ,1 ,0 ,0 ,null);
+    }
+    
+    
+    
+    private static Set<String> labels(String ... i_Labels)
+    {
+        return new LinkedHashSet<String>(Arrays.asList(i_Labels));
+    }
+    
+}
@@ -0,0 +1,286 @@
+package org.hy.common.xcql.junit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hy.common.xcql.XCQLGraph;
+import org.hy.common.xcql.XCQLGraphProjection;
+import org.hy.common.xcql.XCQLGraphProjection.Direction;
+import org.hy.common.xcql.XCQLResult;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.value.NodeValue;
+import org.neo4j.driver.internal.value.RelationshipValue;
+
+
+
+
+
+/**
+ * 测试单元：图的投影及图算法。按内存中的关系模拟结果集，无须连接图数据库
+ * 
+ * 固定的小图（括号中为节点编号）：
+ *   (10)->(20)->(30)->(50)
+ *   (10)->(40)
+ *   (60)->(70)
+ *   (80)
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-18
+ * @version     v1.0
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JU_XCQLGraphProjection
+{
+    
+    /**
+     * 度数
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Degrees_001() throws Exception
+    {
+        XCQLGraphProjection v_Graph = newGraph();
+        
+        assertEquals(2 ,v_Graph.degrees(Direction.OUT) [v_Graph.getNodeIndex(10)]);
+        assertEquals(0 ,v_Graph.degrees(Direction.IN)  [v_Graph.getNodeIndex(10)]);
+        assertEquals(2 ,v_Graph.degrees(Direction.BOTH)[v_Graph.getNodeIndex(30)]);
+        assertEquals(0 ,v_Graph.degrees(Direction.BOTH)[v_Graph.getNodeIndex(80)]);
+    }
+    
+    
+    
+    /**
+     * 广度优先遍历：各节点与起点的跳数。不可达的、超过最大跳数的为 -1
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_BFS_001() throws Exception
+    {
+        XCQLGraphProjection v_Graph = newGraph();
+        
+        int [] v_Depths = v_Graph.bfs(v_Graph.getNodeIndex(10) ,Direction.OUT ,-1);
+        assertArrayEquals(new int[] {0 ,1 ,2 ,1 ,3 ,-1 ,-1 ,-1} ,byIds(v_Graph ,v_Depths));
+        
+        v_Depths = v_Graph.bfs(v_Graph.getNodeIndex(10) ,Direction.OUT ,2);
+        assertArrayEquals(new int[] {0 ,1 ,2 ,1 ,-1 ,-1 ,-1 ,-1} ,byIds(v_Graph ,v_Depths));
+        
+        v_Depths = v_Graph.bfs(v_Graph.getNodeIndex(50) ,Direction.IN ,-1);
+        assertArrayEquals(new int[] {3 ,2 ,1 ,-1 ,0 ,-1 ,-1 ,-1} ,byIds(v_Graph ,v_Depths));
+        
+        v_Depths = v_Graph.bfs(v_Graph.getNodeIndex(40) ,Direction.BOTH ,-1);
+        assertArrayEquals(new int[] {1 ,2 ,3 ,0 ,4 ,-1 ,-1 ,-1} ,byIds(v_Graph ,v_Depths));
+    }
+    
+    
+    
+    /**
+     * 最短路径：路径上的节点（含起点与终点）。不可达时为NULL
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_ShortestPath_001() throws Exception
+    {
+        XCQLGraphProjection v_Graph = newGraph();
+        
+        int [] v_Path = v_Graph.shortestPath(v_Graph.getNodeIndex(10) ,v_Graph.getNodeIndex(50) ,Direction.OUT);
+        assertArrayEquals(new long[] {10 ,20 ,30 ,50} ,toIds(v_Graph ,v_Path));
+        
+        v_Path = v_Graph.shortestPath(v_Graph.getNodeIndex(40) ,v_Graph.getNodeIndex(50) ,Direction.BOTH);
+        assertArrayEquals(new long[] {40 ,10 ,20 ,30 ,50} ,toIds(v_Graph ,v_Path));
+        
+        assertNull(v_Graph.shortestPath(v_Graph.getNodeIndex(50) ,v_Graph.getNodeIndex(10) ,Direction.OUT));
+        assertNull(v_Graph.shortestPath(v_Graph.getNodeIndex(10) ,v_Graph.getNodeIndex(70) ,Direction.BOTH));
+    }
+    
+    
+    
+    /**
+     * 弱连通分量：不区分方向的连通。编号从 0 开始，按分量中首个节点的下标排序
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_WCC_001() throws Exception
+    {
+        XCQLGraphProjection v_Graph      = newGraph();
+        int []              v_Components = v_Graph.weaklyConnectedComponents();
+        int []              v_ByIds      = byIds(v_Graph ,v_Components);
+        int                 v_Max        = -1;
+        
+        assertArrayEquals(new int[] {v_ByIds[0] ,v_ByIds[0] ,v_ByIds[0] ,v_ByIds[0] ,v_ByIds[0] ,v_ByIds[5] ,v_ByIds[5] ,v_ByIds[7]} ,v_ByIds);
+        assertEquals(3 ,new HashSet<Integer>(Arrays.asList(v_ByIds[0] ,v_ByIds[5] ,v_ByIds[7])).size());
+        
+        // 按节点下标的顺序，首次出现的分量编号依次为 0 、1 、2
+        for (int v_Component : v_Components)
+        {
+            if ( v_Component > v_Max )
+            {
+                assertEquals(v_Max + 1 ,v_Component);
+                v_Max = v_Component;
+            }
+        }
+        assertEquals(2 ,v_Max);
+    }
+    
+    
+    
+    /**
+     * 弱连通分量：节点数超过并行的阈值时，多个线程并发合并的结果与分量一致
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_WCC_002_Parallel() throws Exception
+    {
+        // 10个环，每个环1000个节点，并且关系的方向交错
+        List<Record> v_Records = new ArrayList<Record>();
+        long         v_RelID   = 0;
+        for (int v_Ring=0; v_Ring<10; v_Ring++)
+        {
+            for (int x=0; x<1000; x++)
+            {
+                long v_A = v_Ring * 1000 + x;
+                long v_B = v_Ring * 1000 + (x + 1) % 1000;
+                v_Records.add(newRelation(v_RelID++ ,x % 2 == 0 ? v_A : v_B ,x % 2 == 0 ? v_B : v_A));
+            }
+        }
+        
+        XCQLGraphProjection v_Graph      = newGraph(v_Records);
+        int []              v_Components = v_Graph.weaklyConnectedComponents();
+        Set<Integer>        v_Codes      = new HashSet<Integer>();
+        
+        for (int x=0; x<v_Components.length; x++)
+        {
+            long v_NodeId = v_Graph.getNodeId(x);
+            assertEquals(v_Components[v_Graph.getNodeIndex(v_NodeId / 1000 * 1000)] ,v_Components[x]);
+            v_Codes.add(v_Components[x]);
+        }
+        assertEquals(10 ,v_Codes.size());
+        assertNotEquals(v_Components[v_Graph.getNodeIndex(0)] ,v_Components[v_Graph.getNodeIndex(1000)]);
+    }
+    
+    
+    
+    /**
+     * PageRank ：所有节点的值之和为 1 。指向同一节点越多的，值越大
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_PageRank_001() throws Exception
+    {
+        XCQLGraphProjection v_Graph = newGraph();
+        double []           v_Ranks = v_Graph.pageRank(0.85D ,100 ,1E-10D);
+        double              v_Sum   = 0D;
+        
+        for (double v_Rank : v_Ranks)
+        {
+            v_Sum += v_Rank;
+        }
+        
+        assertEquals(1D ,v_Sum ,1E-9D);
+        assertEquals(true ,v_Ranks[v_Graph.getNodeIndex(50)] > v_Ranks[v_Graph.getNodeIndex(30)]);
+        assertEquals(true ,v_Ranks[v_Graph.getNodeIndex(70)] > v_Ranks[v_Graph.getNodeIndex(60)]);
+        assertEquals(v_Ranks[v_Graph.getNodeIndex(10)] ,v_Ranks[v_Graph.getNodeIndex(80)] ,1E-12D);
+    }
+    
+    
+    
+    /**
+     * 按节点编号 10 、20 ... 80 的顺序排列计算结果
+     */
+    private static int [] byIds(XCQLGraphProjection i_Graph ,int [] i_Values)
+    {
+        int [] v_Ret = new int[8];
+        for (int x=0; x<v_Ret.length; x++)
+        {
+            v_Ret[x] = i_Values[i_Graph.getNodeIndex((x + 1) * 10)];
+        }
+        return v_Ret;
+    }
+    
+    
+    
+    /**
+     * 节点下标转节点编号
+     */
+    private static long [] toIds(XCQLGraphProjection i_Graph ,int [] i_Nodes)
+    {
+        long [] v_Ret = new long[i_Nodes.length];
+        for (int x=0; x<v_Ret.length; x++)
+        {
+            v_Ret[x] = i_Graph.getNodeId(i_Nodes[x]);
+        }
+        return v_Ret;
+    }
+    
+    
+    
+    /**
+     * 固定的小图。节点的首次出现顺序与节点编号的顺序不同，验证下标与编号的转换
+     */
+    private static XCQLGraphProjection newGraph() throws Exception
+    {
+        return newGraph(Arrays.asList(newRelation(1 ,30 ,50)
+                                     ,newRelation(2 ,10 ,20)
+                                     ,newRelation(3 ,20 ,30)
+                                     ,newRelation(4 ,10 ,40)
+                                     ,newRelation(5 ,60 ,70)
+                                     ,new InternalRecord(Arrays.asList("n") ,new Value [] {new NodeValue(new InternalNode(80))})));
+    }
+    
+    
+    
+    private static XCQLGraphProjection newGraph(List<Record> i_Records) throws Exception
+    {
+        XCQLResult v_XCQLResult = new XCQLResult();
+        v_XCQLResult.setTable(XCQLGraph.class.getName());
+        
+        XCQLGraph v_Graph = (XCQLGraph) v_XCQLResult.getDatas(new JU_XCQLResult.ListResult(i_Records.toArray(new Record[i_Records.size()]))).getDatas();
+        return new XCQLGraphProjection(v_Graph);
+    }
+    
+    
+    
+    private static Record newRelation(long i_ID ,long i_Start ,long i_End)
+    {
+        return new InternalRecord(Arrays.asList("r") ,new Value [] {new RelationshipValue(new InternalRelationship(i_ID ,i_Start ,i_End ,"KNOWS"))});
+    }
+    
+}
@@ -0,0 +1,141 @@
+package org.hy.common.xcql.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.hy.common.xcql.XCQLKeyset;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Values;
+
+
+
+
+
+/**
+ * 测试单元：键集分页（Keyset）的查询改写及续页标记。无须连接图数据库
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-18
+ * @version     v1.0
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JU_XCQLKeyset
+{
+    
+    /**
+     * 首页：不插入排序键的条件，只在末尾追加 ORDER BY 与 LIMIT
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Query_001_FirstPage()
+    {
+        Query v_Query = XCQLKeyset.toKeysetQuery(new Query("MATCH (n:Person) WHERE n.age > $age RETURN n" ,Values.parameters("age" ,18)) ,"n.id" ,null ,20);
+        
+        assertEquals("MATCH (n:Person) WHERE n.age > $age RETURN n ORDER BY n.id LIMIT $xcqlPagingLimit" ,v_Query.text());
+        assertEquals(18 ,v_Query.parameters().get("age")            .asInt());
+        assertEquals(20 ,v_Query.parameters().get("xcqlPagingLimit").asInt());
+        assertFalse(v_Query.parameters().containsKey(XCQLKeyset.$Keyset_After));
+    }
+    
+    
+    
+    /**
+     * 续页：在最外层 RETURN 之前插入排序键大于上一页最后一条记录的条件
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Query_002_TokenPage()
+    {
+        Query v_Query = XCQLKeyset.toKeysetQuery(new Query("MATCH (n:Person) RETURN n") ,"n.id" ,XCQLKeyset.encode(100L) ,20);
+        
+        assertEquals("MATCH (n:Person) WITH * WHERE n.id > $xcqlKeysetAfter RETURN n ORDER BY n.id LIMIT $xcqlPagingLimit" ,v_Query.text());
+        assertEquals(100L ,v_Query.parameters().get(XCQLKeyset.$Keyset_After).asLong());
+        assertEquals(20   ,v_Query.parameters().get("xcqlPagingLimit")       .asInt());
+    }
+    
+    
+    
+    /**
+     * 已有 ORDER BY 、 SKIP 、 LIMIT 子句的查询不能改写，返回NULL
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Query_003_Reject()
+    {
+        assertNull(XCQLKeyset.toKeysetQuery(new Query("MATCH (n:Person) RETURN n ORDER BY n.name") ,"n.id" ,null ,20));
+        assertNull(XCQLKeyset.toKeysetQuery(new Query("MATCH (n:Person) RETURN n SKIP 10")         ,"n.id" ,null ,20));
+        assertNull(XCQLKeyset.toKeysetQuery(new Query("MATCH (n:Person) RETURN n LIMIT 10")        ,"n.id" ,null ,20));
+        assertNull(XCQLKeyset.toKeysetQuery(new Query("MATCH (n:Person) SET n.x = 1 RETURN n")     ,"n.id" ,null ,20));
+    }
+    
+    
+    
+    /**
+     * 排序键不是属性路径时（防止CQL注入），抛出异常
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void test_Query_004_SortKey()
+    {
+        XCQLKeyset.toKeysetQuery(new Query("MATCH (n:Person) RETURN n") ,"n.id DESC" ,null ,20);
+    }
+    
+    
+    
+    /**
+     * 续页标记：整数、浮点数、字符串的生成与解释
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Token_001()
+    {
+        assertEquals(123456789012L ,XCQLKeyset.decode(XCQLKeyset.encode(123456789012L)));
+        assertEquals(7L            ,XCQLKeyset.decode(XCQLKeyset.encode(7)));
+        assertEquals(3.25D         ,XCQLKeyset.decode(XCQLKeyset.encode(3.25D)));
+        assertEquals("郑伟 / a+b=c" ,XCQLKeyset.decode(XCQLKeyset.encode("郑伟 / a+b=c")));
+        assertEquals(""            ,XCQLKeyset.decode(XCQLKeyset.encode("")));
+        assertNull(XCQLKeyset.decode(null));
+        assertNull(XCQLKeyset.decode(""));
+    }
+    
+    
+    
+    /**
+     * 续页标记：被修改过的标记抛出异常
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void test_Token_002_Invalid()
+    {
+        XCQLKeyset.decode("not-a-token!");
+    }
+    
+}
@@ -0,0 +1,330 @@
+package org.hy.common.xcql.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hy.common.xcql.XCQLColumns;
+import org.hy.common.xcql.XCQLData;
+import org.hy.common.xcql.XCQLResult;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.summary.ResultSummary;
+
+
+
+
+
+/**
+ * 测试单元：结果集转为Java对象。按内存中的记录模拟结果集，无须连接图数据库
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-18
+ * @version     v1.0
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JU_XCQLResult
+{
+    
+    /**
+     * 列式存储：不同数据子集的列名称相同时（a.id 与 b.id），按全名称区分为两列，不合并为一列
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Columns_001_SameName() throws Exception
+    {
+        XCQLResult v_XCQLResult = new XCQLResult();
+        v_XCQLResult.setTable(XCQLColumns.class.getName());
+        
+        List<String> v_Keys   = Arrays.asList("a.id" ,"b.id" ,"a.name");
+        ListResult   v_Result = new ListResult(new InternalRecord(v_Keys ,new Value [] {Values.value(1) ,Values.value(10) ,Values.value("A1")})
+                                              ,new InternalRecord(v_Keys ,new Value [] {Values.value(2) ,Values.value(20) ,Values.value("A2")}));
+        
+        XCQLData    v_Data    = v_XCQLResult.getDatas(v_Result ,0 ,0);
+        XCQLColumns v_Columns = v_Data.getColumns();
+        
+        assertEquals(Arrays.asList("a.id" ,"b.id" ,"name") ,v_Columns.getColumnNames());
+        assertEquals(2  ,v_Columns.getRowCount());
+        assertEquals(1  ,v_Columns.getLongColumn("a.id").get(0));
+        assertEquals(20 ,v_Columns.getLongColumn("b.id").get(1));
+        assertEquals("A2" ,v_Columns.getStringColumn("name").get(1));
+        assertNull(v_Columns.getColumn("id"));
+    }
+    
+    
+    
+    /**
+     * 列式存储：同一数据子集在后续记录中始终对应同一列
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_Columns_002_KeysChanged() throws Exception
+    {
+        XCQLResult v_XCQLResult = new XCQLResult();
+        v_XCQLResult.setTable(XCQLColumns.class.getName());
+        
+        ListResult v_Result = new ListResult(new InternalRecord(Arrays.asList("a.id")          ,new Value [] {Values.value(1)})
+                                            ,new InternalRecord(Arrays.asList("a.id" ,"b.id") ,new Value [] {Values.value(2) ,Values.value(20)}));
+        
+        XCQLColumns v_Columns = v_XCQLResult.getDatas(v_Result ,0 ,0).getColumns();
+        
+        assertEquals(Arrays.asList("id" ,"b.id") ,v_Columns.getColumnNames());
+        assertEquals(2  ,v_Columns.getLongColumn("id").get(1));
+        assertEquals(20 ,v_Columns.getLongColumn("b.id").get(1));
+        assertEquals(true ,v_Columns.getColumn("b.id").isNull(0));
+    }
+    
+    
+    
+    /**
+     * 一对多关系：只有 cfill 的 a.b 形式的属性路径（items.name）中的集合属性才合并，
+     * 行级对象自身的列表类型的属性（tags）按普通属性填充，不重复合并
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_RelationKeys_001_CFillPath() throws Exception
+    {
+        XCQLResult v_XCQLResult = new XCQLResult();
+        v_XCQLResult.setTable(ArrayList.class.getName());
+        v_XCQLResult.setRow(Order.class.getName());
+        v_XCQLResult.setCfill("setter(colValue)");
+        v_XCQLResult.setRelationKeys("id");
+        
+        List<String> v_Keys   = Arrays.asList("n");
+        ListResult   v_Result = new ListResult(new InternalRecord(v_Keys ,new Value [] {Values.value(newOrder(1 ,"A"))})
+                                              ,new InternalRecord(v_Keys ,new Value [] {Values.value(newOrder(1 ,"B"))})
+                                              ,new InternalRecord(v_Keys ,new Value [] {Values.value(newOrder(2 ,"C"))}));
+        
+        List<Order> v_Orders = (List<Order>) v_XCQLResult.getDatas(v_Result).getDatas();
+        
+        assertEquals(2 ,v_Orders.size());
+        assertEquals(2 ,v_Orders.get(0).getItems().size());
+        assertEquals("A" ,v_Orders.get(0).getItems().get(0).getName());
+        assertEquals("B" ,v_Orders.get(0).getItems().get(1).getName());
+        assertEquals(Arrays.asList("x" ,"y") ,v_Orders.get(0).getTags());
+        assertEquals(1 ,v_Orders.get(1).getItems().size());
+    }
+    
+    
+    
+    private static Map<String ,Object> newOrder(long i_ID ,String i_ItemName)
+    {
+        Map<String ,Object> v_Order = new HashMap<String ,Object>();
+        v_Order.put("id"         ,i_ID);
+        v_Order.put("tags"       ,Arrays.asList("x" ,"y"));
+        v_Order.put("items.name" ,i_ItemName);
+        return v_Order;
+    }
+    
+    
+    
+    
+    
+    /**
+     * 一对多关系中的 "一对象"
+     */
+    public static class Order
+    {
+        
+        private Long         id;
+        
+        private List<String> tags;
+        
+        private List<Item>   items;
+        
+        
+        
+        public Long getId()
+        {
+            return this.id;
+        }
+        
+        
+        
+        public void setId(Long i_ID)
+        {
+            this.id = i_ID;
+        }
+        
+        
+        
+        public List<String> getTags()
+        {
+            return this.tags;
+        }
+        
+        
+        
+        public void setTags(List<String> i_Tags)
+        {
+            this.tags = i_Tags;
+        }
+        
+        
+        
+        public List<Item> getItems()
+        {
+            return this.items;
+        }
+        
+        
+        
+        public void setItems(List<Item> i_Items)
+        {
+            this.items = i_Items;
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * 一对多关系中的 "多对象"
+     */
+    public static class Item
+    {
+        
+        private String name;
+        
+        
+        
+        public String getName()
+        {
+            return this.name;
+        }
+        
+        
+        
+        public void setName(String i_Name)
+        {
+            this.name = i_Name;
+        }
+        
+    }
+    
+    
+    
+    
+    
+    /**
+     * 内存中的记录模拟的结果集
+     */
+    static class ListResult implements Result
+    {
+        
+        private final List<Record> records;
+        
+        private int                index;
+        
+        
+        
+        public ListResult(Record ... i_Records)
+        {
+            this.records = Arrays.asList(i_Records);
+            this.index   = 0;
+        }
+        
+        
+        
+        @Override
+        public List<String> keys()
+        {
+            return this.records.isEmpty() ? Arrays.asList() : this.records.get(0).keys();
+        }
+        
+        
+        
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < this.records.size();
+        }
+        
+        
+        
+        @Override
+        public Record next()
+        {
+            return this.records.get(this.index++);
+        }
+        
+        
+        
+        @Override
+        public Record single()
+        {
+            return this.next();
+        }
+        
+        
+        
+        @Override
+        public Record peek()
+        {
+            return this.records.get(this.index);
+        }
+        
+        
+        
+        @Override
+        public Stream<Record> stream()
+        {
+            return this.records.stream();
+        }
+        
+        
+        
+        @Override
+        public List<Record> list()
+        {
+            return this.records;
+        }
+        
+        
+        
+        @Override
+        public <T> List<T> list(Function<Record ,T> i_Mapper)
+        {
+            return this.records.stream().map(i_Mapper).collect(Collectors.toList());
+        }
+        
+        
+        
+        @Override
+        public ResultSummary consume()
+        {
+            return null;
+        }
+        
+    }
+    
+}
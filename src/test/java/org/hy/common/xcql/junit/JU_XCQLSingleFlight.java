@@ -0,0 +1,295 @@
+package org.hy.common.xcql.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hy.common.xcql.Connection;
+import org.hy.common.xcql.DataSourceCQL;
+import org.hy.common.xcql.XCQL;
+import org.hy.common.xcql.XCQLColumns;
+import org.hy.common.xcql.XCQLData;
+import org.hy.common.xcql.junit.JU_XCQLResult.ListResult;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+
+
+
+
+
+/**
+ * 测试单元：并发的相同查询的合并执行。按内存中的记录模拟数据源，无须连接图数据库
+ * 
+ * 通过 XCQL.setSingleFlight() 开启合并执行，通过重写 DataSourceCQL.getConnection() 模拟数据库连接，
+ * 由模拟的数据库连接控制领头者的查询何时完成。
+ * 
+ * @author      ZhengWei(HY)
+ * @createDate  2026-10-18
+ * @version     v1.0
+ *              v2.0  2026-10-18  修改：通过XCQL的公开接口测试
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JU_XCQLSingleFlight
+{
+    
+    private static final String $CQL = "MATCH (n:Person) RETURN n.id AS id";
+    
+    
+    
+    /**
+     * 同一XCQL的相同查询：只有领头者访问数据库，跟随者共享领头者的查询结果。完成后不再保留，之后的查询重新访问数据库
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_SingleFlight_001_Share() throws Exception
+    {
+        MockDataSource v_DSCQL = new MockDataSource(1 ,null);
+        XCQL           v_XCQL  = newXCQL(v_DSCQL);
+        
+        Thread [] v_Threads = new Thread[4];
+        List<CompletableFuture<XCQLData>> v_Rets = Arrays.asList(new CompletableFuture<XCQLData>()
+                                                                ,new CompletableFuture<XCQLData>()
+                                                                ,new CompletableFuture<XCQLData>()
+                                                                ,new CompletableFuture<XCQLData>());
+        
+        // 领头者
+        v_Threads[0] = query(v_XCQL ,v_Rets.get(0));
+        assertTrue(v_DSCQL.entered.await(10 ,TimeUnit.SECONDS));
+        
+        // 跟随者
+        for (int i=1; i<v_Threads.length; i++)
+        {
+            v_Threads[i] = query(v_XCQL ,v_Rets.get(i));
+        }
+        awaitWaiting(Arrays.copyOfRange(v_Threads ,1 ,v_Threads.length));
+        
+        v_DSCQL.release.countDown();
+        XCQLData v_Data = v_Rets.get(0).get(10 ,TimeUnit.SECONDS);
+        for (CompletableFuture<XCQLData> v_Ret : v_Rets)
+        {
+            assertSame(v_Data ,v_Ret.get(10 ,TimeUnit.SECONDS));
+        }
+        assertEquals(1 ,v_DSCQL.runCount.get());
+        
+        v_XCQL.queryXCQLData();
+        assertEquals(2 ,v_DSCQL.runCount.get());
+    }
+    
+    
+    
+    /**
+     * 结果集的转换规则不同的XCQL，即使可执行CQL相同，也不合并执行
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_SingleFlight_002_OtherResult() throws Exception
+    {
+        MockDataSource v_DSCQL  = new MockDataSource(2 ,null);
+        XCQL           v_XCQLA  = newXCQL(v_DSCQL);
+        XCQL           v_XCQLB  = newXCQL(v_DSCQL);
+        v_XCQLB.getResult().setRow(HashMap.class.getName());
+        
+        CompletableFuture<XCQLData> v_RetA = new CompletableFuture<XCQLData>();
+        CompletableFuture<XCQLData> v_RetB = new CompletableFuture<XCQLData>();
+        query(v_XCQLA ,v_RetA);
+        query(v_XCQLB ,v_RetB);
+        
+        // 两者均访问数据库
+        assertTrue(v_DSCQL.entered.await(10 ,TimeUnit.SECONDS));
+        v_DSCQL.release.countDown();
+        
+        assertNotNull(v_RetA.get(10 ,TimeUnit.SECONDS));
+        assertNotNull(v_RetB.get(10 ,TimeUnit.SECONDS));
+        assertEquals(2 ,v_DSCQL.runCount.get());
+    }
+    
+    
+    
+    /**
+     * 领头者查询异常时，跟随者抛出相同信息的异常，异常原因为领头者的异常
+     * 
+     * @author      ZhengWei(HY)
+     * @createDate  2026-10-18
+     * @version     v1.0
+     *
+     */
+    @Test
+    public void test_SingleFlight_003_Fail() throws Exception
+    {
+        RuntimeException v_Error = new RuntimeException("Neo4j is busy.");
+        MockDataSource   v_DSCQL = new MockDataSource(1 ,v_Error);
+        XCQL             v_XCQL  = newXCQL(v_DSCQL);
+        
+        CompletableFuture<XCQLData> v_Leader   = new CompletableFuture<XCQLData>();
+        CompletableFuture<XCQLData> v_Follower = new CompletableFuture<XCQLData>();
+        query(v_XCQL ,v_Leader);
+        assertTrue(v_DSCQL.entered.await(10 ,TimeUnit.SECONDS));
+        awaitWaiting(query(v_XCQL ,v_Follower));
+        
+        v_DSCQL.release.countDown();
+        try
+        {
+            v_Follower.get(10 ,TimeUnit.SECONDS);
+            fail("Follower must fail.");
+        }
+        catch (ExecutionException exce)
+        {
+            assertEquals("Neo4j is busy." ,exce.getCause().getMessage());
+            assertSame(v_Error ,exce.getCause().getCause());
+        }
+        assertEquals(1 ,v_DSCQL.runCount.get());
+    }
+    
+    
+    
+    private static XCQL newXCQL(DataSourceCQL i_DSCQL) throws Exception
+    {
+        XCQL v_XCQL = new XCQL();
+        v_XCQL.setDataSourceCQL(i_DSCQL);
+        v_XCQL.setContent($CQL);
+        v_XCQL.getResult().setTable(XCQLColumns.class.getName());
+        v_XCQL.setSingleFlight(true);
+        return v_XCQL;
+    }
+    
+    
+    
+    /**
+     * 在新线程中查询
+     * 
+     * @param i_XCQL
+     * @param io_Ret  查询结果或异常
+     * @return        执行查询的线程
+     */
+    private static Thread query(XCQL i_XCQL ,CompletableFuture<XCQLData> io_Ret)
+    {
+        Thread v_Thread = new Thread(() ->
+        {
+            try
+            {
+                io_Ret.complete(i_XCQL.queryXCQLData());
+            }
+            catch (Throwable exce)
+            {
+                io_Ret.completeExceptionally(exce);
+            }
+        });
+        v_Thread.setDaemon(true);
+        v_Thread.start();
+        return v_Thread;
+    }
+    
+    
+    
+    /**
+     * 等待跟随者的线程进入等待状态（等待领头者的查询结果）
+     * 
+     * @param i_Threads
+     */
+    private static void awaitWaiting(Thread ... i_Threads) throws InterruptedException
+    {
+        long v_Deadline = System.currentTimeMillis() + 10 * 1000L;
+        for (Thread v_Thread : i_Threads)
+        {
+            while ( v_Thread.getState() != Thread.State.WAITING )
+            {
+                if ( System.currentTimeMillis() > v_Deadline )
+                {
+                    fail("Follower is not waiting: " + v_Thread.getState());
+                }
+                Thread.sleep(1L);
+            }
+        }
+    }
+    
+    
+    
+    
+    
+    /**
+     * 模拟的数据源。查询进入数据库后，等待放行后才返回查询结果（或抛出异常）
+     */
+    private static class MockDataSource extends DataSourceCQL
+    {
+        
+        private static final long serialVersionUID = -5230219064421598917L;
+        
+        /** 进入数据库的查询 */
+        private final CountDownLatch   entered;
+        
+        /** 放行进入数据库的查询 */
+        private final CountDownLatch   release;
+        
+        /** 访问数据库的次数 */
+        private final AtomicInteger    runCount;
+        
+        /** 查询抛出的异常。为NULL时返回一行记录 */
+        private final RuntimeException error;
+        
+        
+        
+        public MockDataSource(int i_Entered ,RuntimeException i_Error)
+        {
+            this.entered  = new CountDownLatch(i_Entered);
+            this.release  = new CountDownLatch(1);
+            this.runCount = new AtomicInteger(0);
+            this.error    = i_Error;
+        }
+        
+        
+        
+        @Override
+        public Connection getConnection()
+        {
+            Session v_Session = (Session) Proxy.newProxyInstance(Session.class.getClassLoader() ,new Class<?>[] {Session.class} ,(v_Proxy ,v_Method ,v_Args) ->
+            {
+                if ( "run".equals(v_Method.getName()) )
+                {
+                    this.runCount.incrementAndGet();
+                    this.entered.countDown();
+                    this.release.await();
+                    
+                    if ( this.error != null )
+                    {
+                        throw this.error;
+                    }
+                    return new ListResult(new InternalRecord(Arrays.asList("id") ,new Value [] {Values.value(1)}));
+                }
+                else if ( "isOpen".equals(v_Method.getName()) )
+                {
+                    return true;
+                }
+                return null;
+            });
+            
+            return new Connection(v_Session ,null);
+        }
+        
+    }
+    
+}